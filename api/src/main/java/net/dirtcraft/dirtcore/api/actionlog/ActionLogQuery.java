@@ -0,0 +1,138 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Marc Beckhaeuser (AlphaConqueror) <marcbeckhaeuser@gmail.com>
+ *
+ * Created for 'DirtCraft'.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package net.dirtcraft.dirtcore.api.actionlog;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * Represents a filtered query of the DirtCore log.
+ *
+ * <p>Matching actions are returned newest first. Filters which are not set match every
+ * action.</p>
+ */
+public interface ActionLogQuery {
+
+    /**
+     * Gets the source unique id to filter by.
+     *
+     * @return the source unique id, if present
+     */
+    @NonNull Optional<UUID> getSource();
+
+    /**
+     * Gets the target unique id to filter by.
+     *
+     * @return the target unique id, if present
+     */
+    @NonNull Optional<UUID> getTarget();
+
+    /**
+     * Gets the type to filter by.
+     *
+     * @return the type, if present
+     */
+    @NonNull Optional<Action.Type> getType();
+
+    /**
+     * Gets the earliest time of matching actions, inclusive.
+     *
+     * @return the earliest time, if present
+     */
+    @NonNull Optional<Instant> getFrom();
+
+    /**
+     * Gets the latest time of matching actions, inclusive.
+     *
+     * @return the latest time, if present
+     */
+    @NonNull Optional<Instant> getUntil();
+
+    /**
+     * Represents a builder for an {@link ActionLogQuery}.
+     */
+    interface Builder {
+
+        /**
+         * Filters by the source of the actions.
+         *
+         * @param source the source unique id
+         * @return the builder
+         */
+        @NonNull Builder source(UUID source);
+
+        /**
+         * Filters by the target of the actions.
+         *
+         * @param target the target unique id
+         * @return the builder
+         */
+        @NonNull Builder target(UUID target);
+
+        /**
+         * Filters by the type of the actions.
+         *
+         * @param type the type
+         * @return the builder
+         */
+        @NonNull Builder type(Action.Type type);
+
+        /**
+         * Filters by the earliest time of the actions, inclusive.
+         *
+         * @param from the earliest time
+         * @return the builder
+         */
+        @NonNull Builder from(Instant from);
+
+        /**
+         * Filters by the latest time of the actions, inclusive.
+         *
+         * @param until the latest time
+         * @return the builder
+         */
+        @NonNull Builder until(Instant until);
+
+        /**
+         * Only matches actions older than the given one, which has to be a result of a previous
+         * query. Used to fetch the page following the last action of a previous page.
+         *
+         * @param action the last action of the previous page
+         * @return the builder
+         */
+        @NonNull Builder after(@NonNull Action action);
+
+        /**
+         * Creates a {@link ActionLogQuery} instance from the builder.
+         *
+         * @return a new query instance
+         */
+        @NonNull ActionLogQuery build();
+    }
+}
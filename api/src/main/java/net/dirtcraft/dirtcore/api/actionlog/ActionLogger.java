@@ -26,6 +26,8 @@
 
 package net.dirtcraft.dirtcore.api.actionlog;
 
+import java.util.Iterator;
+import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import net.dirtcraft.dirtcore.api.messaging.MessagingService;
@@ -67,6 +69,36 @@ public interface ActionLogger {
      */
     @NonNull CompletableFuture<ActionLog> getLog();
 
+    /**
+     * Returns a new {@link ActionLogQuery.Builder} instance
+     *
+     * @return a new builder
+     */
+    ActionLogQuery.@NonNull Builder queryBuilder();
+
+    /**
+     * Gets a page of the actions matching a query from the plugin storage, newest first.
+     *
+     * <p>Pass the last action of a page to {@link ActionLogQuery.Builder#after(Action)} to
+     * query the following page.</p>
+     *
+     * @param query the query
+     * @param limit the maximum amount of actions
+     * @return the matching actions
+     */
+    @NonNull CompletableFuture<List<Action>> queryLog(@NonNull ActionLogQuery query, int limit);
+
+    /**
+     * Iterates over all actions matching a query, newest first.
+     *
+     * <p>Actions are fetched from the plugin storage in batches while iterating, so the
+     * iterator blocks and must not be used on the main thread.</p>
+     *
+     * @param query the query
+     * @return an iterator over the matching actions
+     */
+    @NonNull Iterator<Action> iterateLog(@NonNull ActionLogQuery query);
+
     /**
      * Submits a log entry to the plugin to be handled.
      *
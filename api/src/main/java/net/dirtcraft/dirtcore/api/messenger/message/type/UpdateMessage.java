@@ -39,4 +39,16 @@ public interface UpdateMessage extends Message {
      * The type as string.
      */
     String TYPE = "update";
+
+    /**
+     * Gets the id of the latest change made by the sending server.
+     *
+     * <p>Receiving servers only apply the changes since their last sync and fall back to a full
+     * reload if this change is not visible to them or the id is unknown.</p>
+     *
+     * @return the change id or 0, if unknown
+     */
+    default long getChangeId() {
+        return 0L;
+    }
 }
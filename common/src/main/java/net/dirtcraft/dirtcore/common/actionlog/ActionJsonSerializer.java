@@ -48,6 +48,10 @@ public final class ActionJsonSerializer {
                 .add("type", log.getType().getIdentifier())
                 .add("authorization", log.getAuthorization().getIdentifier());
 
+        if (log instanceof LogEntity && ((LogEntity) log).getId() != 0L) {
+            root.add("id", new JsonPrimitive(((LogEntity) log).getId()));
+        }
+
         log.getTarget().ifPresent(target -> root.add("target", target.toString()));
         log.getTitle().ifPresent(title -> root.add("title", title));
         log.getDescription().ifPresent(description -> root.add("description", description));
@@ -85,6 +89,12 @@ public final class ActionJsonSerializer {
             builder.incidentId(data.get("incident_id").getAsString());
         }
 
-        return builder.build();
+        final LogEntity log = builder.build();
+
+        if (data.has("id")) {
+            log.setGeneratedId(data.get("id").getAsLong());
+        }
+
+        return log;
     }
 }
@@ -0,0 +1,280 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Marc Beckhaeuser (AlphaConqueror) <marcbeckhaeuser@gmail.com>
+ *
+ * Created for 'DirtCraft'.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package net.dirtcraft.dirtcore.common.actionlog;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import net.dirtcraft.dirtcore.common.config.ConfigKeys;
+import net.dirtcraft.dirtcore.common.plugin.DirtCorePlugin;
+import net.dirtcraft.dirtcore.common.storage.entities.log.LogEntity;
+import net.dirtcraft.dirtcore.common.util.gson.GsonProvider;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Moves log entries older than {@link ConfigKeys#LOG_ARCHIVE_AFTER_DAYS} out of the database
+ * into gzip compressed segments of newline delimited JSON, see {@link ActionJsonSerializer}.
+ * <p>
+ * The file name of a segment holds the time range of its entries, which serves as a sparse
+ * index, so a query only reads the segments overlapping its time range.
+ * <p>
+ * As the log table is shared by the network, only the server configured as
+ * {@link ConfigKeys#LOG_ARCHIVE_SERVER} archives entries. Archived entries are only visible to
+ * servers with access to the {@link ConfigKeys#LOG_ARCHIVE_DIRECTORY archive directory}, which
+ * should therefore be on shared storage.
+ */
+public class LogArchive {
+
+    public static final int SEGMENT_SIZE = 10000;
+
+    private static final String SEGMENT_SUFFIX = ".ndjson.gz";
+    private static final Comparator<Segment> NEWEST_FIRST =
+            Comparator.comparingLong((Segment segment) -> segment.until)
+                    .thenComparingLong(segment -> segment.from).reversed();
+
+    private final DirtCorePlugin plugin;
+    private final Path directory;
+
+    public LogArchive(@NonNull final DirtCorePlugin plugin) {
+        this.plugin = plugin;
+        this.directory = plugin.getBootstrap().getDataDirectory()
+                .resolve(plugin.getConfiguration().get(ConfigKeys.LOG_ARCHIVE_DIRECTORY));
+    }
+
+    @Nullable
+    private static Segment parseSegment(@NonNull final Path path) {
+        final String name = path.getFileName().toString();
+
+        if (!name.endsWith(SEGMENT_SUFFIX)) {
+            return null;
+        }
+
+        final String[] parts =
+                name.substring(0, name.length() - SEGMENT_SUFFIX.length()).split("-");
+
+        if (parts.length != 3) {
+            return null;
+        }
+
+        try {
+            return new Segment(path, Long.parseLong(parts[0]), Long.parseLong(parts[1]));
+        } catch (final NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Archives all entries older than the configured age, one segment at a time, if this server
+     * is the configured archive server.
+     */
+    public void archive() {
+        final int days = this.plugin.getConfiguration().get(ConfigKeys.LOG_ARCHIVE_AFTER_DAYS);
+        final String server = this.plugin.getConfiguration().get(ConfigKeys.LOG_ARCHIVE_SERVER);
+
+        if (days <= 0 || server.isEmpty() || !server.equals(this.plugin.getServerIdentifier())) {
+            return;
+        }
+
+        final long cutoff = Instant.now().minus(Duration.ofDays(days)).getEpochSecond();
+
+        try {
+            Files.createDirectories(this.directory);
+
+            //noinspection StatementWithEmptyBody
+            while (this.archiveSegment(cutoff)) {}
+        } catch (final Exception e) {
+            this.plugin.getLogger().severe("Could not archive log entries.", e);
+        }
+    }
+
+    /**
+     * Iterates over the archived entries matching the query, newest first.
+     *
+     * @param query the query
+     * @return the iterator
+     */
+    @NonNull
+    public Iterator<LogEntity> iterate(@NonNull final LogQuery query) {
+        final long from = query.getFrom().map(Instant::getEpochSecond).orElse(Long.MIN_VALUE);
+        final long until = query.getUntil().map(Instant::getEpochSecond).orElse(Long.MAX_VALUE);
+        final Iterator<Segment> segments = this.getSegments().stream()
+                .filter(segment -> segment.from <= until && segment.until >= from)
+                .iterator();
+
+        return new Iterator<LogEntity>() {
+
+            private Iterator<LogEntity> entries = Collections.emptyIterator();
+
+            @Override
+            public boolean hasNext() {
+                while (!this.entries.hasNext() && segments.hasNext()) {
+                    final List<LogEntity> matches = LogArchive.this.read(segments.next())
+                            .stream().filter(query::matches).collect(Collectors.toList());
+
+                    Collections.reverse(matches);
+                    this.entries = matches.iterator();
+                }
+
+                return this.entries.hasNext();
+            }
+
+            @Override
+            public LogEntity next() {
+                if (!this.hasNext()) {
+                    throw new NoSuchElementException();
+                }
+
+                return this.entries.next();
+            }
+        };
+    }
+
+    /**
+     * Moves the oldest entries before the cutoff into a new segment. The segment is written
+     * before the entries are deleted, so a failure might duplicate but never lose entries.
+     *
+     * @param cutoff the cutoff as epoch second
+     * @return whether there might be more entries to archive
+     */
+    private boolean archiveSegment(final long cutoff) {
+        return this.plugin.getStorage().performTask(context -> {
+            final List<LogEntity> entries = context.session().createQuery(
+                            "from LogEntity l where l.timestamp < :cutoff "
+                                    + "order by l.timestamp, l.id", LogEntity.class)
+                    .setParameter("cutoff", cutoff).setMaxResults(SEGMENT_SIZE).getResultList();
+
+            if (entries.isEmpty()) {
+                return false;
+            }
+
+            this.write(entries);
+            context.session().createQuery("delete from LogEntity l where l.id in (:ids)")
+                    .setParameterList("ids",
+                            entries.stream().map(LogEntity::getId).collect(Collectors.toList()))
+                    .executeUpdate();
+            return entries.size() == SEGMENT_SIZE;
+        });
+    }
+
+    private void write(@NonNull final List<LogEntity> entries) {
+        final LogEntity first = entries.get(0);
+        final LogEntity last = entries.get(entries.size() - 1);
+        final String name = first.getTimestamp().getEpochSecond() + "-"
+                + last.getTimestamp().getEpochSecond() + "-" + first.getId();
+        final Path temp = this.directory.resolve(name + ".tmp");
+
+        try (final BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(
+                new GZIPOutputStream(Files.newOutputStream(temp)), StandardCharsets.UTF_8))) {
+            for (final LogEntity entry : entries) {
+                writer.write(GsonProvider.normal().toJson(ActionJsonSerializer.serialize(entry)));
+                writer.newLine();
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        try {
+            Files.move(temp, this.directory.resolve(name + SEGMENT_SUFFIX),
+                    StandardCopyOption.ATOMIC_MOVE);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @NonNull
+    private List<LogEntity> read(@NonNull final Segment segment) {
+        try (final BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(Files.newInputStream(segment.path)),
+                StandardCharsets.UTF_8))) {
+            return reader.lines().filter(line -> !line.isEmpty())
+                    .map(line -> (LogEntity) ActionJsonSerializer.deserialize(
+                            GsonProvider.parser().parse(line)))
+                    .collect(Collectors.toList());
+        } catch (final IOException e) {
+            this.plugin.getLogger().severe("Could not read log archive segment " + segment.path, e);
+            return Collections.emptyList();
+        }
+    }
+
+    @NonNull
+    private List<Segment> getSegments() {
+        if (!Files.isDirectory(this.directory)) {
+            return Collections.emptyList();
+        }
+
+        try (final Stream<Path> paths = Files.list(this.directory)) {
+            final List<Segment> segments = new ArrayList<>();
+
+            paths.forEach(path -> {
+                final Segment segment = parseSegment(path);
+
+                if (segment != null) {
+                    segments.add(segment);
+                }
+            });
+
+            segments.sort(NEWEST_FIRST);
+            return segments;
+        } catch (final IOException e) {
+            this.plugin.getLogger().severe("Could not list log archive segments.", e);
+            return Collections.emptyList();
+        }
+    }
+
+    private static final class Segment {
+
+        private final Path path;
+        private final long from;
+        private final long until;
+
+        private Segment(final Path path, final long from, final long until) {
+            this.path = path;
+            this.from = from;
+            this.until = until;
+        }
+    }
+}
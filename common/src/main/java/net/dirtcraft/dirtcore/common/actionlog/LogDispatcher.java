@@ -27,6 +27,7 @@
 package net.dirtcraft.dirtcore.common.actionlog;
 
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 import net.dirtcraft.dirtcore.api.actionlog.Action;
 import net.dirtcraft.dirtcore.common.discord.DiscordBotClient;
@@ -36,6 +37,7 @@ import net.dirtcraft.dirtcore.common.model.Identifiable;
 import net.dirtcraft.dirtcore.common.model.Sender;
 import net.dirtcraft.dirtcore.common.model.User;
 import net.dirtcraft.dirtcore.common.plugin.DirtCorePlugin;
+import net.dirtcraft.dirtcore.common.scheduler.SchedulerTask;
 import net.dirtcraft.dirtcore.common.storage.entities.log.LogEntity;
 import net.dirtcraft.dirtcore.common.storage.entities.punishment.abstraction.ExpirablePunishmentEntity;
 import net.dirtcraft.dirtcore.common.storage.entities.punishment.abstraction.PunishmentEntity;
@@ -50,22 +52,39 @@ import org.checkerframework.checker.nullness.qual.Nullable;
 public class LogDispatcher {
 
     private final DirtCorePlugin plugin;
+    private final LogWriter writer;
+    private final LogArchive archive;
+    private final SchedulerTask archiveTask;
 
     public LogDispatcher(final DirtCorePlugin plugin) {
         this.plugin = plugin;
+        this.writer = new LogWriter(plugin);
+        this.archive = new LogArchive(plugin);
+        this.archiveTask = plugin.getBootstrap().getScheduler()
+                .asyncRepeating(this.archive::archive, 1, TimeUnit.HOURS);
     }
 
     public void dispatch(@NonNull final LogEntity log, @Nullable final Sender sender,
             @NonNull final MessageEmbed embed, @NonNull final Component component) {
-        this.plugin.getStorage().performTask(context -> {
-            context.session().persist(log);
+        // staff see the log right away, it is persisted in the background and only pushed to
+        // other servers once written, so they receive the generated id
+        this.broadcast(log, sender, component);
+        this.broadcastToDiscord(log, embed);
+        this.writer.submit(log, () -> this.plugin.getMessagingService()
+                .ifPresent(service -> service.pushLog(log)));
+    }
 
-            context.queue(() -> {
-                this.plugin.getMessagingService().ifPresent(service -> service.pushLog(log));
-                this.broadcast(log, sender, component);
-                this.broadcastToDiscord(log, embed);
-            });
-        });
+    /**
+     * Writes all pending log entries, has to be called before the storage is closed.
+     */
+    public void shutdown() {
+        this.archiveTask.cancel();
+        this.writer.flush();
+    }
+
+    @NonNull
+    public LogArchive getArchive() {
+        return this.archive;
     }
 
     public void broadcastFromApi(@NonNull final LogEntity log) {
@@ -0,0 +1,95 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Marc Beckhaeuser (AlphaConqueror) <marcbeckhaeuser@gmail.com>
+ *
+ * Created for 'DirtCraft'.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package net.dirtcraft.dirtcore.common.actionlog;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import net.dirtcraft.dirtcore.common.plugin.DirtCorePlugin;
+import net.dirtcraft.dirtcore.common.storage.entities.log.LogEntity;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * Iterates over the entries matching a {@link LogQuery}, fetching one batch at a time in its
+ * own storage task, so neither the whole result nor a session is held while iterating. Once the
+ * database is exhausted, continues with the {@link LogArchive}.
+ */
+public class LogIterator implements Iterator<LogEntity> {
+
+    public static final int BATCH_SIZE = 500;
+
+    private final DirtCorePlugin plugin;
+    private LogQuery query;
+    private List<LogEntity> batch = Collections.emptyList();
+    private int index = 0;
+    private boolean exhausted = false;
+    private Iterator<LogEntity> archived = null;
+
+    public LogIterator(@NonNull final DirtCorePlugin plugin, @NonNull final LogQuery query) {
+        this.plugin = plugin;
+        this.query = query;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (this.index < this.batch.size()) {
+            return true;
+        }
+
+        if (this.exhausted) {
+            if (this.archived == null) {
+                this.archived = this.plugin.getLogDispatcher().getArchive().iterate(this.query);
+            }
+
+            return this.archived.hasNext();
+        }
+
+        final LogQuery query = this.query;
+
+        this.batch = this.plugin.getStorage()
+                .performReadTask(context -> query.list(context.session(), BATCH_SIZE));
+        this.index = 0;
+        this.exhausted = this.batch.size() < BATCH_SIZE;
+
+        if (!this.batch.isEmpty()) {
+            this.query = query.after(this.batch.get(this.batch.size() - 1));
+        }
+
+        return !this.batch.isEmpty() || this.hasNext();
+    }
+
+    @Override
+    public LogEntity next() {
+        if (!this.hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        return this.index < this.batch.size() ? this.batch.get(this.index++)
+                : this.archived.next();
+    }
+}
@@ -0,0 +1,272 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Marc Beckhaeuser (AlphaConqueror) <marcbeckhaeuser@gmail.com>
+ *
+ * Created for 'DirtCraft'.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package net.dirtcraft.dirtcore.common.actionlog;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import net.dirtcraft.dirtcore.api.actionlog.Action;
+import net.dirtcraft.dirtcore.api.actionlog.ActionLogQuery;
+import net.dirtcraft.dirtcore.common.storage.entities.log.LogEntity;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.hibernate.Session;
+import org.hibernate.query.Query;
+
+/**
+ * A query of the log, newest first.
+ * <p>
+ * Pages are fetched by seeking past the timestamp and id of the last entry of the previous page,
+ * which is covered by the indexes of {@link LogEntity}, instead of by an offset.
+ */
+public final class LogQuery implements ActionLogQuery {
+
+    @Nullable
+    private final UUID source;
+    @Nullable
+    private final UUID target;
+    private final Action.@Nullable Type type;
+    @Nullable
+    private final Instant from;
+    @Nullable
+    private final Instant until;
+    @Nullable
+    private final LogEntity after;
+
+    private LogQuery(@Nullable final UUID source, @Nullable final UUID target,
+            final Action.@Nullable Type type, @Nullable final Instant from,
+            @Nullable final Instant until, @Nullable final LogEntity after) {
+        this.source = source;
+        this.target = target;
+        this.type = type;
+        this.from = from;
+        this.until = until;
+        this.after = after;
+    }
+
+    @NonNull
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    @Override
+    public @NonNull Optional<UUID> getSource() {
+        return Optional.ofNullable(this.source);
+    }
+
+    @Override
+    public @NonNull Optional<UUID> getTarget() {
+        return Optional.ofNullable(this.target);
+    }
+
+    @Override
+    public @NonNull Optional<Action.Type> getType() {
+        return Optional.ofNullable(this.type);
+    }
+
+    @Override
+    public @NonNull Optional<Instant> getFrom() {
+        return Optional.ofNullable(this.from);
+    }
+
+    @Override
+    public @NonNull Optional<Instant> getUntil() {
+        return Optional.ofNullable(this.until);
+    }
+
+    /**
+     * Gets a copy of this query only matching entries older than the given one.
+     *
+     * @param after the last entry of the previous page
+     * @return the query
+     */
+    @NonNull
+    public LogQuery after(@NonNull final LogEntity after) {
+        return new LogQuery(this.source, this.target, this.type, this.from, this.until, after);
+    }
+
+    /**
+     * Checks whether an entry matches the filters of this query, used for archived entries. Like
+     * {@link #list(Session, int)}, only entries older than the cursor match.
+     *
+     * @param entry the entry
+     * @return true, if the entry matches
+     */
+    public boolean matches(@NonNull final LogEntity entry) {
+        final long timestamp = entry.getTimestamp().getEpochSecond();
+
+        return (this.source == null || this.source.equals(entry.getSource())) && (
+                this.target == null || entry.getTarget().filter(this.target::equals).isPresent())
+                && (this.type == null || this.type == entry.getType()) && (this.from == null
+                || timestamp >= this.from.getEpochSecond()) && (this.until == null
+                || timestamp <= this.until.getEpochSecond()) && (this.after == null
+                || this.isBefore(timestamp, entry.getId()));
+    }
+
+    private boolean isBefore(final long timestamp, final long id) {
+        final long afterTimestamp = this.after.getTimestamp().getEpochSecond();
+        return timestamp < afterTimestamp || (timestamp == afterTimestamp
+                && id < this.after.getId());
+    }
+
+    /**
+     * Fetches the matching entries.
+     *
+     * @param session the session
+     * @param limit   the maximum amount of entries
+     * @return the entries, newest first
+     */
+    @NonNull
+    public List<LogEntity> list(@NonNull final Session session, final int limit) {
+        final List<String> conditions = new ArrayList<>();
+
+        if (this.source != null) {
+            conditions.add("l.source_uuid = :source");
+        }
+
+        if (this.target != null) {
+            conditions.add("l.target_uuid = :target");
+        }
+
+        if (this.type != null) {
+            conditions.add("l.type = :type");
+        }
+
+        if (this.from != null) {
+            conditions.add("l.timestamp >= :from");
+        }
+
+        if (this.until != null) {
+            conditions.add("l.timestamp <= :until");
+        }
+
+        if (this.after != null) {
+            conditions.add("(l.timestamp < :afterTimestamp or (l.timestamp = :afterTimestamp"
+                    + " and l.id < :afterId))");
+        }
+
+        final String where =
+                conditions.isEmpty() ? "" : " where " + String.join(" and ", conditions);
+        final Query<LogEntity> query = session.createQuery(
+                "from LogEntity l" + where + " order by l.timestamp desc, l.id desc",
+                LogEntity.class);
+
+        // the unique id parameters take the type of the compared attribute, so they are bound
+        // through its BinaryUUIDConverter
+        if (this.source != null) {
+            query.setParameter("source", this.source);
+        }
+
+        if (this.target != null) {
+            query.setParameter("target", this.target);
+        }
+
+        if (this.type != null) {
+            query.setParameter("type", this.type.getIdentifier());
+        }
+
+        if (this.from != null) {
+            query.setParameter("from", this.from.getEpochSecond());
+        }
+
+        if (this.until != null) {
+            query.setParameter("until", this.until.getEpochSecond());
+        }
+
+        if (this.after != null) {
+            query.setParameter("afterTimestamp", this.after.getTimestamp().getEpochSecond());
+            query.setParameter("afterId", this.after.getId());
+        }
+
+        return query.setMaxResults(limit).getResultList();
+    }
+
+    public static class Builder implements ActionLogQuery.Builder {
+
+        @Nullable
+        private UUID source = null;
+        @Nullable
+        private UUID target = null;
+        private Action.@Nullable Type type = null;
+        @Nullable
+        private Instant from = null;
+        @Nullable
+        private Instant until = null;
+        @Nullable
+        private LogEntity after = null;
+
+        private Builder() {}
+
+        @Override
+        public @NonNull Builder source(final UUID source) {
+            this.source = source;
+            return this;
+        }
+
+        @Override
+        public @NonNull Builder target(final UUID target) {
+            this.target = target;
+            return this;
+        }
+
+        @Override
+        public @NonNull Builder type(final Action.Type type) {
+            this.type = type;
+            return this;
+        }
+
+        @Override
+        public @NonNull Builder from(final Instant from) {
+            this.from = from;
+            return this;
+        }
+
+        @Override
+        public @NonNull Builder until(final Instant until) {
+            this.until = until;
+            return this;
+        }
+
+        @Override
+        public @NonNull Builder after(@NonNull final Action action) {
+            if (!(action instanceof LogEntity)) {
+                throw new IllegalArgumentException("action is not a result of a previous query");
+            }
+
+            this.after = (LogEntity) action;
+            return this;
+        }
+
+        @Override
+        public @NonNull LogQuery build() {
+            return new LogQuery(this.source, this.target, this.type, this.from, this.until,
+                    this.after);
+        }
+    }
+}
@@ -0,0 +1,277 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Marc Beckhaeuser (AlphaConqueror) <marcbeckhaeuser@gmail.com>
+ *
+ * Created for 'DirtCraft'.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package net.dirtcraft.dirtcore.common.actionlog;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import net.dirtcraft.dirtcore.common.plugin.DirtCorePlugin;
+import net.dirtcraft.dirtcore.common.storage.entities.DirtCoreEntity;
+import net.dirtcraft.dirtcore.common.storage.entities.log.LogEntity;
+import net.dirtcraft.dirtcore.common.storage.entities.util.BinaryUUIDConverter;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * Writes log entries in the background, batching all entries queued in the meantime into a
+ * single JDBC batch insert.
+ * <p>
+ * If the queue is full, the entry is handed to the async executor to be written on its own, so
+ * the calling thread, usually the main thread, never blocks on the database. Only if the executor
+ * rejects it as well, the entry is dropped and counted, see {@link #getDropped()}.
+ * <p>
+ * Entries of a failed batch are retried one by one after {@link #RETRY_DELAY_SECONDS}, an entry
+ * failing {@link #MAX_ATTEMPTS} times is dropped and logged. {@link #flush()} writes all remaining
+ * entries and has to be called before the storage is closed.
+ */
+public class LogWriter {
+
+    public static final int QUEUE_CAPACITY = 8192;
+    public static final int BATCH_SIZE = 256;
+    public static final int MAX_ATTEMPTS = 3;
+    public static final long RETRY_DELAY_SECONDS = 5L;
+
+    private static final String INSERT = "INSERT INTO " + DirtCoreEntity.TABLE_PREFIX + "log "
+            + "(timestamp, source_uuid, source_server, target_uuid, type, authorization, title, "
+            + "description, incident_id) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final BinaryUUIDConverter UUID_CONVERTER = new BinaryUUIDConverter();
+
+    private final DirtCorePlugin plugin;
+    private final BlockingQueue<Entry> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+    private final AtomicBoolean scheduled = new AtomicBoolean(false);
+    private final AtomicBoolean overflowed = new AtomicBoolean(false);
+    private final AtomicLong dropped = new AtomicLong();
+    private final Object drainLock = new Object();
+    /**
+     * Entries of failed batches, guarded by {@link #drainLock}.
+     */
+    private final List<Entry> retries = new ArrayList<>();
+    /**
+     * If a retry has been scheduled, guarded by {@link #drainLock}.
+     */
+    private boolean retryScheduled = false;
+
+    public LogWriter(@NonNull final DirtCorePlugin plugin) {
+        this.plugin = plugin;
+    }
+
+    /**
+     * Queues a log entry to be written.
+     *
+     * @param log     the log entry
+     * @param written called once the entry has been written and its id has been set
+     */
+    public void submit(@NonNull final LogEntity log, @NonNull final Runnable written) {
+        final Entry entry = new Entry(log, written);
+
+        if (this.queue.offer(entry)) {
+            this.schedule();
+            return;
+        }
+
+        if (this.overflowed.compareAndSet(false, true)) {
+            this.plugin.getLogger()
+                    .warn("Log queue is full, writing log entries one by one.");
+        }
+
+        try {
+            this.plugin.getBootstrap().getScheduler()
+                    .executeAsync(() -> this.writeOrRetry(Collections.singletonList(entry)));
+        } catch (final RejectedExecutionException e) {
+            this.plugin.getLogger()
+                    .warn("Dropped log entry {} of {}, {} entries dropped in total.",
+                            log.getType().getIdentifier(), log.getSource(),
+                            this.dropped.incrementAndGet());
+        }
+    }
+
+    /**
+     * Gets the amount of log entries dropped, because neither the queue nor the async executor
+     * accepted them.
+     *
+     * @return the amount of dropped entries
+     */
+    public long getDropped() {
+        return this.dropped.get();
+    }
+
+    /**
+     * Writes all queued log entries and retries failed ones on the calling thread, waiting for a
+     * running background write to complete first.
+     */
+    public void flush() {
+        synchronized (this.drainLock) {
+            this.drainQueue(true);
+        }
+    }
+
+    private void schedule() {
+        if (this.scheduled.compareAndSet(false, true)) {
+            this.plugin.getBootstrap().getScheduler().executeAsync(this::drain);
+        }
+    }
+
+    private void drain() {
+        try {
+            synchronized (this.drainLock) {
+                this.drainQueue(false);
+            }
+        } finally {
+            this.scheduled.set(false);
+
+            // an entry might have been queued after the last drain but before resetting the flag
+            if (!this.queue.isEmpty()) {
+                this.schedule();
+            }
+        }
+    }
+
+    private void retry() {
+        synchronized (this.drainLock) {
+            this.retryScheduled = false;
+            this.drainQueue(true);
+        }
+    }
+
+    private void drainQueue(final boolean retry) {
+        if (retry && !this.retries.isEmpty()) {
+            final List<Entry> retries = new ArrayList<>(this.retries);
+
+            this.retries.clear();
+
+            // one by one, so a single broken entry does not fail the others again
+            for (final Entry entry : retries) {
+                this.writeOrRetry(Collections.singletonList(entry));
+            }
+        }
+
+        final List<Entry> batch = new ArrayList<>(BATCH_SIZE);
+
+        while (this.queue.drainTo(batch, BATCH_SIZE) > 0) {
+            this.writeOrRetry(batch);
+            batch.clear();
+        }
+
+        this.overflowed.set(false);
+    }
+
+    private void writeOrRetry(@NonNull final List<Entry> batch) {
+        try {
+            this.write(batch);
+        } catch (final Exception e) {
+            this.plugin.getLogger().severe("Caught exception while writing log entries.", e);
+
+            synchronized (this.drainLock) {
+                for (final Entry entry : batch) {
+                    if (++entry.attempts < MAX_ATTEMPTS) {
+                        this.retries.add(entry);
+                    } else {
+                        this.plugin.getLogger()
+                                .severe("Dropped log entry {} of {} after {} attempts.",
+                                        entry.log.getType().getIdentifier(),
+                                        entry.log.getSource(), MAX_ATTEMPTS);
+                    }
+                }
+
+                if (!this.retries.isEmpty() && !this.retryScheduled) {
+                    this.retryScheduled = true;
+                    this.plugin.getBootstrap().getScheduler()
+                            .asyncLater(this::retry, RETRY_DELAY_SECONDS, TimeUnit.SECONDS);
+                }
+            }
+
+            return;
+        }
+
+        for (final Entry entry : batch) {
+            try {
+                entry.written.run();
+            } catch (final Exception e) {
+                this.plugin.getLogger()
+                        .severe("Caught exception while dispatching written log entry.", e);
+            }
+        }
+    }
+
+    private void write(@NonNull final List<Entry> batch) {
+        this.plugin.getStorage().performTask(context -> context.session().doWork(connection -> {
+            try (final PreparedStatement ps = connection.prepareStatement(INSERT,
+                    Statement.RETURN_GENERATED_KEYS)) {
+                for (final Entry entry : batch) {
+                    final LogEntity log = entry.log;
+
+                    ps.setLong(1, log.getTimestamp().getEpochSecond());
+                    ps.setBytes(2, UUID_CONVERTER.convertToDatabaseColumn(log.getSource()));
+                    ps.setString(3, log.getSourceServer());
+
+                    if (log.getTarget().isPresent()) {
+                        ps.setBytes(4,
+                                UUID_CONVERTER.convertToDatabaseColumn(log.getTarget().get()));
+                    } else {
+                        ps.setNull(4, Types.BINARY);
+                    }
+
+                    ps.setString(5, log.getType().getIdentifier());
+                    ps.setString(6, log.getAuthorization().getIdentifier());
+                    ps.setString(7, log.getTitle().orElse(null));
+                    ps.setString(8, log.getDescription().orElse(null));
+                    ps.setString(9, log.getIncidentId().orElse(null));
+                    ps.addBatch();
+                }
+
+                ps.executeBatch();
+
+                try (final ResultSet keys = ps.getGeneratedKeys()) {
+                    for (int i = 0; i < batch.size() && keys.next(); i++) {
+                        batch.get(i).log.setGeneratedId(keys.getLong(1));
+                    }
+                }
+            }
+        }));
+    }
+
+    private static final class Entry {
+
+        private final LogEntity log;
+        private final Runnable written;
+        private int attempts;
+
+        private Entry(final LogEntity log, final Runnable written) {
+            this.log = log;
+            this.written = written;
+        }
+    }
+}
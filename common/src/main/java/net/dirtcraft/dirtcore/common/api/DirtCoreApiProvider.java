@@ -102,6 +102,6 @@ public class DirtCoreApiProvider implements DirtCore {
 
     @Override
     public @NonNull CompletableFuture<Void> runUpdateTask() {
-        return this.plugin.getSyncTaskBuffer().request();
+        return this.plugin.getSyncTaskBuffer().requestReload();
     }
 }
@@ -161,6 +161,11 @@ public abstract class BufferedRequest<T> {
                     throw new ProcessorAlreadyRanException();
                 }
                 if (this.scheduledTask != null) {
+                    // postponing keeps the bound task, avoiding a cancel and reschedule
+                    if (this.scheduledTask.extend(this.delay, this.unit)) {
+                        return;
+                    }
+
                     this.scheduledTask.cancel();
                 }
                 this.scheduleTask();
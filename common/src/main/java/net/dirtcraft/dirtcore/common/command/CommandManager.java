@@ -30,6 +30,7 @@ import com.google.common.collect.ImmutableSet;
 import java.lang.reflect.InvocationTargetException;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import net.dirtcraft.dirtcore.common.command.abstraction.AbstractCommand;
 import net.dirtcraft.dirtcore.common.command.abstraction.Command;
@@ -56,6 +57,7 @@ import net.kyori.adventure.text.event.HoverEvent;
 import net.kyori.adventure.text.format.NamedTextColor;
 import net.kyori.adventure.text.format.TextDecoration;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 /**
  * Root command manager for the '/dirtcore' command.
@@ -69,6 +71,8 @@ public class CommandManager {
 
     private final DirtCorePlugin plugin;
     private final CommandDispatcher<DirtCorePlugin, Sender> dispatcher;
+    @Nullable
+    private volatile ArgumentFactory<? extends DirtCorePlugin> argumentFactory;
 
     public CommandManager(final DirtCorePlugin plugin) {
         this.plugin = plugin;
@@ -216,7 +220,19 @@ public class CommandManager {
         return this.dispatcher;
     }
 
+    /**
+     * Gets the argument factory the commands were last built with.
+     *
+     * @return the argument factory, if the commands have been built
+     */
+    @NonNull
+    public Optional<ArgumentFactory<? extends DirtCorePlugin>> getArgumentFactory() {
+        return Optional.ofNullable(this.argumentFactory);
+    }
+
     public void buildCommands(final ArgumentFactory<? extends DirtCorePlugin> argumentFactory) {
+        this.argumentFactory = argumentFactory;
+
         final Set<AbstractCommand<DirtCorePlugin, Sender>> commands = new HashSet<>();
 
         commandClasses.forEach(c -> {
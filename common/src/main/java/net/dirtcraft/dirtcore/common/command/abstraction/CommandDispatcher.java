@@ -29,6 +29,7 @@
 
 package net.dirtcraft.dirtcore.common.command.abstraction;
 
+import com.github.benmanes.caffeine.cache.Cache;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -40,7 +41,9 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import net.dirtcraft.dirtcore.common.command.abstraction.builder.ArgumentBuilder;
@@ -58,6 +61,7 @@ import net.dirtcraft.dirtcore.common.command.abstraction.tree.RootCommandNode;
 import net.dirtcraft.dirtcore.common.command.abstraction.tree.option.OptionCommandNode;
 import net.dirtcraft.dirtcore.common.model.Sender;
 import net.dirtcraft.dirtcore.common.plugin.DirtCorePlugin;
+import net.dirtcraft.dirtcore.common.util.CaffeineFactory;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
@@ -113,6 +117,8 @@ public class CommandDispatcher<P extends DirtCorePlugin, S extends Sender> {
 
     private final P plugin;
     private final RootCommandNode<P, S> root;
+    private final Cache<UUID, ParseCache<P, S>> parseCaches =
+            CaffeineFactory.newBuilder().expireAfterAccess(1, TimeUnit.MINUTES).build();
     private ResultConsumer<P, S> consumer = (c, s, r) -> {};
 
     /**
@@ -148,6 +154,7 @@ public class CommandDispatcher<P extends DirtCorePlugin, S extends Sender> {
      */
     public void register(final ArgumentBuilder<P, S, ? extends ArgumentBuilder<P, S, ?>> command) {
         command.onBuild(this.root);
+        this.parseCaches.invalidateAll();
     }
 
     /**
@@ -465,7 +472,35 @@ public class CommandDispatcher<P extends DirtCorePlugin, S extends Sender> {
         final CommandContextBuilder<P, S> context =
                 new CommandContextBuilder<>(this.plugin, this, source, this.root,
                         command.getCursor());
-        return this.parseNodes(this.root, command, context);
+        return this.parseNodes(this.root, command, context, null);
+    }
+
+    /**
+     * Parses a given command to list its suggestions.
+     *
+     * <p>Behaves like {@link #parse(StringReader, Sender)}, but reuses the nodes parsed from the
+     * previous input of the same source up to its last unchanged argument separator, as the input
+     * usually only changes at its end while typing. The results may contain arguments parsed
+     * from a previous input and are therefore not meant to be executed.</p>
+     *
+     * @param command a command string to parse
+     * @param source  a custom "source" object, usually representing the originator of this command
+     * @return the result of parsing this command
+     * @see #parse(StringReader, Sender)
+     * @see #getCompletionSuggestions(ParseResults)
+     */
+    public ParseResults<P, S> parseForSuggestions(final StringReader command, final S source) {
+        final ParseCache<P, S> cache =
+                this.parseCaches.get(source.getUniqueId(), uniqueId -> new ParseCache<>());
+
+        synchronized (cache) {
+            cache.update(command.getString());
+
+            final CommandContextBuilder<P, S> context =
+                    new CommandContextBuilder<>(this.plugin, this, source, this.root,
+                            command.getCursor());
+            return this.parseNodes(this.root, command, context, cache);
+        }
     }
 
     /**
@@ -926,11 +961,13 @@ public class CommandDispatcher<P extends DirtCorePlugin, S extends Sender> {
     }
 
     private ParseResults<P, S> parseNodes(final CommandNode<P, S> node,
-            final StringReader originalReader, final CommandContextBuilder<P, S> contextSoFar) {
+            final StringReader originalReader, final CommandContextBuilder<P, S> contextSoFar,
+            @Nullable final ParseCache<P, S> cache) {
         final S source = contextSoFar.getSource();
         Map<CommandNodeLike<S>, CommandSyntaxException> errors = null;
         List<ParseResults<P, S>> potentials = null;
         final int cursor = originalReader.getCursor();
+        final int start = contextSoFar.getRange().getStart();
 
         if (originalReader.canRead(2) && originalReader.getRemaining().startsWith(OPTION_PREFIX)) {
             if (node.getCommand() != null) {
@@ -946,29 +983,43 @@ public class CommandDispatcher<P extends DirtCorePlugin, S extends Sender> {
                     continue;
                 }
 
-                final CommandContextBuilder<P, S> context = contextSoFar.copy();
+                final ParseCache.Step<P, S> step =
+                        cache == null ? null : cache.get(child, start, cursor);
+                final CommandContextBuilder<P, S> context;
                 final StringReader reader = new StringReader(originalReader);
 
-                try {
+                if (step != null) {
+                    context = step.getContext().copy().withSource(source);
+                    reader.setCursor(step.getEnd());
+                } else {
+                    context = contextSoFar.copy();
+
                     try {
-                        child.parse(this.plugin, reader, context);
-                    } catch (final RuntimeException ex) {
-                        throw CommandSyntaxException.BUILT_IN_EXCEPTIONS.dispatcherParseException()
-                                .createWithContext(reader, ex.getMessage());
-                    }
+                        try {
+                            child.parse(this.plugin, reader, context);
+                        } catch (final RuntimeException ex) {
+                            throw CommandSyntaxException.BUILT_IN_EXCEPTIONS.dispatcherParseException()
+                                    .createWithContext(reader, ex.getMessage());
+                        }
 
-                    if (reader.canRead() && reader.peek() != ARGUMENT_SEPARATOR_CHAR) {
-                        throw CommandSyntaxException.BUILT_IN_EXCEPTIONS.dispatcherExpectedArgumentSeparator()
-                                .createWithContext(reader);
-                    }
-                } catch (final CommandSyntaxException ex) {
-                    if (errors == null) {
-                        errors = new LinkedHashMap<>();
+                        if (reader.canRead() && reader.peek() != ARGUMENT_SEPARATOR_CHAR) {
+                            throw CommandSyntaxException.BUILT_IN_EXCEPTIONS.dispatcherExpectedArgumentSeparator()
+                                    .createWithContext(reader);
+                        }
+                    } catch (final CommandSyntaxException ex) {
+                        if (errors == null) {
+                            errors = new LinkedHashMap<>();
+                        }
+
+                        errors.put(child, ex);
+                        reader.setCursor(cursor);
+                        continue;
                     }
 
-                    errors.put(child, ex);
-                    reader.setCursor(cursor);
-                    continue;
+                    // only nodes followed by a separator are known to not depend on further input
+                    if (cache != null && reader.canRead()) {
+                        cache.put(child, start, cursor, context.copy(), reader.getCursor());
+                    }
                 }
 
                 context.withCommand(child.getCommand());
@@ -981,7 +1032,7 @@ public class CommandDispatcher<P extends DirtCorePlugin, S extends Sender> {
                                 new CommandContextBuilder<>(this.plugin, this, source,
                                         child.getRedirect(), reader.getCursor());
                         final ParseResults<P, S> parse =
-                                this.parseNodes(child.getRedirect(), reader, childContext);
+                                this.parseNodes(child.getRedirect(), reader, childContext, cache);
 
                         context.withChild(parse.getContext());
                         return new ParseResults<>(context, parse.getReader(),
@@ -992,7 +1043,7 @@ public class CommandDispatcher<P extends DirtCorePlugin, S extends Sender> {
                         potentials = new ArrayList<>(1);
                     }
 
-                    potentials.add(this.parseNodes(child, reader, context));
+                    potentials.add(this.parseNodes(child, reader, context, cache));
                 } else {
                     if (potentials == null) {
                         potentials = new ArrayList<>(1);
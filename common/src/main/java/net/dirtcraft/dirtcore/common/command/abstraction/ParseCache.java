@@ -0,0 +1,159 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Marc Beckhaeuser (AlphaConqueror) <marcbeckhaeuser@gmail.com>
+ *
+ * Created for 'DirtCraft'.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package net.dirtcraft.dirtcore.common.command.abstraction;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import net.dirtcraft.dirtcore.common.command.abstraction.context.CommandContextBuilder;
+import net.dirtcraft.dirtcore.common.command.abstraction.tree.CommandNode;
+import net.dirtcraft.dirtcore.common.model.Sender;
+import net.dirtcraft.dirtcore.common.plugin.DirtCorePlugin;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Remembers the successfully parsed nodes of the last input of a sender.
+ * <p>
+ * Tab completion parses the whole input on every keystroke, although usually only the last
+ * argument changed. A node parsed from a cursor to an argument separator will parse the same
+ * way as long as the input up to and including that separator did not change, so only the nodes
+ * after the last unchanged argument separator have to be parsed again.
+ * <p>
+ * Not thread-safe, callers synchronize on the instance.
+ *
+ * @param <P> the plugin type
+ * @param <S> the sender type
+ */
+final class ParseCache<P extends DirtCorePlugin, S extends Sender> {
+
+    private final Map<Key, Step<P, S>> steps = new HashMap<>();
+    @NonNull
+    private String input = "";
+
+    /**
+     * Sets the input to be parsed next and drops all nodes parsed from the part of the previous
+     * input that changed.
+     *
+     * @param input the new input
+     */
+    void update(@NonNull final String input) {
+        final int length = Math.min(this.input.length(), input.length());
+        int unchanged = 0;
+
+        while (unchanged < length && this.input.charAt(unchanged) == input.charAt(unchanged)) {
+            unchanged++;
+        }
+
+        final int end = unchanged;
+
+        this.steps.values().removeIf(step -> step.end >= end);
+        this.input = input;
+    }
+
+    /**
+     * Gets the result of parsing a node.
+     *
+     * @param node   the node
+     * @param start  the start of the context the node was parsed in
+     * @param cursor the cursor the node was parsed from
+     * @return the step, or {@code null} if the node has to be parsed
+     */
+    @Nullable
+    Step<P, S> get(@NonNull final CommandNode<P, S> node, final int start, final int cursor) {
+        return this.steps.get(new Key(node, start, cursor));
+    }
+
+    /**
+     * Remembers the result of parsing a node, which must have been followed by an argument
+     * separator.
+     *
+     * @param node    the node
+     * @param start   the start of the context the node was parsed in
+     * @param cursor  the cursor the node was parsed from
+     * @param context a copy of the context after parsing the node
+     * @param end     the cursor after parsing the node, pointing at the argument separator
+     */
+    void put(@NonNull final CommandNode<P, S> node, final int start, final int cursor,
+            @NonNull final CommandContextBuilder<P, S> context, final int end) {
+        this.steps.put(new Key(node, start, cursor), new Step<>(context, end));
+    }
+
+    static final class Step<P extends DirtCorePlugin, S extends Sender> {
+
+        @NonNull
+        private final CommandContextBuilder<P, S> context;
+        private final int end;
+
+        private Step(@NonNull final CommandContextBuilder<P, S> context, final int end) {
+            this.context = context;
+            this.end = end;
+        }
+
+        @NonNull
+        CommandContextBuilder<P, S> getContext() {
+            return this.context;
+        }
+
+        int getEnd() {
+            return this.end;
+        }
+    }
+
+    private static final class Key {
+
+        @NonNull
+        private final CommandNode<?, ?> node;
+        private final int start;
+        private final int cursor;
+
+        private Key(@NonNull final CommandNode<?, ?> node, final int start, final int cursor) {
+            this.node = node;
+            this.start = start;
+            this.cursor = cursor;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+
+            if (!(o instanceof Key)) {
+                return false;
+            }
+
+            final Key key = (Key) o;
+            return this.node == key.node && this.start == key.start && this.cursor == key.cursor;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(System.identityHashCode(this.node), this.start, this.cursor);
+        }
+    }
+}
@@ -45,6 +45,8 @@ import net.dirtcraft.dirtcore.common.model.minecraft.critereon.MinMaxBounds;
 import net.dirtcraft.dirtcore.common.model.minecraft.critereon.WrappedMinMaxBounds;
 import net.dirtcraft.dirtcore.common.model.minecraft.phys.Vec3;
 import net.dirtcraft.dirtcore.common.model.minecraft.util.Mth;
+import net.dirtcraft.dirtcore.common.platform.argument.ArgumentFactory;
+import net.dirtcraft.dirtcore.common.platform.argument.ResourceSuggestionIndex;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
 public abstract class AbstractEntitySelectorOptions<T extends AbstractEntitySelectorParser<?, ?,
@@ -263,6 +265,19 @@ public abstract class AbstractEntitySelectorOptions<T extends AbstractEntitySele
         this.optionMap.put(id, new Option<>(handler, predicate, tooltip));
     }
 
+    /**
+     * Gets the entity type suggestion index of the argument factory the commands were built
+     * with.
+     *
+     * @param parser the parser
+     * @return the entity type index
+     */
+    @NonNull
+    protected ResourceSuggestionIndex getEntityTypeIndex(@NonNull final T parser) {
+        return parser.getPlugin().getCommandManager().getArgumentFactory()
+                .map(ArgumentFactory::getEntityTypeIndex).orElse(ResourceSuggestionIndex.EMPTY);
+    }
+
     protected boolean areTagsSupported() {
         return true;
     }
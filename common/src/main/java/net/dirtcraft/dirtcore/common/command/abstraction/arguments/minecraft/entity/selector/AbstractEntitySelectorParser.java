@@ -237,6 +237,10 @@ public abstract class AbstractEntitySelectorParser<P extends DirtCorePlugin,
         return false;
     }
 
+    public P getPlugin() {
+        return this.plugin;
+    }
+
     public StringReader getReader() {
         return this.reader;
     }
@@ -39,6 +39,7 @@ import net.dirtcraft.dirtcore.common.command.abstraction.exceptions.SimpleComman
 import net.dirtcraft.dirtcore.common.command.abstraction.suggestion.Suggestions;
 import net.dirtcraft.dirtcore.common.command.abstraction.suggestion.SuggestionsBuilder;
 import net.dirtcraft.dirtcore.common.model.Sender;
+import net.dirtcraft.dirtcore.common.model.manager.user.UserNameIndex;
 import net.dirtcraft.dirtcore.common.plugin.DirtCorePlugin;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
@@ -94,9 +95,16 @@ public class UserArgument implements ArgumentType<DirtCorePlugin, UserParser.Use
             userParser.parse();
         } catch (final CommandSyntaxException ignored) {}
 
-        return userParser.fillSuggestions(pBuilder, (builder) -> SharedSuggestionProvider.suggest(
-                this.includeOffline ? plugin.getUserManager().getUserMap().values()
-                        : plugin.getPlatformFactory().getPlayerNames(), builder));
+        return userParser.fillSuggestions(pBuilder, (builder) -> {
+            if (this.includeOffline) {
+                plugin.getUserManager().getUserNameIndex()
+                        .suggest(builder.getRemaining(), UserNameIndex.DEFAULT_LIMIT)
+                        .forEach(builder::suggest);
+            } else {
+                SharedSuggestionProvider.suggest(plugin.getPlatformFactory().getPlayerNames(),
+                        builder);
+            }
+        });
     }
 
     @Override
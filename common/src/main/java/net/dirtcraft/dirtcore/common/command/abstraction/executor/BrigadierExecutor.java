@@ -70,7 +70,8 @@ public abstract class BrigadierExecutor<S> implements Command<S>, SuggestionProv
             final Sender sender = this.getSender(context.getSource());
             final CommandDispatcher<DirtCorePlugin, Sender> dispatcher =
                     this.getPlugin().getCommandManager().getDispatcher();
-            final ParseResults<DirtCorePlugin, Sender> parse = dispatcher.parse(reader, sender);
+            final ParseResults<DirtCorePlugin, Sender> parse =
+                    dispatcher.parseForSuggestions(reader, sender);
 
             // adjust suggestion builder to already existing input in current argument
             int offset = input.length();
@@ -410,6 +410,30 @@ public final class ConfigKeys {
             stringListKey("blacklisted-advancements",
                     Collections.singletonList("(adventure\\/)?root"));
 
+    /*
+     * LOG SECTION
+     */
+
+    /**
+     * The age in days after which log entries are moved from the database into the log archive.
+     * 0 will disable archival.
+     */
+    public static final ConfigKey<Integer> LOG_ARCHIVE_AFTER_DAYS =
+            range(intKey("log.archive-after-days", 0), 0, Integer.MAX_VALUE);
+
+    /**
+     * The identifier of the only server archiving log entries, as the log table is shared by the
+     * network. Archival is disabled, if empty.
+     */
+    public static final ConfigKey<String> LOG_ARCHIVE_SERVER = stringKey("log.archive-server", "");
+
+    /**
+     * The directory of the log archive. Relative paths are resolved against the data directory.
+     * Servers can only read archived entries, if they can access this directory.
+     */
+    public static final ConfigKey<String> LOG_ARCHIVE_DIRECTORY =
+            stringKey("log.archive-directory", "log-archive");
+
     /*
      * CONNECTION SECTION
      */
@@ -459,6 +483,40 @@ public final class ConfigKeys {
                         keepAliveTime, connectionTimeout, props);
             }));
 
+    /**
+     * The maximum pool size of this server, overriding the maximum pool size of the database
+     * settings. 0, if the server has no pool size of its own.
+     */
+    public static final ConfigKey<Integer> SERVER_POOL_SIZE = notReloadable(key((config) -> {
+        final String size = config.getStringMap("data.pool-settings.server-pool-sizes",
+                ImmutableMap.of()).get(config.getString("server-identifier", ""));
+
+        if (size == null) {
+            return 0;
+        }
+
+        try {
+            return Math.max(0, Integer.parseInt(size.trim()));
+        } catch (final NumberFormatException e) {
+            return 0;
+        }
+    }));
+
+    /**
+     * The time in milliseconds a connection may be out of the pool before a possible leak is
+     * logged. 0 will disable leak detection.
+     */
+    public static final ConfigKey<Long> POOL_LEAK_DETECTION_THRESHOLD = notReloadable(
+            range(longKey("data.pool-settings.leak-detection-threshold", 0L), 0L,
+                    Long.MAX_VALUE));
+
+    /**
+     * The maximum time in milliseconds the pool will wait for a connection to be validated.
+     */
+    public static final ConfigKey<Long> POOL_VALIDATION_TIMEOUT = notReloadable(
+            range(longKey("data.pool-settings.validation-timeout", 3000L), 250L,
+                    Long.MAX_VALUE));
+
     /**
      * The prefix for any SQL tables
      */
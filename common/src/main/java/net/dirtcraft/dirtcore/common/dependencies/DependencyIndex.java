@@ -0,0 +1,247 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Marc Beckhaeuser (AlphaConqueror) <marcbeckhaeuser@gmail.com>
+ *
+ * Created for 'DirtCraft'.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package net.dirtcraft.dirtcore.common.dependencies;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+import java.util.Properties;
+import net.dirtcraft.dirtcore.common.dependencies.relocation.Relocation;
+
+/**
+ * A persistent index of the jars in the library cache.
+ * <p>
+ * Stores the checksum, size and modification time of every jar, and for remapped jars a
+ * fingerprint of the source checksum and relocation rules. A jar whose size and modification
+ * time are unchanged is trusted without hashing it again, so a warm start neither hashes nor
+ * remaps anything. Only plain {@link java.util} types are used, as nothing else is loaded yet.
+ */
+public class DependencyIndex {
+
+    private static final String CHECKSUM = ".sha256";
+    private static final String SIZE = ".size";
+    private static final String MODIFIED = ".modified";
+    private static final String FINGERPRINT = ".fingerprint";
+
+    private final Path file;
+    private final Properties properties = new Properties();
+    private boolean dirty = false;
+
+    public DependencyIndex(final Path file) {
+        this.file = file;
+
+        if (Files.exists(file)) {
+            try (final InputStream in = Files.newInputStream(file)) {
+                this.properties.load(in);
+            } catch (final IOException | IllegalArgumentException e) {
+                // a broken index only costs a rehash
+                this.properties.clear();
+            }
+        }
+    }
+
+    private static String hex(final byte[] bytes) {
+        final StringBuilder builder = new StringBuilder(bytes.length * 2);
+
+        for (final byte b : bytes) {
+            builder.append(Character.forDigit((b >> 4) & 0xF, 16))
+                    .append(Character.forDigit(b & 0xF, 16));
+        }
+
+        return builder.toString();
+    }
+
+    private static MessageDigest digest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (final NoSuchAlgorithmException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    private static String checksum(final Path jar) throws IOException {
+        final MessageDigest digest = digest();
+        final byte[] buffer = new byte[8192];
+
+        try (final InputStream in = Files.newInputStream(jar)) {
+            int read;
+
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        }
+
+        return hex(digest.digest());
+    }
+
+    private static String fingerprint(final String sourceChecksum, final List<Relocation> rules) {
+        final StringBuilder builder = new StringBuilder(sourceChecksum);
+
+        for (final Relocation rule : rules) {
+            builder.append('|').append(rule.getPattern()).append('>')
+                    .append(rule.getRelocatedPattern());
+        }
+
+        return hex(digest().digest(builder.toString().getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Checks a cached jar against the index.
+     * <p>
+     * An unchanged jar is trusted as is. A changed jar is hashed and only accepted if it still
+     * matches the recorded checksum. A jar without any record is hashed and recorded.
+     *
+     * @param jar the jar
+     * @return true, if the jar can be used
+     * @throws IOException if the jar could not be read
+     */
+    public synchronized boolean verify(final Path jar) throws IOException {
+        final String name = jar.getFileName().toString();
+        final String checksum = this.properties.getProperty(name + CHECKSUM);
+
+        if (checksum != null && this.isUnchanged(jar, name)) {
+            return true;
+        }
+
+        final String actual = checksum(jar);
+
+        if (checksum != null && !checksum.equals(actual)) {
+            return false;
+        }
+
+        this.record(jar, name, actual);
+        return true;
+    }
+
+    /**
+     * Records a freshly downloaded or remapped jar.
+     *
+     * @param jar the jar
+     * @throws IOException if the jar could not be read
+     */
+    public synchronized void record(final Path jar) throws IOException {
+        this.record(jar, jar.getFileName().toString(), checksum(jar));
+    }
+
+    /**
+     * Checks whether a remapped jar was created from the source jar with the given rules.
+     *
+     * @param source   the source jar, verified before
+     * @param remapped the remapped jar
+     * @param rules    the relocation rules
+     * @return true, if the remapped jar is up-to-date
+     * @throws IOException if a jar could not be read
+     */
+    public synchronized boolean isRemapped(final Path source, final Path remapped,
+            final List<Relocation> rules) throws IOException {
+        final String fingerprint = this.getFingerprint(source, rules);
+
+        return fingerprint != null && fingerprint.equals(this.properties.getProperty(
+                remapped.getFileName().toString() + FINGERPRINT)) && this.verify(remapped);
+    }
+
+    /**
+     * Records a remapped jar together with the fingerprint of its source and rules.
+     *
+     * @param source   the source jar, verified before
+     * @param remapped the remapped jar
+     * @param rules    the relocation rules
+     * @throws IOException if a jar could not be read
+     */
+    public synchronized void recordRemapped(final Path source, final Path remapped,
+            final List<Relocation> rules) throws IOException {
+        final String fingerprint = this.getFingerprint(source, rules);
+
+        this.record(remapped);
+
+        if (fingerprint != null) {
+            this.properties.setProperty(remapped.getFileName().toString() + FINGERPRINT,
+                    fingerprint);
+        }
+    }
+
+    /**
+     * Removes all records of a jar, e.g. after it was deleted.
+     *
+     * @param jar the jar
+     */
+    public synchronized void forget(final Path jar) {
+        final String name = jar.getFileName().toString();
+
+        for (final String suffix : new String[] {CHECKSUM, SIZE, MODIFIED, FINGERPRINT}) {
+            this.dirty |= this.properties.remove(name + suffix) != null;
+        }
+    }
+
+    /**
+     * Writes the index if it has been modified.
+     *
+     * @throws IOException if the index could not be written
+     */
+    public synchronized void save() throws IOException {
+        if (!this.dirty) {
+            return;
+        }
+
+        final Path temp = this.file.resolveSibling(this.file.getFileName() + ".tmp");
+
+        try (final OutputStream out = Files.newOutputStream(temp)) {
+            this.properties.store(out, "DirtCore dependency index");
+        }
+
+        Files.move(temp, this.file, StandardCopyOption.REPLACE_EXISTING);
+        this.dirty = false;
+    }
+
+    private String getFingerprint(final Path source, final List<Relocation> rules) {
+        final String checksum =
+                this.properties.getProperty(source.getFileName().toString() + CHECKSUM);
+        return checksum == null ? null : fingerprint(checksum, rules);
+    }
+
+    private boolean isUnchanged(final Path jar, final String name) throws IOException {
+        return String.valueOf(Files.size(jar)).equals(this.properties.getProperty(name + SIZE))
+                && String.valueOf(Files.getLastModifiedTime(jar).toMillis())
+                .equals(this.properties.getProperty(name + MODIFIED));
+    }
+
+    private void record(final Path jar, final String name, final String checksum)
+            throws IOException {
+        this.properties.setProperty(name + CHECKSUM, checksum);
+        this.properties.setProperty(name + SIZE, String.valueOf(Files.size(jar)));
+        this.properties.setProperty(name + MODIFIED,
+                String.valueOf(Files.getLastModifiedTime(jar).toMillis()));
+        this.dirty = true;
+    }
+}
@@ -33,14 +33,16 @@ import java.net.URL;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
-import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 import net.dirtcraft.dirtcore.common.dependencies.classloader.IsolatedClassLoader;
 import net.dirtcraft.dirtcore.common.dependencies.relocation.Relocation;
 import net.dirtcraft.dirtcore.common.dependencies.relocation.RelocationHandler;
@@ -72,10 +74,15 @@ public class DependencyManagerImpl implements DependencyManager {
      */
     private final Executor loadingExecutor;
 
+    /**
+     * The index of checksums and remap fingerprints of the cached jars.
+     */
+    private final DependencyIndex index;
+
     /**
      * A map of dependencies which have already been loaded.
      */
-    private final EnumMap<Dependency, Path> loaded = new EnumMap<>(Dependency.class);
+    private final Map<Dependency, Path> loaded = new ConcurrentHashMap<>();
     /**
      * A map of isolated classloaders which have been created.
      */
@@ -90,6 +97,7 @@ public class DependencyManagerImpl implements DependencyManager {
         this.plugin = plugin;
         this.registry = new DependencyRegistry();
         this.cacheDirectory = setupCacheDirectory(plugin);
+        this.index = new DependencyIndex(this.cacheDirectory.resolve("index.properties"));
         this.classPathAppender = plugin.getBootstrap().getClassPathAppender();
         this.loadingExecutor = plugin.getBootstrap().getScheduler().async();
     }
@@ -119,6 +127,8 @@ public class DependencyManagerImpl implements DependencyManager {
     @Override
     public void loadDependencies(final Set<Dependency> dependencies) {
         final CountDownLatch latch = new CountDownLatch(dependencies.size());
+        final Map<Dependency, Long> timings = new ConcurrentHashMap<>();
+        final long start = System.nanoTime();
 
         for (final Dependency dependency : dependencies) {
             if (this.loaded.containsKey(dependency)) {
@@ -127,8 +137,11 @@ public class DependencyManagerImpl implements DependencyManager {
             }
 
             this.loadingExecutor.execute(() -> {
+                final long dependencyStart = System.nanoTime();
+
                 try {
                     this.loadDependency(dependency);
+                    timings.put(dependency, System.nanoTime() - dependencyStart);
                 } catch (final Throwable e) {
                     this.plugin.getLogger()
                             .severe("Unable to load dependency " + dependency.name(), e);
@@ -143,6 +156,22 @@ public class DependencyManagerImpl implements DependencyManager {
         } catch (final InterruptedException e) {
             Thread.currentThread().interrupt();
         }
+
+        try {
+            this.index.save();
+        } catch (final IOException e) {
+            this.plugin.getLogger().warn("Unable to save dependency index", e);
+        }
+
+        if (!timings.isEmpty()) {
+            this.plugin.getLogger().info("Loaded {} dependencies in {}ms ({})", timings.size(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start),
+                    timings.entrySet().stream()
+                            .sorted(Map.Entry.<Dependency, Long>comparingByValue().reversed())
+                            .map(entry -> entry.getKey().name() + " " + TimeUnit.NANOSECONDS
+                                    .toMillis(entry.getValue()) + "ms")
+                            .collect(Collectors.joining(", ")));
+        }
     }
 
     @Override
@@ -209,13 +238,17 @@ public class DependencyManagerImpl implements DependencyManager {
     }
 
     private void loadDependency(final Dependency dependency) throws Exception {
-        if (this.loaded.containsKey(dependency)) {
-            return;
-        }
+        final Path file;
 
-        final Path file = this.remapDependency(dependency, this.downloadDependency(dependency));
+        // a dependency might be requested by several loads at once, only download and remap once
+        synchronized (dependency) {
+            if (this.loaded.containsKey(dependency)) {
+                return;
+            }
 
-        this.loaded.put(dependency, file);
+            file = this.remapDependency(dependency, this.downloadDependency(dependency));
+            this.loaded.put(dependency, file);
+        }
 
         if (this.classPathAppender != null && this.registry.shouldAutoLoad(dependency)) {
             this.classPathAppender.addJarToClasspath(file);
@@ -226,9 +259,20 @@ public class DependencyManagerImpl implements DependencyManager {
             final Dependency dependency) throws DependencyDownloadException {
         final Path file = this.cacheDirectory.resolve(dependency.getFileName(null));
 
-        // if the file already exists, don't attempt to re-download it.
+        // if the file already exists and is intact, don't attempt to re-download it.
         if (Files.exists(file)) {
-            return file;
+            try {
+                if (this.index.verify(file)) {
+                    return file;
+                }
+
+                this.plugin.getLogger()
+                        .warn("Checksum mismatch for {}, downloading it again", file.getFileName());
+            } catch (final IOException e) {
+                this.plugin.getLogger().warn("Unable to verify " + file.getFileName(), e);
+            }
+
+            this.index.forget(file);
         }
 
         DependencyDownloadException lastError = null;
@@ -237,7 +281,10 @@ public class DependencyManagerImpl implements DependencyManager {
         for (final DependencyRepository repo : DependencyRepository.values()) {
             try {
                 repo.download(dependency, file);
+                this.index.record(file);
                 return file;
+            } catch (final IOException e) {
+                throw new DependencyDownloadException(e);
             } catch (final DependencyDownloadException e) {
                 lastError = e;
             }
@@ -258,12 +305,16 @@ public class DependencyManagerImpl implements DependencyManager {
         final Path remappedFile = this.cacheDirectory.resolve(dependency.getFileName(
                 DependencyRegistry.isGsonRelocated() ? "remapped-legacy" : "remapped"));
 
-        // if the remapped source exists already, just use that.
-        if (Files.exists(remappedFile)) {
+        // if the remapped source exists already and was created from the same source and rules,
+        // just use that.
+        if (Files.exists(remappedFile) && this.index.isRemapped(normalFile, remappedFile,
+                rules)) {
             return remappedFile;
         }
 
+        Files.deleteIfExists(remappedFile);
         this.getRelocationHandler().remap(normalFile, remappedFile, rules);
+        this.index.recordRemapped(normalFile, remappedFile, rules);
         return remappedFile;
     }
 
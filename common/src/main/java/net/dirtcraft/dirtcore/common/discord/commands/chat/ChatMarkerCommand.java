@@ -227,7 +227,7 @@ public class ChatMarkerCommand extends AbstractCommand implements Prefixable {
     @NonNull
     private WebhookMessageCreateAction<Message> list(
             @NonNull final InteractionContext interactionContext) {
-        return this.getPlugin().getStorage().performTask(context -> {
+        return this.getPlugin().getStorage().performReadTask(context -> {
             final List<String> markerNames =
                     this.getPlugin().getChatManager().getChatMarkerNames(context).stream().sorted()
                             .collect(ImmutableCollectors.toList());
@@ -245,7 +245,7 @@ public class PrefixCommand extends AbstractCommand implements Prefixable {
     @NonNull
     private WebhookMessageCreateAction<Message> list(
             @NonNull final InteractionContext interactionContext) {
-        return this.getPlugin().getStorage().performTask(context -> {
+        return this.getPlugin().getStorage().performReadTask(context -> {
             final List<String> prefixNames =
                     this.getPlugin().getChatManager().getPrefixNames(context).stream().sorted()
                             .collect(ImmutableCollectors.toList());
@@ -193,8 +193,8 @@ public abstract class EventDispatcher {
         }
 
         // async: generate an event class and post it
-        this.eventBus.getPlugin().getBootstrap().getScheduler()
-                .executeAsync(() -> this.post(eventClass, params));
+        this.eventBus.getPlugin().getBootstrap().getScheduler().events()
+                .execute(() -> this.post(eventClass, params));
     }
 
     protected void postSync(final Class<? extends DirtCoreEvent> eventClass,
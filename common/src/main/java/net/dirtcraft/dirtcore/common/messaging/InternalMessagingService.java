@@ -63,6 +63,11 @@ public interface InternalMessagingService {
     /**
      * Uses the messaging service to inform other servers about a general
      * change.
+     * <p>
+     * Receiving servers run a {@link net.dirtcraft.dirtcore.common.tasks.SyncTask}, which also
+     * clears their second-level cache. The message carries the
+     * {@link net.dirtcraft.dirtcore.common.tasks.ChangeTracker#getLastRecordedId() id of the last
+     * recorded change}, so the task only applies the changes since its last run.
      */
     void pushUpdate();
 
@@ -34,13 +34,13 @@ import net.dirtcraft.dirtcore.common.config.ConfigKeys;
 import net.dirtcraft.dirtcore.common.plugin.DirtCorePlugin;
 import net.dirtcraft.dirtcore.common.scheduler.SchedulerAdapter;
 import net.dirtcraft.dirtcore.common.scheduler.SchedulerTask;
-import net.dirtcraft.dirtcore.common.storage.connection.MariaDbConnectionFactory;
-import net.dirtcraft.storageutils.sql.SqlStorage;
+import net.dirtcraft.dirtcore.common.storage.connection.SharedConnectionPool;
 
 public class SqlMessenger extends AbstractSqlMessenger {
 
     private final DirtCorePlugin plugin;
-    private final SqlStorage sqlStorage;
+    private final SharedConnectionPool pool;
+    private final String tableName;
 
     private SchedulerTask pollTask;
     private SchedulerTask housekeepingTask;
@@ -48,25 +48,24 @@ public class SqlMessenger extends AbstractSqlMessenger {
     public SqlMessenger(final DirtCorePlugin plugin, final IncomingMessageConsumer consumer) {
         super(consumer);
         this.plugin = plugin;
-        this.sqlStorage = new SqlStorage(plugin.getLogger(), new MariaDbConnectionFactory(plugin,
-                plugin.getConfiguration().get(ConfigKeys.DATABASE_VALUES)),
-                plugin.getConfiguration().get(ConfigKeys.SQL_TABLE_PREFIX));
+        // share the pool of the storage rather than opening a second one to the same database
+        this.pool = plugin.getConnectionPool();
+        this.tableName = plugin.getConfiguration().get(ConfigKeys.SQL_TABLE_PREFIX) + "messenger";
     }
 
     @Override
     protected Connection getConnection() throws SQLException {
-        return this.sqlStorage.getConnectionFactory().getConnection();
+        return this.pool.getConnection();
     }
 
     @Override
     protected String getTableName() {
-        return this.sqlStorage.getStatementProcessor().apply("{prefix}messenger");
+        return this.tableName;
     }
 
     @Override
     public void init() {
         try {
-            this.sqlStorage.init();
             super.init();
         } catch (final SQLException e) {
             throw new RuntimeException(e);
@@ -81,8 +80,6 @@ public class SqlMessenger extends AbstractSqlMessenger {
 
     @Override
     public void close() {
-        this.sqlStorage.shutdown();
-
         SchedulerTask task = this.pollTask;
         if (task != null) {
             task.cancel();
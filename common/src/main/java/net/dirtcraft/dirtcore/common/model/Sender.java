@@ -30,6 +30,7 @@ import java.util.Optional;
 import java.util.UUID;
 import net.dirtcraft.dirtcore.common.command.abstraction.SharedSuggestionProvider;
 import net.dirtcraft.dirtcore.common.exception.PlayerNotFoundException;
+import net.dirtcraft.dirtcore.common.model.manager.messaging.RenderedMessage;
 import net.dirtcraft.dirtcore.common.model.minecraft.Entity;
 import net.dirtcraft.dirtcore.common.model.minecraft.Player;
 import net.dirtcraft.dirtcore.common.model.minecraft.World;
@@ -77,6 +78,15 @@ public interface Sender extends Identifiable, Permissible, SharedSuggestionProvi
      */
     void sendMessage(final Iterable<Component> messages);
 
+    /**
+     * Send a message rendered for multiple recipients to the Sender.
+     *
+     * @param message the message to send.
+     */
+    default void sendMessage(@NonNull final RenderedMessage message) {
+        this.sendMessage(message.getComponent());
+    }
+
     /**
      * Gets whether this sender is the console.
      *
@@ -0,0 +1,150 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Marc Beckhaeuser (AlphaConqueror) <marcbeckhaeuser@gmail.com>
+ *
+ * Created for 'DirtCraft'.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package net.dirtcraft.dirtcore.common.model.gui.util;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import net.dirtcraft.dirtcore.common.model.minecraft.Player;
+import net.dirtcraft.dirtcore.common.model.minecraft.gui.slot.Slot;
+import net.dirtcraft.dirtcore.common.pagination.PagedSource;
+import net.dirtcraft.dirtcore.common.plugin.DirtCorePlugin;
+import net.dirtcraft.dirtcore.common.scheduler.SchedulerAdapter;
+import net.kyori.adventure.text.Component;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * A {@link PaginationGUI} which only loads the elements of the current page from a
+ * {@link PagedSource}.
+ * <p>
+ * Pages are loaded asynchronously and rendered on the main thread once they have been loaded,
+ * the previous page stays visible in the meantime.
+ *
+ * @param <T> the element type
+ */
+public abstract class PagedPaginationGUI<T> extends PaginationGUI {
+
+    private final PagedSource<T> source;
+    private int size = 0;
+    private int loadedPage = -1;
+    /**
+     * The page being loaded or -1, the results of any other page are dropped.
+     */
+    private int loadingPage = -1;
+    private List<T> elements = Collections.emptyList();
+
+    public PagedPaginationGUI(@NonNull final DirtCorePlugin plugin, @NonNull final Component title,
+            @NonNull final Player player, @NonNull final PagedSource<T> source) {
+        super(plugin, title, player);
+        this.source = source;
+    }
+
+    @NonNull
+    protected abstract Slot<?> getSlot(int slotIndex, @NonNull T element);
+
+    @Override
+    protected void onInit() {
+        // the first page is rendered once it has been loaded
+        this.fillEmpty();
+        this.load();
+    }
+
+    @Override
+    protected int getCollectionSize() {
+        return this.size;
+    }
+
+    @Override
+    protected @NonNull Slot<?> getSlot(final int slotIndex, final int elementIndex) {
+        return this.getSlot(slotIndex,
+                this.elements.get(elementIndex - this.currentPage * ELEMENTS_PER_PAGE));
+    }
+
+    @Override
+    protected void renderPage() {
+        if (this.loadedPage == this.currentPage) {
+            this.loadingPage = -1;
+            super.renderPage();
+        } else if (this.loadingPage != this.currentPage) {
+            this.load();
+        }
+    }
+
+    private void load() {
+        final SchedulerAdapter scheduler = this.plugin.getBootstrap().getScheduler();
+        final int page = this.currentPage;
+        final CompletableFuture<Integer> count = this.loadedPage == -1
+                ? CompletableFuture.supplyAsync(this.source::count, scheduler.async())
+                : CompletableFuture.completedFuture(this.size);
+        final CompletableFuture<List<T>> rows = CompletableFuture.supplyAsync(
+                () -> this.source.getPage(page + 1, ELEMENTS_PER_PAGE), scheduler.async());
+
+        this.loadingPage = page;
+        count.thenCombine(rows, (size, elements) -> {
+            scheduler.executeSync(() -> this.loaded(page, size, elements));
+            return null;
+        }).exceptionally(t -> {
+            this.plugin.getLogger().severe("Could not load page " + (page + 1), t);
+            scheduler.executeSync(() -> {
+                if (this.loadingPage == page) {
+                    this.loadingPage = -1;
+                }
+            });
+            return null;
+        });
+    }
+
+    private void loaded(final int page, final int count, @NonNull final List<T> rows) {
+        if (page != this.loadingPage || page != this.currentPage) {
+            return;
+        }
+
+        final int start = page * ELEMENTS_PER_PAGE;
+
+        this.loadingPage = -1;
+        // the content might have shrunk or grown since it was counted
+        this.size = rows.size() < ELEMENTS_PER_PAGE ? start + rows.size()
+                : Math.max(count, start + rows.size());
+        this.updateMaxPage();
+
+        if (rows.isEmpty() && page > 0) {
+            // the page does not exist anymore, show the last one instead
+            this.currentPage = this.maxPage - 1;
+            this.load();
+            return;
+        }
+
+        this.elements = rows;
+        this.loadedPage = page;
+
+        for (int i = rows.size(); i < ELEMENTS_PER_PAGE; i++) {
+            this.setEmpty(i);
+        }
+
+        super.renderPage();
+    }
+}
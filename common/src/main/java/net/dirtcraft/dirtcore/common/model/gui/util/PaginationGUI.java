@@ -84,9 +84,16 @@ public abstract class PaginationGUI extends AbstractContainer {
 
     @Override
     protected void onInit() {
+        this.updateMaxPage();
+        this.renderPage();
+    }
+
+    /**
+     * Recomputes the amount of pages from the size of the collection.
+     */
+    protected void updateMaxPage() {
         this.maxPage =
                 (int) Math.max(1, Math.ceil((double) this.getCollectionSize() / ELEMENTS_PER_PAGE));
-        this.renderPage();
     }
 
     protected void renderPage() {
@@ -60,12 +60,40 @@ import org.checkerframework.checker.nullness.qual.Nullable;
 public interface LimitManager extends Cacheable<String, LimitedBlockEntity> {
 
     /**
-     * Loads all limited blocks into the cache.
+     * Loads all limited blocks into the cache, streaming them row by row.
      *
      * @return the future
+     * @see TaskContext#scroll(org.hibernate.query.Query, java.util.function.Consumer)
      */
     @NonNull CompletableFuture<Void> loadAllLimitedBlocks();
 
+    /**
+     * Reloads the limited blocks with the identifiers into the cache and unloads the ones which
+     * no longer exist.
+     *
+     * @param context     the context
+     * @param identifiers the identifiers
+     */
+    default void reloadLimitedBlocks(@NonNull final TaskContext context,
+            @NonNull final Collection<String> identifiers) {
+        final Map<String, LimitedBlockEntity> limitedBlocks = context.session()
+                .createQuery("from LimitedBlockEntity l where l.identifier in (:identifiers)",
+                        LimitedBlockEntity.class).setParameterList("identifiers", identifiers)
+                .list().stream()
+                .collect(ImmutableCollectors.toMap(LimitedBlockEntity::getIdentifier,
+                        Function.identity()));
+
+        for (final String identifier : identifiers) {
+            final LimitedBlockEntity limitedBlock = limitedBlocks.get(identifier);
+
+            if (limitedBlock == null) {
+                this.unload(identifier);
+            } else {
+                this.update(limitedBlock);
+            }
+        }
+    }
+
     /**
      * Gets all limited blocks.
      *
@@ -212,17 +240,15 @@ public interface LimitManager extends Cacheable<String, LimitedBlockEntity> {
          * Limits the amount of blocks a player can place across all worlds.
          */
         GLOBAL((uniqueId, limitedBlockEntry, world, chunkX, chunkZ) -> {
-            final String uniqueIdAsString = uniqueId.toString();
-            return limitedBlockEntry.getUniqueId().equals(uniqueIdAsString);
+            return limitedBlockEntry.getUniqueId().equals(uniqueId);
         }, NamedTextColor.DARK_RED,
                 "The number of blocks of this type you can place across all worlds."),
         /**
          * Limits the amount of blocks a player can place in a world.
          */
         WORLD((uniqueId, limitedBlockEntry, world, chunkX, chunkZ) -> {
-            final String uniqueIdAsString = uniqueId.toString();
             final String identifier = world.getIdentifier();
-            return limitedBlockEntry.getUniqueId().equals(uniqueIdAsString)
+            return limitedBlockEntry.getUniqueId().equals(uniqueId)
                     && limitedBlockEntry.getWorld().equals(identifier);
         }, NamedTextColor.DARK_BLUE,
                 "The number of blocks of this type you can place in this world."),
@@ -241,9 +267,8 @@ public interface LimitManager extends Cacheable<String, LimitedBlockEntity> {
          * Limits the amount of blocks a players can place in a single chunk.
          */
         CHUNK((uniqueId, limitedBlockEntry, world, chunkX, chunkZ) -> {
-            final String uniqueIdAsString = uniqueId.toString();
             final String identifier = world.getIdentifier();
-            return limitedBlockEntry.getUniqueId().equals(uniqueIdAsString)
+            return limitedBlockEntry.getUniqueId().equals(uniqueId)
                     && limitedBlockEntry.getWorld().equals(identifier)
                     && limitedBlockEntry.getChunkX() == chunkX
                     && limitedBlockEntry.getChunkZ() == chunkZ;
@@ -0,0 +1,109 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Marc Beckhaeuser (AlphaConqueror) <marcbeckhaeuser@gmail.com>
+ *
+ * Created for 'DirtCraft'.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package net.dirtcraft.dirtcore.common.model.manager.messaging;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Function;
+import net.dirtcraft.dirtcore.common.model.manager.messaging.MessagingManager.ChannelType;
+import net.dirtcraft.dirtcore.common.model.minecraft.Player;
+import net.kyori.adventure.text.Component;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * The render stage of a chat message.
+ * <p>
+ * A chat message is formatted once per channel and {@link Variant} on first use, and the same
+ * {@link RenderedMessage} is then sent to every recipient reading that variant, so neither the
+ * formatting nor the transformation to the platform component is repeated per recipient.
+ */
+public final class ChatRender {
+
+    @NonNull
+    private final ChannelType channel;
+    @NonNull
+    private final Function<Variant, Component> renderer;
+    private final Map<Variant, RenderedMessage> rendered = new EnumMap<>(Variant.class);
+
+    /**
+     * Creates a render stage.
+     *
+     * @param channel  the channel the message is sent in
+     * @param renderer the function formatting the message for a variant
+     */
+    public ChatRender(@NonNull final ChannelType channel,
+            @NonNull final Function<Variant, Component> renderer) {
+        this.channel = channel;
+        this.renderer = renderer;
+    }
+
+    @NonNull
+    public ChannelType getChannel() {
+        return this.channel;
+    }
+
+    /**
+     * Gets the rendered message of a variant, formatting it on first access.
+     *
+     * @param variant the variant
+     * @return the rendered message
+     */
+    @NonNull
+    public synchronized RenderedMessage get(@NonNull final Variant variant) {
+        return this.rendered.computeIfAbsent(variant,
+                v -> RenderedMessage.of(this.renderer.apply(v)));
+    }
+
+    /**
+     * Sends the rendered message of a variant to a player.
+     *
+     * @param player  the player
+     * @param variant the variant
+     */
+    public void send(@NonNull final Player player, @NonNull final Variant variant) {
+        player.sendMessage(this.get(variant));
+    }
+
+    /**
+     * The variants a chat message is rendered in.
+     */
+    public enum Variant {
+
+        /**
+         * The message as seen by regular readers of the channel.
+         */
+        NORMAL,
+        /**
+         * The message as seen by staff, e.g. including moderation actions.
+         */
+        STAFF,
+        /**
+         * The message as seen by staff spying on a channel they do not read.
+         */
+        SOCIAL_SPY
+    }
+}
@@ -0,0 +1,275 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Marc Beckhaeuser (AlphaConqueror) <marcbeckhaeuser@gmail.com>
+ *
+ * Created for 'DirtCraft'.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package net.dirtcraft.dirtcore.common.model.manager.messaging;
+
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.ComponentLike;
+import net.kyori.adventure.text.TranslatableComponent;
+import net.kyori.adventure.text.minimessage.MiniMessage;
+import net.kyori.adventure.text.minimessage.tag.Tag;
+import net.kyori.adventure.text.minimessage.tag.resolver.TagResolver;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * A {@link MiniMessage} string parsed once into a component tree.
+ * <p>
+ * Placeholders are parsed into marker components, so rendering only replaces the markers with
+ * the bound values instead of parsing the string again. Templates are immutable and shared,
+ * see {@link MessageTemplateCache}.
+ */
+public final class MessageTemplate {
+
+    private static final String MARKER_KEY_PREFIX = "dirtcore.template.placeholder.";
+
+    @NonNull
+    private final String source;
+    @NonNull
+    private final Component component;
+    private final boolean hasPlaceholders;
+    @NonNull
+    private final Supplier<String> unformatted;
+
+    private MessageTemplate(@NonNull final String source, @NonNull final Component component,
+            final boolean hasPlaceholders, @NonNull final Supplier<String> unformatted) {
+        this.source = source;
+        this.component = component;
+        this.hasPlaceholders = hasPlaceholders;
+        this.unformatted = unformatted;
+    }
+
+    /**
+     * Compiles a template.
+     *
+     * @param miniMessage  the mini message instance
+     * @param source       the mini message string
+     * @param placeholders the names of the placeholders used in the string
+     * @return the template
+     */
+    @NonNull
+    static MessageTemplate compile(@NonNull final MiniMessage miniMessage,
+            @NonNull final String source, @NonNull final Collection<String> placeholders) {
+        final TagResolver.Builder resolver = TagResolver.builder();
+
+        for (final String placeholder : placeholders) {
+            resolver.resolver(TagResolver.resolver(placeholder, Tag.selfClosingInserting(
+                    Component.translatable(MARKER_KEY_PREFIX + placeholder))));
+        }
+
+        return new MessageTemplate(source, miniMessage.deserialize(source, resolver.build()),
+                !placeholders.isEmpty(), Suppliers.memoize(() -> miniMessage.stripTags(
+                MessagingManager.MINIMESSAGE_STRIP_PATTERN.matcher(source).replaceAll(""))));
+    }
+
+    /**
+     * Replaces the markers within a component tree with their values. A value takes the style of
+     * its marker as a fallback and keeps the children of the marker.
+     *
+     * @param component the component
+     * @param values    the values by placeholder name
+     * @return the component, the same instance if it does not contain any marker
+     */
+    @NonNull
+    private static Component substitute(@NonNull final Component component,
+            @NonNull final Map<String, Component> values) {
+        final List<Component> original = component.children();
+        final List<Component> children = substituteChildren(original, values);
+
+        if (component instanceof TranslatableComponent) {
+            final String key = ((TranslatableComponent) component).key();
+
+            if (key.startsWith(MARKER_KEY_PREFIX)) {
+                final Component value = values.get(key.substring(MARKER_KEY_PREFIX.length()));
+                final Component styled = value == null ? Component.empty().style(component.style())
+                        : value.applyFallbackStyle(component.style());
+
+                if (children.isEmpty()) {
+                    return styled;
+                }
+
+                final List<Component> merged = new ArrayList<>(styled.children());
+                merged.addAll(children);
+                return styled.children(merged);
+            }
+        }
+
+        return children == original ? component : component.children(children);
+    }
+
+    @NonNull
+    private static List<Component> substituteChildren(@NonNull final List<Component> children,
+            @NonNull final Map<String, Component> values) {
+        List<Component> substituted = null;
+
+        for (int i = 0; i < children.size(); i++) {
+            final Component child = children.get(i);
+            final Component result = substitute(child, values);
+
+            if (result != child) {
+                if (substituted == null) {
+                    substituted = new ArrayList<>(children);
+                }
+
+                substituted.set(i, result);
+            }
+        }
+
+        return substituted == null ? children : substituted;
+    }
+
+    @NonNull
+    public String getSource() {
+        return this.source;
+    }
+
+    /**
+     * Gets the source without any formatting, see
+     * {@link MessagingManager#minimessageToUnformattedString(String)}.
+     *
+     * @return the unformatted string
+     */
+    @NonNull
+    public String getUnformatted() {
+        return this.unformatted.get();
+    }
+
+    /**
+     * Renders the template. Placeholders without a bound value are rendered empty.
+     *
+     * @param bindings the placeholder values
+     * @return the component
+     */
+    @NonNull
+    public Component render(@NonNull final Binding... bindings) {
+        if (!this.hasPlaceholders) {
+            return this.component;
+        }
+
+        final Map<String, Component> values = new HashMap<>(bindings.length);
+
+        for (final Binding binding : bindings) {
+            values.put(binding.name, binding.value);
+        }
+
+        return substitute(this.component, values);
+    }
+
+    /**
+     * A typed placeholder of a template.
+     *
+     * @param <T> the value type
+     */
+    public static final class Placeholder<T> {
+
+        @NonNull
+        private final String name;
+        @NonNull
+        private final Function<T, ? extends ComponentLike> renderer;
+
+        private Placeholder(@NonNull final String name,
+                @NonNull final Function<T, ? extends ComponentLike> renderer) {
+            this.name = Objects.requireNonNull(name, "name");
+            this.renderer = renderer;
+        }
+
+        /**
+         * Creates a placeholder for a value rendered by a function.
+         *
+         * @param name     the tag name, e.g. {@code player} for {@code <player>}
+         * @param renderer the renderer
+         * @param <T>      the value type
+         * @return the placeholder
+         */
+        @NonNull
+        public static <T> Placeholder<T> of(@NonNull final String name,
+                @NonNull final Function<T, ? extends ComponentLike> renderer) {
+            return new Placeholder<>(name, renderer);
+        }
+
+        /**
+         * Creates a placeholder for a component.
+         *
+         * @param name the tag name
+         * @return the placeholder
+         */
+        @NonNull
+        public static Placeholder<ComponentLike> component(@NonNull final String name) {
+            return new Placeholder<>(name, Function.identity());
+        }
+
+        /**
+         * Creates a placeholder for a string, which is inserted as is without parsing any tags.
+         *
+         * @param name the tag name
+         * @return the placeholder
+         */
+        @NonNull
+        public static Placeholder<String> unparsed(@NonNull final String name) {
+            return new Placeholder<>(name, Component::text);
+        }
+
+        @NonNull
+        public String getName() {
+            return this.name;
+        }
+
+        /**
+         * Binds a value to the placeholder.
+         *
+         * @param value the value
+         * @return the binding
+         */
+        @NonNull
+        public Binding bind(@NonNull final T value) {
+            return new Binding(this.name, this.renderer.apply(value).asComponent());
+        }
+    }
+
+    /**
+     * A value bound to a placeholder.
+     */
+    public static final class Binding {
+
+        @NonNull
+        private final String name;
+        @NonNull
+        private final Component value;
+
+        private Binding(@NonNull final String name, @NonNull final Component value) {
+            this.name = name;
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Marc Beckhaeuser (AlphaConqueror) <marcbeckhaeuser@gmail.com>
+ *
+ * Created for 'DirtCraft'.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package net.dirtcraft.dirtcore.common.model.manager.messaging;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import net.dirtcraft.dirtcore.common.model.manager.messaging.MessageTemplate.Placeholder;
+import net.dirtcraft.dirtcore.common.util.CaffeineFactory;
+import net.kyori.adventure.text.minimessage.MiniMessage;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * Caches compiled {@link MessageTemplate}s by their source string and placeholders.
+ * <p>
+ * Entries are keyed by their source, so a changed display or reloaded message simply compiles
+ * a new template, while templates which are no longer used are evicted once the cache is full.
+ */
+public final class MessageTemplateCache {
+
+    private static final int MAXIMUM_SIZE = 2048;
+
+    @NonNull
+    private final MiniMessage miniMessage;
+    private final Cache<Key, MessageTemplate> templates =
+            CaffeineFactory.newBuilder().maximumSize(MAXIMUM_SIZE).build();
+
+    public MessageTemplateCache(@NonNull final MiniMessage miniMessage) {
+        this.miniMessage = miniMessage;
+    }
+
+    /**
+     * Gets the compiled template of a source string, compiling it on first access.
+     *
+     * @param source       the mini message string
+     * @param placeholders the placeholders used in the string
+     * @return the template
+     */
+    @NonNull
+    public MessageTemplate get(@NonNull final String source,
+            @NonNull final Placeholder<?>... placeholders) {
+        final Set<String> names = new TreeSet<>();
+
+        for (final Placeholder<?> placeholder : placeholders) {
+            names.add(placeholder.getName());
+        }
+
+        return this.templates.get(new Key(source, names),
+                key -> MessageTemplate.compile(this.miniMessage, key.source, key.placeholders));
+    }
+
+    private static final class Key {
+
+        @NonNull
+        private final String source;
+        @NonNull
+        private final Set<String> placeholders;
+
+        private Key(@NonNull final String source, @NonNull final Set<String> placeholders) {
+            this.source = source;
+            this.placeholders = placeholders;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+
+            if (!(o instanceof Key)) {
+                return false;
+            }
+
+            final Key key = (Key) o;
+            return this.source.equals(key.source) && this.placeholders.equals(key.placeholders);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(this.source, this.placeholders);
+        }
+    }
+}
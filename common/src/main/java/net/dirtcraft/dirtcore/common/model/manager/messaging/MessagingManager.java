@@ -65,6 +65,10 @@ public interface MessagingManager {
      * The pattern used to strip the formatting from a {@link MiniMessage} string.
      */
     Pattern MINIMESSAGE_STRIP_PATTERN = Pattern.compile("<obf>[^<]+</obf>");
+    /**
+     * The compiled {@link MiniMessage} templates.
+     */
+    MessageTemplateCache TEMPLATES = new MessageTemplateCache(MINIMESSAGE);
 
     /**
      * Transforms a {@link MiniMessage} string to an unformatted string.
@@ -95,6 +99,9 @@ public interface MessagingManager {
 
     /**
      * Handles a local chat message.
+     * <p>
+     * The message is rendered once per {@link ChatRender.Variant} through a {@link ChatRender}
+     * and the same {@link RenderedMessage} is sent to all readers of that variant.
      *
      * @param context  the context
      * @param uniqueId the unique id
@@ -104,6 +111,9 @@ public interface MessagingManager {
 
     /**
      * Handles a global chat message.
+     * <p>
+     * The message is rendered once per {@link ChatRender.Variant} through a {@link ChatRender}
+     * and the same {@link RenderedMessage} is sent to all readers of that variant.
      *
      * @param context  the context
      * @param uniqueId the unique id
@@ -0,0 +1,86 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Marc Beckhaeuser (AlphaConqueror) <marcbeckhaeuser@gmail.com>
+ *
+ * Created for 'DirtCraft'.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package net.dirtcraft.dirtcore.common.model.manager.messaging;
+
+import java.util.Objects;
+import net.dirtcraft.dirtcore.common.platform.PlatformFactory;
+import net.kyori.adventure.text.Component;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A message sent to multiple recipients, which is transformed to the platform component at most
+ * once instead of once per recipient.
+ */
+public final class RenderedMessage {
+
+    @NonNull
+    private final Component component;
+    @Nullable
+    private volatile Object platformComponent;
+
+    private RenderedMessage(@NonNull final Component component) {
+        this.component = component;
+    }
+
+    @NonNull
+    public static RenderedMessage of(@NonNull final Component component) {
+        Objects.requireNonNull(component, "component");
+        return new RenderedMessage(component);
+    }
+
+    @NonNull
+    public Component getComponent() {
+        return this.component;
+    }
+
+    /**
+     * Gets the platform component, transforming the message on first access.
+     *
+     * @param platformFactory the platform factory
+     * @param <C>             the platform component type
+     * @return the platform component
+     */
+    @SuppressWarnings("unchecked")
+    @NonNull
+    public <C> C toPlatform(@NonNull final PlatformFactory<?, ?, C, ?, ?, ?> platformFactory) {
+        Object platformComponent = this.platformComponent;
+
+        if (platformComponent == null) {
+            synchronized (this) {
+                platformComponent = this.platformComponent;
+
+                if (platformComponent == null) {
+                    platformComponent = platformFactory.transformComponent(this.component);
+                    this.platformComponent = platformComponent;
+                }
+            }
+        }
+
+        return (C) platformComponent;
+    }
+}
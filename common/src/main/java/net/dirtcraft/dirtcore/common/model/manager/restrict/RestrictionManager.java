@@ -48,9 +48,10 @@ import org.checkerframework.checker.nullness.qual.Nullable;
 public interface RestrictionManager {
 
     /**
-     * Loads all restrictions into the cache.
+     * Loads all restrictions into the cache, streaming them row by row.
      *
      * @return the future
+     * @see TaskContext#scroll(org.hibernate.query.Query, java.util.function.Consumer)
      */
     @NonNull CompletableFuture<Void> loadAllRestrictions();
 
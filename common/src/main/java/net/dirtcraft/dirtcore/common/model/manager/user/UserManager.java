@@ -47,7 +47,8 @@ import org.checkerframework.checker.nullness.qual.Nullable;
 public interface UserManager<T extends User> {
 
     /**
-     * Creates or updates a user.
+     * Creates or updates a user and updates the {@link #getUserNameIndex() user name index}
+     * accordingly.
      *
      * @param context  the task context
      * @param uniqueId the unique id
@@ -58,11 +59,21 @@ public interface UserManager<T extends User> {
 
     /**
      * Gets user unique id mapped to their username.
+     * <p>
+     * Copies every known user, prefer {@link UserNameIndex#getUsername(UUID)} or
+     * {@link UserNameIndex#forEach} of the {@link #getUserNameIndex() user name index}.
      *
      * @return the user map
      */
     @NonNull Map<@NonNull UUID, @NonNull String> getUserMap();
 
+    /**
+     * Gets the index of all known usernames, used for offline name completion.
+     *
+     * @return the user name index
+     */
+    @NonNull UserNameIndex getUserNameIndex();
+
     /**
      * Gets a user object by unique id.
      *
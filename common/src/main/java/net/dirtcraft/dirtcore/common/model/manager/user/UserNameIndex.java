@@ -0,0 +1,308 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Marc Beckhaeuser (AlphaConqueror) <marcbeckhaeuser@gmail.com>
+ *
+ * Created for 'DirtCraft'.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package net.dirtcraft.dirtcore.common.model.manager.user;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BiConsumer;
+import net.dirtcraft.dirtcore.common.command.abstraction.SharedSuggestionProvider;
+import net.dirtcraft.dirtcore.common.storage.context.TaskContext;
+import net.dirtcraft.dirtcore.common.util.UUIDMap;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A sorted, case-insensitive index of usernames used for prefix completion.
+ * <p>
+ * Every name is indexed by its lower case form and by each part following a {@code '.'} or
+ * {@code '_'}, mirroring {@link SharedSuggestionProvider#matchesSubStr(String, String)}, so a
+ * lookup only walks the matching range instead of every known name. Writes are serialized,
+ * lookups share a read lock and suggestions are lock-free. {@link #load(TaskContext)} builds
+ * the new index without holding the lock and swaps it in once complete.
+ */
+public class UserNameIndex {
+
+    public static final int DEFAULT_LIMIT = 100;
+    private static final char KEY_SEPARATOR = '\u0000';
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    /**
+     * Serializes {@link #load(TaskContext)}.
+     */
+    private final Object loadLock = new Object();
+    private UUIDMap<String> names = new UUIDMap<>();
+    private volatile NavigableMap<String, String> index = new ConcurrentSkipListMap<>();
+    /**
+     * The users changed while the index is being loaded, a null username marks a removed user.
+     * Replayed onto the loaded index before it is swapped in.
+     */
+    @Nullable
+    private Map<UUID, String> changedWhileLoading;
+
+    private static List<String> keys(final UUID uniqueId, final String username) {
+        final String lowerCase = username.toLowerCase(Locale.ROOT);
+        final String suffix = KEY_SEPARATOR + uniqueId.toString();
+        final List<String> keys = new ArrayList<>();
+
+        keys.add(lowerCase + suffix);
+
+        for (int i = 0; i < lowerCase.length() - 1; i++) {
+            final char c = lowerCase.charAt(i);
+
+            if (c == '.' || c == '_') {
+                keys.add(lowerCase.substring(i + 1) + suffix);
+            }
+        }
+
+        return keys;
+    }
+
+    private static void put(final UUIDMap<String> names, final NavigableMap<String, String> index,
+            final UUID uniqueId, final String username) {
+        final String previous = names.put(uniqueId, username);
+
+        if (username.equals(previous)) {
+            return;
+        }
+
+        if (previous != null) {
+            keys(uniqueId, previous).forEach(index::remove);
+        }
+
+        for (final String key : keys(uniqueId, username)) {
+            index.put(key, username);
+        }
+    }
+
+    private static void remove(final UUIDMap<String> names,
+            final NavigableMap<String, String> index, final UUID uniqueId) {
+        final String previous = names.remove(uniqueId);
+
+        if (previous != null) {
+            keys(uniqueId, previous).forEach(index::remove);
+        }
+    }
+
+    /**
+     * Adds or renames a user in the index.
+     *
+     * @param uniqueId the unique id
+     * @param username the current username
+     */
+    public void put(@NonNull final UUID uniqueId, @NonNull final String username) {
+        this.lock.writeLock().lock();
+
+        try {
+            put(this.names, this.index, uniqueId, username);
+
+            if (this.changedWhileLoading != null) {
+                this.changedWhileLoading.put(uniqueId, username);
+            }
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Adds or renames all users in the map.
+     *
+     * @param userMap the user unique ids mapped to their username
+     */
+    public void putAll(@NonNull final Map<UUID, String> userMap) {
+        this.lock.writeLock().lock();
+
+        try {
+            userMap.forEach(this::put);
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Replaces the index with all users stored in the database, streaming the unique ids and
+     * usernames row by row instead of loading every {@code UserEntity} at once.
+     * <p>
+     * The index keeps serving lookups while loading, users changed in the meantime are kept.
+     *
+     * @param context the task context
+     */
+    public void load(@NonNull final TaskContext context) {
+        synchronized (this.loadLock) {
+            final UUIDMap<String> names = new UUIDMap<>();
+            final NavigableMap<String, String> index = new ConcurrentSkipListMap<>();
+
+            this.lock.writeLock().lock();
+
+            try {
+                this.changedWhileLoading = new HashMap<>();
+            } finally {
+                this.lock.writeLock().unlock();
+            }
+
+            boolean loaded = false;
+
+            try {
+                context.scroll(context.session().createQuery(
+                                "select u.uniqueId, u.username from UserEntity u", Object[].class),
+                        row -> put(names, index, UUID.fromString((String) row[0]),
+                                (String) row[1]));
+                loaded = true;
+            } finally {
+                this.lock.writeLock().lock();
+
+                try {
+                    if (loaded) {
+                        this.changedWhileLoading.forEach((uniqueId, username) -> {
+                            if (username == null) {
+                                remove(names, index, uniqueId);
+                            } else {
+                                put(names, index, uniqueId, username);
+                            }
+                        });
+                        this.names = names;
+                        this.index = index;
+                    }
+
+                    this.changedWhileLoading = null;
+                } finally {
+                    this.lock.writeLock().unlock();
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes a user from the index.
+     *
+     * @param uniqueId the unique id
+     */
+    public void remove(@NonNull final UUID uniqueId) {
+        this.lock.writeLock().lock();
+
+        try {
+            remove(this.names, this.index, uniqueId);
+
+            if (this.changedWhileLoading != null) {
+                this.changedWhileLoading.put(uniqueId, null);
+            }
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        this.lock.writeLock().lock();
+
+        try {
+            this.names.clear();
+            this.index.clear();
+
+            if (this.changedWhileLoading != null) {
+                this.changedWhileLoading.clear();
+            }
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Gets the username of a user.
+     *
+     * @param uniqueId the unique id
+     * @return the username or null, if the user is not indexed
+     */
+    @Nullable
+    public String getUsername(@NonNull final UUID uniqueId) {
+        this.lock.readLock().lock();
+
+        try {
+            return this.names.get(uniqueId);
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Performs an action for every indexed user, while holding the read lock. The action must
+     * not modify the index.
+     *
+     * @param action the action, receiving the unique id and username of a user
+     */
+    public void forEach(@NonNull final BiConsumer<? super UUID, ? super String> action) {
+        this.lock.readLock().lock();
+
+        try {
+            this.names.forEach(action);
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        this.lock.readLock().lock();
+
+        try {
+            return this.names.size();
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Gets the usernames matching the input, in alphabetical order of the matched part.
+     *
+     * @param input the input, case-insensitive
+     * @param limit the maximum amount of names to return
+     * @return the matching usernames
+     */
+    @NonNull
+    public List<String> suggest(@NonNull final String input, final int limit) {
+        final String prefix = input.toLowerCase(Locale.ROOT);
+        final Set<String> result = new LinkedHashSet<>();
+
+        for (final String username : this.index.subMap(prefix, true,
+                prefix + Character.MAX_VALUE, false).values()) {
+            if (result.size() >= limit) {
+                break;
+            }
+
+            result.add(username);
+        }
+
+        return new ArrayList<>(result);
+    }
+}
@@ -31,6 +31,7 @@ import net.dirtcraft.dirtcore.common.model.Permissible;
 import net.dirtcraft.dirtcore.common.model.Sender;
 import net.dirtcraft.dirtcore.common.model.Sound;
 import net.dirtcraft.dirtcore.common.model.User;
+import net.dirtcraft.dirtcore.common.model.manager.messaging.RenderedMessage;
 import net.dirtcraft.dirtcore.common.model.minecraft.gui.container.Container;
 import net.dirtcraft.dirtcore.common.model.minecraft.item.ItemStack;
 import net.dirtcraft.dirtcore.common.model.minecraft.phys.Vec2;
@@ -96,6 +97,13 @@ public interface Player extends Entity, Permissible {
      */
     void sendMessage(@NonNull Iterable<Component> messages);
 
+    /**
+     * Sends a message rendered for multiple recipients.
+     *
+     * @param message the message
+     */
+    void sendMessage(@NonNull RenderedMessage message);
+
     /**
      * Performs a command.
      *
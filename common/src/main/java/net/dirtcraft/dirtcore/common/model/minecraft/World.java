@@ -29,12 +29,14 @@ package net.dirtcraft.dirtcore.common.model.minecraft;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Predicate;
 import net.dirtcraft.dirtcore.common.model.Animation;
 import net.dirtcraft.dirtcore.common.model.minecraft.phys.AABB;
 import net.dirtcraft.dirtcore.common.model.minecraft.phys.BlockPos;
 import net.dirtcraft.dirtcore.common.model.minecraft.phys.Vec2i;
 import net.dirtcraft.dirtcore.common.model.profile.ChunkEntityProfile;
+import net.dirtcraft.dirtcore.common.model.profile.LagProfile;
 import net.dirtcraft.dirtcore.common.plugin.DirtCorePlugin;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
@@ -204,6 +206,25 @@ public interface World {
      */
     @NonNull Optional<ChunkEntityProfile> getEntityProfile(int chunkX, int chunkZ);
 
+    /**
+     * Ranks the chunks of this world by their amount of entities, off the server thread.
+     *
+     * @param limit the maximum amount of chunks to rank
+     * @return a future of the profile
+     */
+    @NonNull CompletableFuture<LagProfile> profileEntities(int limit);
+
+    /**
+     * Ranks the chunks of this world by their amount of block entities.
+     * <p>
+     * The block entities are snapshotted on the server thread, spread across ticks if there are
+     * many, and ranked off the server thread.
+     *
+     * @param limit the maximum amount of chunks to rank
+     * @return a future of the profile
+     */
+    @NonNull CompletableFuture<LagProfile> profileBlockEntities(int limit);
+
     default @NonNull Collection<Entity> getEntitiesInChunkNoPlayers(@NonNull final Vec2i chunkPos) {
         return this.getEntitiesInChunkNoPlayers(chunkPos.x, chunkPos.y);
     }
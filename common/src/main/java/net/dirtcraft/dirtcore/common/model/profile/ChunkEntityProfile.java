@@ -50,7 +50,13 @@ public class ChunkEntityProfile extends EntityProfile {
 
     public ChunkEntityProfile(@NonNull final Map<String, Integer> map, final int totalEntities,
             @NonNull final String worldName, final int chunkX, final int chunkZ) {
-        super(map, totalEntities);
+        this(map, totalEntities, SUBJECT_ENTITIES, worldName, chunkX, chunkZ);
+    }
+
+    public ChunkEntityProfile(@NonNull final Map<String, Integer> map, final int totalEntities,
+            @NonNull final String subject, @NonNull final String worldName, final int chunkX,
+            final int chunkZ) {
+        super(map, totalEntities, subject);
         this.worldName = worldName;
         this.chunkX = chunkX;
         this.chunkZ = chunkZ;
@@ -63,6 +69,13 @@ public class ChunkEntityProfile extends EntityProfile {
         return new ChunkEntityProfile(map, totalEntities, worldName, chunkX, chunkZ);
     }
 
+    @NonNull
+    public static ChunkEntityProfile of(@NonNull final Map<String, Integer> map,
+            final int totalEntities, @NonNull final String subject,
+            @NonNull final String worldName, final int chunkX, final int chunkZ) {
+        return new ChunkEntityProfile(map, totalEntities, subject, worldName, chunkX, chunkZ);
+    }
+
     @NonNull
     public Component asComponent(@NonNull final Sender sender) {
         final TextComponent.Builder summaryBuilder = Component.text()
@@ -87,7 +100,7 @@ public class ChunkEntityProfile extends EntityProfile {
                 .append(Component.text(this.chunkX, VALUE_COLOR)).appendSpace()
                 .append(Component.text("z: ", KEY_COLOR))
                 .append(Component.text(this.chunkZ, VALUE_COLOR)).appendSpace()
-                .append(Component.text("Entities: ", KEY_COLOR))
+                .append(Component.text(this.getSubject() + ": ", KEY_COLOR))
                 .append(Component.text(this.getTotalEntities(), VALUE_COLOR))
                 .hoverEvent(HoverEvent.showText(summaryBuilder));
 
@@ -0,0 +1,331 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Marc Beckhaeuser (AlphaConqueror) <marcbeckhaeuser@gmail.com>
+ *
+ * Created for 'DirtCraft'.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package net.dirtcraft.dirtcore.common.model.profile;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import net.dirtcraft.dirtcore.common.util.LongMap;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * An incrementally maintained count of the non-player entities in each chunk of a world.
+ * <p>
+ * The platform seeds a census once by walking the loaded chunks and keeps it up to date from its
+ * entity join, leave and chunk change hooks, so building the {@link ChunkEntityProfile}s neither
+ * walks the world nor has to run on the server thread.
+ * <p>
+ * Counts of a chunk are kept in an {@code int} array, the total at index {@code 0} followed by
+ * the count of each type id of the {@link EntityTypeIds}, keyed by the packed chunk coordinates
+ * in a {@link LongMap}, so the hooks never box a key. Chunks without any entities are dropped.
+ * <p>
+ * A census is also used as a one-off snapshot of the block entities of a world, see
+ * {@link #profile(int)}.
+ */
+public final class EntityCensus {
+
+    private static final int TOTAL = 0;
+
+    @NonNull
+    private final String worldName;
+    @NonNull
+    private final EntityTypeIds<?> typeIds;
+    @NonNull
+    private final String subject;
+    private final LongMap<int[]> chunks = new LongMap<>();
+
+    public EntityCensus(@NonNull final String worldName,
+            @NonNull final EntityTypeIds<?> typeIds) {
+        this(worldName, typeIds, EntityProfile.SUBJECT_ENTITIES);
+    }
+
+    public EntityCensus(@NonNull final String worldName, @NonNull final EntityTypeIds<?> typeIds,
+            @NonNull final String subject) {
+        this.worldName = worldName;
+        this.typeIds = typeIds;
+        this.subject = subject;
+    }
+
+    private static long key(final int chunkX, final int chunkZ) {
+        return (long) chunkX & 0xFFFFFFFFL | ((long) chunkZ & 0xFFFFFFFFL) << 32;
+    }
+
+    private static int chunkX(final long key) {
+        return (int) key;
+    }
+
+    private static int chunkZ(final long key) {
+        return (int) (key >>> 32);
+    }
+
+    /**
+     * Gets the indices of the largest values, using a bounded min-heap.
+     *
+     * @param values the values
+     * @param limit  the maximum amount of indices
+     * @return the indices, in descending order of their values
+     */
+    private static int[] top(final int[] values, final int limit) {
+        final int[] heap = new int[Math.max(0, Math.min(limit, values.length))];
+        int size = 0;
+
+        for (int i = 0; i < values.length; i++) {
+            if (size < heap.length) {
+                heap[size] = i;
+                siftUp(heap, size++, values);
+            } else if (size > 0 && values[i] > values[heap[0]]) {
+                heap[0] = i;
+                siftDown(heap, size, values);
+            }
+        }
+
+        // move the current minimum to the end until sorted in descending order
+        for (int end = size - 1; end > 0; end--) {
+            final int min = heap[0];
+
+            heap[0] = heap[end];
+            heap[end] = min;
+            siftDown(heap, end, values);
+        }
+
+        return heap;
+    }
+
+    private static void siftUp(final int[] heap, int index, final int[] values) {
+        final int element = heap[index];
+
+        while (index > 0) {
+            final int parent = (index - 1) >>> 1;
+
+            if (values[heap[parent]] <= values[element]) {
+                break;
+            }
+
+            heap[index] = heap[parent];
+            index = parent;
+        }
+
+        heap[index] = element;
+    }
+
+    private static void siftDown(final int[] heap, final int size, final int[] values) {
+        final int element = heap[0];
+        int index = 0;
+
+        while (true) {
+            int child = (index << 1) + 1;
+
+            if (child >= size) {
+                break;
+            }
+
+            if (child + 1 < size && values[heap[child + 1]] < values[heap[child]]) {
+                child++;
+            }
+
+            if (values[element] <= values[heap[child]]) {
+                break;
+            }
+
+            heap[index] = heap[child];
+            index = child;
+        }
+
+        heap[index] = element;
+    }
+
+    /**
+     * Counts an entity that joined a chunk.
+     *
+     * @param chunkX the x chunk coordinate
+     * @param chunkZ the z chunk coordinate
+     * @param typeId the type id
+     */
+    public synchronized void add(final int chunkX, final int chunkZ, final int typeId) {
+        final long key = key(chunkX, chunkZ);
+        int[] counts = this.chunks.get(key);
+
+        if (counts == null) {
+            counts = new int[typeId + 2];
+            this.chunks.put(key, counts);
+        } else if (counts.length < typeId + 2) {
+            counts = Arrays.copyOf(counts, typeId + 2);
+            this.chunks.put(key, counts);
+        }
+
+        counts[TOTAL]++;
+        counts[typeId + 1]++;
+    }
+
+    /**
+     * Uncounts an entity that left a chunk.
+     *
+     * @param chunkX the x chunk coordinate
+     * @param chunkZ the z chunk coordinate
+     * @param typeId the type id
+     * @return {@code true} if the entity was counted in the chunk
+     */
+    public synchronized boolean remove(final int chunkX, final int chunkZ, final int typeId) {
+        final long key = key(chunkX, chunkZ);
+        final int[] counts = this.chunks.get(key);
+
+        // never counted, e.g. joined before the census was seeded
+        if (counts == null || counts.length < typeId + 2 || counts[typeId + 1] == 0) {
+            return false;
+        }
+
+        counts[typeId + 1]--;
+
+        if (--counts[TOTAL] == 0) {
+            this.chunks.remove(key);
+        }
+
+        return true;
+    }
+
+    /**
+     * Moves an entity that crossed a chunk border.
+     *
+     * @param oldChunkX the previous x chunk coordinate
+     * @param oldChunkZ the previous z chunk coordinate
+     * @param newChunkX the new x chunk coordinate
+     * @param newChunkZ the new z chunk coordinate
+     * @param typeId    the type id
+     */
+    public synchronized void move(final int oldChunkX, final int oldChunkZ, final int newChunkX,
+            final int newChunkZ, final int typeId) {
+        if (this.remove(oldChunkX, oldChunkZ, typeId)) {
+            this.add(newChunkX, newChunkZ, typeId);
+        }
+    }
+
+    @NonNull
+    public synchronized Collection<ChunkEntityProfile> getProfiles() {
+        final List<ChunkEntityProfile> list = new ArrayList<>(this.chunks.size());
+
+        this.chunks.forEach(
+                (key, counts) -> list.add(this.toProfile(counts, chunkX(key), chunkZ(key))));
+        return list;
+    }
+
+    /**
+     * Gets the profile of a chunk.
+     *
+     * @param chunkX the x chunk coordinate
+     * @param chunkZ the z chunk coordinate
+     * @return the profile, if any entities are counted in the chunk
+     */
+    @NonNull
+    public synchronized Optional<ChunkEntityProfile> getProfile(final int chunkX,
+            final int chunkZ) {
+        final int[] counts = this.chunks.get(key(chunkX, chunkZ));
+        return counts == null ? Optional.empty()
+                : Optional.of(this.toProfile(counts, chunkX, chunkZ));
+    }
+
+    /**
+     * Ranks the chunks by their total amount of entities.
+     * <p>
+     * Only the totals are copied while holding the lock, so this is cheap for the hooks updating
+     * the census. The ranking itself and building the profiles of the top chunks is meant to
+     * run off the server thread.
+     *
+     * @param limit the maximum amount of chunks to return
+     * @return the profile
+     */
+    @NonNull
+    public LagProfile profile(final int limit) {
+        final long[] keys;
+        final int[] totals;
+        int[] typeTotals = new int[this.typeIds.size()];
+
+        synchronized (this) {
+            keys = new long[this.chunks.size()];
+            totals = new int[keys.length];
+
+            final int[][] chunkCounts = new int[keys.length][];
+            final int[] index = new int[1];
+
+            this.chunks.forEach((key, counts) -> {
+                keys[index[0]] = key;
+                chunkCounts[index[0]++] = counts;
+            });
+
+            for (int i = 0; i < keys.length; i++) {
+                final int[] counts = chunkCounts[i];
+
+                totals[i] = counts[TOTAL];
+
+                if (typeTotals.length < counts.length - 1) {
+                    typeTotals = Arrays.copyOf(typeTotals, counts.length - 1);
+                }
+
+                for (int j = 1; j < counts.length; j++) {
+                    typeTotals[j - 1] += counts[j];
+                }
+            }
+        }
+
+        final int[] top = top(totals, limit);
+        final List<ChunkEntityProfile> topChunks = new ArrayList<>(top.length);
+        final Map<String, Integer> typeMap = new HashMap<>();
+        int total = 0;
+
+        for (final int index : top) {
+            // the chunk might have been emptied in the meantime
+            this.getProfile(chunkX(keys[index]), chunkZ(keys[index])).ifPresent(topChunks::add);
+        }
+
+        for (int i = 0; i < typeTotals.length; i++) {
+            if (typeTotals[i] > 0) {
+                typeMap.put(this.typeIds.getName(i), typeTotals[i]);
+                total += typeTotals[i];
+            }
+        }
+
+        return new LagProfile(topChunks, EntityProfile.of(typeMap, total, this.subject),
+                keys.length);
+    }
+
+    @NonNull
+    private ChunkEntityProfile toProfile(final int[] counts, final int chunkX, final int chunkZ) {
+        final Map<String, Integer> map = new HashMap<>();
+
+        for (int i = 1; i < counts.length; i++) {
+            if (counts[i] > 0) {
+                map.put(this.typeIds.getName(i - 1), counts[i]);
+            }
+        }
+
+        return ChunkEntityProfile.of(map, counts[TOTAL], this.subject, this.worldName, chunkX,
+                chunkZ);
+    }
+}
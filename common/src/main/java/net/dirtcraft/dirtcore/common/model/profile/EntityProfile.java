@@ -39,13 +39,24 @@ import org.jetbrains.annotations.NotNull;
 
 public class EntityProfile implements Comparable<EntityProfile> {
 
+    public static final String SUBJECT_ENTITIES = "Entities";
+    public static final String SUBJECT_BLOCK_ENTITIES = "Block Entities";
+
     @NonNull
     private final Map<String, Integer> map;
     private final int totalEntities;
+    @NonNull
+    private final String subject;
 
     public EntityProfile(@NonNull final Map<String, Integer> map, final int totalEntities) {
+        this(map, totalEntities, SUBJECT_ENTITIES);
+    }
+
+    public EntityProfile(@NonNull final Map<String, Integer> map, final int totalEntities,
+            @NonNull final String subject) {
         this.map = map;
         this.totalEntities = totalEntities;
+        this.subject = subject;
     }
 
     @NonNull
@@ -53,6 +64,12 @@ public class EntityProfile implements Comparable<EntityProfile> {
         return new EntityProfile(map, total);
     }
 
+    @NonNull
+    public static EntityProfile of(@NonNull final Map<String, Integer> map, final int total,
+            @NonNull final String subject) {
+        return new EntityProfile(map, total, subject);
+    }
+
     @NonNull
     public Component summaryAsComponent() {
         final TextComponent.Builder entityBuilder = Component.text();
@@ -75,7 +92,7 @@ public class EntityProfile implements Comparable<EntityProfile> {
         }
 
         return Component.text()
-                .append(Component.text("Total Entities: ", NamedTextColor.GRAY))
+                .append(Component.text("Total " + this.subject + ": ", NamedTextColor.GRAY))
                 .append(Component.text(this.totalEntities)).appendNewline().appendNewline()
                     .append(entityBuilder).build();
     }
@@ -89,6 +106,11 @@ public class EntityProfile implements Comparable<EntityProfile> {
         return this.totalEntities;
     }
 
+    @NonNull
+    public String getSubject() {
+        return this.subject;
+    }
+
     @Override
     public int compareTo(@NotNull final EntityProfile o) {
         // reverse order
@@ -0,0 +1,89 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Marc Beckhaeuser (AlphaConqueror) <marcbeckhaeuser@gmail.com>
+ *
+ * Created for 'DirtCraft'.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package net.dirtcraft.dirtcore.common.model.profile;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * Interns entity types of a platform to dense ids, so an {@link EntityCensus} can count them in
+ * primitive arrays.
+ * <p>
+ * The key is whatever identifies an entity type the cheapest on the platform, e.g. the entity
+ * type instance or the entity class. Ids are never reused and shared by all worlds.
+ *
+ * @param <K> the key type
+ */
+public final class EntityTypeIds<K> {
+
+    private final Map<K, Integer> ids = new ConcurrentHashMap<>();
+    private final List<String> names = new CopyOnWriteArrayList<>();
+
+    /**
+     * Gets the id of a type.
+     *
+     * @param key the key of the type
+     * @return the id, or {@code -1} if the type has not been registered yet
+     */
+    public int getId(@NonNull final K key) {
+        final Integer id = this.ids.get(key);
+        return id == null ? -1 : id;
+    }
+
+    /**
+     * Registers a type, if absent.
+     *
+     * @param key  the key of the type
+     * @param name the name of the type
+     * @return the id
+     */
+    public synchronized int register(@NonNull final K key, @NonNull final String name) {
+        final Integer existing = this.ids.get(key);
+
+        if (existing != null) {
+            return existing;
+        }
+
+        final int id = this.names.size();
+
+        this.names.add(name);
+        this.ids.put(key, id);
+        return id;
+    }
+
+    @NonNull
+    public String getName(final int id) {
+        return this.names.get(id);
+    }
+
+    public int size() {
+        return this.names.size();
+    }
+}
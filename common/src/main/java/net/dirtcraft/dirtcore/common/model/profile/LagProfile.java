@@ -0,0 +1,85 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Marc Beckhaeuser (AlphaConqueror) <marcbeckhaeuser@gmail.com>
+ *
+ * Created for 'DirtCraft'.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package net.dirtcraft.dirtcore.common.model.profile;
+
+import java.util.Collections;
+import java.util.List;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * The result of ranking the chunks of a world by their amount of entities or block entities.
+ */
+public final class LagProfile {
+
+    @NonNull
+    private final List<ChunkEntityProfile> topChunks;
+    @NonNull
+    private final EntityProfile typeProfile;
+    private final int chunkCount;
+
+    public LagProfile(@NonNull final List<ChunkEntityProfile> topChunks,
+            @NonNull final EntityProfile typeProfile, final int chunkCount) {
+        this.topChunks = topChunks;
+        this.typeProfile = typeProfile;
+        this.chunkCount = chunkCount;
+    }
+
+    @NonNull
+    public static LagProfile empty(@NonNull final String subject) {
+        return new LagProfile(Collections.emptyList(),
+                EntityProfile.of(Collections.emptyMap(), 0, subject), 0);
+    }
+
+    /**
+     * Gets the chunks with the most entities, in descending order.
+     *
+     * @return the top chunks
+     */
+    @NonNull
+    public List<ChunkEntityProfile> getTopChunks() {
+        return this.topChunks;
+    }
+
+    /**
+     * Gets the amount of entities per type, summed up over the whole world.
+     *
+     * @return the type profile
+     */
+    @NonNull
+    public EntityProfile getTypeProfile() {
+        return this.typeProfile;
+    }
+
+    /**
+     * Gets the amount of chunks containing any entities.
+     *
+     * @return the chunk count
+     */
+    public int getChunkCount() {
+        return this.chunkCount;
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Marc Beckhaeuser (AlphaConqueror) <marcbeckhaeuser@gmail.com>
+ *
+ * Created for 'DirtCraft'.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package net.dirtcraft.dirtcore.common.pagination;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import net.dirtcraft.dirtcore.common.util.CaffeineFactory;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * A {@link PagedSource} which keeps the pages and the count of another source for a short time.
+ * <p>
+ * Every requested page schedules the fetch of the following one, so paging forward through
+ * history or logs usually hits the cache.
+ *
+ * @param <T> the content type
+ */
+public final class CachingPagedSource<T> implements PagedSource<T> {
+
+    private static final long EXPIRY_SECONDS = 30;
+
+    private final PagedSource<T> source;
+    private final Executor executor;
+    private volatile Supplier<Integer> count;
+    private final Cache<Long, List<T>> pages =
+            CaffeineFactory.newBuilder().expireAfterWrite(EXPIRY_SECONDS, TimeUnit.SECONDS)
+                    .build();
+
+    CachingPagedSource(@NonNull final PagedSource<T> source, @NonNull final Executor executor) {
+        this.source = source;
+        this.executor = executor;
+        this.count = this.memoizeCount();
+    }
+
+    private static long key(final int page, final int pageSize) {
+        return (long) page << 32 | pageSize;
+    }
+
+    @Override
+    public int count() {
+        return this.count.get();
+    }
+
+    @Override
+    public @NonNull List<T> getPage(final int page, final int pageSize) {
+        final List<T> rows = this.pages.get(key(page, pageSize),
+                k -> this.source.getPage(page, pageSize));
+
+        if (rows.size() == pageSize && (long) page * pageSize < this.count()) {
+            this.prefetch(page + 1, pageSize);
+        }
+
+        return rows;
+    }
+
+    /**
+     * Drops all kept pages and the count as well as the state of the wrapped source, e.g. after
+     * the content has been modified.
+     */
+    @Override
+    public void invalidate() {
+        this.source.invalidate();
+        this.count = this.memoizeCount();
+        this.pages.invalidateAll();
+    }
+
+    private Supplier<Integer> memoizeCount() {
+        return Suppliers.memoizeWithExpiration(this.source::count, EXPIRY_SECONDS,
+                TimeUnit.SECONDS);
+    }
+
+    private void prefetch(final int page, final int pageSize) {
+        final long key = key(page, pageSize);
+
+        if (this.pages.getIfPresent(key) == null) {
+            this.executor.execute(
+                    () -> this.pages.get(key, k -> this.source.getPage(page, pageSize)));
+        }
+    }
+}
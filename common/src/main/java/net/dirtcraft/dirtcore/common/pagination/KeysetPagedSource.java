@@ -0,0 +1,94 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Marc Beckhaeuser (AlphaConqueror) <marcbeckhaeuser@gmail.com>
+ *
+ * Created for 'DirtCraft'.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package net.dirtcraft.dirtcore.common.pagination;
+
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Function;
+import java.util.function.IntSupplier;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * A {@link PagedSource} backed by a keyset query.
+ * <p>
+ * Remembers the key of the last row of every fetched page, so the next page is a seek from that
+ * key instead of an offset over all previous rows. Jumping to a page further ahead seeks from the
+ * closest known key and only skips the rows in between. The keys are dropped on
+ * {@link #invalidate()} and the keys behind a page are dropped once it comes back short.
+ *
+ * @param <T> the content type
+ * @param <K> the key type
+ */
+public final class KeysetPagedSource<T, K> implements PagedSource<T> {
+
+    private final IntSupplier count;
+    private final Seek<T, K> seek;
+    private final Function<? super T, ? extends K> key;
+    /**
+     * The keys of known rows by their index.
+     */
+    private final NavigableMap<Integer, K> cursors = new ConcurrentSkipListMap<>();
+
+    KeysetPagedSource(@NonNull final IntSupplier count, @NonNull final Seek<T, K> seek,
+            @NonNull final Function<? super T, ? extends K> key) {
+        this.count = count;
+        this.seek = seek;
+        this.key = key;
+    }
+
+    @Override
+    public int count() {
+        return this.count.getAsInt();
+    }
+
+    @Override
+    public @NonNull List<T> getPage(final int page, final int pageSize) {
+        final int start = pageSize * (page - 1);
+        final Map.Entry<Integer, K> cursor =
+                start == 0 ? null : this.cursors.floorEntry(start - 1);
+        final List<T> rows = cursor == null ? this.seek.seek(null, start, pageSize)
+                : this.seek.seek(cursor.getValue(), start - cursor.getKey() - 1, pageSize);
+
+        if (rows.size() < pageSize) {
+            // the content has shrunk, the keys behind this page do not match their index anymore
+            this.cursors.tailMap(start, true).clear();
+        }
+
+        if (!rows.isEmpty()) {
+            this.cursors.put(start + rows.size() - 1, this.key.apply(rows.get(rows.size() - 1)));
+        }
+
+        return rows;
+    }
+
+    @Override
+    public void invalidate() {
+        this.cursors.clear();
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Marc Beckhaeuser (AlphaConqueror) <marcbeckhaeuser@gmail.com>
+ *
+ * Created for 'DirtCraft'.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package net.dirtcraft.dirtcore.common.pagination;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.function.IntSupplier;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A source of content which is fetched page by page instead of being loaded as a whole, e.g.
+ * from the database.
+ * <p>
+ * Pages are 1-based, like in {@link Pagination#render}. A source is not expected to be
+ * consistent between calls, so a page might repeat or skip rows if the content changed in the
+ * meantime.
+ *
+ * @param <T> the content type
+ */
+public interface PagedSource<T> {
+
+    /**
+     * Creates a source over content which is already in memory.
+     *
+     * @param content the content
+     * @param <T>     the content type
+     * @return the source
+     */
+    @NonNull
+    static <T> PagedSource<T> of(@NonNull final Collection<? extends T> content) {
+        return new PagedSource<T>() {
+            @Override
+            public int count() {
+                return content.size();
+            }
+
+            @Override
+            public @NonNull List<T> getPage(final int page, final int pageSize) {
+                final List<T> rows = new ArrayList<>(pageSize);
+                Paginator.forEachPageEntry(content, pageSize, page,
+                        (value, index) -> rows.add(value));
+                return Collections.unmodifiableList(rows);
+            }
+        };
+    }
+
+    /**
+     * Creates a source which seeks from the last known key instead of counting rows from the
+     * start of the result set, see {@link KeysetPagedSource}.
+     *
+     * @param count the count query
+     * @param seek  the seek query
+     * @param key   the function to get the key of a row
+     * @param <T>   the content type
+     * @param <K>   the key type
+     * @return the source
+     */
+    @NonNull
+    static <T, K> PagedSource<T> keyset(@NonNull final IntSupplier count,
+            @NonNull final Seek<T, K> seek, @NonNull final Function<? super T, ? extends K> key) {
+        return new KeysetPagedSource<>(count, seek, key);
+    }
+
+    /**
+     * Counts the rows of this source.
+     *
+     * @return the amount of rows
+     */
+    int count();
+
+    /**
+     * Gets the rows of a page.
+     *
+     * @param page     the page, starting at 1
+     * @param pageSize the amount of rows per page
+     * @return the rows, at most {@code pageSize}
+     */
+    @NonNull List<T> getPage(int page, int pageSize);
+
+    /**
+     * Drops any state kept between calls, e.g. after the content has been modified.
+     */
+    default void invalidate() {}
+
+    /**
+     * Wraps this source into one which keeps pages and the count for a short time and fetches
+     * the page following a requested one in the background, see {@link CachingPagedSource}.
+     * <p>
+     * The queries of this source must not depend on the calling thread, e.g. an open session,
+     * as they might be run by the executor.
+     *
+     * @param executor the executor to prefetch pages with
+     * @return the caching source
+     */
+    @NonNull
+    default PagedSource<T> cached(@NonNull final Executor executor) {
+        return new CachingPagedSource<>(this, executor);
+    }
+
+    /**
+     * A keyset query, i.e. one that orders the rows by a unique key and starts after a known key.
+     *
+     * @param <T> the content type
+     * @param <K> the key type
+     */
+    @FunctionalInterface
+    interface Seek<T, K> {
+
+        /**
+         * Queries the rows ordered by their key, e.g.
+         * {@code WHERE key > :after ORDER BY key}.
+         *
+         * @param after  the key to start after or {@code null} to start with the first row
+         * @param offset the amount of rows to skip after the key
+         * @param limit  the maximum amount of rows
+         * @return the rows
+         */
+        @NonNull List<T> seek(@Nullable K after, int offset, int limit);
+    }
+}
@@ -146,6 +146,28 @@ public interface Pagination<T> {
             @NonNull Collection<Component> insert, @NotNull Collection<? extends T> content,
             int page);
 
+    /**
+     * Renders a page fetched from a source, only loading the rows of that page.
+     *
+     * @param source the source of the content to render
+     * @param page   the page number
+     * @return the rendered results
+     */
+    @NotNull List<Component> render(@NonNull PaginationContext context,
+            @NonNull PagedSource<? extends T> source, int page);
+
+    /**
+     * Renders a page fetched from a source, only loading the rows of that page.
+     *
+     * @param source the source of the content to render
+     * @param insert the components to insert after the header and before the main body
+     * @param page   the page number
+     * @return the rendered results
+     */
+    @NotNull List<Component> render(@NonNull PaginationContext context,
+            @NonNull Collection<Component> insert, @NonNull PagedSource<? extends T> source,
+            int page);
+
     /**
      * A pagination renderer.
      */
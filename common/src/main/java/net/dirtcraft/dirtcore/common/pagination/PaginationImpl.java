@@ -30,6 +30,8 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.ObjIntConsumer;
 import java.util.stream.Stream;
 import net.dirtcraft.dirtcore.common.pagination.context.PaginationContext;
 import net.kyori.adventure.text.Component;
@@ -122,31 +124,29 @@ public final class PaginationImpl<T> implements Examinable, Pagination<T> {
     public @NotNull List<Component> render(@NonNull final PaginationContext context,
             @NonNull final Collection<Component> insert,
             @NotNull final Collection<? extends T> content, final int page) {
-        if (content.isEmpty()) {
-            return Collections.singletonList(this.renderer.renderEmpty());
-        }
-
-        final int pages = pages(this.resultsPerPage, content.size());
-
-        if (!pageInRange(page, pages)) {
-            return Collections.singletonList(this.renderer.renderUnknownPage(page, pages));
-        }
-
-        final List<Component> components = new ArrayList<>();
+        return this.render(context, insert, content.size(), page,
+                consumer -> Paginator.forEachPageEntry(content, this.resultsPerPage, page,
+                        consumer));
+    }
 
-        components.add(this.renderHeader(page, pages));
-        components.addAll(insert);
-        components.add(Component.empty());
-        Paginator.forEachPageEntry(content, this.resultsPerPage, page,
-                (value, index) -> components.addAll(
-                        this.rowRenderer.renderRow(context, value, index)));
+    @Override
+    public @NotNull List<Component> render(@NonNull final PaginationContext context,
+            @NonNull final PagedSource<? extends T> source, final int page) {
+        return this.render(context, Collections.emptySet(), source, page);
+    }
 
-        if (this.addEmptyLine) {
-            components.add(Component.empty());
-        }
+    @Override
+    public @NotNull List<Component> render(@NonNull final PaginationContext context,
+            @NonNull final Collection<Component> insert,
+            @NonNull final PagedSource<? extends T> source, final int page) {
+        return this.render(context, insert, source.count(), page, consumer -> {
+            final List<? extends T> rows = source.getPage(page, this.resultsPerPage);
+            final int start = this.resultsPerPage * (page - 1);
 
-        components.add(this.renderFooter(page, pages));
-        return Collections.unmodifiableList(components);
+            for (int i = 0; i < rows.size(); i++) {
+                consumer.accept(rows.get(i), start + i);
+            }
+        });
     }
 
     @Override
@@ -238,6 +238,35 @@ public final class PaginationImpl<T> implements Examinable, Pagination<T> {
         return StringExaminer.simpleEscaping().examine(this);
     }
 
+    private List<Component> render(final PaginationContext context,
+            final Collection<Component> insert, final int count, final int page,
+            final Consumer<ObjIntConsumer<T>> entries) {
+        if (count == 0) {
+            return Collections.singletonList(this.renderer.renderEmpty());
+        }
+
+        final int pages = pages(this.resultsPerPage, count);
+
+        if (!pageInRange(page, pages)) {
+            return Collections.singletonList(this.renderer.renderUnknownPage(page, pages));
+        }
+
+        final List<Component> components = new ArrayList<>();
+
+        components.add(this.renderHeader(page, pages));
+        components.addAll(insert);
+        components.add(Component.empty());
+        entries.accept((value, index) -> components.addAll(
+                this.rowRenderer.renderRow(context, value, index)));
+
+        if (this.addEmptyLine) {
+            components.add(Component.empty());
+        }
+
+        components.add(this.renderFooter(page, pages));
+        return Collections.unmodifiableList(components);
+    }
+
     private Component renderHeader(final int page, final int pages) {
         final Component header = this.renderer.renderHeader(this.title, page, pages);
         final Component dashes = this.line(header);
@@ -26,7 +26,10 @@
 
 package net.dirtcraft.dirtcore.common.platform.argument;
 
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
 import java.util.Collection;
+import java.util.stream.Stream;
 import net.dirtcraft.dirtcore.common.command.abstraction.arguments.minecraft.block.AbstractBlockArgument;
 import net.dirtcraft.dirtcore.common.command.abstraction.arguments.minecraft.block.BlockResult;
 import net.dirtcraft.dirtcore.common.command.abstraction.arguments.minecraft.entity.AbstractEntityArgument;
@@ -44,12 +47,24 @@ import org.checkerframework.checker.nullness.qual.NonNull;
 
 /**
  * Factory class to make a thread-safe platform dependant arguments.
+ * <p>
+ * A factory is created whenever the commands are (re-)built, i.e. after the registries have
+ * been frozen, so the suggestion indices it provides are built lazily once per factory and
+ * shared by all arguments created by it.
  *
  * @param <P> the plugin type
  */
 public abstract class ArgumentFactory<P extends DirtCorePlugin> {
 
     private final P plugin;
+    private final Supplier<ResourceSuggestionIndex> blockIndex =
+            Suppliers.memoize(() -> ResourceSuggestionIndex.of(this.provideBlockIds()));
+    private final Supplier<ResourceSuggestionIndex> itemIndex =
+            Suppliers.memoize(() -> ResourceSuggestionIndex.of(this.provideItemIds()));
+    private final Supplier<ResourceSuggestionIndex> entityTypeIndex =
+            Suppliers.memoize(() -> ResourceSuggestionIndex.of(this.provideEntityTypeIds()));
+    private final Supplier<ResourceSuggestionIndex> modIndex =
+            Suppliers.memoize(() -> ResourceSuggestionIndex.of(this.provideModIds()));
 
     protected ArgumentFactory(final P plugin) {
         this.plugin = plugin;
@@ -133,7 +148,63 @@ public abstract class ArgumentFactory<P extends DirtCorePlugin> {
         return context.getArgument(name, World.class);
     }
 
+    @NonNull
+    public ResourceSuggestionIndex getBlockIndex() {
+        return this.blockIndex.get();
+    }
+
+    @NonNull
+    public ResourceSuggestionIndex getItemIndex() {
+        return this.itemIndex.get();
+    }
+
+    @NonNull
+    public ResourceSuggestionIndex getEntityTypeIndex() {
+        return this.entityTypeIndex.get();
+    }
+
+    @NonNull
+    public ResourceSuggestionIndex getModIndex() {
+        return this.modIndex.get();
+    }
+
     protected P getPlugin() {
         return this.plugin;
     }
+
+    /**
+     * Provides the identifiers of all registered blocks.
+     *
+     * @return the block identifiers
+     */
+    @NonNull
+    protected abstract Stream<String> provideBlockIds();
+
+    /**
+     * Provides the identifiers of all registered items.
+     *
+     * @return the item identifiers
+     */
+    @NonNull
+    protected abstract Stream<String> provideItemIds();
+
+    /**
+     * Provides the identifiers of all registered entity types.
+     *
+     * @return the entity type identifiers
+     */
+    @NonNull
+    protected Stream<String> provideEntityTypeIds() {
+        return this.plugin.getPlatformFactory().getEntityTypes().stream();
+    }
+
+    /**
+     * Provides the ids of all loaded mods.
+     *
+     * @return the mod ids
+     */
+    @NonNull
+    protected Stream<String> provideModIds() {
+        return this.plugin.getPlatformFactory().getModNames();
+    }
 }
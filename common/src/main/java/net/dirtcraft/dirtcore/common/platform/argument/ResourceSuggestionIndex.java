@@ -0,0 +1,306 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Marc Beckhaeuser (AlphaConqueror) <marcbeckhaeuser@gmail.com>
+ *
+ * Created for 'DirtCraft'.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package net.dirtcraft.dirtcore.common.platform.argument;
+
+import com.google.common.base.Strings;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import net.dirtcraft.dirtcore.common.command.abstraction.suggestion.Suggestions;
+import net.dirtcraft.dirtcore.common.command.abstraction.suggestion.SuggestionsBuilder;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * An immutable suggestion index over the identifiers of a registry.
+ * <p>
+ * Answers the same queries as the platform {@code filterResources} implementations, but with a
+ * binary search over pre-split, sorted keys instead of splitting and matching every identifier
+ * of the registry on every keystroke. A key is the position of an identifier, or of one of its
+ * parts following an underscore, so no substrings are kept in memory.
+ * <p>
+ * Build it once per registry freeze, see {@link ArgumentFactory}.
+ */
+public final class ResourceSuggestionIndex {
+
+    public static final ResourceSuggestionIndex EMPTY = of(Collections.emptyList());
+    private static final String DEFAULT_NAMESPACE = "minecraft";
+
+    private final String[] ids;
+    private final String[] lowerCaseIds;
+    /**
+     * Keys matched by inputs containing a namespace separator.
+     */
+    private final long[] fullKeys;
+    /**
+     * Keys matched by inputs without a namespace separator, i.e. the namespace and, for the
+     * default namespace, the path.
+     */
+    private final long[] shortKeys;
+
+    private ResourceSuggestionIndex(final List<String> ids) {
+        final int size = ids.size();
+        final List<Long> fullKeys = new ArrayList<>();
+        final List<Long> shortKeys = new ArrayList<>();
+
+        this.ids = ids.toArray(new String[size]);
+        this.lowerCaseIds = new String[size];
+
+        for (int i = 0; i < size; i++) {
+            final String id = this.ids[i].toLowerCase(Locale.ROOT);
+            final int separator = id.indexOf(':');
+            final boolean defaultNamespace =
+                    separator == DEFAULT_NAMESPACE.length() && id.startsWith(DEFAULT_NAMESPACE);
+
+            this.lowerCaseIds[i] = id;
+            fullKeys.add(key(i, 0));
+            shortKeys.add(key(i, 0));
+
+            if (defaultNamespace) {
+                shortKeys.add(key(i, separator + 1));
+            }
+
+            for (int j = id.indexOf('_'); j >= 0; j = id.indexOf('_', j + 1)) {
+                fullKeys.add(key(i, j + 1));
+
+                if (separator < 0 || j < separator || defaultNamespace) {
+                    shortKeys.add(key(i, j + 1));
+                }
+            }
+        }
+
+        this.fullKeys = this.sort(fullKeys);
+        this.shortKeys = this.sort(shortKeys);
+    }
+
+    @NonNull
+    public static ResourceSuggestionIndex of(@NonNull final Iterable<String> ids) {
+        final List<String> list = new ArrayList<>();
+        ids.forEach(list::add);
+        return new ResourceSuggestionIndex(list);
+    }
+
+    @NonNull
+    public static ResourceSuggestionIndex of(@NonNull final Stream<String> ids) {
+        return new ResourceSuggestionIndex(ids.collect(Collectors.toList()));
+    }
+
+    private static long key(final int id, final int offset) {
+        return (long) id << 32 | offset;
+    }
+
+    private static int id(final long key) {
+        return (int) (key >>> 32);
+    }
+
+    private static int offset(final long key) {
+        return (int) key;
+    }
+
+    public int size() {
+        return this.ids.length;
+    }
+
+    /**
+     * Suggests all resource identifiers matching the remaining input.
+     *
+     * @param builder the builder
+     * @return the suggestions
+     */
+    @NonNull
+    public CompletableFuture<Suggestions> suggestResource(
+            @NonNull final SuggestionsBuilder builder) {
+        this.filterResources(builder.getRemainingLowerCase(), builder::suggest);
+        return builder.buildFuture();
+    }
+
+    /**
+     * Suggests all resource identifiers matching the remaining input, prefixed by the specified
+     * prefix, e.g. {@code !} for inverted entity types.
+     *
+     * @param builder the builder
+     * @param prefix  the prefix
+     * @return the suggestions
+     */
+    @NonNull
+    public CompletableFuture<Suggestions> suggestResource(@NonNull final SuggestionsBuilder builder,
+            @NonNull final String prefix) {
+        final String remaining = builder.getRemainingLowerCase();
+
+        if (remaining.isEmpty()) {
+            this.forEach(id -> builder.suggest(prefix + id));
+        } else {
+            final String common = Strings.commonPrefix(remaining, prefix);
+
+            if (!common.isEmpty()) {
+                this.filterResources(remaining.substring(common.length()),
+                        id -> builder.suggest(prefix + id));
+            }
+        }
+
+        return builder.buildFuture();
+    }
+
+    /**
+     * Suggests all identifiers matching the remaining input, regardless of namespaces.
+     *
+     * @param builder the builder
+     * @return the suggestions
+     */
+    @NonNull
+    public CompletableFuture<Suggestions> suggest(@NonNull final SuggestionsBuilder builder) {
+        this.filter(this.fullKeys, builder.getRemainingLowerCase(), builder::suggest);
+        return builder.buildFuture();
+    }
+
+    /**
+     * Suggests all identifiers matching the remaining input, regardless of namespaces, prefixed
+     * by the specified prefix.
+     *
+     * @param builder the builder
+     * @param prefix  the prefix
+     * @return the suggestions
+     */
+    @NonNull
+    public CompletableFuture<Suggestions> suggest(@NonNull final SuggestionsBuilder builder,
+            @NonNull final String prefix) {
+        final String remaining = builder.getRemainingLowerCase();
+
+        if (prefix.startsWith(remaining)) {
+            this.forEach(id -> builder.suggest(prefix + id));
+        } else if (remaining.startsWith(prefix)) {
+            this.filter(this.fullKeys, remaining.substring(prefix.length()),
+                    id -> builder.suggest(prefix + id));
+        }
+
+        return builder.buildFuture();
+    }
+
+    /**
+     * Passes all identifiers matching the input to the consumer, in registry order.
+     *
+     * @param input    the lower case input
+     * @param consumer the consumer
+     */
+    public void filterResources(@NonNull final String input,
+            @NonNull final Consumer<String> consumer) {
+        this.filter(input.indexOf(':') > -1 ? this.fullKeys : this.shortKeys, input, consumer);
+    }
+
+    public void forEach(@NonNull final Consumer<String> consumer) {
+        for (final String id : this.ids) {
+            consumer.accept(id);
+        }
+    }
+
+    private void filter(final long[] keys, final String input, final Consumer<String> consumer) {
+        if (input.isEmpty()) {
+            this.forEach(consumer);
+            return;
+        }
+
+        final BitSet matches = new BitSet(this.ids.length);
+
+        for (int i = this.lowerBound(keys, input); i < keys.length; i++) {
+            final long key = keys[i];
+
+            if (!this.lowerCaseIds[id(key)].startsWith(input, offset(key))) {
+                break;
+            }
+
+            matches.set(id(key));
+        }
+
+        for (int i = matches.nextSetBit(0); i >= 0; i = matches.nextSetBit(i + 1)) {
+            consumer.accept(this.ids[i]);
+        }
+    }
+
+    private int lowerBound(final long[] keys, final String input) {
+        int low = 0;
+        int high = keys.length;
+
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+
+            if (this.compare(keys[mid], input) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+
+        return low;
+    }
+
+    private int compare(final long key, final String input) {
+        final String id = this.lowerCaseIds[id(key)];
+        final int offset = offset(key);
+        final int length = Math.min(id.length() - offset, input.length());
+
+        for (int i = 0; i < length; i++) {
+            final int diff = id.charAt(offset + i) - input.charAt(i);
+
+            if (diff != 0) {
+                return diff;
+            }
+        }
+
+        return (id.length() - offset) - input.length();
+    }
+
+    private int compareKeys(final long first, final long second) {
+        final String firstId = this.lowerCaseIds[id(first)];
+        final String secondId = this.lowerCaseIds[id(second)];
+        final int firstOffset = offset(first);
+        final int secondOffset = offset(second);
+        final int firstLength = firstId.length() - firstOffset;
+        final int secondLength = secondId.length() - secondOffset;
+        final int length = Math.min(firstLength, secondLength);
+
+        for (int i = 0; i < length; i++) {
+            final int diff =
+                    firstId.charAt(firstOffset + i) - secondId.charAt(secondOffset + i);
+
+            if (diff != 0) {
+                return diff;
+            }
+        }
+
+        return firstLength - secondLength;
+    }
+
+    private long[] sort(final List<Long> keys) {
+        keys.sort(this::compareKeys);
+        return keys.stream().mapToLong(Long::longValue).toArray();
+    }
+}
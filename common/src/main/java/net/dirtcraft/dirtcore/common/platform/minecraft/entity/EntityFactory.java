@@ -76,7 +76,7 @@ public abstract class EntityFactory<P extends DirtCorePlugin, E> {
     public abstract AABB getBoundingBox(@NonNull E entity);
 
     @NonNull
-    protected abstract UUID getUniqueId(@NonNull E entity);
+    public abstract UUID getUniqueId(@NonNull E entity);
 
     @NonNull
     protected abstract String getName(@NonNull E entity);
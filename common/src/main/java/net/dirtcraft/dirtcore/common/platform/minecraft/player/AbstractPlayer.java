@@ -29,6 +29,7 @@ package net.dirtcraft.dirtcore.common.platform.minecraft.player;
 import java.util.Collection;
 import java.util.List;
 import net.dirtcraft.dirtcore.common.model.Sound;
+import net.dirtcraft.dirtcore.common.model.manager.messaging.RenderedMessage;
 import net.dirtcraft.dirtcore.common.model.minecraft.Player;
 import net.dirtcraft.dirtcore.common.model.minecraft.World;
 import net.dirtcraft.dirtcore.common.model.minecraft.gui.container.Container;
@@ -93,6 +94,11 @@ public final class AbstractPlayer<E, P extends E> extends AbstractEntity<E> impl
         this.playerFactory.sendMessage(this.player, messages);
     }
 
+    @Override
+    public void sendMessage(@NonNull final RenderedMessage message) {
+        this.playerFactory.sendMessage(this.player, message);
+    }
+
     @Override
     public void performCommand(final String command) {
         this.playerFactory.performCommand(this.player, command);
@@ -27,8 +27,12 @@
 package net.dirtcraft.dirtcore.common.platform.minecraft.player;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import net.dirtcraft.dirtcore.common.model.Sound;
+import net.dirtcraft.dirtcore.common.model.manager.messaging.RenderedMessage;
 import net.dirtcraft.dirtcore.common.model.minecraft.Player;
 import net.dirtcraft.dirtcore.common.model.minecraft.World;
 import net.dirtcraft.dirtcore.common.model.minecraft.gui.container.Container;
@@ -49,6 +53,11 @@ public abstract class PlayerFactory<P extends DirtCorePlugin, E, T extends E> {
 
     private final P plugin;
     private final EntityFactory<P, E> entityFactory;
+    /**
+     * Wrappers of the online players. A platform might replace the player instance, e.g. on
+     * respawn, so a wrapper is only reused for the exact instance it wraps.
+     */
+    private final Map<UUID, AbstractPlayer<E, T>> wrappers = new ConcurrentHashMap<>();
 
     public PlayerFactory(final P plugin, final EntityFactory<P, E> entityFactory) {
         this.plugin = plugin;
@@ -73,6 +82,10 @@ public abstract class PlayerFactory<P extends DirtCorePlugin, E, T extends E> {
     protected abstract void sendMessage(@NonNull T player,
             @NonNull final Iterable<Component> messages);
 
+    protected void sendMessage(@NonNull final T player, @NonNull final RenderedMessage message) {
+        this.sendMessage(player, message.getComponent());
+    }
+
     protected abstract void performCommand(@NonNull T player, @NonNull final String command);
 
     protected abstract int getFreeInventorySpace(@NonNull T player);
@@ -91,7 +104,31 @@ public abstract class PlayerFactory<P extends DirtCorePlugin, E, T extends E> {
     @NonNull
     public final Player wrap(@NonNull final T player) {
         Objects.requireNonNull(player, "player");
-        return new AbstractPlayer<>(this.plugin, this.entityFactory, this, player);
+        final UUID uniqueId = this.entityFactory.getUniqueId(player);
+        final AbstractPlayer<E, T> wrapper = this.wrappers.get(uniqueId);
+
+        if (wrapper != null && wrapper.getEntity() == player) {
+            return wrapper;
+        }
+
+        final AbstractPlayer<E, T> created =
+                new AbstractPlayer<>(this.plugin, this.entityFactory, this, player);
+
+        // do not keep players which already left
+        if (!this.hasDisconnected(player)) {
+            this.wrappers.put(uniqueId, created);
+        }
+
+        return created;
+    }
+
+    /**
+     * Drops the wrapper of a player, e.g. once they logged out.
+     *
+     * @param uniqueId the unique id of the player
+     */
+    public final void invalidate(@NonNull final UUID uniqueId) {
+        this.wrappers.remove(uniqueId);
     }
 
     protected P getPlugin() {
@@ -29,6 +29,7 @@ package net.dirtcraft.dirtcore.common.platform.minecraft.world;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Predicate;
 import net.dirtcraft.dirtcore.common.model.Animation;
 import net.dirtcraft.dirtcore.common.model.minecraft.Block;
@@ -37,6 +38,7 @@ import net.dirtcraft.dirtcore.common.model.minecraft.Player;
 import net.dirtcraft.dirtcore.common.model.minecraft.World;
 import net.dirtcraft.dirtcore.common.model.minecraft.phys.AABB;
 import net.dirtcraft.dirtcore.common.model.profile.ChunkEntityProfile;
+import net.dirtcraft.dirtcore.common.model.profile.LagProfile;
 import net.dirtcraft.dirtcore.common.plugin.DirtCorePlugin;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
@@ -141,15 +143,23 @@ public final class AbstractWorld<W> implements World {
 
     @Override
     public @NonNull Collection<ChunkEntityProfile> getEntityProfiles() {
-        return this.plugin.getBootstrap().getScheduler()
-                .executeSyncBlocking(() -> this.factory.getEntityProfiles(this.world));
+        return this.factory.getEntityProfiles(this.world);
     }
 
     @Override
     public @NonNull Optional<ChunkEntityProfile> getEntityProfile(final int chunkX,
             final int chunkZ) {
-        return this.plugin.getBootstrap().getScheduler().executeSyncBlocking(
-                () -> this.factory.getEntityProfile(this.world, chunkX, chunkZ));
+        return this.factory.getEntityProfile(this.world, chunkX, chunkZ);
+    }
+
+    @Override
+    public @NonNull CompletableFuture<LagProfile> profileEntities(final int limit) {
+        return this.factory.profileEntities(this.world, limit);
+    }
+
+    @Override
+    public @NonNull CompletableFuture<LagProfile> profileBlockEntities(final int limit) {
+        return this.factory.profileBlockEntities(this.world, limit);
     }
 
     public W getWorld() {
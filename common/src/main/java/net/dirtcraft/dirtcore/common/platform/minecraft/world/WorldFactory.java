@@ -26,10 +26,15 @@
 
 package net.dirtcraft.dirtcore.common.platform.minecraft.world;
 
+import com.github.benmanes.caffeine.cache.Cache;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 import net.dirtcraft.dirtcore.common.model.Animation;
 import net.dirtcraft.dirtcore.common.model.minecraft.Block;
@@ -38,8 +43,15 @@ import net.dirtcraft.dirtcore.common.model.minecraft.Player;
 import net.dirtcraft.dirtcore.common.model.minecraft.World;
 import net.dirtcraft.dirtcore.common.model.minecraft.phys.AABB;
 import net.dirtcraft.dirtcore.common.model.profile.ChunkEntityProfile;
+import net.dirtcraft.dirtcore.common.model.profile.EntityCensus;
+import net.dirtcraft.dirtcore.common.model.profile.EntityProfile;
+import net.dirtcraft.dirtcore.common.model.profile.EntityTypeIds;
+import net.dirtcraft.dirtcore.common.model.profile.LagProfile;
 import net.dirtcraft.dirtcore.common.plugin.DirtCorePlugin;
+import net.dirtcraft.dirtcore.common.scheduler.SchedulerAdapter;
+import net.dirtcraft.dirtcore.common.util.CaffeineFactory;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 /**
  * Factory class to make a thread-safe world instance.
@@ -49,7 +61,19 @@ import org.checkerframework.checker.nullness.qual.NonNull;
  */
 public abstract class WorldFactory<P extends DirtCorePlugin, W> {
 
+    /**
+     * The maximum amount of block entities to snapshot per tick.
+     */
+    private static final int BLOCK_ENTITY_SNAPSHOT_BATCH_SIZE = 4096;
+
+    protected final EntityTypeIds<Object> blockEntityTypeIds = new EntityTypeIds<>();
     private final P plugin;
+    private final Cache<W, EntityCensus> entityCensuses =
+            CaffeineFactory.newBuilder().weakKeys().build();
+    /**
+     * Wrappers of the loaded worlds, dropped once a world is unloaded.
+     */
+    private final Map<W, World> wrappers = new ConcurrentHashMap<>();
 
     public WorldFactory(final P plugin) {this.plugin = plugin;}
 
@@ -85,17 +109,174 @@ public abstract class WorldFactory<P extends DirtCorePlugin, W> {
     protected abstract void playAnimationAt(@NonNull W world, @NonNull Animation animation,
             final double x, final double y, final double z);
 
-    protected abstract @NonNull Collection<ChunkEntityProfile> getEntityProfiles(@NonNull W world);
+    /**
+     * Creates the entity census of a world by walking its loaded chunks once.
+     * <p>
+     * Only called on the server thread. The platform keeps the census up to date afterward, see
+     * {@link #getEntityCensusIfPresent(Object)}.
+     *
+     * @param world the world
+     * @return the seeded census, or {@code null} if the world does not track entities
+     */
+    protected abstract @Nullable EntityCensus createEntityCensus(@NonNull W world);
 
-    protected abstract @NonNull Optional<ChunkEntityProfile> getEntityProfile(@NonNull W world,
-            int chunkX, int chunkZ);
+    protected final @NonNull Collection<ChunkEntityProfile> getEntityProfiles(
+            @NonNull final W world) {
+        final EntityCensus census = this.getEntityCensus(world);
+        return census == null ? Collections.emptySet() : census.getProfiles();
+    }
+
+    protected final @NonNull Optional<ChunkEntityProfile> getEntityProfile(@NonNull final W world,
+            final int chunkX, final int chunkZ) {
+        final EntityCensus census = this.getEntityCensus(world);
+
+        if (census == null) {
+            return Optional.empty();
+        }
+
+        final Optional<ChunkEntityProfile> profile = census.getProfile(chunkX, chunkZ);
+
+        if (profile.isPresent()) {
+            return profile;
+        }
+
+        // loaded chunks without any entities are not part of the census
+        return this.plugin.getBootstrap().getScheduler()
+                .executeSyncBlocking(() -> this.hasChunk(world, chunkX, chunkZ)) ? Optional.of(
+                ChunkEntityProfile.of(Collections.emptyMap(), 0, this.getIdentifier(world),
+                        chunkX, chunkZ)) : Optional.empty();
+    }
+
+    /**
+     * Copies the loaded block entities of a world.
+     * <p>
+     * Only called on the server thread.
+     *
+     * @param world the world
+     * @return the block entities
+     */
+    protected abstract @NonNull Object[] getBlockEntities(@NonNull W world);
+
+    /**
+     * Counts a block entity copied by {@link #getBlockEntities(Object)}, using the
+     * {@link #blockEntityTypeIds}.
+     * <p>
+     * Only called on the server thread.
+     *
+     * @param census      the census
+     * @param blockEntity the block entity
+     */
+    protected abstract void countBlockEntity(@NonNull EntityCensus census,
+            @NonNull Object blockEntity);
+
+    protected final @NonNull CompletableFuture<LagProfile> profileEntities(@NonNull final W world,
+            final int limit) {
+        return CompletableFuture.supplyAsync(() -> {
+            final EntityCensus census = this.getEntityCensus(world);
+            return census == null ? LagProfile.empty(EntityProfile.SUBJECT_ENTITIES)
+                    : census.profile(limit);
+        }, this.plugin.getBootstrap().getScheduler().cpu());
+    }
+
+    protected final @NonNull CompletableFuture<LagProfile> profileBlockEntities(
+            @NonNull final W world, final int limit) {
+        final SchedulerAdapter scheduler = this.plugin.getBootstrap().getScheduler();
+        final CompletableFuture<EntityCensus> snapshot = new CompletableFuture<>();
+
+        scheduler.scheduleSyncRepeatingTask(new BlockEntitySnapshotTask(world, snapshot));
+        return snapshot.thenApplyAsync(census -> census.profile(limit), scheduler.cpu());
+    }
+
+    /**
+     * Gets the entity census of a world for the platform entity hooks to update, if it has been
+     * seeded already.
+     *
+     * @param world the world
+     * @return the census, if present
+     */
+    protected final @Nullable EntityCensus getEntityCensusIfPresent(@NonNull final W world) {
+        return this.entityCensuses.getIfPresent(world);
+    }
+
+    /**
+     * Drops the wrapper and the entity census of a world, e.g. once it has been unloaded.
+     *
+     * @param world the world
+     */
+    public final void invalidate(@NonNull final W world) {
+        this.wrappers.remove(world);
+        this.entityCensuses.invalidate(world);
+    }
 
     public final World wrap(final W world) {
         Objects.requireNonNull(world, "world");
-        return new AbstractWorld<>(this.plugin, this, world);
+        return this.wrappers.computeIfAbsent(world, w -> new AbstractWorld<>(this.plugin, this, w));
     }
 
     protected P getPlugin() {
         return this.plugin;
     }
+
+    private @Nullable EntityCensus getEntityCensus(@NonNull final W world) {
+        final EntityCensus census = this.entityCensuses.getIfPresent(world);
+
+        if (census != null) {
+            return census;
+        }
+
+        // seed on the server thread, so no hook can run in between
+        return this.plugin.getBootstrap().getScheduler().executeSyncBlocking(
+                () -> this.entityCensuses.get(world, this::createEntityCensus));
+    }
+
+    /**
+     * Snapshots the block entities of a world into a census, at most
+     * {@link #BLOCK_ENTITY_SNAPSHOT_BATCH_SIZE} per tick.
+     */
+    private final class BlockEntitySnapshotTask implements SchedulerAdapter.RepeatingVoidTask {
+
+        @NonNull
+        private final W world;
+        @NonNull
+        private final CompletableFuture<EntityCensus> future;
+        private EntityCensus census;
+        private Object[] blockEntities;
+        private int index;
+
+        private BlockEntitySnapshotTask(@NonNull final W world,
+                @NonNull final CompletableFuture<EntityCensus> future) {
+            this.world = world;
+            this.future = future;
+        }
+
+        @Override
+        public boolean executeRepeating() {
+            try {
+                if (this.blockEntities == null) {
+                    this.blockEntities = WorldFactory.this.getBlockEntities(this.world);
+                    this.census = new EntityCensus(WorldFactory.this.getIdentifier(this.world),
+                            WorldFactory.this.blockEntityTypeIds,
+                            EntityProfile.SUBJECT_BLOCK_ENTITIES);
+                }
+
+                final int end = Math.min(this.index + BLOCK_ENTITY_SNAPSHOT_BATCH_SIZE,
+                        this.blockEntities.length);
+
+                for (; this.index < end; this.index++) {
+                    WorldFactory.this.countBlockEntity(this.census,
+                            this.blockEntities[this.index]);
+                }
+
+                if (this.index < this.blockEntities.length) {
+                    return false;
+                }
+
+                this.future.complete(this.census);
+            } catch (final RuntimeException e) {
+                this.future.completeExceptionally(e);
+            }
+
+            return true;
+        }
+    }
 }
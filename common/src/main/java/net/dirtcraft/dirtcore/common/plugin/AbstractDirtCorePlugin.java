@@ -35,6 +35,7 @@ import java.time.Instant;
 import java.util.EnumSet;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import net.dirtcraft.dirtcore.common.actionlog.LogDispatcher;
 import net.dirtcraft.dirtcore.common.api.ApiRegistrationUtil;
 import net.dirtcraft.dirtcore.common.api.DirtCoreApiProvider;
@@ -54,8 +55,14 @@ import net.dirtcraft.dirtcore.common.messaging.InternalMessagingService;
 import net.dirtcraft.dirtcore.common.messaging.MessagingFactory;
 import net.dirtcraft.dirtcore.common.model.Sender;
 import net.dirtcraft.dirtcore.common.platform.argument.ArgumentFactory;
+import net.dirtcraft.dirtcore.common.plugin.util.StartupProfiler;
 import net.dirtcraft.dirtcore.common.storage.DirtCoreStorage;
 import net.dirtcraft.dirtcore.common.storage.DirtCoreStorageFactory;
+import net.dirtcraft.dirtcore.common.storage.cache.CaffeineRegionFactory;
+import net.dirtcraft.dirtcore.common.storage.connection.BinaryUUIDMigration;
+import net.dirtcraft.dirtcore.common.storage.connection.IdSequenceInitializer;
+import net.dirtcraft.dirtcore.common.storage.connection.SharedConnectionPool;
+import net.dirtcraft.dirtcore.common.tasks.ChangeTracker;
 import net.dirtcraft.dirtcore.common.tasks.SyncTask;
 import net.dirtcraft.dirtcore.common.util.FormatUtils;
 import net.dirtcraft.dirtcore.common.util.filter.JavaFilter;
@@ -73,11 +80,15 @@ public abstract class AbstractDirtCorePlugin implements DirtCorePlugin {
     private DirtCoreConfiguration configuration;
     private LogDispatcher logDispatcher;
     private DirtCoreStorage storage;
+    private SharedConnectionPool connectionPool;
+    private CaffeineRegionFactory cacheRegionFactory;
     private InternalMessagingService messagingService = null;
+    private ChangeTracker changeTracker;
     private SyncTask.Buffer syncTaskBuffer;
     private GeneralEventListener generalEventListener;
     private DirtCoreApiProvider apiProvider;
     private Instant startupTime;
+    private StartupProfiler startupProfiler;
 
     protected abstract void registerCommands();
 
@@ -102,12 +113,14 @@ public abstract class AbstractDirtCorePlugin implements DirtCorePlugin {
      */
     public boolean load() {
         this.startupTime = Instant.now();
+        this.startupProfiler = new StartupProfiler(this.getLogger());
 
         this.getLogger().info("Loading {}...", MOD_NAME);
 
         // load dependencies
         this.dependencyManager = this.createDependencyManager();
-        this.dependencyManager.loadDependencies(this.getGlobalDependencies());
+        this.startupProfiler.phase("dependencies",
+                () -> this.dependencyManager.loadDependencies(this.getGlobalDependencies()));
 
         JavaFilter.applyFilter();
         Log4jFilter.applyFilter();
@@ -115,9 +128,12 @@ public abstract class AbstractDirtCorePlugin implements DirtCorePlugin {
         this.getLogger().info("Loading configuration...");
 
         try {
-            final ConfigurationAdapter configFileAdapter =
-                    new ConfigAdapter(this, this.resolveConfig());
-            this.configuration = new DirtCoreConfiguration(this.getLogger(), configFileAdapter);
+            this.startupProfiler.phase("configuration", () -> {
+                final ConfigurationAdapter configFileAdapter =
+                        new ConfigAdapter(this, this.resolveConfig());
+                this.configuration =
+                        new DirtCoreConfiguration(this.getLogger(), configFileAdapter);
+            });
         } catch (final Exception e) {
             this.getLogger().severe("Malformed config. {}", e.getMessage());
             return true;
@@ -130,14 +146,32 @@ public abstract class AbstractDirtCorePlugin implements DirtCorePlugin {
 
         // now the configuration is loaded,
         // we can create a storage factory and load initial dependencies
+        this.connectionPool = new SharedConnectionPool(this);
+        this.cacheRegionFactory = new CaffeineRegionFactory();
         final DirtCoreStorageFactory storageFactory = new DirtCoreStorageFactory(this);
-        this.loadStorageDependencies(storageFactory);
+        this.startupProfiler.phase("storage-dependencies",
+                () -> this.loadStorageDependencies(storageFactory));
+
+        // the discord login does not depend on the storage, connect while hibernate bootstraps
+        final CompletableFuture<DiscordBotClient> discordFuture = this.loadDiscordBot();
 
         // initialise storage
         try {
-            this.storage = storageFactory.getInstance();
+            this.storage = this.startupProfiler.phase("storage", storageFactory::getInstance);
+            this.startupProfiler.phase("id-sequence",
+                    () -> this.storage.performTask(IdSequenceInitializer::initialise));
+
+            if (BinaryUUIDMigration.isRevertRequested()) {
+                this.storage.performTask(BinaryUUIDMigration::revert);
+                throw new BinaryUUIDMigration.RevertedException();
+            }
+
+            this.startupProfiler.phase("uuid-migration",
+                    () -> this.storage.performTask(BinaryUUIDMigration::migrate));
         } catch (final Exception e) {
-            if (e instanceof ServiceException) {
+            if (e instanceof BinaryUUIDMigration.RevertedException) {
+                this.getLogger().severe(e.getMessage());
+            } else if (e instanceof ServiceException) {
                 this.getLogger().severe("Unable to connect to the database. Make sure the address, "
                         + "port, database and credentials are correct. The connection to the "
                         + "database is essential.");
@@ -146,82 +180,91 @@ public abstract class AbstractDirtCorePlugin implements DirtCorePlugin {
                 this.getLogger().severe("Caught unexpected error.", e);
             }
 
-            return true;
-        }
+            this.connectionPool.close();
 
-        // load entity selector options
-        this.loadEntitySelectorOptions();
-        // init command manager
-        this.commandManager = new CommandManager(this);
-
-        this.getLogger().info("Loading Discord bot...");
+            // the plugin will not be enabled, do not leave the bot connected
+            final DiscordBotClient client = discordFuture.join();
 
-        final String token = this.configuration.get(ConfigKeys.DISCORD_TOKEN);
-
-        if (FormatUtils.isBlank(token)) {
-            this.getLogger().warn("Could not load discord bot, token is blank.");
-        } else {
-            try {
-                this.discordBotClient = new DiscordBotClient(this, token);
-                this.discordBotClient.enable();
-            } catch (final RuntimeException | InterruptedException e) {
-                this.getLogger()
-                        .warn("Could not start discord bot. Make sure the token is correct.");
+            if (client != null) {
+                client.shutdown();
             }
+
+            return true;
         }
 
+        this.startupProfiler.phase("command-manager", () -> {
+            // load entity selector options
+            this.loadEntitySelectorOptions();
+            // init command manager
+            this.commandManager = new CommandManager(this);
+        });
+
+        this.discordBotClient = discordFuture.join();
+        this.startupProfiler.report("load");
         return false;
     }
 
     public final void enable() {
-        this.setupSenderFactory();
-        this.setupPlatformFactory();
+        this.startupProfiler.phase("platform", () -> {
+            this.setupSenderFactory();
+            this.setupPlatformFactory();
 
-        // register listeners
-        this.registerPlatformListeners();
+            // register listeners
+            this.registerPlatformListeners();
+        });
 
         this.logDispatcher = new LogDispatcher(this);
-        this.messagingService = this.provideMessagingFactory().getInstance();
+        this.messagingService = this.startupProfiler.phase("messaging",
+                () -> this.provideMessagingFactory().getInstance());
 
         // set up the update task buffer
+        this.changeTracker = new ChangeTracker(this);
         this.syncTaskBuffer = new SyncTask.Buffer(this);
 
         // register commands
         this.registerCommands();
 
         // setup managers
-        this.setupManagers();
-
+        this.startupProfiler.phase("managers", this::setupManagers);
 
         // register with the DirtCore API
         this.apiProvider = new DirtCoreApiProvider(this);
         this.apiProvider.ensureApiWasLoadedByPlugin();
         this.setupEventDispatcher(this.apiProvider);
-        this.getBootstrap().getScheduler().executeAsync(GeneratedEventClass::preGenerate);
+        this.getBootstrap().getScheduler().cpu().execute(GeneratedEventClass::preGenerate);
         ApiRegistrationUtil.registerProvider(this, this.apiProvider);
 
-        // run an update instantly
+        // run an update instantly, the remaining setup does not read the loaded data,
+        // so it is only awaited before the plugin reports as enabled
         this.getLogger().info("Performing initial data load...");
 
-        try {
-            new SyncTask(this).run();
-        } catch (final Exception e) {
-            this.getLogger().severe("Caught exception during initial data load.", e);
-        }
+        final CompletableFuture<Void> initialLoad =
+                this.startupProfiler.phaseComposeAsync("initial-data-load",
+                        () -> new SyncTask(this).sync(),
+                        this.getBootstrap().getScheduler().async());
 
         if (this.discordBotClient != null) {
-            this.discordBotClient.getDiscordManager().registerListeners();
+            this.startupProfiler.phase("discord-listeners",
+                    () -> this.discordBotClient.getDiscordManager().registerListeners());
         }
 
         // create the console user, if it does not exist
-        this.createConsoleUser();
+        this.startupProfiler.phase("console-user", this::createConsoleUser);
 
         // register common listeners
         this.generalEventListener = new GeneralEventListener(this);
         this.apiProvider.getEventBus().subscribe(this.generalEventListener);
 
         // perform any platform-specific final setup tasks
-        this.performFinalSetup();
+        this.startupProfiler.phase("final-setup", this::performFinalSetup);
+
+        try {
+            initialLoad.join();
+        } catch (final Exception e) {
+            this.getLogger().severe("Caught exception during initial data load.", e);
+        }
+
+        this.startupProfiler.report("enable");
 
         final Duration timeTaken = Duration.between(this.startupTime, Instant.now());
         this.getLogger().info("Successfully enabled. (took " + timeTaken.toMillis() + "ms)");
@@ -244,9 +287,19 @@ public abstract class AbstractDirtCorePlugin implements DirtCorePlugin {
             this.messagingService.close();
         }
 
+        // write pending log entries
+        if (this.logDispatcher != null) {
+            this.getLogger().info("Writing pending log entries...");
+            this.logDispatcher.shutdown();
+        }
+
         // close storage
-        this.getLogger().info("Closing storage...");
+        this.getLogger().info("Closing storage... (second-level cache: {})",
+                this.cacheRegionFactory.getTotalStatistics());
         this.storage.shutdown();
+        this.getLogger().info("Closing connection pool... ({})",
+                this.connectionPool.getMetrics());
+        this.connectionPool.close();
 
         // unregister api
         ApiRegistrationUtil.unregisterProvider(this);
@@ -260,11 +313,45 @@ public abstract class AbstractDirtCorePlugin implements DirtCorePlugin {
         this.getLogger().info("Goodbye!");
     }
 
+    /**
+     * Starts the Discord bot asynchronously.
+     *
+     * @return a future completing with the started bot or {@code null}, if it could not be
+     *         started
+     */
+    @NonNull
+    private CompletableFuture<DiscordBotClient> loadDiscordBot() {
+        this.getLogger().info("Loading Discord bot...");
+
+        final String token = this.configuration.get(ConfigKeys.DISCORD_TOKEN);
+
+        if (FormatUtils.isBlank(token)) {
+            this.getLogger().warn("Could not load discord bot, token is blank.");
+            return CompletableFuture.completedFuture(null);
+        }
+
+        return this.startupProfiler.phaseAsync("discord", () -> {
+            try {
+                final DiscordBotClient client = new DiscordBotClient(this, token);
+
+                client.enable();
+                return client;
+            } catch (final RuntimeException | InterruptedException e) {
+                this.getLogger()
+                        .warn("Could not start discord bot. Make sure the token is correct.");
+                return null;
+            }
+        }, this.getBootstrap().getScheduler().async());
+    }
+
     public void buildCommands(
             @NonNull final ArgumentFactory<? extends DirtCorePlugin> argumentFactory) {
         this.getLogger().info("Building commands...");
-        this.getEntitySelectorOptions().init();
-        this.commandManager.buildCommands(argumentFactory);
+        this.startupProfiler.phase("build-commands", () -> {
+            this.getEntitySelectorOptions().init();
+            this.commandManager.buildCommands(argumentFactory);
+        });
+        this.startupProfiler.report("commands");
     }
 
     @Override
@@ -297,6 +384,16 @@ public abstract class AbstractDirtCorePlugin implements DirtCorePlugin {
         return this.storage;
     }
 
+    @Override
+    public SharedConnectionPool getConnectionPool() {
+        return this.connectionPool;
+    }
+
+    @Override
+    public CaffeineRegionFactory getCacheRegionFactory() {
+        return this.cacheRegionFactory;
+    }
+
     @Override
     public Optional<InternalMessagingService> getMessagingService() {
         return Optional.ofNullable(this.messagingService);
@@ -337,6 +434,11 @@ public abstract class AbstractDirtCorePlugin implements DirtCorePlugin {
         return this.configuration.get(ConfigKeys.SERVER_ICON);
     }
 
+    @Override
+    public ChangeTracker getChangeTracker() {
+        return this.changeTracker;
+    }
+
     @Override
     public SyncTask.Buffer getSyncTaskBuffer() {
         return this.syncTaskBuffer;
@@ -56,7 +56,10 @@ import net.dirtcraft.dirtcore.common.platform.sender.SenderFactory;
 import net.dirtcraft.dirtcore.common.plugin.bootstrap.DirtCoreBootstrap;
 import net.dirtcraft.dirtcore.common.plugin.util.AbstractConnectionListener;
 import net.dirtcraft.dirtcore.common.storage.DirtCoreStorage;
+import net.dirtcraft.dirtcore.common.storage.cache.CaffeineRegionFactory;
+import net.dirtcraft.dirtcore.common.storage.connection.SharedConnectionPool;
 import net.dirtcraft.dirtcore.common.storage.entities.punishment.abstraction.PunishmentEntity;
+import net.dirtcraft.dirtcore.common.tasks.ChangeTracker;
 import net.dirtcraft.dirtcore.common.tasks.SyncTask;
 
 public interface DirtCorePlugin {
@@ -122,6 +125,20 @@ public interface DirtCorePlugin {
      */
     DirtCoreStorage getStorage();
 
+    /**
+     * Gets the connection pool shared by the storage and the SQL messaging service.
+     *
+     * @return the connection pool
+     */
+    SharedConnectionPool getConnectionPool();
+
+    /**
+     * Gets the second-level cache of the storage.
+     *
+     * @return the cache region factory
+     */
+    CaffeineRegionFactory getCacheRegionFactory();
+
     /**
      * Gets the event dispatcher
      *
@@ -213,6 +230,13 @@ public interface DirtCorePlugin {
      */
     String getServerIcon();
 
+    /**
+     * Gets the tracker of changes to synced data.
+     *
+     * @return the change tracker
+     */
+    ChangeTracker getChangeTracker();
+
     /**
      * Gets the sync task buffer of the platform, used for scheduling and running sync tasks.
      *
@@ -29,10 +29,8 @@ package net.dirtcraft.dirtcore.common.plugin.util;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
-import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 import net.dirtcraft.dirtcore.api.actionlog.Action;
@@ -45,6 +43,7 @@ import net.dirtcraft.dirtcore.common.storage.entities.log.LogEntity;
 import net.dirtcraft.dirtcore.common.storage.entities.punishment.BanEntity;
 import net.dirtcraft.dirtcore.common.storage.entities.user.UserIPHistory;
 import net.dirtcraft.dirtcore.common.util.Components;
+import net.dirtcraft.dirtcore.common.util.UUIDSet;
 import net.kyori.adventure.text.Component;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
@@ -55,7 +54,7 @@ import org.checkerframework.checker.nullness.qual.Nullable;
 public abstract class AbstractConnectionListener<E, C> {
 
     private final DirtCorePlugin plugin;
-    private final Set<UUID> uniqueConnections = ConcurrentHashMap.newKeySet();
+    private final UUIDSet uniqueConnections = new UUIDSet();
 
     protected AbstractConnectionListener(final DirtCorePlugin plugin) {
         this.plugin = plugin;
@@ -67,12 +66,26 @@ public abstract class AbstractConnectionListener<E, C> {
     protected abstract String getIPAddress(@NonNull C connection);
 
     /**
-     * Gets the unique players which have connected to the server since it started.
+     * Checks if a player has connected to the server since it started.
      *
-     * @return the unique connections
+     * @param uniqueId the unique id of the player
+     * @return true, if the player has connected before
      */
-    public Set<UUID> getUniqueConnections() {
-        return this.uniqueConnections;
+    public boolean hasConnected(@NonNull final UUID uniqueId) {
+        synchronized (this.uniqueConnections) {
+            return this.uniqueConnections.contains(uniqueId);
+        }
+    }
+
+    /**
+     * Gets the amount of unique players which have connected to the server since it started.
+     *
+     * @return the amount of unique connections
+     */
+    public int getUniqueConnectionCount() {
+        synchronized (this.uniqueConnections) {
+            return this.uniqueConnections.size();
+        }
     }
 
     public void loadUser(@NonNull final TaskContext context, @NonNull final UUID uniqueId,
@@ -267,7 +280,9 @@ public abstract class AbstractConnectionListener<E, C> {
     }
 
     protected void recordConnection(final UUID uniqueId) {
-        this.uniqueConnections.add(uniqueId);
+        synchronized (this.uniqueConnections) {
+            this.uniqueConnections.add(uniqueId);
+        }
     }
 
     @NonNull
@@ -0,0 +1,181 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Marc Beckhaeuser (AlphaConqueror) <marcbeckhaeuser@gmail.com>
+ *
+ * Created for 'DirtCraft'.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package net.dirtcraft.dirtcore.common.plugin.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import net.dirtcraft.dirtcore.common.logging.Logger;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * Records the duration of the individual startup phases of the plugin.
+ * <p>
+ * Phases may run on any thread, see {@link #phaseAsync(String, Supplier, Executor)}, and are
+ * reported in the order they finished.
+ */
+public class StartupProfiler {
+
+    @NonNull
+    private final Logger logger;
+    private final List<Phase> phases = new ArrayList<>();
+
+    public StartupProfiler(@NonNull final Logger logger) {
+        this.logger = logger;
+    }
+
+    /**
+     * Runs and times a phase on the calling thread.
+     *
+     * @param name     the name of the phase
+     * @param runnable the phase
+     */
+    public void phase(@NonNull final String name, @NonNull final Runnable runnable) {
+        this.phase(name, () -> {
+            runnable.run();
+            return null;
+        });
+    }
+
+    /**
+     * Runs and times a phase on the calling thread.
+     *
+     * @param name     the name of the phase
+     * @param supplier the phase
+     * @param <T>      the type of the result
+     * @return the result of the phase
+     */
+    public <T> T phase(@NonNull final String name, @NonNull final Supplier<T> supplier) {
+        final long start = System.nanoTime();
+
+        try {
+            return supplier.get();
+        } finally {
+            this.record(name, System.nanoTime() - start, false);
+        }
+    }
+
+    /**
+     * Runs and times a phase on the executor.
+     *
+     * @param name     the name of the phase
+     * @param supplier the phase
+     * @param executor the executor
+     * @param <T>      the type of the result
+     * @return a future completing with the result of the phase
+     */
+    @NonNull
+    public <T> CompletableFuture<T> phaseAsync(@NonNull final String name,
+            @NonNull final Supplier<T> supplier, @NonNull final Executor executor) {
+        return CompletableFuture.supplyAsync(() -> {
+            final long start = System.nanoTime();
+
+            try {
+                return supplier.get();
+            } finally {
+                this.record(name, System.nanoTime() - start, true);
+            }
+        }, executor);
+    }
+
+    /**
+     * Starts a phase on the executor and times it until the returned future completes.
+     *
+     * @param name     the name of the phase
+     * @param supplier the phase, returning a future
+     * @param executor the executor
+     * @param <T>      the type of the result
+     * @return a future completing with the result of the phase
+     */
+    @NonNull
+    public <T> CompletableFuture<T> phaseComposeAsync(@NonNull final String name,
+            @NonNull final Supplier<CompletableFuture<T>> supplier,
+            @NonNull final Executor executor) {
+        final long start = System.nanoTime();
+
+        return CompletableFuture.supplyAsync(supplier, executor).thenCompose(Function.identity())
+                .whenComplete((result, e) -> this.record(name, System.nanoTime() - start, true));
+    }
+
+    /**
+     * Logs and clears all phases recorded so far.
+     *
+     * @param stage the name of the startup stage, e.g. {@code load}
+     */
+    public void report(@NonNull final String stage) {
+        final List<Phase> phases;
+
+        synchronized (this.phases) {
+            phases = new ArrayList<>(this.phases);
+            this.phases.clear();
+        }
+
+        if (phases.isEmpty()) {
+            return;
+        }
+
+        final StringBuilder builder = new StringBuilder();
+
+        for (final Phase phase : phases) {
+            if (builder.length() > 0) {
+                builder.append(", ");
+            }
+
+            builder.append(phase.name).append('=')
+                    .append(TimeUnit.NANOSECONDS.toMillis(phase.nanos)).append("ms");
+
+            if (phase.async) {
+                builder.append(" (async)");
+            }
+        }
+
+        this.logger.info("Startup phases ({}): {}", stage, builder);
+    }
+
+    private void record(final String name, final long nanos, final boolean async) {
+        synchronized (this.phases) {
+            this.phases.add(new Phase(name, nanos, async));
+        }
+    }
+
+    private static final class Phase {
+
+        private final String name;
+        private final long nanos;
+        private final boolean async;
+
+        private Phase(final String name, final long nanos, final boolean async) {
+            this.name = name;
+            this.nanos = nanos;
+            this.async = async;
+        }
+    }
+}
@@ -28,46 +28,97 @@ package net.dirtcraft.dirtcore.common.scheduler;
 
 import java.lang.Thread.UncaughtExceptionHandler;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
-import java.util.concurrent.ForkJoinPool;
-import java.util.concurrent.ForkJoinWorkerThread;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import net.dirtcraft.dirtcore.common.logging.Logger;
 import net.dirtcraft.dirtcore.common.plugin.bootstrap.DirtCoreBootstrap;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 /**
  * Abstract implementation of {@link SchedulerAdapter} using a {@link ScheduledExecutorService}.
+ * <p>
+ * Async work is split into three bounded {@link WorkerPool}s, so blocking I/O cannot starve
+ * computations or event handlers. Tasks submitted while a queue is full are kept in the bounded
+ * overflow queue of the pool, so they never run on the server or timer thread. The metrics of
+ * pools with overflowed or rejected tasks are logged periodically.
  */
 public abstract class AbstractJavaScheduler implements SchedulerAdapter {
 
-    private static final int PARALLELISM = 16;
+    /**
+     * If set to {@code true}, blocking I/O runs on virtual threads, if the runtime supports them.
+     */
+    public static final String VIRTUAL_THREADS_PROPERTY = "dirtcore.virtualThreads";
+    /**
+     * If set to {@code true}, delayed and repeating tasks are scheduled on a {@link TimingWheel}
+     * instead of a {@link ScheduledThreadPoolExecutor}.
+     */
+    public static final String TIMING_WHEEL_PROPERTY = "dirtcore.timingWheel";
+    private static final long TIMING_WHEEL_TICK_MILLIS = 10L;
+    private static final int IO_THREADS = 16;
+    private static final int EVENT_THREADS = 4;
+    private static final int QUEUE_CAPACITY = 1024;
+    private static final long METRICS_INTERVAL_MINUTES = 5L;
     private final List<Task<?>> taskList = new CopyOnWriteArrayList<>();
     private final DirtCoreBootstrap bootstrap;
+    @Nullable
     private final ScheduledThreadPoolExecutor scheduler;
-    private final ForkJoinPool worker;
+    @Nullable
+    private final TimingWheel timingWheel;
+    private final WorkerPool io;
+    private final WorkerPool cpu;
+    private final WorkerPool events;
+    /**
+     * The amount of rejected tasks of each pool at the last report, only accessed by the report
+     * task.
+     */
+    private final long[] reportedRejections = new long[3];
 
     public AbstractJavaScheduler(final DirtCoreBootstrap bootstrap) {
         this.bootstrap = bootstrap;
-        this.scheduler = new ScheduledThreadPoolExecutor(1, r -> {
+
+        final ExceptionHandler exceptionHandler = new ExceptionHandler();
+        final Logger logger = bootstrap.getLogger();
+
+        this.io = (Boolean.getBoolean(VIRTUAL_THREADS_PROPERTY) ? WorkerPool.virtual("io")
+                : Optional.<WorkerPool>empty()).orElseGet(
+                () -> WorkerPool.bounded("io", IO_THREADS, QUEUE_CAPACITY, logger,
+                        exceptionHandler));
+        this.cpu = WorkerPool.bounded("cpu", Runtime.getRuntime().availableProcessors(),
+                QUEUE_CAPACITY, logger, exceptionHandler);
+        this.events = WorkerPool.bounded("events", EVENT_THREADS, QUEUE_CAPACITY, logger,
+                exceptionHandler);
+
+        final ThreadFactory schedulerThreadFactory = r -> {
             final Thread thread = Executors.defaultThreadFactory().newThread(r);
             thread.setName("dirtcore-scheduler");
             return thread;
-        });
-        this.scheduler.setRemoveOnCancelPolicy(true);
-        this.scheduler.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
-        this.worker =
-                new ForkJoinPool(PARALLELISM, new WorkerThreadFactory(), new ExceptionHandler(),
-                        false);
+        };
+
+        if (Boolean.getBoolean(TIMING_WHEEL_PROPERTY)) {
+            this.scheduler = null;
+            this.timingWheel = new TimingWheel(this.io, logger, TIMING_WHEEL_TICK_MILLIS,
+                    TimeUnit.MILLISECONDS, schedulerThreadFactory);
+        } else {
+            this.scheduler = new ScheduledThreadPoolExecutor(1, schedulerThreadFactory);
+            this.scheduler.setRemoveOnCancelPolicy(true);
+            this.scheduler.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+            this.timingWheel = null;
+        }
+
+        this.asyncRepeating(this::reportWorkerPools, METRICS_INTERVAL_MINUTES, TimeUnit.MINUTES);
     }
 
     @Override
@@ -141,31 +192,59 @@ public abstract class AbstractJavaScheduler implements SchedulerAdapter {
 
     @Override
     public Executor async() {
-        return this.worker;
+        return this.io;
+    }
+
+    @Override
+    public Executor cpu() {
+        return this.cpu;
+    }
+
+    @Override
+    public Executor events() {
+        return this.events;
+    }
+
+    @Override
+    public List<WorkerPool> getWorkerPools() {
+        return Collections.unmodifiableList(Arrays.asList(this.io, this.cpu, this.events));
     }
 
     @Override
     public SchedulerTask asyncLater(final Runnable task, final long delay, final TimeUnit unit) {
+        if (this.timingWheel != null) {
+            return this.timingWheel.schedule(task, delay, unit);
+        }
+
         final ScheduledFuture<?> future =
-                this.scheduler.schedule(() -> this.worker.execute(task), delay, unit);
+                this.scheduler.schedule(() -> this.io.execute(task), delay, unit);
         return () -> future.cancel(false);
     }
 
     @Override
     public SchedulerTask asyncRepeating(final Runnable task, final long interval,
             final TimeUnit unit) {
+        if (this.timingWheel != null) {
+            return this.timingWheel.scheduleAtFixedRate(task, interval, unit);
+        }
+
         final ScheduledFuture<?> future =
-                this.scheduler.scheduleAtFixedRate(() -> this.worker.execute(task), interval,
+                this.scheduler.scheduleAtFixedRate(() -> this.io.execute(task), interval,
                         interval, unit);
         return () -> future.cancel(false);
     }
 
     @Override
     public void shutdownScheduler() {
-        this.scheduler.shutdown();
+        if (this.timingWheel != null) {
+            this.timingWheel.shutdown();
+        } else {
+            this.scheduler.shutdown();
+        }
 
         try {
-            if (!this.scheduler.awaitTermination(1, TimeUnit.MINUTES)) {
+            if (this.timingWheel != null ? !this.timingWheel.awaitTermination(1, TimeUnit.MINUTES)
+                    : !this.scheduler.awaitTermination(1, TimeUnit.MINUTES)) {
                 this.bootstrap.getLogger()
                         .severe("Timed out waiting for the DirtCore scheduler to terminate");
                 this.reportRunningTasks(thread -> thread.getName().equals("dirtcore-scheduler"));
@@ -178,18 +257,45 @@ public abstract class AbstractJavaScheduler implements SchedulerAdapter {
 
     @Override
     public void shutdownExecutor() {
-        this.worker.shutdown();
+        final List<WorkerPool> pools = this.getWorkerPools();
 
-        try {
-            if (!this.worker.awaitTermination(1, TimeUnit.MINUTES)) {
+        pools.forEach(WorkerPool::shutdown);
+
+        for (final WorkerPool pool : pools) {
+            final String prefix = "dirtcore-" + pool.getName() + '-';
+
+            try {
+                if (!pool.awaitTermination(1, TimeUnit.MINUTES)) {
+                    this.bootstrap.getLogger()
+                            .severe("Timed out waiting for the DirtCore " + pool.getName()
+                                    + " worker pool to terminate");
+                    this.reportRunningTasks(thread -> thread.getName().startsWith(prefix));
+                }
+            } catch (final InterruptedException e) {
                 this.bootstrap.getLogger()
-                        .severe("Timed out waiting for the DirtCore worker thread pool to "
-                                + "terminate");
-                this.reportRunningTasks(thread -> thread.getName().startsWith("dirtcore-worker-"));
+                        .severe("Caught exception while trying to shut down executor.", e);
             }
-        } catch (final InterruptedException e) {
-            this.bootstrap.getLogger()
-                    .severe("Caught exception while trying to shut down executor.", e);
+
+            this.bootstrap.getLogger().info("Worker pool " + pool.getMetrics());
+        }
+    }
+
+    /**
+     * Logs the metrics of each pool, which has tasks in its overflow queue or rejected tasks since
+     * the last report.
+     */
+    private void reportWorkerPools() {
+        final List<WorkerPool> pools = this.getWorkerPools();
+
+        for (int i = 0; i < pools.size(); i++) {
+            final WorkerPool.Metrics metrics = pools.get(i).getMetrics();
+            final long rejected = metrics.getRejected();
+
+            if (metrics.getOverflowQueued() > 0 || rejected > this.reportedRejections[i]) {
+                this.bootstrap.getLogger().warn("Worker pool " + metrics);
+            }
+
+            this.reportedRejections[i] = rejected;
         }
     }
 
@@ -252,20 +358,6 @@ public abstract class AbstractJavaScheduler implements SchedulerAdapter {
         });
     }
 
-    private static final class WorkerThreadFactory implements ForkJoinPool.ForkJoinWorkerThreadFactory {
-
-        private static final AtomicInteger COUNT = new AtomicInteger(0);
-
-        @Override
-        public ForkJoinWorkerThread newThread(final ForkJoinPool pool) {
-            final ForkJoinWorkerThread thread =
-                    ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
-            thread.setDaemon(true);
-            thread.setName("dirtcore-worker-" + COUNT.getAndIncrement());
-            return thread;
-        }
-    }
-
     private final class ExceptionHandler implements UncaughtExceptionHandler {
 
         @Override
@@ -27,6 +27,7 @@
 package net.dirtcraft.dirtcore.common.scheduler;
 
 import java.util.Comparator;
+import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
@@ -125,12 +126,33 @@ public interface SchedulerAdapter {
     void executeRemainingSyncTasks();
 
     /**
-     * Gets an async executor instance.
+     * Gets the async executor for blocking work, e.g. database and network I/O.
      *
      * @return an async executor instance
      */
     Executor async();
 
+    /**
+     * Gets the async executor for computations, which do not block.
+     *
+     * @return an async executor instance
+     */
+    Executor cpu();
+
+    /**
+     * Gets the async executor for dispatching events.
+     *
+     * @return an async executor instance
+     */
+    Executor events();
+
+    /**
+     * Gets the instrumented pools backing the async executors.
+     *
+     * @return the worker pools
+     */
+    List<WorkerPool> getWorkerPools();
+
     /**
      * Executes the given task with a delay.
      *
@@ -162,7 +184,8 @@ public interface SchedulerAdapter {
     /**
      * Shuts down the executor instance.
      *
-     * <p>{@link #async()} and {@link #executeAsync(Runnable)}.</p>
+     * <p>{@link #async()}, {@link #cpu()}, {@link #events()} and
+     * {@link #executeAsync(Runnable)}.</p>
      */
     void shutdownExecutor();
 
@@ -26,6 +26,9 @@
 
 package net.dirtcraft.dirtcore.common.scheduler;
 
+import java.util.concurrent.TimeUnit;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
 /**
  * Represents a scheduled task
  */
@@ -35,4 +38,19 @@ public interface SchedulerTask {
      * Cancels the task.
      */
     void cancel();
+
+    /**
+     * Postpones the execution of the task to the given delay from now.
+     * <p>
+     * The execution is never moved forward. Repeating tasks continue at their interval
+     * afterwards.
+     *
+     * @param delay the delay
+     * @param unit  the unit of the delay
+     * @return true, if the task was postponed, or false, if it already ran, was cancelled or
+     *         the scheduler does not support postponing tasks
+     */
+    default boolean extend(final long delay, @NonNull final TimeUnit unit) {
+        return false;
+    }
 }
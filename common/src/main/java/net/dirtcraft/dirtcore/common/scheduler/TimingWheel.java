@@ -0,0 +1,339 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Marc Beckhaeuser (AlphaConqueror) <marcbeckhaeuser@gmail.com>
+ *
+ * Created for 'DirtCraft'.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package net.dirtcraft.dirtcore.common.scheduler;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import net.dirtcraft.dirtcore.common.logging.Logger;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * A hierarchical timing wheel dispatching delayed and repeating tasks to an executor.
+ * <p>
+ * Tasks are bucketed by their deadline into wheels of {@value #WHEEL_SIZE} slots, each level
+ * spanning {@value #WHEEL_SIZE} times the range of the level below, and cascade down as their
+ * deadline approaches. Scheduling and cancelling take constant time, cancelled tasks are dropped
+ * once their slot is reached. {@link SchedulerTask#extend(long, TimeUnit) Extending} a task only
+ * updates its deadline, the task moves to the matching slot once its previous slot is reached.
+ * <p>
+ * Tasks are dispatched with a precision of one tick. The executor must never run a task on the
+ * calling thread, since it would stall the timer thread.
+ */
+public final class TimingWheel {
+
+    private static final int WHEEL_BITS = 6;
+    private static final int WHEEL_SIZE = 1 << WHEEL_BITS;
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+    private static final int LEVELS = 4;
+    /**
+     * The deadline of a task, which has been dispatched and does not repeat.
+     */
+    private static final long FIRED = -1L;
+    private static final long CANCELLED = -2L;
+
+    @NonNull
+    private final Executor executor;
+    @NonNull
+    private final Logger logger;
+    private final long tickNanos;
+    private final long start = System.nanoTime();
+    /**
+     * The first entry of each slot by level, only accessed by the timer thread.
+     */
+    private final Entry[][] slots = new Entry[LEVELS][WHEEL_SIZE];
+    /**
+     * Entries scheduled since the last tick.
+     */
+    private final Queue<Entry> pending = new ConcurrentLinkedQueue<>();
+    @NonNull
+    private final Thread thread;
+    private volatile boolean running = true;
+    /**
+     * The current tick, only accessed by the timer thread.
+     */
+    private long tick;
+
+    /**
+     * Creates and starts a timing wheel.
+     *
+     * @param executor      the executor the tasks are dispatched to
+     * @param logger        the logger dispatch failures are reported to
+     * @param tickDuration  the duration of a tick
+     * @param unit          the unit of the duration
+     * @param threadFactory the factory of the timer thread
+     */
+    public TimingWheel(@NonNull final Executor executor, @NonNull final Logger logger,
+            final long tickDuration, @NonNull final TimeUnit unit,
+            @NonNull final ThreadFactory threadFactory) {
+        if (tickDuration <= 0L) {
+            throw new IllegalArgumentException("Tick duration must be positive");
+        }
+
+        this.executor = executor;
+        this.logger = logger;
+        this.tickNanos = unit.toNanos(tickDuration);
+        this.thread = threadFactory.newThread(this::run);
+        this.thread.start();
+    }
+
+    /**
+     * Schedules a task to be dispatched after a delay.
+     *
+     * @param task  the task
+     * @param delay the delay
+     * @param unit  the unit of the delay
+     * @return the scheduled task
+     * @throws RejectedExecutionException if the wheel has been shut down
+     */
+    @NonNull
+    public SchedulerTask schedule(@NonNull final Runnable task, final long delay,
+            @NonNull final TimeUnit unit) {
+        return this.submit(task, unit.toNanos(delay), 0L);
+    }
+
+    /**
+     * Schedules a task to be dispatched repeatedly at a fixed rate.
+     *
+     * @param task     the task
+     * @param interval the interval, which is also the initial delay
+     * @param unit     the unit of the interval
+     * @return the scheduled task
+     * @throws RejectedExecutionException if the wheel has been shut down
+     */
+    @NonNull
+    public SchedulerTask scheduleAtFixedRate(@NonNull final Runnable task, final long interval,
+            @NonNull final TimeUnit unit) {
+        final long period = unit.toNanos(interval);
+
+        if (period <= 0L) {
+            throw new IllegalArgumentException("Interval must be positive");
+        }
+
+        return this.submit(task, period, period);
+    }
+
+    /**
+     * Stops the timer thread, tasks which have not been dispatched yet are dropped.
+     */
+    public void shutdown() {
+        this.running = false;
+        LockSupport.unpark(this.thread);
+    }
+
+    public boolean awaitTermination(final long timeout, @NonNull final TimeUnit unit)
+            throws InterruptedException {
+        this.thread.join(Math.max(unit.toMillis(timeout), 1L));
+        return !this.thread.isAlive();
+    }
+
+    private long now() {
+        return System.nanoTime() - this.start;
+    }
+
+    private Entry submit(final Runnable task, final long delay, final long period) {
+        if (!this.running) {
+            throw new RejectedExecutionException("Timing wheel has been shut down");
+        }
+
+        final Entry entry = new Entry(task, this.now() + Math.max(delay, 0L), period);
+
+        this.pending.add(entry);
+        return entry;
+    }
+
+    private void run() {
+        while (this.running) {
+            final long next = (this.tick + 1L) * this.tickNanos;
+            long remaining;
+
+            // catches up without sleeping, if the thread fell behind
+            while ((remaining = next - this.now()) > 0L) {
+                LockSupport.parkNanos(this, remaining);
+
+                if (!this.running) {
+                    return;
+                }
+            }
+
+            this.tick++;
+            this.advance();
+        }
+    }
+
+    private void advance() {
+        Entry entry;
+
+        while ((entry = this.pending.poll()) != null) {
+            this.place(entry);
+        }
+
+        // cascade the higher levels first, so entries due this tick reach the lowest level
+        for (int level = LEVELS - 1; level > 0; level--) {
+            final int shift = WHEEL_BITS * level;
+
+            if ((this.tick & (1L << shift) - 1L) == 0L) {
+                this.drain(level, (int) (this.tick >>> shift) & WHEEL_MASK);
+            }
+        }
+
+        this.drain(0, (int) this.tick & WHEEL_MASK);
+    }
+
+    private void drain(final int level, final int slot) {
+        Entry entry = this.slots[level][slot];
+
+        this.slots[level][slot] = null;
+
+        while (entry != null) {
+            final Entry next = entry.next;
+
+            entry.next = null;
+            this.place(entry);
+            entry = next;
+        }
+    }
+
+    /**
+     * Dispatches the entry, if it is due, or inserts it into the slot of its deadline.
+     *
+     * @param entry the entry
+     */
+    private void place(final Entry entry) {
+        final long now = this.tick * this.tickNanos;
+
+        while (true) {
+            final long deadline = entry.deadline.get();
+
+            if (deadline < 0L) {
+                return;
+            }
+
+            if (deadline > now) {
+                this.insert(entry, deadline);
+                return;
+            }
+
+            if (entry.deadline.compareAndSet(deadline,
+                    entry.period > 0L ? deadline + entry.period : FIRED)) {
+                this.dispatch(entry.task);
+
+                if (entry.period == 0L) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private void insert(final Entry entry, final long deadline) {
+        final long deadlineTick = (deadline + this.tickNanos - 1L) / this.tickNanos;
+        final long remaining = deadlineTick - this.tick;
+        int level = 0;
+
+        while (level < LEVELS - 1 && remaining >= 1L << WHEEL_BITS * (level + 1)) {
+            level++;
+        }
+
+        final int shift = WHEEL_BITS * level;
+        // beyond the range of the highest level, revisit the entry after a full rotation
+        final int slot = remaining >= 1L << shift + WHEEL_BITS
+                ? (int) (this.tick >>> shift) & WHEEL_MASK
+                : (int) (deadlineTick >>> shift) & WHEEL_MASK;
+
+        entry.next = this.slots[level][slot];
+        this.slots[level][slot] = entry;
+    }
+
+    /**
+     * Hands the task to the executor. Failures are only logged, so they can neither stop the
+     * timer thread nor drop the remaining entries of the slot being drained.
+     *
+     * @param task the task
+     */
+    private void dispatch(final Runnable task) {
+        try {
+            this.executor.execute(task);
+        } catch (final RejectedExecutionException e) {
+            if (this.running) {
+                this.logger.severe("Timing wheel failed to dispatch a task", e);
+            }
+        } catch (final Throwable t) {
+            this.logger.severe("Timing wheel failed to dispatch a task", t);
+        }
+    }
+
+    private final class Entry implements SchedulerTask {
+
+        private final Runnable task;
+        private final long period;
+        /**
+         * The deadline relative to the start of the wheel, {@link TimingWheel#FIRED} or
+         * {@link TimingWheel#CANCELLED}.
+         */
+        private final AtomicLong deadline;
+        /**
+         * The next entry in the same slot, only accessed by the timer thread.
+         */
+        private Entry next;
+
+        private Entry(final Runnable task, final long deadline, final long period) {
+            this.task = task;
+            this.period = period;
+            this.deadline = new AtomicLong(deadline);
+        }
+
+        @Override
+        public void cancel() {
+            long deadline;
+
+            do {
+                deadline = this.deadline.get();
+            } while (deadline >= 0L && !this.deadline.compareAndSet(deadline, CANCELLED));
+        }
+
+        @Override
+        public boolean extend(final long delay, @NonNull final TimeUnit unit) {
+            final long extended = TimingWheel.this.now() + unit.toNanos(delay);
+            long deadline;
+
+            do {
+                deadline = this.deadline.get();
+
+                if (deadline < 0L) {
+                    return false;
+                }
+            } while (deadline < extended && !this.deadline.compareAndSet(deadline, extended));
+
+            return true;
+        }
+    }
+}
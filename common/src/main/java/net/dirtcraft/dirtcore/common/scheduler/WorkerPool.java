@@ -0,0 +1,467 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Marc Beckhaeuser (AlphaConqueror) <marcbeckhaeuser@gmail.com>
+ *
+ * Created for 'DirtCraft'.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package net.dirtcraft.dirtcore.common.scheduler;
+
+import java.lang.Thread.UncaughtExceptionHandler;
+import java.lang.reflect.Method;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import net.dirtcraft.dirtcore.common.logging.Logger;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A named, instrumented executor.
+ * <p>
+ * Records the amount of submitted, running, queued, overflowed and rejected tasks and a histogram
+ * of the task latency, i.e. the time from submission until the task completed.
+ * <p>
+ * Tasks are never run on the submitting thread, which may be the server or timer thread. Tasks
+ * submitted while the queue of a bounded pool is full are kept in an overflow queue of the same
+ * capacity, which the workers drain as the queue empties. Tasks are rejected with a
+ * {@link RejectedExecutionException} once the overflow queue is full as well or the pool has been
+ * shut down. Tasks left in the overflow queue on {@link #shutdown()} are run by the caller.
+ */
+public final class WorkerPool implements Executor {
+
+    /**
+     * The upper bounds of the latency histogram buckets in milliseconds, followed by one bucket
+     * for all greater latencies.
+     */
+    private static final long[] LATENCY_BUCKETS = {1L, 5L, 10L, 50L, 100L, 500L, 1000L, 5000L};
+
+    @NonNull
+    private final String name;
+    @NonNull
+    private final ExecutorService executor;
+    @Nullable
+    private final ThreadPoolExecutor threadPool;
+    private final AtomicInteger active = new AtomicInteger();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder overflowed = new LongAdder();
+    private final Queue<Runnable> overflow = new ConcurrentLinkedQueue<>();
+    /**
+     * The size of {@link #overflow}, tracked separately as the size of the queue is not constant
+     * time.
+     */
+    private final AtomicInteger overflowSize = new AtomicInteger();
+    private final int overflowCapacity;
+    private final AtomicBoolean overflowing = new AtomicBoolean();
+    private final AtomicBoolean rejecting = new AtomicBoolean();
+    private final LongAdder latencyNanos = new LongAdder();
+    private final AtomicLong maxLatencyNanos = new AtomicLong();
+    private final LongAdder[] latency = new LongAdder[LATENCY_BUCKETS.length + 1];
+
+    @Nullable
+    private final Logger logger;
+
+    private WorkerPool(@NonNull final String name, @NonNull final ExecutorService executor) {
+        this.name = name;
+        this.executor = executor;
+        this.threadPool = null;
+        this.overflowCapacity = 0;
+        this.logger = null;
+        this.initLatency();
+    }
+
+    private WorkerPool(@NonNull final String name, final int threads, final int queueCapacity,
+            @NonNull final Logger logger,
+            @NonNull final UncaughtExceptionHandler exceptionHandler) {
+        final AtomicInteger count = new AtomicInteger();
+        final ThreadFactory threadFactory = runnable -> {
+            final Thread thread = Executors.defaultThreadFactory().newThread(runnable);
+            thread.setDaemon(true);
+            thread.setName("dirtcore-" + name + '-' + count.getAndIncrement());
+            thread.setUncaughtExceptionHandler(exceptionHandler);
+            return thread;
+        };
+
+        this.name = name;
+        this.logger = logger;
+        this.overflowCapacity = queueCapacity;
+        this.threadPool = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), threadFactory, this::overflow) {
+
+            @Override
+            protected void afterExecute(final Runnable runnable, final Throwable throwable) {
+                WorkerPool.this.drainOverflow();
+            }
+        };
+        this.threadPool.allowCoreThreadTimeOut(true);
+        this.executor = this.threadPool;
+        this.initLatency();
+    }
+
+    /**
+     * Creates a pool with a fixed amount of threads and a bounded queue.
+     * <p>
+     * Tasks submitted while the queue is full are kept in the overflow queue and a warning is
+     * logged, once per saturation. Tasks submitted while the overflow queue is full as well are
+     * rejected.
+     *
+     * @param name             the name, threads are named {@code dirtcore-<name>-<index>}
+     * @param threads          the amount of threads
+     * @param queueCapacity    the capacity of the queue and of the overflow queue
+     * @param logger           the logger for saturation warnings
+     * @param exceptionHandler the handler of exceptions thrown by tasks
+     * @return the pool
+     */
+    @NonNull
+    public static WorkerPool bounded(@NonNull final String name, final int threads,
+            final int queueCapacity, @NonNull final Logger logger,
+            @NonNull final UncaughtExceptionHandler exceptionHandler) {
+        return new WorkerPool(name, threads, queueCapacity, logger, exceptionHandler);
+    }
+
+    /**
+     * Creates a pool starting a virtual thread per task, if the runtime supports them.
+     *
+     * @param name the name
+     * @return the pool or empty, if virtual threads are not supported
+     */
+    @NonNull
+    public static Optional<WorkerPool> virtual(@NonNull final String name) {
+        try {
+            final Method method = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return Optional.of(new WorkerPool(name, (ExecutorService) method.invoke(null)));
+        } catch (final ReflectiveOperationException e) {
+            return Optional.empty();
+        }
+    }
+
+    private void initLatency() {
+        for (int i = 0; i < this.latency.length; i++) {
+            this.latency[i] = new LongAdder();
+        }
+    }
+
+    @NonNull
+    public String getName() {
+        return this.name;
+    }
+
+    @Override
+    public void execute(@NonNull final Runnable task) {
+        final long submitted = System.nanoTime();
+
+        this.executor.execute(() -> {
+            this.active.incrementAndGet();
+
+            try {
+                task.run();
+            } finally {
+                this.active.decrementAndGet();
+                this.record(System.nanoTime() - submitted);
+            }
+        });
+    }
+
+    private void overflow(final Runnable task, final ThreadPoolExecutor executor) {
+        if (executor.isShutdown()) {
+            this.rejected.increment();
+            throw new RejectedExecutionException(
+                    "Worker pool " + this.name + " has been shut down");
+        }
+
+        if (this.overflowSize.incrementAndGet() > this.overflowCapacity) {
+            this.overflowSize.decrementAndGet();
+            this.rejected.increment();
+
+            if (this.rejecting.compareAndSet(false, true) && this.logger != null) {
+                this.logger.severe("Worker pool {} is saturated, rejecting tasks: {}", this.name,
+                        this.getMetrics());
+            }
+
+            throw new RejectedExecutionException(
+                    "Worker pool " + this.name + " and its overflow queue are full");
+        }
+
+        this.overflow.add(task);
+        this.overflowed.increment();
+
+        if (this.overflowing.compareAndSet(false, true) && this.logger != null) {
+            this.logger.warn("Worker pool {} is saturated, queueing tasks in its overflow queue",
+                    this.name);
+        }
+
+        // the queue may have been emptied meanwhile
+        this.drainOverflow();
+    }
+
+    /**
+     * Moves tasks from the overflow queue into the queue of the pool, while it has capacity.
+     */
+    private void drainOverflow() {
+        final ThreadPoolExecutor threadPool = this.threadPool;
+
+        if (threadPool == null || this.overflow.isEmpty()) {
+            return;
+        }
+
+        Runnable task;
+
+        while ((task = this.overflow.poll()) != null) {
+            if (!threadPool.getQueue().offer(task)) {
+                this.overflow.add(task);
+                return;
+            }
+
+            this.overflowSize.decrementAndGet();
+        }
+
+        this.overflowing.set(false);
+        this.rejecting.set(false);
+    }
+
+    private void record(final long nanos) {
+        final long millis = TimeUnit.NANOSECONDS.toMillis(nanos);
+        int bucket = 0;
+
+        while (bucket < LATENCY_BUCKETS.length && millis > LATENCY_BUCKETS[bucket]) {
+            bucket++;
+        }
+
+        this.latency[bucket].increment();
+        this.completed.increment();
+        this.latencyNanos.add(nanos);
+        this.maxLatencyNanos.accumulateAndGet(nanos, Math::max);
+    }
+
+    /**
+     * Shuts the pool down, queued tasks are still run by the workers and tasks left in the
+     * overflow queue are run by the calling thread.
+     */
+    public void shutdown() {
+        this.executor.shutdown();
+
+        int ran = 0;
+        Runnable task;
+
+        while ((task = this.overflow.poll()) != null) {
+            this.overflowSize.decrementAndGet();
+            ran++;
+
+            try {
+                task.run();
+            } catch (final Throwable t) {
+                if (this.logger != null) {
+                    this.logger.severe("Caught exception while running overflowed task.", t);
+                }
+            }
+        }
+
+        if (ran > 0 && this.logger != null) {
+            this.logger.info("Ran {} overflowed tasks of worker pool {} on shutdown.", ran,
+                    this.name);
+        }
+    }
+
+    public boolean awaitTermination(final long timeout, @NonNull final TimeUnit unit)
+            throws InterruptedException {
+        return this.executor.awaitTermination(timeout, unit);
+    }
+
+    /**
+     * Gets a snapshot of the metrics of the pool.
+     *
+     * @return the metrics
+     */
+    @NonNull
+    public Metrics getMetrics() {
+        final long completed = this.completed.sum();
+        final long[] latency = new long[this.latency.length];
+
+        for (int i = 0; i < latency.length; i++) {
+            latency[i] = this.latency[i].sum();
+        }
+
+        return new Metrics(this.name,
+                this.threadPool == null ? -1 : this.threadPool.getPoolSize(),
+                this.active.get(),
+                (this.threadPool == null ? 0 : this.threadPool.getQueue().size())
+                        + this.overflowSize.get(), this.overflowSize.get(), completed,
+                this.overflowed.sum(),
+                this.rejected.sum(), completed == 0L ? 0L
+                : TimeUnit.NANOSECONDS.toMillis(this.latencyNanos.sum() / completed),
+                TimeUnit.NANOSECONDS.toMillis(this.maxLatencyNanos.get()), latency);
+    }
+
+    /**
+     * A snapshot of the metrics of a pool.
+     */
+    public static final class Metrics {
+
+        private final String name;
+        private final int threads;
+        private final int active;
+        private final int queued;
+        private final int overflowQueued;
+        private final long completed;
+        private final long overflowed;
+        private final long rejected;
+        private final long averageLatencyMillis;
+        private final long maxLatencyMillis;
+        private final long[] latency;
+
+        private Metrics(final String name, final int threads, final int active, final int queued,
+                final int overflowQueued, final long completed, final long overflowed,
+                final long rejected,
+                final long averageLatencyMillis, final long maxLatencyMillis,
+                final long[] latency) {
+            this.name = name;
+            this.threads = threads;
+            this.active = active;
+            this.queued = queued;
+            this.overflowQueued = overflowQueued;
+            this.completed = completed;
+            this.overflowed = overflowed;
+            this.rejected = rejected;
+            this.averageLatencyMillis = averageLatencyMillis;
+            this.maxLatencyMillis = maxLatencyMillis;
+            this.latency = latency;
+        }
+
+        public String getName() {
+            return this.name;
+        }
+
+        /**
+         * Gets the amount of live threads.
+         *
+         * @return the amount of threads or -1, if the pool uses virtual threads
+         */
+        public int getThreads() {
+            return this.threads;
+        }
+
+        public int getActive() {
+            return this.active;
+        }
+
+        /**
+         * Gets the amount of queued tasks, including the ones in the overflow queue.
+         *
+         * @return the amount of queued tasks
+         */
+        public int getQueued() {
+            return this.queued;
+        }
+
+        /**
+         * Gets the amount of tasks in the overflow queue.
+         *
+         * @return the amount of overflow queued tasks
+         */
+        public int getOverflowQueued() {
+            return this.overflowQueued;
+        }
+
+        public long getCompleted() {
+            return this.completed;
+        }
+
+        /**
+         * Gets the amount of tasks, which were submitted while the queue was full.
+         *
+         * @return the amount of overflowed tasks
+         */
+        public long getOverflowed() {
+            return this.overflowed;
+        }
+
+        /**
+         * Gets the amount of tasks, which were submitted while the overflow queue was full or
+         * after the pool had been shut down.
+         *
+         * @return the amount of rejected tasks
+         */
+        public long getRejected() {
+            return this.rejected;
+        }
+
+        public long getAverageLatencyMillis() {
+            return this.averageLatencyMillis;
+        }
+
+        public long getMaxLatencyMillis() {
+            return this.maxLatencyMillis;
+        }
+
+        /**
+         * Gets the amount of completed tasks per latency bucket.
+         *
+         * @param upperBoundMillis the upper bound of the bucket in milliseconds
+         * @return the amount of tasks completed within the upper bound, but not within the
+         *         upper bound of the previous bucket
+         */
+        public long getLatencyCount(final long upperBoundMillis) {
+            for (int i = 0; i < LATENCY_BUCKETS.length; i++) {
+                if (upperBoundMillis <= LATENCY_BUCKETS[i]) {
+                    return this.latency[i];
+                }
+            }
+
+            return this.latency[LATENCY_BUCKETS.length];
+        }
+
+        @Override
+        public String toString() {
+            final StringBuilder builder = new StringBuilder(this.name).append(": threads=")
+                    .append(this.threads).append(", active=").append(this.active)
+                    .append(", queued=").append(this.queued).append(", overflowQueued=")
+                    .append(this.overflowQueued).append(", completed=")
+                    .append(this.completed).append(", overflowed=").append(this.overflowed)
+                    .append(", rejected=").append(this.rejected)
+                    .append(", averageLatency=").append(this.averageLatencyMillis)
+                    .append("ms, maxLatency=").append(this.maxLatencyMillis)
+                    .append("ms, latency=[");
+
+            for (int i = 0; i < LATENCY_BUCKETS.length; i++) {
+                builder.append("<=").append(LATENCY_BUCKETS[i]).append("ms: ")
+                        .append(this.latency[i]).append(", ");
+            }
+
+            return builder.append('>').append(LATENCY_BUCKETS[LATENCY_BUCKETS.length - 1])
+                    .append("ms: ").append(this.latency[LATENCY_BUCKETS.length]).append(']')
+                    .toString();
+        }
+    }
+}
@@ -35,6 +35,8 @@ import net.dirtcraft.dirtcore.common.util.Throwing;
 import net.dirtcraft.storageutils.storage.HibernateStorage;
 import net.dirtcraft.storageutils.storage.implementation.HibernateStorageImplementation;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.hibernate.FlushMode;
+import org.hibernate.Session;
 import org.jetbrains.annotations.CheckReturnValue;
 
 public class DirtCoreStorage extends HibernateStorage<DirtCoreTaskContext> {
@@ -69,6 +71,48 @@ public class DirtCoreStorage extends HibernateStorage<DirtCoreTaskContext> {
         return this.future(() -> this.implementation.performTask(task));
     }
 
+    /**
+     * Performs a read-only result task on the database.
+     * <p>
+     * The session is switched to read-only with a manual flush mode for the duration of the
+     * task, so loaded entities are neither snapshotted nor dirty-checked and the session is
+     * never flushed. Entities returned by the task must not be modified; prefer projecting
+     * into plain objects, e.g. {@code select new ...}, where only a few columns are needed.
+     *
+     * @param task the result task
+     * @return the result of the task
+     */
+    public <R> R performReadTask(@NonNull final ReadTask<R> task) {
+        return this.implementation.performTask(context -> {
+            final Session session = context.session();
+            final FlushMode flushMode = session.getHibernateFlushMode();
+            final boolean readOnly = session.isDefaultReadOnly();
+
+            session.setDefaultReadOnly(true);
+            session.setHibernateFlushMode(FlushMode.MANUAL);
+
+            try {
+                return task.read(context);
+            } finally {
+                session.setHibernateFlushMode(flushMode);
+                session.setDefaultReadOnly(readOnly);
+            }
+        });
+    }
+
+    /**
+     * Performs a read-only result task on the database asynchronously.
+     *
+     * @param task the result task
+     * @return a completable future of the task
+     * @see #performReadTask(ReadTask)
+     */
+    @CheckReturnValue
+    public <R> @NonNull CompletableFuture<R> performReadTaskAsync(
+            @NonNull final ReadTask<R> task) {
+        return this.future(() -> this.performReadTask(task));
+    }
+
     private <T> CompletableFuture<T> future(final Callable<T> supplier) {
         return CompletableFuture.supplyAsync(() -> {
             try {
@@ -96,4 +140,15 @@ public class DirtCoreStorage extends HibernateStorage<DirtCoreTaskContext> {
             }
         }, this.plugin.getBootstrap().getScheduler().async());
     }
+
+    /**
+     * A task which only reads from the database.
+     *
+     * @param <R> the type of the result
+     */
+    @FunctionalInterface
+    public interface ReadTask<R> {
+
+        R read(@NonNull DirtCoreTaskContext context);
+    }
 }
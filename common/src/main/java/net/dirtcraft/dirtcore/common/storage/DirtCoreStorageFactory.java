@@ -32,6 +32,7 @@ import net.dirtcraft.dirtcore.common.config.ConfigKeys;
 import net.dirtcraft.dirtcore.common.plugin.DirtCorePlugin;
 import net.dirtcraft.dirtcore.common.storage.connection.DirtCoreHibernateConnectionFactory;
 import net.dirtcraft.dirtcore.common.storage.context.DirtCoreTaskContext;
+import net.dirtcraft.dirtcore.common.tasks.ChangeLogListener;
 import net.dirtcraft.storageutils.StorageType;
 import net.dirtcraft.storageutils.storage.implementation.HibernateStorageImplementation;
 import net.dirtcraft.storageutils.storagefactory.AbstractStorageFactory;
@@ -66,6 +67,8 @@ public class DirtCoreStorageFactory extends AbstractStorageFactory<DirtCoreStora
             final StorageType storageType) {
         return new DirtCoreHibernateStorage(this.plugin,
                 new DirtCoreHibernateConnectionFactory(this.plugin.getLogger(), storageType,
-                        this.plugin.getConfiguration().get(ConfigKeys.DATABASE_VALUES)));
+                        this.plugin.getConfiguration().get(ConfigKeys.DATABASE_VALUES),
+                        this.plugin.getConnectionPool(), this.plugin.getCacheRegionFactory(),
+                        new ChangeLogListener(this.plugin)));
     }
 }
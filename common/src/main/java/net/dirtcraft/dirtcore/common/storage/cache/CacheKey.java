@@ -0,0 +1,86 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Marc Beckhaeuser (AlphaConqueror) <marcbeckhaeuser@gmail.com>
+ *
+ * Created for 'DirtCraft'.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package net.dirtcraft.dirtcore.common.storage.cache;
+
+import java.io.Serializable;
+import java.util.Objects;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * The key of an entity or collection in a {@link CaffeineRegion}.
+ */
+final class CacheKey implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @NonNull
+    private final String type;
+    @NonNull
+    private final Object id;
+    @Nullable
+    private final String tenantIdentifier;
+    private final int hashCode;
+
+    CacheKey(@NonNull final String type, @NonNull final Object id,
+            @Nullable final String tenantIdentifier) {
+        this.type = type;
+        this.id = id;
+        this.tenantIdentifier = tenantIdentifier;
+        this.hashCode = Objects.hash(type, id, tenantIdentifier);
+    }
+
+    @NonNull
+    Object getId() {
+        return this.id;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+
+        if (!(o instanceof CacheKey)) {
+            return false;
+        }
+
+        final CacheKey other = (CacheKey) o;
+        return this.type.equals(other.type) && this.id.equals(other.id) && Objects.equals(
+                this.tenantIdentifier, other.tenantIdentifier);
+    }
+
+    @Override
+    public int hashCode() {
+        return this.hashCode;
+    }
+
+    @Override
+    public String toString() {
+        return this.type + "#" + this.id;
+    }
+}
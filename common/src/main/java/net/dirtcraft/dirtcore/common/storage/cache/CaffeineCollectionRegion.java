@@ -0,0 +1,96 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Marc Beckhaeuser (AlphaConqueror) <marcbeckhaeuser@gmail.com>
+ *
+ * Created for 'DirtCraft'.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package net.dirtcraft.dirtcore.common.storage.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.hibernate.cache.CacheException;
+import org.hibernate.cache.spi.CacheDataDescription;
+import org.hibernate.cache.spi.CollectionRegion;
+import org.hibernate.cache.spi.access.AccessType;
+import org.hibernate.cache.spi.access.CollectionRegionAccessStrategy;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.collection.CollectionPersister;
+
+/**
+ * A region holding the identifiers of the elements of collections.
+ */
+public class CaffeineCollectionRegion extends CaffeineRegion implements CollectionRegion {
+
+    @NonNull
+    private final CacheDataDescription metadata;
+
+    public CaffeineCollectionRegion(@NonNull final CaffeineRegionFactory factory,
+            @NonNull final String name, @NonNull final CacheDataDescription metadata,
+            @NonNull final Cache<Object, Object> cache) {
+        super(factory, name, cache);
+        this.metadata = metadata;
+    }
+
+    @Override
+    public CollectionRegionAccessStrategy buildAccessStrategy(final AccessType accessType) {
+        if (accessType == AccessType.TRANSACTIONAL) {
+            throw new CacheException("Transactional access is not supported: " + this.getName());
+        }
+
+        return new AccessStrategy();
+    }
+
+    @Override
+    public boolean isTransactionAware() {
+        return false;
+    }
+
+    @Override
+    public CacheDataDescription getCacheDataDescription() {
+        return this.metadata;
+    }
+
+    private final class AccessStrategy extends NonStrictAccessStrategy
+            implements CollectionRegionAccessStrategy {
+
+        private AccessStrategy() {
+            super(CaffeineCollectionRegion.this);
+        }
+
+        @Override
+        public CollectionRegion getRegion() {
+            return CaffeineCollectionRegion.this;
+        }
+
+        @Override
+        public Object generateCacheKey(final Object id, final CollectionPersister persister,
+                final SessionFactoryImplementor factory, final String tenantIdentifier) {
+            return new CacheKey(persister.getRole(), id, tenantIdentifier);
+        }
+
+        @Override
+        public Object getCacheKeyId(final Object cacheKey) {
+            return ((CacheKey) cacheKey).getId();
+        }
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Marc Beckhaeuser (AlphaConqueror) <marcbeckhaeuser@gmail.com>
+ *
+ * Created for 'DirtCraft'.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package net.dirtcraft.dirtcore.common.storage.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.hibernate.cache.CacheException;
+import org.hibernate.cache.spi.CacheDataDescription;
+import org.hibernate.cache.spi.EntityRegion;
+import org.hibernate.cache.spi.access.AccessType;
+import org.hibernate.cache.spi.access.EntityRegionAccessStrategy;
+import org.hibernate.cache.spi.access.SoftLock;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+
+/**
+ * A region holding the state of entities.
+ */
+public class CaffeineEntityRegion extends CaffeineRegion implements EntityRegion {
+
+    @NonNull
+    private final CacheDataDescription metadata;
+
+    public CaffeineEntityRegion(@NonNull final CaffeineRegionFactory factory,
+            @NonNull final String name, @NonNull final CacheDataDescription metadata,
+            @NonNull final Cache<Object, Object> cache) {
+        super(factory, name, cache);
+        this.metadata = metadata;
+    }
+
+    @Override
+    public EntityRegionAccessStrategy buildAccessStrategy(final AccessType accessType) {
+        if (accessType == AccessType.TRANSACTIONAL) {
+            throw new CacheException("Transactional access is not supported: " + this.getName());
+        }
+
+        return new AccessStrategy();
+    }
+
+    @Override
+    public boolean isTransactionAware() {
+        return false;
+    }
+
+    @Override
+    public CacheDataDescription getCacheDataDescription() {
+        return this.metadata;
+    }
+
+    private final class AccessStrategy extends NonStrictAccessStrategy
+            implements EntityRegionAccessStrategy {
+
+        private AccessStrategy() {
+            super(CaffeineEntityRegion.this);
+        }
+
+        @Override
+        public EntityRegion getRegion() {
+            return CaffeineEntityRegion.this;
+        }
+
+        @Override
+        public boolean insert(final SharedSessionContractImplementor session, final Object key,
+                final Object value, final Object version) {
+            return false;
+        }
+
+        @Override
+        public boolean afterInsert(final SharedSessionContractImplementor session,
+                final Object key, final Object value, final Object version) {
+            return false;
+        }
+
+        @Override
+        public boolean update(final SharedSessionContractImplementor session, final Object key,
+                final Object value, final Object currentVersion, final Object previousVersion) {
+            this.region.evict(key);
+            return false;
+        }
+
+        @Override
+        public boolean afterUpdate(final SharedSessionContractImplementor session,
+                final Object key, final Object value, final Object currentVersion,
+                final Object previousVersion, final SoftLock lock) {
+            this.region.evict(key);
+            return false;
+        }
+
+        @Override
+        public Object generateCacheKey(final Object id, final EntityPersister persister,
+                final SessionFactoryImplementor factory, final String tenantIdentifier) {
+            return new CacheKey(persister.getRootEntityName(), id, tenantIdentifier);
+        }
+
+        @Override
+        public Object getCacheKeyId(final Object cacheKey) {
+            return ((CacheKey) cacheKey).getId();
+        }
+    }
+}
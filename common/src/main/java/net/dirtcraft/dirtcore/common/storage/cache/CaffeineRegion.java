@@ -0,0 +1,175 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Marc Beckhaeuser (AlphaConqueror) <marcbeckhaeuser@gmail.com>
+ *
+ * Created for 'DirtCraft'.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package net.dirtcraft.dirtcore.common.storage.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.hibernate.cache.spi.Region;
+
+/**
+ * The base of all {@link CaffeineRegionFactory} regions.
+ */
+public abstract class CaffeineRegion implements Region {
+
+    /**
+     * The lock timeout, in units of {@link CaffeineRegionFactory#nextTimestamp()}.
+     */
+    private static final int TIMEOUT = 60_000;
+
+    @NonNull
+    protected final CaffeineRegionFactory factory;
+    @NonNull
+    private final String name;
+    @NonNull
+    private final Cache<Object, Object> cache;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    protected CaffeineRegion(@NonNull final CaffeineRegionFactory factory,
+            @NonNull final String name, @NonNull final Cache<Object, Object> cache) {
+        this.factory = factory;
+        this.name = name;
+        this.cache = cache;
+    }
+
+    @Override
+    public String getName() {
+        return this.name;
+    }
+
+    @Override
+    public void destroy() {
+        this.cache.invalidateAll();
+    }
+
+    @Override
+    public boolean contains(final Object key) {
+        return this.cache.getIfPresent(key) != null;
+    }
+
+    @Override
+    public long getSizeInMemory() {
+        return -1;
+    }
+
+    @Override
+    public long getElementCountInMemory() {
+        return this.cache.estimatedSize();
+    }
+
+    @Override
+    public long getElementCountOnDisk() {
+        return 0;
+    }
+
+    @Override
+    public Map toMap() {
+        return this.cache.asMap();
+    }
+
+    @Override
+    public long nextTimestamp() {
+        return this.factory.nextTimestamp();
+    }
+
+    @Override
+    public int getTimeout() {
+        return TIMEOUT;
+    }
+
+    @Nullable
+    public Object get(final Object key) {
+        final Object value = this.cache.getIfPresent(key);
+
+        if (value == null) {
+            this.misses.increment();
+        } else {
+            this.hits.increment();
+        }
+
+        return value;
+    }
+
+    public void put(final Object key, final Object value) {
+        this.cache.put(key, value);
+    }
+
+    public void evict(final Object key) {
+        this.cache.invalidate(key);
+    }
+
+    public void evictAll() {
+        this.cache.invalidateAll();
+    }
+
+    @NonNull
+    public Statistics getStatistics() {
+        return new Statistics(this.hits.sum(), this.misses.sum(), this.cache.estimatedSize());
+    }
+
+    /**
+     * The hit and miss counters of a region.
+     */
+    public static final class Statistics {
+
+        private final long hits;
+        private final long misses;
+        private final long size;
+
+        Statistics(final long hits, final long misses, final long size) {
+            this.hits = hits;
+            this.misses = misses;
+            this.size = size;
+        }
+
+        public long getHits() {
+            return this.hits;
+        }
+
+        public long getMisses() {
+            return this.misses;
+        }
+
+        public long getSize() {
+            return this.size;
+        }
+
+        public double getHitRatio() {
+            final long requests = this.hits + this.misses;
+            return requests == 0 ? 0 : (double) this.hits / requests;
+        }
+
+        @Override
+        public String toString() {
+            return "hits=" + this.hits + ", misses=" + this.misses + ", size=" + this.size
+                    + ", hitRatio=" + String.format("%.2f", this.getHitRatio());
+        }
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Marc Beckhaeuser (AlphaConqueror) <marcbeckhaeuser@gmail.com>
+ *
+ * Created for 'DirtCraft'.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package net.dirtcraft.dirtcore.common.storage.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.google.common.collect.ImmutableMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import net.dirtcraft.dirtcore.common.util.CaffeineFactory;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cache.CacheException;
+import org.hibernate.cache.spi.CacheDataDescription;
+import org.hibernate.cache.spi.CollectionRegion;
+import org.hibernate.cache.spi.EntityRegion;
+import org.hibernate.cache.spi.NaturalIdRegion;
+import org.hibernate.cache.spi.QueryResultsRegion;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cache.spi.TimestampsRegion;
+import org.hibernate.cache.spi.access.AccessType;
+
+/**
+ * A Hibernate second-level cache backed by Caffeine.
+ * <p>
+ * Entities opt in with {@link org.hibernate.annotations.Cache}, queries with
+ * {@link org.hibernate.query.Query#setCacheable(boolean)}. The cache is local to this server,
+ * changes made by other servers are picked up by {@link #evictAll()} when they push an update.
+ */
+public class CaffeineRegionFactory implements RegionFactory {
+
+    private static final long serialVersionUID = 1L;
+    private static final long MAXIMUM_SIZE = 10_000L;
+    private static final long EXPIRE_AFTER_WRITE_MINUTES = 10L;
+
+    private final transient Map<String, CaffeineRegion> regions = new ConcurrentHashMap<>();
+
+    @Override
+    public void start(final SessionFactoryOptions settings, final Properties properties) {}
+
+    @Override
+    public void stop() {
+        this.evictAll();
+        this.regions.clear();
+    }
+
+    @Override
+    public boolean isMinimalPutsEnabledByDefault() {
+        return false;
+    }
+
+    @Override
+    public AccessType getDefaultAccessType() {
+        return AccessType.NONSTRICT_READ_WRITE;
+    }
+
+    @Override
+    public long nextTimestamp() {
+        return System.currentTimeMillis();
+    }
+
+    @Override
+    public EntityRegion buildEntityRegion(final String regionName, final Properties properties,
+            final CacheDataDescription metadata) {
+        return (EntityRegion) this.regions.computeIfAbsent(regionName,
+                name -> new CaffeineEntityRegion(this, name, metadata, this.boundedCache()));
+    }
+
+    @Override
+    public NaturalIdRegion buildNaturalIdRegion(final String regionName,
+            final Properties properties, final CacheDataDescription metadata) {
+        throw new CacheException("Natural id caching is not supported: " + regionName);
+    }
+
+    @Override
+    public CollectionRegion buildCollectionRegion(final String regionName,
+            final Properties properties, final CacheDataDescription metadata) {
+        return (CollectionRegion) this.regions.computeIfAbsent(regionName,
+                name -> new CaffeineCollectionRegion(this, name, metadata, this.boundedCache()));
+    }
+
+    @Override
+    public QueryResultsRegion buildQueryResultsRegion(final String regionName,
+            final Properties properties) {
+        return (QueryResultsRegion) this.regions.computeIfAbsent(regionName,
+                name -> new CaffeineDataRegion(this, name, this.boundedCache()));
+    }
+
+    @Override
+    public TimestampsRegion buildTimestampsRegion(final String regionName,
+            final Properties properties) {
+        // update timestamps must never be evicted early, or stale query results would be served
+        return (TimestampsRegion) this.regions.computeIfAbsent(regionName,
+                name -> new CaffeineDataRegion(this, name, CaffeineFactory.newBuilder().build()));
+    }
+
+    /**
+     * Evicts all entries of all regions.
+     */
+    public void evictAll() {
+        this.regions.values().forEach(CaffeineRegion::evictAll);
+    }
+
+    /**
+     * Gets the hit and miss counters of every region.
+     *
+     * @return the statistics mapped to the region names
+     */
+    @NonNull
+    public Map<String, CaffeineRegion.Statistics> getStatistics() {
+        final ImmutableMap.Builder<String, CaffeineRegion.Statistics> builder =
+                ImmutableMap.builder();
+
+        this.regions.forEach((name, region) -> builder.put(name, region.getStatistics()));
+        return builder.build();
+    }
+
+    /**
+     * Gets the sum of the hit and miss counters of all regions.
+     *
+     * @return the statistics
+     */
+    public CaffeineRegion.@NonNull Statistics getTotalStatistics() {
+        long hits = 0;
+        long misses = 0;
+        long size = 0;
+
+        for (final CaffeineRegion region : this.regions.values()) {
+            final CaffeineRegion.Statistics statistics = region.getStatistics();
+
+            hits += statistics.getHits();
+            misses += statistics.getMisses();
+            size += statistics.getSize();
+        }
+
+        return new CaffeineRegion.Statistics(hits, misses, size);
+    }
+
+    private Cache<Object, Object> boundedCache() {
+        return CaffeineFactory.newBuilder().maximumSize(MAXIMUM_SIZE)
+                .expireAfterWrite(EXPIRE_AFTER_WRITE_MINUTES, TimeUnit.MINUTES).build();
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Marc Beckhaeuser (AlphaConqueror) <marcbeckhaeuser@gmail.com>
+ *
+ * Created for 'DirtCraft'.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package net.dirtcraft.dirtcore.common.storage.cache;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.hibernate.cache.spi.access.RegionAccessStrategy;
+import org.hibernate.cache.spi.access.SoftLock;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+/**
+ * A non-strict read/write access strategy.
+ * <p>
+ * Entries are only ever added when loaded from the database and are evicted whenever they are
+ * written, so a reader may at worst see the state from before a concurrent, uncommitted write.
+ */
+abstract class NonStrictAccessStrategy implements RegionAccessStrategy {
+
+    @NonNull
+    protected final CaffeineRegion region;
+
+    protected NonStrictAccessStrategy(@NonNull final CaffeineRegion region) {
+        this.region = region;
+    }
+
+    @Override
+    public Object get(final SharedSessionContractImplementor session, final Object key,
+            final long txTimestamp) {
+        return this.region.get(key);
+    }
+
+    @Override
+    public boolean putFromLoad(final SharedSessionContractImplementor session, final Object key,
+            final Object value, final long txTimestamp, final Object version) {
+        return this.putFromLoad(session, key, value, txTimestamp, version, false);
+    }
+
+    @Override
+    public boolean putFromLoad(final SharedSessionContractImplementor session, final Object key,
+            final Object value, final long txTimestamp, final Object version,
+            final boolean minimalPutOverride) {
+        if (minimalPutOverride && this.region.contains(key)) {
+            return false;
+        }
+
+        this.region.put(key, value);
+        return true;
+    }
+
+    @Override
+    public SoftLock lockItem(final SharedSessionContractImplementor session, final Object key,
+            final Object version) {
+        this.region.evict(key);
+        return null;
+    }
+
+    @Override
+    public SoftLock lockRegion() {
+        this.region.evictAll();
+        return null;
+    }
+
+    @Override
+    public void unlockItem(final SharedSessionContractImplementor session, final Object key,
+            final SoftLock lock) {
+        this.region.evict(key);
+    }
+
+    @Override
+    public void unlockRegion(final SoftLock lock) {
+        this.region.evictAll();
+    }
+
+    @Override
+    public void remove(final SharedSessionContractImplementor session, final Object key) {
+        this.region.evict(key);
+    }
+
+    @Override
+    public void removeAll() {
+        this.region.evictAll();
+    }
+
+    @Override
+    public void evict(final Object key) {
+        this.region.evict(key);
+    }
+
+    @Override
+    public void evictAll() {
+        this.region.evictAll();
+    }
+}
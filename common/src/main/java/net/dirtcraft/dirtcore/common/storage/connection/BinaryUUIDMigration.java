@@ -0,0 +1,209 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Marc Beckhaeuser (AlphaConqueror) <marcbeckhaeuser@gmail.com>
+ *
+ * Created for 'DirtCraft'.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package net.dirtcraft.dirtcore.common.storage.connection;
+
+import com.google.common.collect.ImmutableListMultimap;
+import com.google.common.collect.ListMultimap;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Locale;
+import java.util.Map;
+import net.dirtcraft.dirtcore.common.logging.Logger;
+import net.dirtcraft.dirtcore.common.storage.context.TaskContext;
+import net.dirtcraft.dirtcore.common.storage.entities.DirtCoreEntity;
+import net.dirtcraft.dirtcore.common.storage.entities.util.BinaryUUIDConverter;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Migrates the unique id columns using the {@link BinaryUUIDConverter} from their text form to
+ * {@value BinaryUUIDConverter#COLUMN_DEFINITION} and back.
+ * <p>
+ * The migration runs on every start and only touches columns still stored as text, or left as
+ * {@code VARBINARY} by an interrupted conversion, which is then resumed. To downgrade
+ * to a version storing the text form, start once with the system property
+ * {@value #REVERT_PROPERTY} set to {@code true}, which converts the columns back and aborts the
+ * start with a {@link RevertedException}.
+ */
+public final class BinaryUUIDMigration {
+
+    public static final String REVERT_PROPERTY = "dirtcore.revertBinaryUniqueIds";
+    /**
+     * The converted columns by table.
+     */
+    public static final ListMultimap<String, String> COLUMNS =
+            ImmutableListMultimap.<String, String>builder()
+                    .putAll(DirtCoreEntity.TABLE_PREFIX + "bans", "target", "author")
+                    .putAll(DirtCoreEntity.TABLE_PREFIX + "mutes", "target", "author")
+                    .putAll(DirtCoreEntity.TABLE_PREFIX + "kicks", "target", "author")
+                    .putAll(DirtCoreEntity.TABLE_PREFIX + "warns", "target", "author")
+                    .put(DirtCoreEntity.TABLE_PREFIX + "unbans", "author")
+                    .put(DirtCoreEntity.TABLE_PREFIX + "unmutes", "author")
+                    .put(DirtCoreEntity.TABLE_PREFIX + "ban_history", "old_author")
+                    .put(DirtCoreEntity.TABLE_PREFIX + "mute_history", "old_author")
+                    .put(DirtCoreEntity.TABLE_PREFIX + "user_ip_history", "target")
+                    .put(DirtCoreEntity.TABLE_PREFIX + "player_data", "unique_id")
+                    .put(DirtCoreEntity.TABLE_PREFIX + "limited_block_entries", "unique_id")
+                    .putAll(DirtCoreEntity.TABLE_PREFIX + "log", "source_uuid", "target_uuid")
+                    .build();
+
+    private static final String TO_BINARY = "UNHEX(REPLACE(%1$s, '-', ''))";
+    private static final String TO_TEXT = "LOWER(CONCAT_WS('-', HEX(SUBSTR(%1$s, 1, 4)), "
+            + "HEX(SUBSTR(%1$s, 5, 2)), HEX(SUBSTR(%1$s, 7, 2)), HEX(SUBSTR(%1$s, 9, 2)), "
+            + "HEX(SUBSTR(%1$s, 11, 6))))";
+
+    private BinaryUUIDMigration() {}
+
+    public static boolean isRevertRequested() {
+        return Boolean.getBoolean(REVERT_PROPERTY);
+    }
+
+    /**
+     * Converts all text columns to binary.
+     *
+     * @param context the task context
+     */
+    public static void migrate(@NonNull final TaskContext context) {
+        final Logger logger = context.plugin().getLogger();
+
+        context.session().doWork(connection -> {
+            for (final Map.Entry<String, String> entry : COLUMNS.entries()) {
+                final Column column = getColumn(connection, entry.getKey(), entry.getValue());
+
+                if (column != null && (column.isText() || column.isInterrupted())) {
+                    final int rows = convert(connection, entry.getKey(), column, TO_BINARY, 36,
+                            BinaryUUIDConverter.COLUMN_DEFINITION);
+                    logger.info("Converted {} unique ids in {}.{} to binary.", rows,
+                            entry.getKey(), entry.getValue());
+                }
+            }
+        });
+    }
+
+    /**
+     * Converts all binary columns back to text.
+     *
+     * @param context the task context
+     */
+    public static void revert(@NonNull final TaskContext context) {
+        final Logger logger = context.plugin().getLogger();
+
+        context.session().doWork(connection -> {
+            for (final Map.Entry<String, String> entry : COLUMNS.entries()) {
+                final Column column = getColumn(connection, entry.getKey(), entry.getValue());
+
+                if (column != null && (column.isBinary() || column.isInterrupted())) {
+                    final int rows = convert(connection, entry.getKey(), column, TO_TEXT, 16,
+                            "VARCHAR(36)");
+                    logger.info("Converted {} unique ids in {}.{} back to text.", rows,
+                            entry.getKey(), entry.getValue());
+                }
+            }
+        });
+    }
+
+    @Nullable
+    private static Column getColumn(final Connection connection, final String table,
+            final String column) throws SQLException {
+        final DatabaseMetaData metaData = connection.getMetaData();
+
+        try (final ResultSet resultSet = metaData.getColumns(connection.getCatalog(), null, table,
+                column)) {
+            return resultSet.next() ? new Column(column,
+                    resultSet.getString("TYPE_NAME").toUpperCase(Locale.ROOT),
+                    resultSet.getInt("NULLABLE") != DatabaseMetaData.columnNoNulls) : null;
+        }
+    }
+
+    private static int convert(final Connection connection, final String table,
+            final Column column, final String function, final int length,
+            final String definition) throws SQLException {
+        final String quotedTable = '`' + table + '`';
+        final String quotedColumn = '`' + column.name + '`';
+        final String nullability = column.nullable ? " NULL" : " NOT NULL";
+
+        try (final Statement statement = connection.createStatement()) {
+            // keep the raw bytes while converting, indexes on the column are kept as well
+            statement.executeUpdate("ALTER TABLE " + quotedTable + " MODIFY " + quotedColumn
+                    + " VARBINARY(36)" + nullability);
+
+            final int rows = statement.executeUpdate(
+                    "UPDATE " + quotedTable + " SET " + quotedColumn + " = " + String.format(
+                            function, quotedColumn) + " WHERE LENGTH(" + quotedColumn + ") = "
+                            + length);
+
+            statement.executeUpdate("ALTER TABLE " + quotedTable + " MODIFY " + quotedColumn
+                    + ' ' + definition + nullability);
+            return rows;
+        }
+    }
+
+    private static final class Column {
+
+        private final String name;
+        private final String type;
+        private final boolean nullable;
+
+        private Column(final String name, final String type, final boolean nullable) {
+            this.name = name;
+            this.type = type;
+            this.nullable = nullable;
+        }
+
+        private boolean isText() {
+            return this.type.contains("CHAR");
+        }
+
+        private boolean isBinary() {
+            return "BINARY".equals(this.type);
+        }
+
+        /**
+         * Checks if the column has been left in the intermediate type by an interrupted
+         * conversion, it holds text and binary values then.
+         *
+         * @return true, if the conversion was interrupted
+         */
+        private boolean isInterrupted() {
+            return "VARBINARY".equals(this.type);
+        }
+    }
+
+    /**
+     * Thrown after the columns have been reverted, to abort the start.
+     */
+    public static class RevertedException extends RuntimeException {
+
+        public RevertedException() {
+            super("Converted binary unique ids back to text. Remove -D" + REVERT_PROPERTY
+                    + " and downgrade before starting again.");
+        }
+    }
+}
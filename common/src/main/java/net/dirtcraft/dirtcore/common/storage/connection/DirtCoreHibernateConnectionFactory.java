@@ -31,6 +31,9 @@ import com.google.common.collect.ImmutableSet;
 import java.util.Map;
 import java.util.Set;
 import javax.persistence.Entity;
+import net.dirtcraft.dirtcore.common.storage.cache.CaffeineRegionFactory;
+import net.dirtcraft.dirtcore.common.storage.context.TaskContext;
+import net.dirtcraft.dirtcore.common.storage.entities.DirtCoreEntity;
 import net.dirtcraft.dirtcore.common.storage.entities.VerificationEntity;
 import net.dirtcraft.dirtcore.common.storage.entities.VoteDataEntity;
 import net.dirtcraft.dirtcore.common.storage.entities.chat.ChatMarkerEntity;
@@ -72,25 +75,29 @@ import net.dirtcraft.dirtcore.common.storage.entities.restrict.RestrictionWorldE
 import net.dirtcraft.dirtcore.common.storage.entities.restrict.item.RestrictedItemEntity;
 import net.dirtcraft.dirtcore.common.storage.entities.restrict.item.RestrictionAlternativeEntity;
 import net.dirtcraft.dirtcore.common.storage.entities.restrict.mod.RestrictedModEntity;
+import net.dirtcraft.dirtcore.common.storage.entities.sync.ChangeLogEntity;
 import net.dirtcraft.dirtcore.common.storage.entities.user.UserEntity;
 import net.dirtcraft.dirtcore.common.storage.entities.user.UserIPHistory;
 import net.dirtcraft.dirtcore.common.storage.entities.user.UserSettingsEntity;
 import net.dirtcraft.dirtcore.common.storage.entities.util.ItemEntity;
 import net.dirtcraft.dirtcore.common.storage.entities.util.ItemStackEntity;
+import net.dirtcraft.dirtcore.common.tasks.ChangeLogListener;
 import net.dirtcraft.storageutils.StorageCredentials;
 import net.dirtcraft.storageutils.StorageType;
 import net.dirtcraft.storageutils.hibernate.connection.AbstractHibernateConnectionFactory;
 import net.dirtcraft.storageutils.logging.LoggerAdapter;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.hibernate.cfg.AvailableSettings;
 import org.hibernate.cfg.Configuration;
 
 public class DirtCoreHibernateConnectionFactory extends AbstractHibernateConnectionFactory {
 
     public static final Set<Class<?>> ENTITY_CLASSES =
             ImmutableSet.of(ChatMarkerEntity.class, BanEntity.class, BanHistoryEntity.class,
-                    CrateContentCommandEntity.class, CrateContentEntity.class,
-                    CrateContentItemEntity.class, CrateEntity.class, CrateKeyItemEntity.class,
-                    CrateLocationEntity.class, ExpirablePunishmentEntity.class,
+                    ChangeLogEntity.class, CrateContentCommandEntity.class,
+                    CrateContentEntity.class, CrateContentItemEntity.class, CrateEntity.class,
+                    CrateKeyItemEntity.class, CrateLocationEntity.class,
+                    ExpirablePunishmentEntity.class,
                     ExpirablePunishmentHistoryEntity.class, ItemEntity.class, ItemStackEntity.class,
                     KickEntity.class, KitClaimEntryEntity.class, KitEntity.class,
                     KitItemEntity.class, LimitedBlockEntity.class, LimitedBlockEntryEntity.class,
@@ -105,13 +112,29 @@ public class DirtCoreHibernateConnectionFactory extends AbstractHibernateConnect
                     UserIPHistory.class, UserSettingsEntity.class, VerificationEntity.class,
                     VoteDataEntity.class, WarnEntity.class, WorthItemEntity.class);
 
+    @NonNull
+    private final SharedConnectionPool pool;
+    @NonNull
+    private final CaffeineRegionFactory regionFactory;
+    @NonNull
+    private final ChangeLogListener changeLogListener;
+
     public DirtCoreHibernateConnectionFactory(final LoggerAdapter logger,
-            final StorageType storageType, final StorageCredentials credentials) {
+            final StorageType storageType, final StorageCredentials credentials,
+            @NonNull final SharedConnectionPool pool,
+            @NonNull final CaffeineRegionFactory regionFactory,
+            @NonNull final ChangeLogListener changeLogListener) {
         super(logger, storageType, credentials);
+        this.pool = pool;
+        this.regionFactory = regionFactory;
+        this.changeLogListener = changeLogListener;
     }
 
     @Override
     protected void addAnnotatedClasses(@NonNull final Configuration configuration) {
+        // the shared id generators are declared on the package
+        configuration.addPackage(DirtCoreEntity.class.getPackage().getName());
+
         for (final Class<?> entityClass : ENTITY_CLASSES) {
             if (entityClass.isAnnotationPresent(Entity.class)) {
                 configuration.addAnnotatedClass(entityClass);
@@ -125,23 +148,37 @@ public class DirtCoreHibernateConnectionFactory extends AbstractHibernateConnect
     @Override
     protected void addProperties(@NonNull final Configuration configuration) {
         final Map<String, String> properties = ImmutableMap.<String, String>builder()
-                .put("hibernate.connection.autoReconnect", "true")
-                .put("hibernate.connection.autoReconnectForPools", "true")
-                .put("hibernate.connection.connection.is-connection-validation-required", "true")
-                .put("hibernate.connection.driver_class", this.getDriverClass())
-                .put("hibernate.connection.url", this.getUrl())
-                .put("hibernate.connection.username", this.getUsername())
-                .put("hibernate.connection.password", this.getPassword())
-                .put("hibernate.connection.pool_size", String.valueOf(this.getPoolSize()))
                 .put("hibernate.show_sql", "false")
-                .put("hibernate.dialect", this.getHibernateDialect()).build();
+                .put("hibernate.dialect", this.getHibernateDialect())
+                .put(AvailableSettings.STATEMENT_BATCH_SIZE, String.valueOf(TaskContext.BATCH_SIZE))
+                .put(AvailableSettings.ORDER_INSERTS, "true")
+                .put(AvailableSettings.ORDER_UPDATES, "true")
+                .put(AvailableSettings.BATCH_VERSIONED_DATA, "true")
+                .put(AvailableSettings.USE_SECOND_LEVEL_CACHE, "true")
+                .put(AvailableSettings.USE_QUERY_CACHE, "true")
+                .put(AvailableSettings.JPA_SHARED_CACHE_MODE, "ENABLE_SELECTIVE").build();
 
         properties.forEach(configuration::setProperty);
+
+        // hand the shared pool to hibernate instead of its built-in, non-production pool
+        this.pool.init(this.getDriverClass(), this.getUrl(), this.getUsername(),
+                this.getPassword());
+        configuration.getProperties().put(AvailableSettings.CONNECTION_PROVIDER,
+                new HikariConnectionProvider(this.pool));
+        configuration.getProperties()
+                .put(AvailableSettings.CACHE_REGION_FACTORY, this.regionFactory);
+        // registers the change log listener once the event listener registry exists
+        configuration.setSessionFactoryObserver(this.changeLogListener);
     }
 
     protected String getUrl() {
-        return String.format("jdbc:%s://%s:%s/%s", this.driverJdbcIdentifier(), this.getAddress(),
-                this.getPort(), this.getDatabase());
+        final String url =
+                String.format("jdbc:%s://%s:%s/%s", this.driverJdbcIdentifier(), this.getAddress(),
+                        this.getPort(), this.getDatabase());
+
+        // Connector/J ignores the fetch size and reads the whole result set into memory unless
+        // cursor fetching is enabled, see TaskContext#scroll
+        return this.storageType == StorageType.MYSQL ? url + "?useCursorFetch=true" : url;
     }
 
     protected String getHibernateDialect() {
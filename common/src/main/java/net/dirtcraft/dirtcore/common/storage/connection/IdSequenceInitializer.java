@@ -0,0 +1,118 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Marc Beckhaeuser (AlphaConqueror) <marcbeckhaeuser@gmail.com>
+ *
+ * Created for 'DirtCraft'.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package net.dirtcraft.dirtcore.common.storage.connection;
+
+import com.google.common.collect.ImmutableSet;
+import java.lang.reflect.Field;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.Set;
+import javax.persistence.GeneratedValue;
+import net.dirtcraft.dirtcore.common.storage.context.TaskContext;
+import net.dirtcraft.dirtcore.common.storage.entities.DirtCoreEntity;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.hibernate.Session;
+
+/**
+ * Prepares the table of the {@value DirtCoreEntity#POOLED_ID_GENERATOR} generator.
+ * <p>
+ * The tables using the generator used to be filled by {@code IDENTITY} columns, so the next
+ * value of the generator is raised above the highest id of all of them before the first insert.
+ */
+public final class IdSequenceInitializer {
+
+    private static final String TABLE = '`' + DirtCoreEntity.ID_SEQUENCE_TABLE + '`';
+
+    private IdSequenceInitializer() {}
+
+    /**
+     * Gets the root entity classes using the pooled id generator.
+     *
+     * @return the entity classes
+     */
+    @NonNull
+    public static Set<Class<?>> getPooledEntityClasses() {
+        final ImmutableSet.Builder<Class<?>> builder = ImmutableSet.builder();
+
+        for (final Class<?> entityClass : DirtCoreHibernateConnectionFactory.ENTITY_CLASSES) {
+            for (final Field field : entityClass.getDeclaredFields()) {
+                final GeneratedValue generatedValue = field.getAnnotation(GeneratedValue.class);
+
+                if (generatedValue != null && DirtCoreEntity.POOLED_ID_GENERATOR.equals(
+                        generatedValue.generator())) {
+                    builder.add(entityClass);
+                }
+            }
+        }
+
+        return builder.build();
+    }
+
+    public static void initialise(@NonNull final TaskContext context) {
+        final Session session = context.session();
+        long next = 1;
+
+        for (final Class<?> entityClass : getPooledEntityClasses()) {
+            final Long max = session.createQuery("select max(e.id) from " + entityClass.getName()
+                    + " e", Long.class).uniqueResult();
+
+            if (max != null) {
+                next = Math.max(next, max + 1);
+            }
+        }
+
+        final long floor = next;
+
+        session.doWork(connection -> {
+            try (final Statement statement = connection.createStatement()) {
+                statement.executeUpdate("CREATE TABLE IF NOT EXISTS " + TABLE
+                        + " (`next_val` bigint(20) DEFAULT NULL) DEFAULT CHARSET = utf8mb4");
+
+                try (final ResultSet resultSet = statement.executeQuery(
+                        "SELECT COUNT(*) FROM " + TABLE)) {
+                    if (resultSet.next() && resultSet.getLong(1) > 0) {
+                        try (final PreparedStatement update = connection.prepareStatement(
+                                "UPDATE " + TABLE + " SET `next_val` = ? WHERE `next_val` < ?")) {
+                            update.setLong(1, floor);
+                            update.setLong(2, floor);
+                            update.executeUpdate();
+                        }
+
+                        return;
+                    }
+                }
+            }
+
+            try (final PreparedStatement insert = connection.prepareStatement(
+                    "INSERT INTO " + TABLE + " (`next_val`) VALUES (?)")) {
+                insert.setLong(1, floor);
+                insert.executeUpdate();
+            }
+        });
+    }
+}
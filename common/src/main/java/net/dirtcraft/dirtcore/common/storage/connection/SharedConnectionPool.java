@@ -0,0 +1,308 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Marc Beckhaeuser (AlphaConqueror) <marcbeckhaeuser@gmail.com>
+ *
+ * Created for 'DirtCraft'.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package net.dirtcraft.dirtcore.common.storage.connection;
+
+import com.google.common.collect.ImmutableList;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.PoolStats;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import net.dirtcraft.dirtcore.common.config.ConfigKeys;
+import net.dirtcraft.dirtcore.common.config.DirtCoreConfiguration;
+import net.dirtcraft.dirtcore.common.logging.Logger;
+import net.dirtcraft.dirtcore.common.plugin.DirtCorePlugin;
+import net.dirtcraft.storageutils.StorageCredentials;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * The HikariCP connection pool shared by the Hibernate storage and the SQL messenger.
+ * <p>
+ * The pool is started by the storage, see {@link DirtCoreHibernateConnectionFactory}, and closed
+ * by the plugin once everything using it has been shut down.
+ */
+public class SharedConnectionPool {
+
+    private static final String POOL_NAME = "dirtcore-hikari";
+
+    private final DirtCorePlugin plugin;
+    private final LongAdder acquired = new LongAdder();
+    private final LongAdder acquireNanos = new LongAdder();
+    private final AtomicLong maxAcquireNanos = new AtomicLong();
+    private final LongAdder timeouts = new LongAdder();
+    @Nullable
+    private volatile HikariDataSource dataSource;
+    @Nullable
+    private volatile PoolStats poolStats;
+
+    public SharedConnectionPool(@NonNull final DirtCorePlugin plugin) {
+        this.plugin = plugin;
+    }
+
+    /**
+     * Starts the pool, if it has not been started yet.
+     *
+     * @param driverClass the class name of the JDBC driver
+     * @param url         the JDBC url
+     * @param username    the username
+     * @param password    the password
+     */
+    public synchronized void init(@NonNull final String driverClass, @NonNull final String url,
+            @NonNull final String username, @NonNull final String password) {
+        if (this.dataSource != null) {
+            return;
+        }
+
+        final DirtCoreConfiguration configuration = this.plugin.getConfiguration();
+        final StorageCredentials credentials = configuration.get(ConfigKeys.DATABASE_VALUES);
+        final int serverPoolSize = configuration.get(ConfigKeys.SERVER_POOL_SIZE);
+        final int maxPoolSize =
+                serverPoolSize > 0 ? serverPoolSize : credentials.getMaxPoolSize();
+        final HikariConfig config;
+
+        try {
+            config = new HikariConfig();
+        } catch (final LinkageError e) {
+            this.handleClassloadingError(e);
+            throw e;
+        }
+
+        config.setPoolName(POOL_NAME);
+        config.setDriverClassName(driverClass);
+        config.setJdbcUrl(url);
+        config.setUsername(username);
+        config.setPassword(password);
+        config.setMaximumPoolSize(maxPoolSize);
+        config.setMinimumIdle(Math.min(credentials.getMinIdleConnections(), maxPoolSize));
+        config.setMaxLifetime(credentials.getMaxLifetime());
+        config.setKeepaliveTime(credentials.getKeepAliveTime());
+        config.setConnectionTimeout(credentials.getConnectionTimeout());
+        config.setValidationTimeout(configuration.get(ConfigKeys.POOL_VALIDATION_TIMEOUT));
+        config.setLeakDetectionThreshold(
+                configuration.get(ConfigKeys.POOL_LEAK_DETECTION_THRESHOLD));
+        credentials.getProperties().forEach(config::addDataSourceProperty);
+        config.setMetricsTrackerFactory(new TrackerFactory());
+
+        this.dataSource = new HikariDataSource(config);
+        this.plugin.getLogger()
+                .info("Started connection pool with a maximum of {} connections.", maxPoolSize);
+    }
+
+    /**
+     * Gets a connection from the pool.
+     *
+     * @return the connection
+     * @throws SQLException if no connection could be acquired
+     */
+    @NonNull
+    public Connection getConnection() throws SQLException {
+        final HikariDataSource dataSource = this.dataSource;
+
+        if (dataSource == null) {
+            throw new SQLException("The connection pool has not been started.");
+        }
+
+        return dataSource.getConnection();
+    }
+
+    public boolean isRunning() {
+        final HikariDataSource dataSource = this.dataSource;
+        return dataSource != null && dataSource.isRunning();
+    }
+
+    /**
+     * Gets a snapshot of the pool metrics.
+     *
+     * @return the metrics
+     */
+    @NonNull
+    public Metrics getMetrics() {
+        final PoolStats stats = this.poolStats;
+        final long acquired = this.acquired.sum();
+        final long averageNanos = acquired == 0 ? 0 : this.acquireNanos.sum() / acquired;
+
+        return new Metrics(stats == null ? 0 : stats.getActiveConnections(),
+                stats == null ? 0 : stats.getIdleConnections(),
+                stats == null ? 0 : stats.getTotalConnections(),
+                stats == null ? 0 : stats.getPendingThreads(), acquired,
+                TimeUnit.NANOSECONDS.toMillis(averageNanos),
+                TimeUnit.NANOSECONDS.toMillis(this.maxAcquireNanos.get()), this.timeouts.sum());
+    }
+
+    public synchronized void close() {
+        final HikariDataSource dataSource = this.dataSource;
+
+        if (dataSource != null) {
+            dataSource.close();
+            this.dataSource = null;
+            this.poolStats = null;
+        }
+    }
+
+    private void handleClassloadingError(final Throwable throwable) {
+        final List<String> noteworthyClasses =
+                ImmutableList.of("org.slf4j.LoggerFactory", "org.slf4j.ILoggerFactory",
+                        "org.apache.logging.slf4j.Log4jLoggerFactory",
+                        "org.apache.logging.log4j.spi.LoggerContext",
+                        "org.apache.logging.log4j.spi.AbstractLoggerAdapter",
+                        "org.slf4j.impl.StaticLoggerBinder", "org.slf4j.helpers.MessageFormatter");
+        final Logger logger = this.plugin.getLogger();
+
+        logger.warn("A " + throwable.getClass().getSimpleName()
+                + " has occurred whilst initialising Hikari. This is likely due to classloading "
+                + "conflicts between other plugins.");
+        logger.warn("Please check for other plugins below (and try loading DirtCore without them "
+                + "installed) before reporting the issue.");
+
+        for (final String className : noteworthyClasses) {
+            final Class<?> clazz;
+
+            try {
+                clazz = Class.forName(className);
+            } catch (final Exception e) {
+                continue;
+            }
+
+            final ClassLoader loader = clazz.getClassLoader();
+            String loaderName;
+
+            try {
+                loaderName = this.plugin.getBootstrap().identifyClassLoader(loader) + " ("
+                        + loader.toString() + ")";
+            } catch (final Throwable e) {
+                loaderName = loader.toString();
+            }
+
+            logger.warn("Class " + className + " has been loaded by: " + loaderName);
+        }
+    }
+
+    /**
+     * A snapshot of the pool metrics.
+     */
+    public static final class Metrics {
+
+        private final int active;
+        private final int idle;
+        private final int total;
+        private final int pending;
+        private final long acquired;
+        private final long averageWaitMillis;
+        private final long maxWaitMillis;
+        private final long timeouts;
+
+        private Metrics(final int active, final int idle, final int total, final int pending,
+                final long acquired, final long averageWaitMillis, final long maxWaitMillis,
+                final long timeouts) {
+            this.active = active;
+            this.idle = idle;
+            this.total = total;
+            this.pending = pending;
+            this.acquired = acquired;
+            this.averageWaitMillis = averageWaitMillis;
+            this.maxWaitMillis = maxWaitMillis;
+            this.timeouts = timeouts;
+        }
+
+        public int getActive() {
+            return this.active;
+        }
+
+        public int getIdle() {
+            return this.idle;
+        }
+
+        public int getTotal() {
+            return this.total;
+        }
+
+        /**
+         * Gets the amount of threads currently waiting for a connection.
+         *
+         * @return the amount of waiting threads
+         */
+        public int getPending() {
+            return this.pending;
+        }
+
+        public long getAcquired() {
+            return this.acquired;
+        }
+
+        public long getAverageWaitMillis() {
+            return this.averageWaitMillis;
+        }
+
+        public long getMaxWaitMillis() {
+            return this.maxWaitMillis;
+        }
+
+        public long getTimeouts() {
+            return this.timeouts;
+        }
+
+        @Override
+        public String toString() {
+            return "active=" + this.active + ", idle=" + this.idle + ", total=" + this.total
+                    + ", pending=" + this.pending + ", acquired=" + this.acquired
+                    + ", averageWait=" + this.averageWaitMillis + "ms, maxWait="
+                    + this.maxWaitMillis + "ms, timeouts=" + this.timeouts;
+        }
+    }
+
+    private final class TrackerFactory implements MetricsTrackerFactory {
+
+        @Override
+        public IMetricsTracker create(final String poolName, final PoolStats poolStats) {
+            SharedConnectionPool.this.poolStats = poolStats;
+            return new Tracker();
+        }
+    }
+
+    private final class Tracker implements IMetricsTracker {
+
+        @Override
+        public void recordConnectionAcquiredNanos(final long elapsedAcquiredNanos) {
+            SharedConnectionPool.this.acquired.increment();
+            SharedConnectionPool.this.acquireNanos.add(elapsedAcquiredNanos);
+            SharedConnectionPool.this.maxAcquireNanos.accumulateAndGet(elapsedAcquiredNanos,
+                    Math::max);
+        }
+
+        @Override
+        public void recordConnectionTimeout() {
+            SharedConnectionPool.this.timeouts.increment();
+        }
+    }
+}
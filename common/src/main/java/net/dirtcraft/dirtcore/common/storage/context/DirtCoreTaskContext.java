@@ -31,6 +31,7 @@ import java.util.Queue;
 import net.dirtcraft.dirtcore.common.plugin.DirtCorePlugin;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.hibernate.Session;
+import org.hibernate.query.Query;
 
 public class DirtCoreTaskContext implements TaskContext {
 
@@ -57,6 +58,21 @@ public class DirtCoreTaskContext implements TaskContext {
         return this.session;
     }
 
+    /**
+     * Creates a query whose results are kept in the second-level cache. Only use this for
+     * queries over entities that are cached themselves, as the cache holds their ids.
+     *
+     * @param hql        the query
+     * @param resultType the type of the result
+     * @param <T>        the type of the result
+     * @return the query
+     */
+    @NonNull
+    public <T> Query<T> cachedQuery(@NonNull final String hql,
+            @NonNull final Class<T> resultType) {
+        return this.session.createQuery(hql, resultType).setCacheable(true);
+    }
+
     @Override
     public void queue(@NonNull final Runnable runnable) {
         this.queue.add(runnable);
@@ -26,12 +26,26 @@
 
 package net.dirtcraft.dirtcore.common.storage.context;
 
+import java.util.function.Consumer;
 import net.dirtcraft.dirtcore.common.plugin.DirtCorePlugin;
+import net.dirtcraft.dirtcore.common.storage.entities.DirtCoreEntity;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
 import org.hibernate.Session;
+import org.hibernate.query.Query;
 
 public interface TaskContext extends net.dirtcraft.storageutils.taskcontext.TaskContext {
 
+    /**
+     * The amount of statements sent to the database in one JDBC batch.
+     */
+    int BATCH_SIZE = 50;
+    /**
+     * The amount of rows fetched from the database at once while scrolling.
+     */
+    int FETCH_SIZE = 1000;
+
     @NonNull
     static TaskContext create(@NonNull final DirtCorePlugin plugin,
             @NonNull final Session session) {
@@ -44,4 +58,77 @@ public interface TaskContext extends net.dirtcraft.storageutils.taskcontext.Task
      * @return the plugin
      */
     @NonNull DirtCorePlugin plugin();
+
+    /**
+     * Persists all entities, flushing after every {@link #BATCH_SIZE} entities, so the inserts
+     * are sent in JDBC batches.
+     *
+     * @param entities the entities
+     */
+    default void persistAll(@NonNull final Iterable<?> entities) {
+        final Session session = this.session();
+        int count = 0;
+
+        for (final Object entity : entities) {
+            session.persist(entity);
+
+            if (++count % BATCH_SIZE == 0) {
+                session.flush();
+            }
+        }
+    }
+
+    /**
+     * Removes all entities, flushing after every {@link #BATCH_SIZE} entities, so the deletes
+     * are sent in JDBC batches.
+     *
+     * @param entities the entities
+     */
+    default void removeAll(@NonNull final Iterable<?> entities) {
+        final Session session = this.session();
+        int count = 0;
+
+        for (final Object entity : entities) {
+            session.remove(entity);
+
+            if (++count % BATCH_SIZE == 0) {
+                session.flush();
+            }
+        }
+    }
+
+    /**
+     * Streams the results of a query row by row, fetching {@link #FETCH_SIZE} rows at once,
+     * instead of loading the whole result list into memory. MySQL connections enable cursor
+     * fetching for this, as Connector/J otherwise ignores the fetch size.
+     * <p>
+     * Each row is passed to the consumer as its selected columns. Entities within a row are
+     * loaded read-only and detached once the consumer returns, so they must not be kept; prefer
+     * selecting plain columns where possible.
+     *
+     * @param query    the query
+     * @param consumer the row consumer
+     */
+    default void scroll(@NonNull final Query<?> query,
+            @NonNull final Consumer<Object[]> consumer) {
+        final Session session = this.session();
+        final ScrollableResults results =
+                query.setFetchSize(FETCH_SIZE).setReadOnly(true).scroll(ScrollMode.FORWARD_ONLY);
+
+        try {
+            while (results.next()) {
+                final Object[] row = results.get();
+
+                consumer.accept(row);
+
+                for (final Object column : row) {
+                    if (column instanceof DirtCoreEntity) {
+                        session.evict(column);
+                    }
+                }
+            }
+        } finally {
+            results.close();
+        }
+    }
 }
@@ -33,6 +33,14 @@ import org.checkerframework.checker.nullness.qual.NonNull;
 public interface DirtCoreEntity {
 
     String TABLE_PREFIX = DirtCorePlugin.MOD_ID + '_';
+    /**
+     * The name of the pooled id generator, see the package documentation.
+     */
+    String POOLED_ID_GENERATOR = "dirtcore_pooled_id";
+    /**
+     * The table holding the next value of the {@link #POOLED_ID_GENERATOR}.
+     */
+    String ID_SEQUENCE_TABLE = TABLE_PREFIX + "id_sequence";
 
     default void save(@NonNull final DirtCorePlugin plugin) {
         plugin.getStorage().performTask(this::save);
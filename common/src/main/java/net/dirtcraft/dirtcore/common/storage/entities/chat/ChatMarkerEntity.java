@@ -28,6 +28,7 @@ package net.dirtcraft.dirtcore.common.storage.entities.chat;
 
 import com.google.common.collect.ImmutableList;
 import java.util.function.BiFunction;
+import javax.persistence.Cacheable;
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.Id;
@@ -45,6 +46,8 @@ import net.kyori.adventure.text.event.HoverEvent;
 import net.kyori.adventure.text.format.NamedTextColor;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.jetbrains.annotations.NotNull;
 
 import static net.kyori.adventure.text.Component.space;
@@ -57,6 +60,8 @@ import static net.kyori.adventure.text.format.NamedTextColor.WHITE;
 import static net.kyori.adventure.text.format.TextDecoration.BOLD;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE)
 @Table(name = DirtCoreEntity.TABLE_PREFIX + "chat_marker")
 public class ChatMarkerEntity implements DirtCoreEntity, Comparable<ChatMarkerEntity> {
 
@@ -93,7 +98,7 @@ public class ChatMarkerEntity implements DirtCoreEntity, Comparable<ChatMarkerEn
 
     @NonNull
     public Component getDisplayAsComponent() {
-        return MessagingManager.MINIMESSAGE.deserialize(this.display).hoverEvent(
+        return MessagingManager.TEMPLATES.get(this.display).render().hoverEvent(
                 HoverEvent.showText(text().color(GRAY)
                         .append(text("Name: ", GOLD))
                         .append(text(this.name)).appendNewline()
@@ -103,7 +108,7 @@ public class ChatMarkerEntity implements DirtCoreEntity, Comparable<ChatMarkerEn
 
     @NonNull
     public String getDisplayUnformatted() {
-        return MessagingManager.minimessageToUnformattedString(this.display);
+        return MessagingManager.TEMPLATES.get(this.display).getUnformatted();
     }
 
     @NonNull
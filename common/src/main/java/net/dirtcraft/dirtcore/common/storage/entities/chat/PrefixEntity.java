@@ -29,6 +29,7 @@ package net.dirtcraft.dirtcore.common.storage.entities.chat;
 import com.google.common.collect.ImmutableList;
 import java.util.Locale;
 import java.util.function.BiFunction;
+import javax.persistence.Cacheable;
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.Id;
@@ -46,6 +47,8 @@ import net.kyori.adventure.text.event.HoverEvent;
 import net.kyori.adventure.text.format.NamedTextColor;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.jetbrains.annotations.NotNull;
 
 import static net.kyori.adventure.text.Component.space;
@@ -58,6 +61,8 @@ import static net.kyori.adventure.text.format.NamedTextColor.WHITE;
 import static net.kyori.adventure.text.format.TextDecoration.BOLD;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE)
 @Table(name = DirtCoreEntity.TABLE_PREFIX + "prefix")
 public class PrefixEntity implements DirtCoreEntity, Comparable<PrefixEntity> {
 
@@ -94,7 +99,7 @@ public class PrefixEntity implements DirtCoreEntity, Comparable<PrefixEntity> {
 
     @NonNull
     public Component getDisplayAsComponent() {
-        return MessagingManager.MINIMESSAGE.deserialize(this.display).hoverEvent(
+        return MessagingManager.TEMPLATES.get(this.display).render().hoverEvent(
                 HoverEvent.showText(text().color(GRAY)
                         .append(text("Name: ", GOLD))
                         .append(text(this.name)).appendNewline()
@@ -104,7 +109,7 @@ public class PrefixEntity implements DirtCoreEntity, Comparable<PrefixEntity> {
 
     @NonNull
     public String getDisplayUnformatted() {
-        return MessagingManager.minimessageToUnformattedString(this.display);
+        return MessagingManager.TEMPLATES.get(this.display).getUnformatted();
     }
 
     @NonNull
@@ -28,6 +28,7 @@ package net.dirtcraft.dirtcore.common.storage.entities.chat;
 
 import java.util.List;
 import java.util.Locale;
+import javax.persistence.Cacheable;
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.Id;
@@ -41,9 +42,13 @@ import net.kyori.adventure.text.TextComponent;
 import net.kyori.adventure.text.event.HoverEvent;
 import net.kyori.adventure.text.format.NamedTextColor;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.jetbrains.annotations.NotNull;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE)
 @Table(name = DirtCoreEntity.TABLE_PREFIX + "staff_prefix")
 public class StaffPrefixEntity implements DirtCoreEntity, Comparable<StaffPrefixEntity> {
 
@@ -97,7 +102,7 @@ public class StaffPrefixEntity implements DirtCoreEntity, Comparable<StaffPrefix
     }
 
     public @NonNull String getFullDisplayUnformatted() {
-        return MessagingManager.minimessageToUnformattedString(this.fullDisplay);
+        return MessagingManager.TEMPLATES.get(this.fullDisplay).getUnformatted();
     }
 
     @NonNull
@@ -119,7 +124,7 @@ public class StaffPrefixEntity implements DirtCoreEntity, Comparable<StaffPrefix
 
     @NonNull
     public String getShortDisplayUnformatted() {
-        return MessagingManager.minimessageToUnformattedString(this.shortDisplay);
+        return MessagingManager.TEMPLATES.get(this.shortDisplay).getUnformatted();
     }
 
     @NonNull
@@ -134,7 +139,7 @@ public class StaffPrefixEntity implements DirtCoreEntity, Comparable<StaffPrefix
 
     @NonNull
     protected Component transformMiniMessage(@NonNull final String message) {
-        return MessagingManager.MINIMESSAGE.deserialize(message);
+        return MessagingManager.TEMPLATES.get(message).render();
     }
 
     @NonNull
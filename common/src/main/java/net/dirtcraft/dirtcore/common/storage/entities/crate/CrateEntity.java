@@ -35,6 +35,7 @@ import java.util.Set;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.stream.Stream;
+import javax.persistence.Cacheable;
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
@@ -67,9 +68,12 @@ import net.kyori.adventure.text.format.NamedTextColor;
 import net.kyori.adventure.text.format.TextDecoration;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
-import org.hibernate.Session;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE)
 @Table(name = DirtCoreEntity.TABLE_PREFIX + "crates")
 public class CrateEntity implements DirtCoreEntity {
 
@@ -361,12 +365,12 @@ public class CrateEntity implements DirtCoreEntity {
 
     @NonNull
     public Component getDisplayNameAsComponent() {
-        return MessagingManager.MINIMESSAGE.deserialize(this.displayName);
+        return MessagingManager.TEMPLATES.get(this.displayName).render();
     }
 
     @NonNull
     public String getDisplayNameUnformatted() {
-        return MessagingManager.minimessageToUnformattedString(this.displayName).trim();
+        return MessagingManager.TEMPLATES.get(this.displayName).getUnformatted().trim();
     }
 
     @NonNull
@@ -387,8 +391,7 @@ public class CrateEntity implements DirtCoreEntity {
     }
 
     public void clearContents(@NonNull final TaskContext context) {
-        final Session session = context.session();
-        this.contents.forEach(session::remove);
+        context.removeAll(this.contents);
         this.contents.clear();
     }
 
@@ -449,8 +452,7 @@ public class CrateEntity implements DirtCoreEntity {
     }
 
     public void clearLocations(@NonNull final TaskContext context) {
-        final Session session = context.session();
-        this.locations.forEach(session::remove);
+        context.removeAll(this.locations);
         this.locations.clear();
     }
 
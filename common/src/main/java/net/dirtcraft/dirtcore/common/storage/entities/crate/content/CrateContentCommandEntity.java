@@ -29,7 +29,6 @@ package net.dirtcraft.dirtcore.common.storage.entities.crate.content;
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
-import javax.persistence.GenerationType;
 import javax.persistence.Id;
 import javax.persistence.ManyToOne;
 import javax.persistence.Table;
@@ -46,7 +45,7 @@ public class CrateContentCommandEntity implements Comparable<CrateContentCommand
         DirtCoreEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = DirtCoreEntity.POOLED_ID_GENERATOR)
     @Getter
     protected long id;
 
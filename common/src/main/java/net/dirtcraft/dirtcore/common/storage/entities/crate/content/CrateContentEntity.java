@@ -38,7 +38,6 @@ import java.util.stream.Stream;
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
-import javax.persistence.GenerationType;
 import javax.persistence.Id;
 import javax.persistence.ManyToOne;
 import javax.persistence.OneToMany;
@@ -150,7 +149,7 @@ public class CrateContentEntity implements Comparable<CrateContentEntity>, DirtC
                             "/crate content " + crateName + " edit " + contentId + " tickets "));
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = DirtCoreEntity.POOLED_ID_GENERATOR)
     @Getter
     protected long id;
 
@@ -357,8 +356,7 @@ public class CrateContentEntity implements Comparable<CrateContentEntity>, DirtC
     }
 
     public void clearCommands(@NonNull final TaskContext context) {
-        final Session session = context.session();
-        this.commands.forEach(session::remove);
+        context.removeAll(this.commands);
         this.commands.clear();
     }
 
@@ -30,7 +30,6 @@ import java.util.Optional;
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
-import javax.persistence.GenerationType;
 import javax.persistence.Id;
 import javax.persistence.OneToOne;
 import javax.persistence.Table;
@@ -50,7 +49,7 @@ import org.jetbrains.annotations.NotNull;
 public class CrateContentItemEntity implements Comparable<CrateContentItemEntity>, DirtCoreEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = DirtCoreEntity.POOLED_ID_GENERATOR)
     protected long id;
 
     @OneToOne
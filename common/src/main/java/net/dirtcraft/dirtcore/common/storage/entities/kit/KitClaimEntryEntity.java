@@ -32,7 +32,6 @@ import java.util.UUID;
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
-import javax.persistence.GenerationType;
 import javax.persistence.Id;
 import javax.persistence.ManyToOne;
 import javax.persistence.Table;
@@ -47,7 +46,7 @@ import org.hibernate.annotations.OnDeleteAction;
 public class KitClaimEntryEntity implements DirtCoreEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = DirtCoreEntity.POOLED_ID_GENERATOR)
     protected long id;
 
     @ManyToOne
@@ -28,12 +28,15 @@ package net.dirtcraft.dirtcore.common.storage.entities.kit;
 
 import com.google.common.collect.ImmutableList;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.SortedSet;
 import java.util.TreeSet;
 import java.util.function.Function;
+import javax.persistence.Cacheable;
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
@@ -62,9 +65,13 @@ import net.kyori.adventure.text.format.Style;
 import net.kyori.adventure.text.format.TextDecoration;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.jetbrains.annotations.NotNull;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE)
 @Table(name = DirtCoreEntity.TABLE_PREFIX + "kits")
 public class KitEntity implements Comparable<KitEntity>, DirtCoreEntity {
 
@@ -222,7 +229,7 @@ public class KitEntity implements Comparable<KitEntity>, DirtCoreEntity {
 
     @NonNull
     public Component getDisplayNameAsComponent() {
-        return MessagingManager.MINIMESSAGE.deserialize(this.displayName);
+        return MessagingManager.TEMPLATES.get(this.displayName).render();
     }
 
     public void setCooldown(@NonNull final ChronoUnit unit, final long time) {
@@ -235,13 +242,15 @@ public class KitEntity implements Comparable<KitEntity>, DirtCoreEntity {
 
     public void updateItems(@NonNull final TaskContext context,
             @NonNull final Collection<ItemStack> items) {
-        this.items.clear();
+        final List<KitItemEntity> kitItems = new ArrayList<>(items.size());
 
         for (final ItemStack item : items) {
-            final KitItemEntity kitItem = new KitItemEntity(this, item);
-            context.session().persist(kitItem);
-            this.items.add(kitItem);
+            kitItems.add(new KitItemEntity(this, item));
         }
+
+        this.items.clear();
+        context.persistAll(kitItems);
+        this.items.addAll(kitItems);
     }
 
     @Override
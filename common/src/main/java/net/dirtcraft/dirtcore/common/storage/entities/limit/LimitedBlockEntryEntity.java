@@ -29,9 +29,9 @@ package net.dirtcraft.dirtcore.common.storage.entities.limit;
 import java.util.Comparator;
 import java.util.UUID;
 import javax.persistence.Column;
+import javax.persistence.Convert;
 import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
-import javax.persistence.GenerationType;
 import javax.persistence.Id;
 import javax.persistence.ManyToOne;
 import javax.persistence.Table;
@@ -40,6 +40,7 @@ import lombok.Getter;
 import net.dirtcraft.dirtcore.common.model.minecraft.World;
 import net.dirtcraft.dirtcore.common.model.minecraft.phys.BlockPos;
 import net.dirtcraft.dirtcore.common.storage.entities.DirtCoreEntity;
+import net.dirtcraft.dirtcore.common.storage.entities.util.BinaryUUIDConverter;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.hibernate.annotations.OnDelete;
 import org.hibernate.annotations.OnDeleteAction;
@@ -54,7 +55,7 @@ public class LimitedBlockEntryEntity {
                     o -> Math.abs(o.getX()) + Math.abs(o.getY()) + Math.abs(o.getZ()));
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = DirtCoreEntity.POOLED_ID_GENERATOR)
     protected long id;
 
     @Getter
@@ -63,10 +64,12 @@ public class LimitedBlockEntryEntity {
     @OnDelete(action = OnDeleteAction.CASCADE)
     protected LimitedBlockEntity original;
 
-    @Column(name = "unique_id", nullable = false)
+    @Column(name = "unique_id", nullable = false,
+            columnDefinition = BinaryUUIDConverter.COLUMN_DEFINITION)
+    @Convert(converter = BinaryUUIDConverter.class)
     @Getter
     @NonNull
-    protected String uniqueId;
+    protected UUID uniqueId;
 
     @Column(nullable = false)
     @Getter
@@ -91,7 +94,7 @@ public class LimitedBlockEntryEntity {
             @NonNull final UUID uniqueId, @NonNull final World world, final int x, final int y,
             final int z) {
         this.original = original;
-        this.uniqueId = uniqueId.toString();
+        this.uniqueId = uniqueId;
         this.world = world.getIdentifier();
         this.x = x;
         this.y = y;
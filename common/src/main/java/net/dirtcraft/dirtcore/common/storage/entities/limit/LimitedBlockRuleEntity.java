@@ -26,10 +26,10 @@
 
 package net.dirtcraft.dirtcore.common.storage.entities.limit;
 
+import javax.persistence.Cacheable;
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
-import javax.persistence.GenerationType;
 import javax.persistence.Id;
 import javax.persistence.ManyToOne;
 import javax.persistence.Table;
@@ -38,18 +38,23 @@ import lombok.Setter;
 import net.dirtcraft.dirtcore.common.model.manager.limit.LimitManager;
 import net.dirtcraft.dirtcore.common.storage.entities.DirtCoreEntity;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.OnDelete;
 import org.hibernate.annotations.OnDeleteAction;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE)
 @Table(name = DirtCoreEntity.TABLE_PREFIX + "limited_block_rules")
 public class LimitedBlockRuleEntity implements DirtCoreEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = DirtCoreEntity.POOLED_ID_GENERATOR)
     protected long id;
 
     @ManyToOne
+    @Getter
     @NonNull
     @OnDelete(action = OnDeleteAction.CASCADE)
     protected LimitedBlockEntity original;
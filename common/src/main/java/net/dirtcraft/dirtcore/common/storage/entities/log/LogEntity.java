@@ -31,21 +31,28 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
 import javax.persistence.Column;
+import javax.persistence.Convert;
 import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.Table;
 import net.dirtcraft.dirtcore.api.actionlog.Action;
 import net.dirtcraft.dirtcore.common.actionlog.ActionComparator;
 import net.dirtcraft.dirtcore.common.storage.entities.DirtCoreEntity;
+import net.dirtcraft.dirtcore.common.storage.entities.util.BinaryUUIDConverter;
 import net.dirtcraft.dirtcore.common.util.Permission;
 import net.kyori.adventure.text.format.NamedTextColor;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
 @Entity
-@Table(name = DirtCoreEntity.TABLE_PREFIX + "log")
+@Table(name = DirtCoreEntity.TABLE_PREFIX + "log",
+        indexes = {@Index(name = "idx_log_timestamp", columnList = "timestamp, id"),
+                @Index(name = "idx_log_source", columnList = "source_uuid, timestamp, id"),
+                @Index(name = "idx_log_target", columnList = "target_uuid, timestamp, id"),
+                @Index(name = "idx_log_type", columnList = "type, timestamp, id")})
 public class LogEntity implements Action, DirtCoreEntity {
 
     @Id
@@ -53,15 +60,17 @@ public class LogEntity implements Action, DirtCoreEntity {
     protected long id;
     @Column(nullable = false)
     protected long timestamp;
-    @Column(nullable = false)
+    @Column(nullable = false, columnDefinition = BinaryUUIDConverter.COLUMN_DEFINITION)
+    @Convert(converter = BinaryUUIDConverter.class)
     @NonNull
-    protected String source_uuid;
+    protected UUID source_uuid;
     @Column(nullable = false)
     @NonNull
     protected String source_server;
-    @Column
+    @Column(columnDefinition = BinaryUUIDConverter.COLUMN_DEFINITION)
+    @Convert(converter = BinaryUUIDConverter.class)
     @Nullable
-    protected String target_uuid;
+    protected UUID target_uuid;
     @Column(nullable = false)
     @NonNull
     protected String type;
@@ -85,9 +94,9 @@ public class LogEntity implements Action, DirtCoreEntity {
             @Nullable final String title, @Nullable final String description,
             @Nullable final String incidentId) {
         this.timestamp = timestamp;
-        this.source_uuid = source.toString();
+        this.source_uuid = source;
         this.source_server = sourceServer;
-        this.target_uuid = target == null ? null : target.toString();
+        this.target_uuid = target;
         this.type = type.getIdentifier();
         this.authorization = authorization.getIdentifier();
         this.title = title;
@@ -142,6 +151,19 @@ public class LogEntity implements Action, DirtCoreEntity {
         }
     }
 
+    public long getId() {
+        return this.id;
+    }
+
+    /**
+     * Sets the id of the entry, if it was not persisted or loaded through the session.
+     *
+     * @param id the generated id
+     */
+    public void setGeneratedId(final long id) {
+        this.id = id;
+    }
+
     @Override
     public @NonNull Instant getTimestamp() {
         return Instant.ofEpochSecond(this.timestamp);
@@ -149,7 +171,7 @@ public class LogEntity implements Action, DirtCoreEntity {
 
     @Override
     public @NonNull UUID getSource() {
-        return UUID.fromString(this.source_uuid);
+        return this.source_uuid;
     }
 
     @Override
@@ -159,8 +181,7 @@ public class LogEntity implements Action, DirtCoreEntity {
 
     @Override
     public @NonNull Optional<UUID> getTarget() {
-        return this.target_uuid == null ? Optional.empty()
-                : Optional.of(UUID.fromString(this.target_uuid));
+        return Optional.ofNullable(this.target_uuid);
     }
 
     @Override
@@ -31,6 +31,7 @@ import java.time.Instant;
 import java.util.Optional;
 import java.util.UUID;
 import javax.persistence.Column;
+import javax.persistence.Convert;
 import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
@@ -43,6 +44,7 @@ import net.dirtcraft.dirtcore.common.storage.context.TaskContext;
 import net.dirtcraft.dirtcore.common.storage.entities.DirtCoreEntity;
 import net.dirtcraft.dirtcore.common.storage.entities.chat.ChatMarkerEntity;
 import net.dirtcraft.dirtcore.common.storage.entities.chat.PrefixEntity;
+import net.dirtcraft.dirtcore.common.storage.entities.util.BinaryUUIDConverter;
 import net.dirtcraft.dirtcore.common.util.Components;
 import net.kyori.adventure.text.Component;
 import org.checkerframework.checker.nullness.qual.NonNull;
@@ -59,9 +61,11 @@ public class PlayerDataEntity implements DirtCoreEntity {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     protected long id;
 
-    @Column(name = "unique_id", length = 36, nullable = false)
+    @Column(name = "unique_id", nullable = false,
+            columnDefinition = BinaryUUIDConverter.COLUMN_DEFINITION)
+    @Convert(converter = BinaryUUIDConverter.class)
     @NonNull
-    protected String uniqueId;
+    protected UUID uniqueId;
 
     @Column(nullable = false)
     @Getter
@@ -100,7 +104,7 @@ public class PlayerDataEntity implements DirtCoreEntity {
     protected PlayerDataEntity() {}
 
     public PlayerDataEntity(@NonNull final DirtCorePlugin plugin, @NonNull final UUID uniqueId) {
-        this.uniqueId = uniqueId.toString();
+        this.uniqueId = uniqueId;
         this.server = plugin.getServerIdentifier();
         this.balance = 0d;
         this.activeChatMarker = null;
@@ -111,7 +115,7 @@ public class PlayerDataEntity implements DirtCoreEntity {
 
     @NonNull
     public UUID getUniqueId() {
-        return UUID.fromString(this.uniqueId);
+        return this.uniqueId;
     }
 
     public void depositBalance(final Double amount) {this.balance += amount;}
@@ -74,8 +74,8 @@ public class BanEntity extends ExpirablePunishmentEntity<BanEntity, BanHistoryEn
             @Nullable final Instant expiry, final boolean ipBanned) {
         this.incident_id = incidentId;
         this.timestamp = Timestamp.from(Instant.now());
-        this.target = target.toString();
-        this.author = author.toString();
+        this.target = target;
+        this.author = author;
         this.reason = reason;
         this.server = server;
         this.expiry = expiry == null ? null : Timestamp.from(expiry);
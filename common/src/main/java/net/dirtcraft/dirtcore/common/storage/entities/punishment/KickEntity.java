@@ -47,8 +47,8 @@ public class KickEntity extends PunishmentEntity {
             @NonNull final String server) {
         this.incident_id = incidentId;
         this.timestamp = Timestamp.from(Instant.now());
-        this.target = target.toString();
-        this.author = author.toString();
+        this.target = target;
+        this.author = author;
         this.reason = reason;
         this.server = server;
     }
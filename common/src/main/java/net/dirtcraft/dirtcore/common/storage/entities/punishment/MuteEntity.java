@@ -63,8 +63,8 @@ public class MuteEntity extends ExpirablePunishmentEntity<MuteEntity, MuteHistor
             @Nullable final Instant expiry) {
         this.incident_id = incidentId;
         this.timestamp = Timestamp.from(Instant.now());
-        this.target = target.toString();
-        this.author = author.toString();
+        this.target = target;
+        this.author = author;
         this.reason = reason;
         this.server = server;
         this.expiry = expiry == null ? null : Timestamp.from(expiry);
@@ -51,7 +51,7 @@ public class UnmuteEntity extends RevertingPunishmentEntity<MuteEntity> {
             @NonNull final String reason, @NonNull final String server) {
         this.incident_id = original.getIncidentId();
         this.timestamp = Timestamp.from(Instant.now());
-        this.author = author.toString();
+        this.author = author;
         this.reason = reason;
         this.server = server;
         this.original = original;
@@ -105,7 +105,7 @@ public abstract class ModifiablePunishmentEntity<H extends PunishmentHistoryEnti
     }
 
     public void setAuthor(@NonNull final UUID author) {
-        this.author = author.toString();
+        this.author = author;
     }
 
     public void setReason(@NonNull final String reason) {
@@ -31,6 +31,7 @@ import java.sql.Timestamp;
 import java.time.Instant;
 import java.util.UUID;
 import javax.persistence.Column;
+import javax.persistence.Convert;
 import javax.persistence.Entity;
 import javax.persistence.Id;
 import javax.persistence.Inheritance;
@@ -43,6 +44,7 @@ import net.dirtcraft.dirtcore.common.plugin.DirtCorePlugin;
 import net.dirtcraft.dirtcore.common.storage.context.TaskContext;
 import net.dirtcraft.dirtcore.common.storage.entities.DirtCoreEntity;
 import net.dirtcraft.dirtcore.common.storage.entities.log.LogEntity;
+import net.dirtcraft.dirtcore.common.storage.entities.util.BinaryUUIDConverter;
 import net.dirtcraft.dirtcore.common.util.FormatUtils;
 import net.dv8tion.jda.api.entities.MessageEmbed;
 import net.kyori.adventure.text.Component;
@@ -74,11 +76,13 @@ public abstract class PunishmentEntity implements DirtCoreEntity, RestrictiveAct
     @Getter
     protected Timestamp timestamp;
 
-    @Column(nullable = false, length = 36)
-    protected String target;
+    @Column(nullable = false, columnDefinition = BinaryUUIDConverter.COLUMN_DEFINITION)
+    @Convert(converter = BinaryUUIDConverter.class)
+    protected UUID target;
 
-    @Column(nullable = false, length = 36)
-    protected String author;
+    @Column(nullable = false, columnDefinition = BinaryUUIDConverter.COLUMN_DEFINITION)
+    @Convert(converter = BinaryUUIDConverter.class)
+    protected UUID author;
 
     @Column(nullable = false, columnDefinition = "TEXT")
     @Getter
@@ -150,13 +154,13 @@ public abstract class PunishmentEntity implements DirtCoreEntity, RestrictiveAct
     @Override
     @NonNull
     public UUID getTarget() {
-        return UUID.fromString(this.target);
+        return this.target;
     }
 
     @Override
     @NonNull
     public UUID getAuthor() {
-        return UUID.fromString(this.author);
+        return this.author;
     }
 
     protected void onRenderHistoryMiddle(@NonNull final TaskContext context,
@@ -29,6 +29,7 @@ package net.dirtcraft.dirtcore.common.storage.entities.punishment.abstraction;
 import java.sql.Timestamp;
 import java.util.UUID;
 import javax.persistence.Column;
+import javax.persistence.Convert;
 import javax.persistence.Entity;
 import javax.persistence.Id;
 import javax.persistence.Inheritance;
@@ -39,6 +40,7 @@ import net.dirtcraft.dirtcore.common.model.User;
 import net.dirtcraft.dirtcore.common.storage.context.TaskContext;
 import net.dirtcraft.dirtcore.common.storage.entities.DirtCoreEntity;
 import net.dirtcraft.dirtcore.common.storage.entities.log.LogEntity;
+import net.dirtcraft.dirtcore.common.storage.entities.util.BinaryUUIDConverter;
 import net.dv8tion.jda.api.entities.MessageEmbed;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
@@ -57,9 +59,10 @@ public abstract class RevertingPunishmentEntity<T extends ModifiablePunishmentEn
     @NonNull
     protected Timestamp timestamp;
 
-    @Column(nullable = false, length = 36)
+    @Column(nullable = false, columnDefinition = BinaryUUIDConverter.COLUMN_DEFINITION)
+    @Convert(converter = BinaryUUIDConverter.class)
     @NonNull
-    protected String author;
+    protected UUID author;
 
     @Column(nullable = false, columnDefinition = "TEXT")
     @Getter
@@ -96,6 +99,6 @@ public abstract class RevertingPunishmentEntity<T extends ModifiablePunishmentEn
     @Override
     @NonNull
     public UUID getAuthor() {
-        return UUID.fromString(this.author);
+        return this.author;
     }
 }
@@ -50,7 +50,7 @@ public class BanHistoryEntity extends ExpirablePunishmentHistoryEntity<BanEntity
     public BanHistoryEntity(@NonNull final BanEntity original) {
         this.original = original;
         this.old_timestamp = original.getTimestamp();
-        this.old_author = original.getAuthor().toString();
+        this.old_author = original.getAuthor();
         this.old_reason = original.getReason();
         this.old_server = original.getServer();
         this.old_expiry = original.getExpiry().orElse(null);
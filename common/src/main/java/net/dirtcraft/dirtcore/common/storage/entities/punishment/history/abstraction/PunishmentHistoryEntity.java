@@ -29,14 +29,15 @@ package net.dirtcraft.dirtcore.common.storage.entities.punishment.history.abstra
 import java.sql.Timestamp;
 import java.util.UUID;
 import javax.persistence.Column;
+import javax.persistence.Convert;
 import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
-import javax.persistence.GenerationType;
 import javax.persistence.Id;
 import javax.persistence.Inheritance;
 import javax.persistence.InheritanceType;
 import net.dirtcraft.dirtcore.common.storage.entities.DirtCoreEntity;
 import net.dirtcraft.dirtcore.common.storage.entities.punishment.abstraction.ModifiablePunishmentEntity;
+import net.dirtcraft.dirtcore.common.storage.entities.util.BinaryUUIDConverter;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
 @Entity
@@ -44,16 +45,17 @@ import org.checkerframework.checker.nullness.qual.NonNull;
 public abstract class PunishmentHistoryEntity<T extends ModifiablePunishmentEntity<?>> implements DirtCoreEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @GeneratedValue(generator = DirtCoreEntity.POOLED_ID_GENERATOR)
     protected long id;
 
     @Column(nullable = false)
     @NonNull
     protected Timestamp old_timestamp;
 
-    @Column(nullable = false, length = 36)
+    @Column(nullable = false, columnDefinition = BinaryUUIDConverter.COLUMN_DEFINITION)
+    @Convert(converter = BinaryUUIDConverter.class)
     @NonNull
-    protected String old_author;
+    protected UUID old_author;
 
     @Column(nullable = false, columnDefinition = "TEXT")
     @NonNull
@@ -73,7 +75,7 @@ public abstract class PunishmentHistoryEntity<T extends ModifiablePunishmentEnti
 
     @NonNull
     public UUID getOldAuthor() {
-        return UUID.fromString(this.old_author);
+        return this.old_author;
     }
 
     @NonNull
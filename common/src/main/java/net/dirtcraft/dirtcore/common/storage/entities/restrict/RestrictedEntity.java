@@ -31,6 +31,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.function.BiFunction;
+import javax.persistence.Cacheable;
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.FetchType;
@@ -59,9 +60,12 @@ import net.kyori.adventure.text.event.HoverEvent;
 import net.kyori.adventure.text.format.NamedTextColor;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
-import org.hibernate.Session;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE)
 @Inheritance(strategy = InheritanceType.TABLE_PER_CLASS)
 public abstract class RestrictedEntity implements DirtCoreEntity {
 
@@ -207,8 +211,7 @@ public abstract class RestrictedEntity implements DirtCoreEntity {
     }
 
     public void clearWorlds(@NonNull final TaskContext context) {
-        final Session session = context.session();
-        this.worlds.forEach(session::remove);
+        context.removeAll(this.worlds);
         this.worlds.clear();
     }
 
@@ -256,8 +259,7 @@ public abstract class RestrictedEntity implements DirtCoreEntity {
     }
 
     public void clearActions(@NonNull final TaskContext context) {
-        final Session session = context.session();
-        this.actions.forEach(session::remove);
+        context.removeAll(this.actions);
         this.actions.clear();
     }
 
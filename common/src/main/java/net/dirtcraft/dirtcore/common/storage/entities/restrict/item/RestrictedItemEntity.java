@@ -58,7 +58,6 @@ import net.kyori.adventure.text.format.NamedTextColor;
 import net.kyori.adventure.text.format.TextDecoration;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
-import org.hibernate.Session;
 import org.jetbrains.annotations.NotNull;
 
 @Entity
@@ -250,8 +249,7 @@ public class RestrictedItemEntity extends RestrictedEntity implements Comparable
     }
 
     public void clearAlternatives(@NonNull final TaskContext context) {
-        final Session session = context.session();
-        this.alternatives.forEach(session::remove);
+        context.removeAll(this.alternatives);
         this.alternatives.clear();
     }
 
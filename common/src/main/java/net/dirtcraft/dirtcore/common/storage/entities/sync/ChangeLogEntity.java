@@ -0,0 +1,102 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Marc Beckhaeuser (AlphaConqueror) <marcbeckhaeuser@gmail.com>
+ *
+ * Created for 'DirtCraft'.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package net.dirtcraft.dirtcore.common.storage.entities.sync;
+
+import java.time.Instant;
+import java.util.Optional;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
+import lombok.Getter;
+import net.dirtcraft.dirtcore.common.tasks.ChangeTracker;
+import net.dirtcraft.dirtcore.common.storage.entities.DirtCoreEntity;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * An entry of the change log, written whenever synced data is changed.
+ * <p>
+ * Ids are assigned by the database on insert, servers catch up by reading the entries after the
+ * last id they applied. As ids may commit out of order, a window of already applied ids is read
+ * again, see {@link ChangeTracker}.
+ */
+@Entity
+@Table(name = DirtCoreEntity.TABLE_PREFIX + "change_log",
+        indexes = @Index(name = "idx_change_log_timestamp", columnList = "timestamp"))
+public class ChangeLogEntity implements DirtCoreEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Getter
+    protected long id;
+
+    @Column(nullable = false, length = 32)
+    @NonNull
+    protected String scope;
+
+    @Column(name = "entity_id")
+    @Nullable
+    protected String entityId;
+
+    @Column(nullable = false)
+    @Getter
+    @NonNull
+    protected String server;
+
+    @Column(nullable = false)
+    @Getter
+    protected long timestamp;
+
+    protected ChangeLogEntity() {}
+
+    public ChangeLogEntity(@NonNull final ChangeTracker.Scope scope,
+            @Nullable final String entityId, @NonNull final String server) {
+        this.scope = scope.getIdentifier();
+        this.entityId = entityId;
+        this.server = server;
+        this.timestamp = Instant.now().getEpochSecond();
+    }
+
+    @NonNull
+    public Optional<ChangeTracker.Scope> getScope() {
+        return ChangeTracker.Scope.fromIdentifier(this.scope);
+    }
+
+    /**
+     * Gets the id of the changed entity within its scope.
+     *
+     * @return the entity id or empty, if the whole scope changed
+     */
+    @NonNull
+    public Optional<String> getEntityId() {
+        return Optional.ofNullable(this.entityId);
+    }
+}
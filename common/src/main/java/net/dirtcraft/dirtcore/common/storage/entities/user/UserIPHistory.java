@@ -30,13 +30,14 @@ import java.sql.Timestamp;
 import java.time.Instant;
 import java.util.UUID;
 import javax.persistence.Column;
+import javax.persistence.Convert;
 import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
-import javax.persistence.GenerationType;
 import javax.persistence.Id;
 import javax.persistence.Table;
 import lombok.Getter;
 import net.dirtcraft.dirtcore.common.storage.entities.DirtCoreEntity;
+import net.dirtcraft.dirtcore.common.storage.entities.util.BinaryUUIDConverter;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
 @Entity
@@ -44,12 +45,13 @@ import org.checkerframework.checker.nullness.qual.NonNull;
 public class UserIPHistory implements DirtCoreEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = DirtCoreEntity.POOLED_ID_GENERATOR)
     protected long id;
 
-    @Column(nullable = false, length = 36)
+    @Column(nullable = false, columnDefinition = BinaryUUIDConverter.COLUMN_DEFINITION)
+    @Convert(converter = BinaryUUIDConverter.class)
     @Getter
-    protected String target;
+    protected UUID target;
 
     @Column(name = "ip_address", nullable = false)
     @Getter
@@ -75,7 +77,7 @@ public class UserIPHistory implements DirtCoreEntity {
     public UserIPHistory(@NonNull final UUID target, @NonNull final String ipAddress) {
         final Timestamp now = Timestamp.from(Instant.now());
 
-        this.target = target.toString();
+        this.target = target;
         this.ipAddress = ipAddress;
         this.firstSeen = now;
         this.lastSeen = now;
@@ -0,0 +1,76 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Marc Beckhaeuser (AlphaConqueror) <marcbeckhaeuser@gmail.com>
+ *
+ * Created for 'DirtCraft'.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package net.dirtcraft.dirtcore.common.storage.entities.util;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import javax.persistence.AttributeConverter;
+import javax.persistence.Converter;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Stores unique ids in {@code BINARY(16)} columns.
+ * <p>
+ * The column and its indexes shrink to less than half of the text form and entities no longer
+ * parse the text form on every access. Queries compare converted attributes with {@link UUID}
+ * parameters. Columns using it are migrated by
+ * {@link net.dirtcraft.dirtcore.common.storage.connection.BinaryUUIDMigration}.
+ */
+@Converter
+public class BinaryUUIDConverter implements AttributeConverter<UUID, byte[]> {
+
+    /**
+     * The column definition of converted columns.
+     */
+    public static final String COLUMN_DEFINITION = "BINARY(16)";
+
+    @Override
+    public byte[] convertToDatabaseColumn(@Nullable final UUID attribute) {
+        if (attribute == null) {
+            return null;
+        }
+
+        return ByteBuffer.allocate(16).putLong(attribute.getMostSignificantBits())
+                .putLong(attribute.getLeastSignificantBits()).array();
+    }
+
+    @Override
+    public @Nullable UUID convertToEntityAttribute(final byte[] column) {
+        if (column == null) {
+            return null;
+        }
+
+        // not migrated yet
+        if (column.length != 16) {
+            return UUID.fromString(new String(column, StandardCharsets.US_ASCII));
+        }
+
+        final ByteBuffer buffer = ByteBuffer.wrap(column);
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+}
@@ -27,10 +27,10 @@
 package net.dirtcraft.dirtcore.common.storage.entities.util;
 
 import java.util.Optional;
+import javax.persistence.Cacheable;
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
-import javax.persistence.GenerationType;
 import javax.persistence.Id;
 import javax.persistence.Inheritance;
 import javax.persistence.InheritanceType;
@@ -41,14 +41,18 @@ import net.dirtcraft.dirtcore.common.plugin.DirtCorePlugin;
 import net.dirtcraft.dirtcore.common.storage.entities.DirtCoreEntity;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.jetbrains.annotations.NotNull;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE)
 @Inheritance(strategy = InheritanceType.TABLE_PER_CLASS)
 public abstract class ItemEntity implements Comparable<ItemEntity>, DirtCoreEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @GeneratedValue(generator = DirtCoreEntity.POOLED_ID_GENERATOR)
     protected long id;
 
     @Column(nullable = false)
@@ -0,0 +1,243 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Marc Beckhaeuser (AlphaConqueror) <marcbeckhaeuser@gmail.com>
+ *
+ * Created for 'DirtCraft'.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package net.dirtcraft.dirtcore.common.tasks;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Types;
+import java.time.Instant;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import net.dirtcraft.dirtcore.common.plugin.DirtCorePlugin;
+import net.dirtcraft.dirtcore.common.storage.entities.DirtCoreEntity;
+import net.dirtcraft.dirtcore.common.storage.entities.limit.LimitedBlockEntity;
+import net.dirtcraft.dirtcore.common.storage.entities.limit.LimitedBlockRuleEntity;
+import net.dirtcraft.dirtcore.common.storage.entities.restrict.RestrictedEntity;
+import net.dirtcraft.dirtcore.common.storage.entities.restrict.RestrictionActionEntity;
+import net.dirtcraft.dirtcore.common.storage.entities.restrict.RestrictionWorldEntity;
+import net.dirtcraft.dirtcore.common.storage.entities.restrict.item.RestrictionAlternativeEntity;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.hibernate.SessionFactory;
+import org.hibernate.SessionFactoryObserver;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+
+/**
+ * Records every change of synced data in the change log, see {@link ChangeTracker}.
+ * <p>
+ * Changed limited blocks, their rules and restrictions are collected per session while it is
+ * flushed and written to the change log right before the transaction commits, within the same
+ * transaction. The id of the last entry is published once the transaction committed. Limited
+ * block entries are not synced, they are always queried from the database.
+ */
+public class ChangeLogListener
+        implements PostInsertEventListener, PostUpdateEventListener, PostDeleteEventListener,
+        SessionFactoryObserver {
+
+    private static final String INSERT = "INSERT INTO " + DirtCoreEntity.TABLE_PREFIX
+            + "change_log (scope, entity_id, server, timestamp) VALUES (?, ?, ?, ?)";
+
+    @NonNull
+    private final DirtCorePlugin plugin;
+    /**
+     * The changes of each session with an active transaction.
+     */
+    private final Map<EventSource, Set<Change>> pending = new ConcurrentHashMap<>();
+
+    public ChangeLogListener(@NonNull final DirtCorePlugin plugin) {
+        this.plugin = plugin;
+    }
+
+    @Nullable
+    private static Change toChange(@NonNull final Object entity) {
+        if (entity instanceof LimitedBlockEntity) {
+            return new Change(ChangeTracker.Scope.LIMITED_BLOCKS,
+                    ((LimitedBlockEntity) entity).getIdentifier());
+        }
+
+        if (entity instanceof LimitedBlockRuleEntity) {
+            return new Change(ChangeTracker.Scope.LIMITED_BLOCKS,
+                    ((LimitedBlockRuleEntity) entity).getOriginal().getIdentifier());
+        }
+
+        // restrictions are always reloaded as a whole
+        if (entity instanceof RestrictedEntity || entity instanceof RestrictionActionEntity
+                || entity instanceof RestrictionWorldEntity
+                || entity instanceof RestrictionAlternativeEntity) {
+            return new Change(ChangeTracker.Scope.RESTRICTIONS, null);
+        }
+
+        return null;
+    }
+
+    @Override
+    public void sessionFactoryCreated(@NonNull final SessionFactory factory) {
+        final EventListenerRegistry registry = ((SessionFactoryImplementor) factory)
+                .getServiceRegistry().getService(EventListenerRegistry.class);
+
+        registry.appendListeners(EventType.POST_INSERT, this);
+        registry.appendListeners(EventType.POST_UPDATE, this);
+        registry.appendListeners(EventType.POST_DELETE, this);
+    }
+
+    @Override
+    public void sessionFactoryClosed(@NonNull final SessionFactory factory) {}
+
+    @Override
+    public void onPostInsert(@NonNull final PostInsertEvent event) {
+        this.changed(event.getSession(), event.getEntity());
+    }
+
+    @Override
+    public void onPostUpdate(@NonNull final PostUpdateEvent event) {
+        this.changed(event.getSession(), event.getEntity());
+    }
+
+    @Override
+    public void onPostDelete(@NonNull final PostDeleteEvent event) {
+        this.changed(event.getSession(), event.getEntity());
+    }
+
+    @Override
+    public boolean requiresPostCommitHanding(@NonNull final EntityPersister persister) {
+        return false;
+    }
+
+    private void changed(@NonNull final EventSource session, @NonNull final Object entity) {
+        final Change change = toChange(entity);
+
+        if (change == null) {
+            return;
+        }
+
+        this.pending.computeIfAbsent(session, s -> {
+            final AtomicLong lastId = new AtomicLong();
+
+            s.getActionQueue().registerProcess(
+                    beforeSession -> lastId.set(this.write(s, this.pending.remove(s))));
+            s.getActionQueue().registerProcess((success, afterSession) -> {
+                // not removed before completion, if the transaction has been rolled back
+                this.pending.remove(s);
+
+                if (success && lastId.get() > 0L) {
+                    this.plugin.getChangeTracker().committed(lastId.get());
+                }
+            });
+            return new LinkedHashSet<>();
+        }).add(change);
+    }
+
+    /**
+     * Writes the changes to the change log, using the connection of the session.
+     *
+     * @param session the session
+     * @param changes the changes or null, if they have been written already
+     * @return the id of the last written entry or 0, if none has been written
+     */
+    private long write(@NonNull final EventSource session, @Nullable final Set<Change> changes) {
+        if (changes == null || changes.isEmpty()) {
+            return 0L;
+        }
+
+        final AtomicLong lastId = new AtomicLong();
+        final long timestamp = Instant.now().getEpochSecond();
+
+        session.doWork(connection -> {
+            try (final PreparedStatement ps = connection.prepareStatement(INSERT,
+                    Statement.RETURN_GENERATED_KEYS)) {
+                for (final Change change : changes) {
+                    ps.setString(1, change.scope.getIdentifier());
+
+                    if (change.entityId == null) {
+                        ps.setNull(2, Types.VARCHAR);
+                    } else {
+                        ps.setString(2, change.entityId);
+                    }
+
+                    ps.setString(3, this.plugin.getServerIdentifier());
+                    ps.setLong(4, timestamp);
+                    ps.executeUpdate();
+
+                    try (final ResultSet keys = ps.getGeneratedKeys()) {
+                        if (keys.next()) {
+                            lastId.accumulateAndGet(keys.getLong(1), Math::max);
+                        }
+                    }
+                }
+            }
+        });
+
+        return lastId.get();
+    }
+
+    private static final class Change {
+
+        @NonNull
+        private final ChangeTracker.Scope scope;
+        @Nullable
+        private final String entityId;
+
+        private Change(@NonNull final ChangeTracker.Scope scope, @Nullable final String entityId) {
+            this.scope = scope;
+            this.entityId = entityId;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+
+            if (!(o instanceof Change)) {
+                return false;
+            }
+
+            final Change change = (Change) o;
+            return this.scope == change.scope && Objects.equals(this.entityId, change.entityId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(this.scope, this.entityId);
+        }
+    }
+}
@@ -0,0 +1,423 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Marc Beckhaeuser (AlphaConqueror) <marcbeckhaeuser@gmail.com>
+ *
+ * Created for 'DirtCraft'.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package net.dirtcraft.dirtcore.common.tasks;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.transaction.Status;
+import javax.transaction.Synchronization;
+import net.dirtcraft.dirtcore.common.plugin.DirtCorePlugin;
+import net.dirtcraft.dirtcore.common.storage.context.TaskContext;
+import net.dirtcraft.dirtcore.common.storage.entities.sync.ChangeLogEntity;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.hibernate.Transaction;
+
+/**
+ * Tracks changes to synced data through the change log table.
+ * <p>
+ * Changes of limited blocks and restrictions are recorded by the {@link ChangeLogListener},
+ * other mutating operations {@link #record(TaskContext, Scope, String) record} the entities they
+ * changed explicitly. The update message sent afterwards carries the
+ * {@link #getLastRecordedId() id of the last committed change}. Receiving servers then
+ * {@link #poll(TaskContext, long) poll} all changes after the last one they applied and only
+ * reload the changed entities. If changes are missing, e.g. because they were pruned, or the
+ * update carries no change id, a full reload is performed.
+ * <p>
+ * Ids are assigned on insert, but transactions may commit out of order, so a change with a lower
+ * id can become visible after a higher one has been applied. Polling therefore reads the last
+ * {@link #OVERLAP} ids again and applies the ones not applied yet, applying changes is
+ * idempotent.
+ */
+public class ChangeTracker {
+
+    /**
+     * The time after which change log entries are pruned.
+     */
+    public static final long RETENTION_SECONDS = TimeUnit.DAYS.toSeconds(7L);
+    /**
+     * The maximum amount of changes applied as delta, a full reload is performed beyond.
+     */
+    public static final int MAX_DELTA_SIZE = 500;
+    /**
+     * The amount of ids below the last applied id, which are read again to find changes
+     * committed late.
+     */
+    public static final int OVERLAP = 200;
+
+    private final DirtCorePlugin plugin;
+    /**
+     * Guards {@link #lastAppliedId} and {@link #appliedIds}.
+     */
+    private final Object[] mutex = new Object[0];
+    /**
+     * The applied ids within the overlap window below {@link #lastAppliedId}.
+     */
+    private final NavigableSet<Long> appliedIds = new TreeSet<>();
+    private final AtomicLong lastRecordedId = new AtomicLong();
+    /**
+     * The highest id of a change applied on this server, or -1, if no data has been loaded yet.
+     */
+    private long lastAppliedId = -1L;
+
+    public ChangeTracker(@NonNull final DirtCorePlugin plugin) {
+        this.plugin = plugin;
+    }
+
+    /**
+     * Records a change of an entity.
+     * <p>
+     * The id is published as {@link #getLastRecordedId() last recorded id} once the transaction
+     * committed, so ids of rolled back changes are never sent.
+     *
+     * @param context  the task context
+     * @param scope    the scope of the entity
+     * @param entityId the id of the entity within its scope or null, if the whole scope changed
+     */
+    public void record(@NonNull final TaskContext context, @NonNull final Scope scope,
+            @Nullable final String entityId) {
+        final ChangeLogEntity entry =
+                new ChangeLogEntity(scope, entityId, this.plugin.getServerIdentifier());
+        final Transaction transaction = context.session().getTransaction();
+
+        context.session().persist(entry);
+
+        if (!transaction.isActive()) {
+            this.committed(entry.getId());
+            return;
+        }
+
+        final long id = entry.getId();
+
+        transaction.registerSynchronization(new Synchronization() {
+
+            @Override
+            public void beforeCompletion() {}
+
+            @Override
+            public void afterCompletion(final int status) {
+                if (status == Status.STATUS_COMMITTED) {
+                    ChangeTracker.this.committed(id);
+                }
+            }
+        });
+    }
+
+    /**
+     * Records a change of the whole scope.
+     *
+     * @param context the task context
+     * @param scope   the scope
+     */
+    public void recordAll(@NonNull final TaskContext context, @NonNull final Scope scope) {
+        this.record(context, scope, null);
+    }
+
+    /**
+     * Publishes the id of a committed change as {@link #getLastRecordedId() last recorded id}.
+     *
+     * @param id the id
+     */
+    void committed(final long id) {
+        this.lastRecordedId.accumulateAndGet(id, Math::max);
+    }
+
+    /**
+     * Gets the id of the last change recorded and committed by this server, to be sent along
+     * with updates.
+     *
+     * @return the id of the last recorded change
+     */
+    public long getLastRecordedId() {
+        return this.lastRecordedId.get();
+    }
+
+    /**
+     * Reads the changes in the overlap window below the latest change, to be marked as applied
+     * after a full reload, see {@link #reloaded(Changes)}.
+     * <p>
+     * Must be called before reloading, changes becoming visible in the meantime are applied
+     * again by the next poll.
+     *
+     * @param context the task context
+     * @return the changes
+     */
+    @NonNull
+    public Changes snapshot(@NonNull final TaskContext context) {
+        final Long latest = context.session()
+                .createQuery("select max(c.id) from ChangeLogEntity c", Long.class)
+                .uniqueResult();
+        final Changes changes = new Changes(-1L, latest == null ? 0L : latest);
+
+        if (latest != null) {
+            changes.ids.addAll(context.session()
+                    .createQuery("select c.id from ChangeLogEntity c where c.id > :id",
+                            Long.class).setParameter("id", latest - OVERLAP).list());
+        }
+
+        return changes;
+    }
+
+    /**
+     * Reads all changes, which have not been applied yet.
+     * <p>
+     * Changes within the overlap window below the last applied change are included, if they
+     * have not been applied yet.
+     *
+     * @param context  the task context
+     * @param expected the id of the latest change the update was sent for or 0, if unknown
+     * @return the changes or empty, if a full reload is required
+     */
+    @NonNull
+    public Optional<Changes> poll(@NonNull final TaskContext context, final long expected) {
+        final long last;
+        final Set<Long> applied;
+
+        synchronized (this.mutex) {
+            last = this.lastAppliedId;
+            applied = new HashSet<>(this.appliedIds);
+        }
+
+        if (last < 0L) {
+            return Optional.empty();
+        }
+
+        final List<ChangeLogEntity> entries = context.session()
+                .createQuery("from ChangeLogEntity c where c.id > :id order by c.id",
+                        ChangeLogEntity.class).setParameter("id", Math.max(last - OVERLAP, 0L))
+                .setMaxResults(OVERLAP + MAX_DELTA_SIZE + 1).list();
+
+        if (entries.size() > OVERLAP + MAX_DELTA_SIZE) {
+            return Optional.empty();
+        }
+
+        final long latest = entries.isEmpty() ? last
+                : Math.max(last, entries.get(entries.size() - 1).getId());
+        final Changes changes = new Changes(last, latest);
+        boolean pruneChecked = false;
+
+        for (final ChangeLogEntity entry : entries) {
+            if (applied.contains(entry.getId())) {
+                continue;
+            }
+
+            // the log is pruned oldest first, so if the last applied change is gone as well,
+            // changes before the first new one may have been pruned
+            if (!pruneChecked && entry.getId() > last) {
+                pruneChecked = true;
+
+                if (entry.getId() > last + 1L) {
+                    final Long first = context.session()
+                            .createQuery("select min(c.id) from ChangeLogEntity c", Long.class)
+                            .uniqueResult();
+
+                    if (first != null && first > last) {
+                        return Optional.empty();
+                    }
+                }
+            }
+
+            final Optional<Scope> scope = entry.getScope();
+
+            // written by a newer version
+            if (!scope.isPresent()) {
+                return Optional.empty();
+            }
+
+            changes.ids.add(entry.getId());
+            changes.add(scope.get(), entry.getEntityId().orElse(null));
+        }
+
+        if (changes.ids.size() > MAX_DELTA_SIZE) {
+            return Optional.empty();
+        }
+
+        changes.complete = expected <= Math.max(last - OVERLAP, 0L) || applied.contains(expected)
+                || changes.ids.contains(expected);
+        return Optional.of(changes);
+    }
+
+    /**
+     * Marks the changes as applied.
+     * <p>
+     * Ignored, if a full reload happened in the meantime.
+     *
+     * @param changes the changes
+     */
+    public void applied(@NonNull final Changes changes) {
+        synchronized (this.mutex) {
+            if (this.lastAppliedId != changes.from) {
+                return;
+            }
+
+            this.appliedIds.addAll(changes.ids);
+            this.setLastAppliedId(changes.to);
+        }
+    }
+
+    /**
+     * Marks the changes read before a full reload as applied.
+     *
+     * @param snapshot the changes read before the reload, see {@link #snapshot(TaskContext)}
+     */
+    public void reloaded(@NonNull final Changes snapshot) {
+        synchronized (this.mutex) {
+            this.appliedIds.clear();
+            this.appliedIds.addAll(snapshot.ids);
+            this.setLastAppliedId(snapshot.to);
+        }
+    }
+
+    private void setLastAppliedId(final long id) {
+        this.lastAppliedId = id;
+        this.appliedIds.headSet(id - OVERLAP, true).clear();
+    }
+
+    /**
+     * Removes all change log entries older than {@link #RETENTION_SECONDS}.
+     *
+     * @param context the task context
+     */
+    public void prune(@NonNull final TaskContext context) {
+        context.session().createQuery("delete from ChangeLogEntity c where c.timestamp < :time")
+                .setParameter("time", Instant.now().getEpochSecond() - RETENTION_SECONDS)
+                .executeUpdate();
+    }
+
+    /**
+     * The scopes of synced data.
+     */
+    public enum Scope {
+
+        /**
+         * Limited blocks, identified by their identifier.
+         */
+        LIMITED_BLOCKS("limited_blocks"),
+        /**
+         * Restrictions, always reloaded as a whole.
+         */
+        RESTRICTIONS("restrictions");
+
+        @NonNull
+        private final String identifier;
+
+        Scope(@NonNull final String identifier) {
+            this.identifier = identifier;
+        }
+
+        @NonNull
+        public static Optional<Scope> fromIdentifier(@NonNull final String identifier) {
+            return Arrays.stream(values()).filter(s -> s.identifier.equals(identifier))
+                    .findFirst();
+        }
+
+        @NonNull
+        public String getIdentifier() {
+            return this.identifier;
+        }
+    }
+
+    /**
+     * The changes between two change log ids.
+     */
+    public static class Changes {
+
+        private final long from;
+        private final long to;
+        private final Set<Long> ids = new HashSet<>();
+        private boolean complete = true;
+        private final Set<Scope> reloads = EnumSet.noneOf(Scope.class);
+        private final Set<String> limitedBlocks = new HashSet<>();
+        private final Set<String> restrictions = new HashSet<>();
+
+        private Changes(final long from, final long to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        private void add(@NonNull final Scope scope, @Nullable final String entityId) {
+            if (entityId == null) {
+                this.reloads.add(scope);
+            } else {
+                this.getEntityIds0(scope).add(entityId);
+            }
+        }
+
+        private Set<String> getEntityIds0(final Scope scope) {
+            switch (scope) {
+                case LIMITED_BLOCKS:
+                    return this.limitedBlocks;
+                case RESTRICTIONS:
+                    return this.restrictions;
+                default:
+                    throw new AssertionError();
+            }
+        }
+
+        /**
+         * Checks if the change the update was sent for has been read.
+         * <p>
+         * If not, its transaction has not committed yet and the poll should be repeated.
+         *
+         * @return true, if the expected change has been read
+         */
+        public boolean isComplete() {
+            return this.complete;
+        }
+
+        /**
+         * Checks if the whole scope has to be reloaded.
+         *
+         * @param scope the scope
+         * @return true, if the whole scope has to be reloaded
+         */
+        public boolean isReload(@NonNull final Scope scope) {
+            return this.reloads.contains(scope);
+        }
+
+        /**
+         * Gets the ids of the changed entities within the scope.
+         *
+         * @param scope the scope
+         * @return the entity ids
+         */
+        @NonNull
+        public Set<String> getEntityIds(@NonNull final Scope scope) {
+            return Collections.unmodifiableSet(this.getEntityIds0(scope));
+        }
+    }
+}
@@ -26,47 +26,190 @@
 
 package net.dirtcraft.dirtcore.common.tasks;
 
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
 import net.dirtcraft.dirtcore.common.cache.BufferedRequest;
 import net.dirtcraft.dirtcore.common.plugin.DirtCorePlugin;
+import net.dirtcraft.dirtcore.common.storage.DirtCoreStorage;
 
 /**
  * System wide sync task for DirtCore.
  *
  * <p>Ensures that all local data is consistent with the storage.</p>
+ *
+ * <p>Only reloads the data changed since the last run, see {@link ChangeTracker}, and falls back
+ * to reloading everything if the changes cannot be determined or the change the task is run for
+ * is unknown.</p>
  */
 public class SyncTask implements Runnable {
 
+    /**
+     * The amount of times the task is repeated, if the change it was run for is not visible yet.
+     */
+    private static final int MAX_RETRIES = 5;
+
     private final DirtCorePlugin plugin;
+    private final long changeId;
+    private final int attempt;
 
     public SyncTask(final DirtCorePlugin plugin) {
+        this(plugin, 0L);
+    }
+
+    /**
+     * Creates a new sync task.
+     *
+     * @param plugin   the plugin
+     * @param changeId the id of the latest change the task is run for or 0 to reload everything
+     */
+    public SyncTask(final DirtCorePlugin plugin, final long changeId) {
+        this(plugin, changeId, 0);
+    }
+
+    private SyncTask(final DirtCorePlugin plugin, final long changeId, final int attempt) {
         this.plugin = plugin;
+        this.changeId = changeId;
+        this.attempt = attempt;
     }
 
     /**
      * Runs the update task
      *
-     * <p>Called <b>async</b>.</p>
+     * <p>Called <b>async</b>, does not wait for the reloads to complete, see {@link #sync()}.</p>
      */
     @Override
     public void run() {
-        this.plugin.getLimitManager().loadAllLimitedBlocks().join();
-        this.plugin.getRestrictionManager().loadAllRestrictions().join();
+        this.sync().exceptionally(e -> {
+            this.plugin.getLogger().severe("Caught exception while syncing data.", e);
+            return null;
+        });
     }
 
-    public static class Buffer extends BufferedRequest<Void> {
+    /**
+     * Runs the update task.
+     *
+     * <p>Called <b>async</b>. The reloads are composed instead of awaited, so no worker thread
+     * is blocked while they run.</p>
+     *
+     * @return a future completing once the data has been reloaded
+     */
+    public CompletableFuture<Void> sync() {
+        // another server may have changed cached entities, see InternalMessagingService#pushUpdate
+        this.plugin.getCacheRegionFactory().evictAll();
+
+        // e.g. an explicit update or one sent by a server which does not track changes
+        if (this.changeId <= 0L) {
+            return this.reload();
+        }
+
+        final ChangeTracker tracker = this.plugin.getChangeTracker();
+        final Optional<ChangeTracker.Changes> changes = this.plugin.getStorage()
+                .performReadTask(context -> tracker.poll(context, this.changeId));
+
+        if (!changes.isPresent()) {
+            return this.reload();
+        }
+
+        return this.apply(changes.get()).thenRun(() -> {
+            tracker.applied(changes.get());
+
+            // the transaction of the change has not committed yet, it is found by a later poll
+            if (!changes.get().isComplete() && this.attempt < MAX_RETRIES) {
+                this.plugin.getBootstrap().getScheduler()
+                        .asyncLater(new SyncTask(this.plugin, this.changeId, this.attempt + 1),
+                                1L, TimeUnit.SECONDS);
+            }
+        });
+    }
+
+    private CompletableFuture<Void> apply(final ChangeTracker.Changes changes) {
+        final Set<String> limitedBlocks = changes.getEntityIds(ChangeTracker.Scope.LIMITED_BLOCKS);
+        final CompletableFuture<Void> limitedBlocksFuture;
+        final CompletableFuture<Void> restrictionsFuture;
+
+        if (changes.isReload(ChangeTracker.Scope.LIMITED_BLOCKS)) {
+            limitedBlocksFuture = this.plugin.getLimitManager().loadAllLimitedBlocks();
+        } else if (!limitedBlocks.isEmpty()) {
+            this.plugin.getStorage().performTask(context -> this.plugin.getLimitManager()
+                    .reloadLimitedBlocks(context, limitedBlocks));
+            limitedBlocksFuture = CompletableFuture.completedFuture(null);
+        } else {
+            limitedBlocksFuture = CompletableFuture.completedFuture(null);
+        }
+
+        if (changes.isReload(ChangeTracker.Scope.RESTRICTIONS) || !changes.getEntityIds(
+                ChangeTracker.Scope.RESTRICTIONS).isEmpty()) {
+            restrictionsFuture = this.plugin.getRestrictionManager().loadAllRestrictions();
+        } else {
+            restrictionsFuture = CompletableFuture.completedFuture(null);
+        }
+
+        return CompletableFuture.allOf(limitedBlocksFuture, restrictionsFuture);
+    }
+
+    private CompletableFuture<Void> reload() {
+        final ChangeTracker tracker = this.plugin.getChangeTracker();
+        final DirtCoreStorage storage = this.plugin.getStorage();
+        // read before reloading, changes made in the meantime are applied again on the next run
+        final ChangeTracker.Changes snapshot = storage.performTask(context -> {
+            tracker.prune(context);
+            return tracker.snapshot(context);
+        });
+
+        return CompletableFuture.allOf(this.plugin.getLimitManager().loadAllLimitedBlocks(),
+                        this.plugin.getRestrictionManager().loadAllRestrictions())
+                .thenRun(() -> tracker.reloaded(snapshot));
+    }
+
+    /**
+     * Buffers sync requests, the buffered result is the future of the started sync.
+     */
+    public static class Buffer extends BufferedRequest<CompletableFuture<Void>> {
 
         private final DirtCorePlugin plugin;
+        private final AtomicLong changeId = new AtomicLong();
+        private final AtomicBoolean reload = new AtomicBoolean();
 
         public Buffer(final DirtCorePlugin plugin) {
             super(500L, TimeUnit.MILLISECONDS, plugin.getBootstrap().getScheduler());
             this.plugin = plugin;
         }
 
+        /**
+         * Requests a sync for a change.
+         *
+         * @param changeId the id of the latest change sent with the update or 0, if unknown, in
+         *                 which case everything is reloaded
+         * @return a future completing once the data has been reloaded
+         */
+        public CompletableFuture<Void> request(final long changeId) {
+            if (changeId <= 0L) {
+                this.reload.set(true);
+            } else {
+                this.changeId.accumulateAndGet(changeId, Math::max);
+            }
+
+            return this.request().thenCompose(Function.identity());
+        }
+
+        /**
+         * Requests a full reload of all synced data.
+         *
+         * @return a future completing once the data has been reloaded
+         */
+        public CompletableFuture<Void> requestReload() {
+            return this.request(0L);
+        }
+
         @Override
-        protected Void perform() {
-            new SyncTask(this.plugin).run();
-            return null;
+        protected CompletableFuture<Void> perform() {
+            return new SyncTask(this.plugin,
+                    this.reload.getAndSet(false) ? 0L : this.changeId.get()).sync();
         }
     }
 }
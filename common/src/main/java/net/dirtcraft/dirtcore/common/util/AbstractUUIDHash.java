@@ -0,0 +1,212 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Marc Beckhaeuser (AlphaConqueror) <marcbeckhaeuser@gmail.com>
+ *
+ * Created for 'DirtCraft'.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package net.dirtcraft.dirtcore.common.util;
+
+import java.util.Arrays;
+
+/**
+ * Base of the {@link java.util.UUID} keyed hash structures.
+ * <p>
+ * Keys are stored as their two {@code long}s in a single array, using open addressing with linear
+ * probing and backward shift deletion, so neither entries nor keys are allocated as objects. The
+ * nil UUID marks free slots and is therefore tracked separately by the implementations.
+ * <p>
+ * Not thread-safe.
+ */
+abstract class AbstractUUIDHash {
+
+    static final float LOAD_FACTOR = 0.75F;
+
+    /**
+     * The most significant bits of the key in slot {@code i} at {@code 2 * i}, the least
+     * significant bits at {@code 2 * i + 1}.
+     */
+    long[] keys;
+    int mask;
+    int threshold;
+    /**
+     * The amount of occupied slots.
+     */
+    int size;
+
+    AbstractUUIDHash(final int expectedSize) {
+        this.allocate(capacity(expectedSize));
+    }
+
+    static int capacity(final int expectedSize) {
+        final int min = (int) Math.ceil(Math.max(expectedSize, 1) / LOAD_FACTOR);
+        return Math.max(Integer.highestOneBit(min - 1) << 1, 2);
+    }
+
+    static int hash(final long most, final long least) {
+        final long hash = (most ^ least) * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ hash >>> 32);
+    }
+
+    static boolean isNil(final long most, final long least) {
+        return most == 0L && least == 0L;
+    }
+
+    private void allocate(final int capacity) {
+        this.keys = new long[capacity * 2];
+        this.mask = capacity - 1;
+        this.threshold = (int) (capacity * LOAD_FACTOR);
+    }
+
+    /**
+     * Finds the slot of a key.
+     *
+     * @param most  the most significant bits
+     * @param least the least significant bits
+     * @return the slot of the key or the inverted free slot, the key would be inserted at
+     */
+    final int find(final long most, final long least) {
+        for (int i = hash(most, least) & this.mask; ; i = i + 1 & this.mask) {
+            final long m = this.keys[2 * i];
+            final long l = this.keys[2 * i + 1];
+
+            if (m == most && l == least) {
+                return i;
+            }
+
+            if (isNil(m, l)) {
+                return ~i;
+            }
+        }
+    }
+
+    /**
+     * Inserts a key into a free slot.
+     *
+     * @param slot  the free slot, as returned inverted by {@link #find(long, long)}
+     * @param most  the most significant bits
+     * @param least the least significant bits
+     * @return the slot of the key, which differs from the free slot, if the table was resized
+     */
+    final int insert(final int slot, final long most, final long least) {
+        this.keys[2 * slot] = most;
+        this.keys[2 * slot + 1] = least;
+
+        if (++this.size <= this.threshold) {
+            return slot;
+        }
+
+        this.resize();
+        return this.find(most, least);
+    }
+
+    /**
+     * Removes the key in a slot, moving subsequent keys of the probe sequence into the gap.
+     *
+     * @param slot the slot
+     */
+    final void delete(final int slot) {
+        int gap = slot;
+
+        for (int i = slot + 1 & this.mask; ; i = i + 1 & this.mask) {
+            final long most = this.keys[2 * i];
+            final long least = this.keys[2 * i + 1];
+
+            if (isNil(most, least)) {
+                break;
+            }
+
+            final int home = hash(most, least) & this.mask;
+
+            // the key can stay, if its home slot lies cyclically within (gap, i]
+            if (gap <= i ? gap < home && home <= i : gap < home || home <= i) {
+                continue;
+            }
+
+            this.keys[2 * gap] = most;
+            this.keys[2 * gap + 1] = least;
+            this.move(i, gap);
+            gap = i;
+        }
+
+        this.keys[2 * gap] = 0L;
+        this.keys[2 * gap + 1] = 0L;
+        this.move(-1, gap);
+        this.size--;
+    }
+
+    private void resize() {
+        final long[] keys = this.keys;
+        final int capacity = keys.length;
+
+        this.allocate(capacity);
+        this.beginResize(capacity);
+
+        for (int i = 0; i < capacity / 2; i++) {
+            final long most = keys[2 * i];
+            final long least = keys[2 * i + 1];
+
+            if (!isNil(most, least)) {
+                final int slot = ~this.find(most, least);
+
+                this.keys[2 * slot] = most;
+                this.keys[2 * slot + 1] = least;
+                this.transfer(i, slot);
+            }
+        }
+
+        this.endResize();
+    }
+
+    void clearSlots() {
+        Arrays.fill(this.keys, 0L);
+        this.size = 0;
+    }
+
+    /**
+     * Called before the keys are transferred into a resized table.
+     *
+     * @param capacity the new capacity
+     */
+    void beginResize(final int capacity) {}
+
+    /**
+     * Called when a key is transferred from the old table into the resized one.
+     *
+     * @param from the slot in the old table
+     * @param to   the slot in the resized table
+     */
+    void transfer(final int from, final int to) {}
+
+    /**
+     * Called after all keys have been transferred into the resized table.
+     */
+    void endResize() {}
+
+    /**
+     * Called when a key is moved within the table.
+     *
+     * @param from the previous slot or -1, if the slot was cleared
+     * @param to   the new slot
+     */
+    void move(final int from, final int to) {}
+}
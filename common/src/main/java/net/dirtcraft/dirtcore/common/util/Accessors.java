@@ -0,0 +1,78 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Marc Beckhaeuser (AlphaConqueror) <marcbeckhaeuser@gmail.com>
+ *
+ * Created for 'DirtCraft'.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package net.dirtcraft.dirtcore.common.util;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Field;
+import java.util.Arrays;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * Utilities for resolving private members into {@link MethodHandle}s.
+ * <p>
+ * Resolve once into a {@code static final} field and call {@link MethodHandle#invokeExact}, so
+ * the JIT can inline the access like a plain field read, unlike {@link Field#get(Object)}.
+ * <p>
+ * Every member can be looked up by several names, e.g. its mapped and its obfuscated name, the
+ * first one present is used.
+ */
+public interface Accessors {
+
+    /**
+     * Resolves a getter for a declared field.
+     *
+     * @param owner the declaring class
+     * @param names the candidate names of the field
+     * @return the getter, taking an instance of the owner and returning the field type
+     * @throws IllegalStateException if no field could be resolved
+     */
+    static @NonNull MethodHandle getter(@NonNull final Class<?> owner,
+            @NonNull final String... names) {
+        for (final String name : names) {
+            final Field field;
+
+            try {
+                field = owner.getDeclaredField(name);
+            } catch (final NoSuchFieldException e) {
+                continue;
+            }
+
+            try {
+                field.setAccessible(true);
+                return MethodHandles.lookup().unreflectGetter(field);
+            } catch (final IllegalAccessException | RuntimeException e) {
+                throw new IllegalStateException(
+                        "Could not access field " + owner.getName() + "#" + name, e);
+            }
+        }
+
+        throw new IllegalStateException(
+                "Could not find any field of " + Arrays.toString(names) + " in "
+                        + owner.getName());
+    }
+}
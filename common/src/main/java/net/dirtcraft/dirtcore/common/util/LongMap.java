@@ -0,0 +1,234 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Marc Beckhaeuser (AlphaConqueror) <marcbeckhaeuser@gmail.com>
+ *
+ * Created for 'DirtCraft'.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package net.dirtcraft.dirtcore.common.util;
+
+import java.util.Arrays;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A hash map keyed by {@code long}s, storing keys and values in parallel arrays without boxing
+ * the keys or allocating per-entry objects. Null values are not supported.
+ * <p>
+ * Like the {@link UUIDMap}, it uses open addressing with linear probing and backward shift
+ * deletion. Free slots are marked by a null value, so every key including {@code 0} is stored in
+ * the table.
+ * <p>
+ * Not thread-safe.
+ *
+ * @param <V> the value type
+ */
+public class LongMap<V> {
+
+    private long[] keys;
+    private Object[] values;
+    private int mask;
+    private int threshold;
+    private int size;
+
+    public LongMap() {
+        this(16);
+    }
+
+    /**
+     * Creates a new map sized to hold the expected amount of entries without resizing.
+     *
+     * @param expectedSize the expected amount of entries
+     */
+    public LongMap(final int expectedSize) {
+        this.allocate(AbstractUUIDHash.capacity(expectedSize));
+    }
+
+    private static int hash(final long key) {
+        final long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ hash >>> 32);
+    }
+
+    @Nullable
+    public V get(final long key) {
+        final int slot = this.find(key);
+        return slot < 0 ? null : this.value(slot);
+    }
+
+    public boolean containsKey(final long key) {
+        return this.find(key) >= 0;
+    }
+
+    /**
+     * Associates the value with the key.
+     *
+     * @param key   the key
+     * @param value the value
+     * @return the previous value or null, if there was none
+     */
+    @Nullable
+    public V put(final long key, @NonNull final V value) {
+        final int slot = this.find(key);
+
+        if (slot >= 0) {
+            final V previous = this.value(slot);
+            this.values[slot] = value;
+            return previous;
+        }
+
+        this.keys[~slot] = key;
+        this.values[~slot] = value;
+
+        if (++this.size > this.threshold) {
+            this.resize();
+        }
+
+        return null;
+    }
+
+    /**
+     * Removes the value of the key.
+     *
+     * @param key the key
+     * @return the removed value or null, if there was none
+     */
+    @Nullable
+    public V remove(final long key) {
+        final int slot = this.find(key);
+
+        if (slot < 0) {
+            return null;
+        }
+
+        final V previous = this.value(slot);
+        this.delete(slot);
+        return previous;
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    public void clear() {
+        Arrays.fill(this.values, null);
+        this.size = 0;
+    }
+
+    /**
+     * Passes all entries to the consumer, in no particular order.
+     *
+     * @param consumer the consumer
+     */
+    public void forEach(@NonNull final EntryConsumer<? super V> consumer) {
+        for (int i = 0; i < this.values.length; i++) {
+            if (this.values[i] != null) {
+                consumer.accept(this.keys[i], this.value(i));
+            }
+        }
+    }
+
+    private void allocate(final int capacity) {
+        this.keys = new long[capacity];
+        this.values = new Object[capacity];
+        this.mask = capacity - 1;
+        this.threshold = (int) (capacity * AbstractUUIDHash.LOAD_FACTOR);
+    }
+
+    /**
+     * Finds the slot of a key.
+     *
+     * @param key the key
+     * @return the slot of the key or the inverted free slot, the key would be inserted at
+     */
+    private int find(final long key) {
+        for (int i = hash(key) & this.mask; ; i = i + 1 & this.mask) {
+            if (this.values[i] == null) {
+                return ~i;
+            }
+
+            if (this.keys[i] == key) {
+                return i;
+            }
+        }
+    }
+
+    /**
+     * Removes the entry in a slot, moving subsequent entries of the probe sequence into the gap.
+     *
+     * @param slot the slot
+     */
+    private void delete(final int slot) {
+        int gap = slot;
+
+        for (int i = slot + 1 & this.mask; this.values[i] != null; i = i + 1 & this.mask) {
+            final int home = hash(this.keys[i]) & this.mask;
+
+            // the entry can stay, if its home slot lies cyclically within (gap, i]
+            if (gap <= i ? gap < home && home <= i : gap < home || home <= i) {
+                continue;
+            }
+
+            this.keys[gap] = this.keys[i];
+            this.values[gap] = this.values[i];
+            gap = i;
+        }
+
+        this.values[gap] = null;
+        this.size--;
+    }
+
+    private void resize() {
+        final long[] keys = this.keys;
+        final Object[] values = this.values;
+
+        this.allocate(keys.length * 2);
+
+        for (int i = 0; i < keys.length; i++) {
+            if (values[i] != null) {
+                final int slot = ~this.find(keys[i]);
+
+                this.keys[slot] = keys[i];
+                this.values[slot] = values[i];
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private V value(final int slot) {
+        return (V) this.values[slot];
+    }
+
+    /**
+     * Accepts an entry of a {@link LongMap}.
+     *
+     * @param <V> the value type
+     */
+    @FunctionalInterface
+    public interface EntryConsumer<V> {
+
+        void accept(long key, @NonNull V value);
+    }
+}
@@ -0,0 +1,218 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Marc Beckhaeuser (AlphaConqueror) <marcbeckhaeuser@gmail.com>
+ *
+ * Created for 'DirtCraft'.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package net.dirtcraft.dirtcore.common.util;
+
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A hash map keyed by {@link UUID}s, storing each key as two {@code long}s without any per-entry
+ * objects. Null values are not supported.
+ * <p>
+ * Not thread-safe.
+ *
+ * @param <V> the value type
+ */
+public class UUIDMap<V> extends AbstractUUIDHash {
+
+    private Object[] values;
+    private Object[] resizing;
+    @Nullable
+    private V nilValue;
+
+    public UUIDMap() {
+        this(16);
+    }
+
+    /**
+     * Creates a new map sized to hold the expected amount of entries without resizing.
+     *
+     * @param expectedSize the expected amount of entries
+     */
+    public UUIDMap(final int expectedSize) {
+        super(expectedSize);
+        this.values = new Object[this.mask + 1];
+    }
+
+    @Nullable
+    public V get(@NonNull final UUID uniqueId) {
+        final long most = uniqueId.getMostSignificantBits();
+        final long least = uniqueId.getLeastSignificantBits();
+
+        if (isNil(most, least)) {
+            return this.nilValue;
+        }
+
+        final int slot = this.find(most, least);
+        return slot < 0 ? null : this.value(slot);
+    }
+
+    public boolean containsKey(@NonNull final UUID uniqueId) {
+        return this.get(uniqueId) != null;
+    }
+
+    /**
+     * Associates the value with the unique id.
+     *
+     * @param uniqueId the unique id
+     * @param value    the value
+     * @return the previous value or null, if there was none
+     */
+    @Nullable
+    public V put(@NonNull final UUID uniqueId, @NonNull final V value) {
+        final long most = uniqueId.getMostSignificantBits();
+        final long least = uniqueId.getLeastSignificantBits();
+
+        if (isNil(most, least)) {
+            final V previous = this.nilValue;
+            this.nilValue = value;
+            return previous;
+        }
+
+        int slot = this.find(most, least);
+
+        if (slot >= 0) {
+            final V previous = this.value(slot);
+            this.values[slot] = value;
+            return previous;
+        }
+
+        slot = this.insert(~slot, most, least);
+        this.values[slot] = value;
+        return null;
+    }
+
+    /**
+     * Gets the value of the unique id or computes and associates it, if absent.
+     *
+     * @param uniqueId the unique id
+     * @param function the function computing the value
+     * @return the present or computed value
+     */
+    @NonNull
+    public V computeIfAbsent(@NonNull final UUID uniqueId,
+            @NonNull final Function<? super UUID, ? extends V> function) {
+        final V present = this.get(uniqueId);
+
+        if (present != null) {
+            return present;
+        }
+
+        final V value = function.apply(uniqueId);
+        this.put(uniqueId, value);
+        return value;
+    }
+
+    /**
+     * Removes the value of the unique id.
+     *
+     * @param uniqueId the unique id
+     * @return the removed value or null, if there was none
+     */
+    @Nullable
+    public V remove(@NonNull final UUID uniqueId) {
+        final long most = uniqueId.getMostSignificantBits();
+        final long least = uniqueId.getLeastSignificantBits();
+
+        if (isNil(most, least)) {
+            final V previous = this.nilValue;
+            this.nilValue = null;
+            return previous;
+        }
+
+        final int slot = this.find(most, least);
+
+        if (slot < 0) {
+            return null;
+        }
+
+        final V previous = this.value(slot);
+        this.delete(slot);
+        return previous;
+    }
+
+    public int size() {
+        return this.nilValue == null ? this.size : this.size + 1;
+    }
+
+    public boolean isEmpty() {
+        return this.size() == 0;
+    }
+
+    public void clear() {
+        this.clearSlots();
+        Arrays.fill(this.values, null);
+        this.nilValue = null;
+    }
+
+    /**
+     * Passes all entries to the consumer, in no particular order.
+     *
+     * @param consumer the consumer
+     */
+    public void forEach(@NonNull final BiConsumer<? super UUID, ? super V> consumer) {
+        if (this.nilValue != null) {
+            consumer.accept(new UUID(0L, 0L), this.nilValue);
+        }
+
+        for (int i = 0; i < this.values.length; i++) {
+            if (this.values[i] != null) {
+                consumer.accept(new UUID(this.keys[2 * i], this.keys[2 * i + 1]), this.value(i));
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private V value(final int slot) {
+        return (V) this.values[slot];
+    }
+
+    @Override
+    void beginResize(final int capacity) {
+        this.resizing = this.values;
+        this.values = new Object[capacity];
+    }
+
+    @Override
+    void transfer(final int from, final int to) {
+        this.values[to] = this.resizing[from];
+    }
+
+    @Override
+    void endResize() {
+        this.resizing = null;
+    }
+
+    @Override
+    void move(final int from, final int to) {
+        this.values[to] = from < 0 ? null : this.values[from];
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Marc Beckhaeuser (AlphaConqueror) <marcbeckhaeuser@gmail.com>
+ *
+ * Created for 'DirtCraft'.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package net.dirtcraft.dirtcore.common.util;
+
+import java.util.UUID;
+import java.util.function.Consumer;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * A hash set of {@link UUID}s, storing each element as two {@code long}s without any per-element
+ * objects.
+ * <p>
+ * Not thread-safe.
+ */
+public class UUIDSet extends AbstractUUIDHash {
+
+    private boolean nil;
+
+    public UUIDSet() {
+        this(16);
+    }
+
+    /**
+     * Creates a new set sized to hold the expected amount of elements without resizing.
+     *
+     * @param expectedSize the expected amount of elements
+     */
+    public UUIDSet(final int expectedSize) {
+        super(expectedSize);
+    }
+
+    /**
+     * Adds an element.
+     *
+     * @param uniqueId the unique id
+     * @return true, if the element was not present yet
+     */
+    public boolean add(@NonNull final UUID uniqueId) {
+        final long most = uniqueId.getMostSignificantBits();
+        final long least = uniqueId.getLeastSignificantBits();
+
+        if (isNil(most, least)) {
+            final boolean added = !this.nil;
+            this.nil = true;
+            return added;
+        }
+
+        final int slot = this.find(most, least);
+
+        if (slot >= 0) {
+            return false;
+        }
+
+        this.insert(~slot, most, least);
+        return true;
+    }
+
+    public boolean contains(@NonNull final UUID uniqueId) {
+        final long most = uniqueId.getMostSignificantBits();
+        final long least = uniqueId.getLeastSignificantBits();
+        return isNil(most, least) ? this.nil : this.find(most, least) >= 0;
+    }
+
+    /**
+     * Removes an element.
+     *
+     * @param uniqueId the unique id
+     * @return true, if the element was present
+     */
+    public boolean remove(@NonNull final UUID uniqueId) {
+        final long most = uniqueId.getMostSignificantBits();
+        final long least = uniqueId.getLeastSignificantBits();
+
+        if (isNil(most, least)) {
+            final boolean removed = this.nil;
+            this.nil = false;
+            return removed;
+        }
+
+        final int slot = this.find(most, least);
+
+        if (slot < 0) {
+            return false;
+        }
+
+        this.delete(slot);
+        return true;
+    }
+
+    public int size() {
+        return this.nil ? this.size + 1 : this.size;
+    }
+
+    public boolean isEmpty() {
+        return this.size() == 0;
+    }
+
+    public void clear() {
+        this.clearSlots();
+        this.nil = false;
+    }
+
+    /**
+     * Passes all elements to the consumer, in no particular order.
+     *
+     * @param consumer the consumer
+     */
+    public void forEach(@NonNull final Consumer<? super UUID> consumer) {
+        if (this.nil) {
+            consumer.accept(new UUID(0L, 0L));
+        }
+
+        for (int i = 0; i < this.keys.length; i += 2) {
+            if (!isNil(this.keys[i], this.keys[i + 1])) {
+                consumer.accept(new UUID(this.keys[i], this.keys[i + 1]));
+            }
+        }
+    }
+}
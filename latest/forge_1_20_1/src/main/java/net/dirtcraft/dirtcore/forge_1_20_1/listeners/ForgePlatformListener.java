@@ -55,6 +55,9 @@ import net.minecraft.world.level.block.state.BlockState;
 import net.minecraftforge.common.util.FakePlayer;
 import net.minecraftforge.event.CommandEvent;
 import net.minecraftforge.event.ServerChatEvent;
+import net.minecraftforge.event.entity.EntityEvent;
+import net.minecraftforge.event.entity.EntityJoinLevelEvent;
+import net.minecraftforge.event.entity.EntityLeaveLevelEvent;
 import net.minecraftforge.event.entity.item.ItemTossEvent;
 import net.minecraftforge.event.entity.living.LivingAttackEvent;
 import net.minecraftforge.event.entity.living.LivingDeathEvent;
@@ -63,6 +66,7 @@ import net.minecraftforge.event.entity.player.EntityItemPickupEvent;
 import net.minecraftforge.event.entity.player.PlayerEvent;
 import net.minecraftforge.event.entity.player.PlayerInteractEvent;
 import net.minecraftforge.event.level.BlockEvent;
+import net.minecraftforge.event.level.LevelEvent;
 import net.minecraftforge.eventbus.api.EventPriority;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
 import org.checkerframework.checker.nullness.qual.NonNull;
@@ -133,6 +137,35 @@ public class ForgePlatformListener {
         event.setCanceled(cancel);
     }
 
+    @SubscribeEvent(priority = EventPriority.LOWEST)
+    public void onEntityEnteringSection(final EntityEvent.EnteringSection event) {
+        if (event.didChunkChange()) {
+            final Entity entity = event.getEntity();
+
+            this.plugin.getPlatformFactory().getWorldFactory()
+                    .onEntityMove(entity.level(), entity, event.getOldPos(), event.getNewPos());
+        }
+    }
+
+    @SubscribeEvent(priority = EventPriority.LOWEST)
+    public void onEntityJoinLevel(final EntityJoinLevelEvent event) {
+        this.plugin.getPlatformFactory().getWorldFactory()
+                .onEntityJoin(event.getLevel(), event.getEntity());
+    }
+
+    @SubscribeEvent
+    public void onEntityLeaveLevel(final EntityLeaveLevelEvent event) {
+        this.plugin.getPlatformFactory().getWorldFactory()
+                .onEntityLeave(event.getLevel(), event.getEntity());
+    }
+
+    @SubscribeEvent
+    public void onLevelUnload(final LevelEvent.Unload event) {
+        if (event.getLevel() instanceof final Level level) {
+            this.plugin.getPlatformFactory().getWorldFactory().invalidate(level);
+        }
+    }
+
     @SubscribeEvent
     public void onPlayerAttack(final LivingAttackEvent event) {
         final DamageSource damageSource = event.getSource();
@@ -275,6 +308,7 @@ public class ForgePlatformListener {
 
     @SubscribeEvent
     public void onPlayerLogout(final PlayerEvent.PlayerLoggedOutEvent event) {
+        this.plugin.getPlatformFactory().getPlayerFactory().invalidate(event.getEntity().getUUID());
         this.plugin.getEventDispatcher().dispatchPlayerLogout(event.getEntity().getUUID(),
                 event.getEntity().getName().getString());
     }
@@ -361,4 +361,14 @@ public class ForgePlatformFactory implements PlatformFactory<Entity, ServerPlaye
     private Component extractURLs(@NonNull final Component component) {
         return component.replaceText(URL_TEXT_REPLACEMENT_CONFIG);
     }
+
+    @NonNull
+    public ForgePlayerFactory getPlayerFactory() {
+        return this.playerFactory;
+    }
+
+    @NonNull
+    public ForgeWorldFactory getWorldFactory() {
+        return this.worldFactory;
+    }
 }
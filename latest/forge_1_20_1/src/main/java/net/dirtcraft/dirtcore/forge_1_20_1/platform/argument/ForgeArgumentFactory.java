@@ -26,6 +26,7 @@
 
 package net.dirtcraft.dirtcore.forge_1_20_1.platform.argument;
 
+import java.util.stream.Stream;
 import net.dirtcraft.dirtcore.common.command.abstraction.arguments.minecraft.block.AbstractBlockArgument;
 import net.dirtcraft.dirtcore.common.command.abstraction.arguments.minecraft.entity.AbstractEntityArgument;
 import net.dirtcraft.dirtcore.common.command.abstraction.arguments.minecraft.persistentdata.AbstractPersistentDataArgument;
@@ -38,6 +39,7 @@ import net.dirtcraft.dirtcore.forge_1_20_1.platform.argument.item.ForgeItemArgum
 import net.dirtcraft.dirtcore.forge_1_20_1.platform.argument.nbt.ForgeNBTArgument;
 import net.dirtcraft.dirtcore.forge_1_20_1.platform.argument.world.ForgeWorldArgument;
 import net.minecraft.commands.CommandBuildContext;
+import net.minecraft.core.registries.Registries;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
 public class ForgeArgumentFactory extends ArgumentFactory<DirtCoreForgePlugin> {
@@ -52,7 +54,7 @@ public class ForgeArgumentFactory extends ArgumentFactory<DirtCoreForgePlugin> {
 
     @Override
     public @NonNull AbstractBlockArgument<DirtCoreForgePlugin> block() {
-        return ForgeBlockArgument.block(this.commandBuildContext);
+        return ForgeBlockArgument.block(this.commandBuildContext, this.getBlockIndex());
     }
 
     @Override
@@ -67,7 +69,7 @@ public class ForgeArgumentFactory extends ArgumentFactory<DirtCoreForgePlugin> {
 
     @Override
     public @NonNull ForgeItemArgument item() {
-        return ForgeItemArgument.item(this.commandBuildContext);
+        return ForgeItemArgument.item(this.commandBuildContext, this.getItemIndex());
     }
 
     @Override
@@ -89,4 +91,16 @@ public class ForgeArgumentFactory extends ArgumentFactory<DirtCoreForgePlugin> {
     public @NonNull AbstractWorldArgument<DirtCoreForgePlugin> world() {
         return ForgeWorldArgument.world();
     }
+
+    @Override
+    protected @NonNull Stream<String> provideBlockIds() {
+        return this.commandBuildContext.holderLookup(Registries.BLOCK).listElementIds()
+                .map(key -> key.location().toString());
+    }
+
+    @Override
+    protected @NonNull Stream<String> provideItemIds() {
+        return this.commandBuildContext.holderLookup(Registries.ITEM).listElementIds()
+                .map(key -> key.location().toString());
+    }
 }
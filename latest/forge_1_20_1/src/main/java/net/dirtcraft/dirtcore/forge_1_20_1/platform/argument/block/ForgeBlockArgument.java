@@ -37,6 +37,7 @@ import net.dirtcraft.dirtcore.common.command.abstraction.exceptions.CommandSynta
 import net.dirtcraft.dirtcore.common.command.abstraction.suggestion.Suggestions;
 import net.dirtcraft.dirtcore.common.command.abstraction.suggestion.SuggestionsBuilder;
 import net.dirtcraft.dirtcore.common.model.Sender;
+import net.dirtcraft.dirtcore.common.platform.argument.ResourceSuggestionIndex;
 import net.dirtcraft.dirtcore.forge_1_20_1.DirtCoreForgePlugin;
 import net.minecraft.commands.CommandBuildContext;
 import net.minecraft.core.HolderLookup;
@@ -48,13 +49,17 @@ public class ForgeBlockArgument extends AbstractBlockArgument<DirtCoreForgePlugi
 
     private static final Collection<String> EXAMPLES = Arrays.asList("stick", "minecraft:stick");
     private final HolderLookup<Block> blocks;
+    private final ResourceSuggestionIndex blockIndex;
 
-    private ForgeBlockArgument(@NonNull final CommandBuildContext context) {
+    private ForgeBlockArgument(@NonNull final CommandBuildContext context,
+            @NonNull final ResourceSuggestionIndex blockIndex) {
         this.blocks = context.holderLookup(Registries.BLOCK);
+        this.blockIndex = blockIndex;
     }
 
-    public static ForgeBlockArgument block(@NonNull final CommandBuildContext context) {
-        return new ForgeBlockArgument(context);
+    public static ForgeBlockArgument block(@NonNull final CommandBuildContext context,
+            @NonNull final ResourceSuggestionIndex blockIndex) {
+        return new ForgeBlockArgument(context, blockIndex);
     }
 
     @Override
@@ -67,7 +72,7 @@ public class ForgeBlockArgument extends AbstractBlockArgument<DirtCoreForgePlugi
     public <S extends Sender> CompletableFuture<Suggestions> listSuggestions(
             final DirtCoreForgePlugin plugin, final CommandContext<DirtCoreForgePlugin, S> context,
             final SuggestionsBuilder builder) {
-        return ForgeBlockParser.fillSuggestions(this.blocks, builder);
+        return ForgeBlockParser.fillSuggestions(this.blocks, this.blockIndex, builder);
     }
 
     @Override
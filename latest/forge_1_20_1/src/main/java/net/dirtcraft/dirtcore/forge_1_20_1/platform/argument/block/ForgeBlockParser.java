@@ -36,7 +36,7 @@ import net.dirtcraft.dirtcore.common.command.abstraction.exceptions.CommandSynta
 import net.dirtcraft.dirtcore.common.command.abstraction.exceptions.DynamicCommandExceptionType;
 import net.dirtcraft.dirtcore.common.command.abstraction.suggestion.Suggestions;
 import net.dirtcraft.dirtcore.common.command.abstraction.suggestion.SuggestionsBuilder;
-import net.dirtcraft.dirtcore.forge_1_20_1.util.ForgeSharedSuggestionProvider;
+import net.dirtcraft.dirtcore.common.platform.argument.ResourceSuggestionIndex;
 import net.dirtcraft.dirtcore.forge_1_20_1.util.ForgeUtils;
 import net.minecraft.core.HolderLookup;
 import net.minecraft.core.registries.Registries;
@@ -51,14 +51,17 @@ public class ForgeBlockParser extends AbstractBlockParser {
     public static final DynamicCommandExceptionType ERROR_UNKNOWN_BLOCK =
             new DynamicCommandExceptionType(o -> new LiteralMessage("Unknown block type '%s'", o));
     private final HolderLookup<Block> blocks;
+    private final ResourceSuggestionIndex blockIndex;
     private final StringReader reader;
     private ResourceLocation id = new ResourceLocation("");
     private Block block = null;
     private Function<SuggestionsBuilder, CompletableFuture<Suggestions>> suggestions =
             SuggestionsBuilder.SUGGEST_NOTHING;
 
-    private ForgeBlockParser(final HolderLookup<Block> pBlocks, final StringReader pReader) {
+    private ForgeBlockParser(final HolderLookup<Block> pBlocks,
+            final ResourceSuggestionIndex pBlockIndex, final StringReader pReader) {
         this.blocks = pBlocks;
+        this.blockIndex = pBlockIndex;
         this.reader = pReader;
     }
 
@@ -72,7 +75,8 @@ public class ForgeBlockParser extends AbstractBlockParser {
         final int i = pReader.getCursor();
 
         try {
-            final ForgeBlockParser parser = new ForgeBlockParser(pLookup, pReader);
+            final ForgeBlockParser parser =
+                    new ForgeBlockParser(pLookup, ResourceSuggestionIndex.EMPTY, pReader);
             parser.parse();
             return new ForgeBlockResult(parser.id, parser.block);
         } catch (final CommandSyntaxException commandsyntaxexception) {
@@ -82,10 +86,10 @@ public class ForgeBlockParser extends AbstractBlockParser {
     }
 
     public static CompletableFuture<Suggestions> fillSuggestions(final HolderLookup<Block> pLookup,
-            final SuggestionsBuilder pBuilder) {
+            final ResourceSuggestionIndex pBlockIndex, final SuggestionsBuilder pBuilder) {
         final StringReader stringreader = new StringReader(pBuilder.getInput());
         stringreader.setCursor(pBuilder.getStart());
-        final ForgeBlockParser parser = new ForgeBlockParser(pLookup, stringreader);
+        final ForgeBlockParser parser = new ForgeBlockParser(pLookup, pBlockIndex, stringreader);
 
         try {
             parser.parse();
@@ -100,8 +104,7 @@ public class ForgeBlockParser extends AbstractBlockParser {
     }
 
     private CompletableFuture<Suggestions> suggestItem(final SuggestionsBuilder builder) {
-        return ForgeSharedSuggestionProvider.suggestResource(
-                this.blocks.listElementIds().map(ResourceKey::location), builder);
+        return this.blockIndex.suggestResource(builder);
     }
 
     private void readBlock() throws CommandSyntaxException {
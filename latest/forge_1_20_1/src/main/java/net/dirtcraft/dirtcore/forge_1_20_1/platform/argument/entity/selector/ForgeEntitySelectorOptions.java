@@ -163,8 +163,7 @@ public class ForgeEntitySelectorOptions extends AbstractEntitySelectorOptions<Fo
     protected @NonNull Modifier<ForgeEntitySelectorParser> provideTypeHandler() {
         return parser -> {
             parser.setSuggestions((builder, consumer) -> {
-                ForgeSharedSuggestionProvider.suggestResource(
-                        BuiltInRegistries.ENTITY_TYPE.keySet(), builder,
+                this.getEntityTypeIndex(parser).suggestResource(builder,
                         String.valueOf(AbstractEntitySelectorParser.SYNTAX_NOT));
                 ForgeSharedSuggestionProvider.suggestResource(
                         BuiltInRegistries.ENTITY_TYPE.getTagNames().map(TagKey::location), builder,
@@ -173,8 +172,7 @@ public class ForgeEntitySelectorOptions extends AbstractEntitySelectorOptions<Fo
                                         AbstractEntitySelectorParser.SYNTAX_TAG}));
 
                 if (!parser.isTypeLimitedInversely()) {
-                    ForgeSharedSuggestionProvider.suggestResource(
-                            BuiltInRegistries.ENTITY_TYPE.keySet(), builder);
+                    this.getEntityTypeIndex(parser).suggestResource(builder);
                     ForgeSharedSuggestionProvider.suggestResource(
                             BuiltInRegistries.ENTITY_TYPE.getTagNames().map(TagKey::location),
                             builder, String.valueOf(AbstractEntitySelectorParser.SYNTAX_TAG));
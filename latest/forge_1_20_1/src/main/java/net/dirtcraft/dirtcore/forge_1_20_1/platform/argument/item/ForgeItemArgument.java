@@ -37,6 +37,7 @@ import net.dirtcraft.dirtcore.common.command.abstraction.exceptions.CommandSynta
 import net.dirtcraft.dirtcore.common.command.abstraction.suggestion.Suggestions;
 import net.dirtcraft.dirtcore.common.command.abstraction.suggestion.SuggestionsBuilder;
 import net.dirtcraft.dirtcore.common.model.Sender;
+import net.dirtcraft.dirtcore.common.platform.argument.ResourceSuggestionIndex;
 import net.dirtcraft.dirtcore.forge_1_20_1.DirtCoreForgePlugin;
 import net.minecraft.commands.CommandBuildContext;
 import net.minecraft.core.HolderLookup;
@@ -49,13 +50,17 @@ public class ForgeItemArgument extends AbstractItemArgument<DirtCoreForgePlugin>
     private static final Collection<String> EXAMPLES =
             Arrays.asList("stick", "minecraft:stick", "stick{foo=bar}");
     private final HolderLookup<Item> items;
+    private final ResourceSuggestionIndex itemIndex;
 
-    private ForgeItemArgument(@NonNull final CommandBuildContext context) {
+    private ForgeItemArgument(@NonNull final CommandBuildContext context,
+            @NonNull final ResourceSuggestionIndex itemIndex) {
         this.items = context.holderLookup(Registries.ITEM);
+        this.itemIndex = itemIndex;
     }
 
-    public static ForgeItemArgument item(@NonNull final CommandBuildContext context) {
-        return new ForgeItemArgument(context);
+    public static ForgeItemArgument item(@NonNull final CommandBuildContext context,
+            @NonNull final ResourceSuggestionIndex itemIndex) {
+        return new ForgeItemArgument(context, itemIndex);
     }
 
     @Override
@@ -68,7 +73,7 @@ public class ForgeItemArgument extends AbstractItemArgument<DirtCoreForgePlugin>
     public <S extends Sender> CompletableFuture<Suggestions> listSuggestions(
             final DirtCoreForgePlugin plugin, final CommandContext<DirtCoreForgePlugin, S> context,
             final SuggestionsBuilder builder) {
-        return ForgeItemParser.fillSuggestions(this.items, builder);
+        return ForgeItemParser.fillSuggestions(this.items, this.itemIndex, builder);
     }
 
     @Override
@@ -37,10 +37,10 @@ import net.dirtcraft.dirtcore.common.command.abstraction.exceptions.CommandSynta
 import net.dirtcraft.dirtcore.common.command.abstraction.suggestion.Suggestions;
 import net.dirtcraft.dirtcore.common.command.abstraction.suggestion.SuggestionsBuilder;
 import net.dirtcraft.dirtcore.common.model.minecraft.item.ItemStack;
+import net.dirtcraft.dirtcore.common.platform.argument.ResourceSuggestionIndex;
 import net.dirtcraft.dirtcore.common.plugin.DirtCorePlugin;
 import net.dirtcraft.dirtcore.forge_1_20_1.DirtCoreForgePlugin;
 import net.dirtcraft.dirtcore.forge_1_20_1.platform.argument.nbt.TagParser;
-import net.dirtcraft.dirtcore.forge_1_20_1.util.ForgeSharedSuggestionProvider;
 import net.dirtcraft.dirtcore.forge_1_20_1.util.ForgeUtils;
 import net.minecraft.core.Holder;
 import net.minecraft.core.HolderLookup;
@@ -58,6 +58,7 @@ public class ForgeItemParser extends AbstractItemParser {
 
     private static final char SYNTAX_START_NBT = '{';
     private final HolderLookup<Item> items;
+    private final ResourceSuggestionIndex itemIndex;
     private final StringReader reader;
     private Holder<Item> result;
     private ResourceLocation resourceLocation;
@@ -69,8 +70,10 @@ public class ForgeItemParser extends AbstractItemParser {
     private Function<SuggestionsBuilder, CompletableFuture<Suggestions>> suggestions =
             SuggestionsBuilder.SUGGEST_NOTHING;
 
-    private ForgeItemParser(final HolderLookup<Item> pItems, final StringReader pReader) {
+    private ForgeItemParser(final HolderLookup<Item> pItems,
+            final ResourceSuggestionIndex pItemIndex, final StringReader pReader) {
         this.items = pItems;
+        this.itemIndex = pItemIndex;
         this.reader = pReader;
     }
 
@@ -80,7 +83,8 @@ public class ForgeItemParser extends AbstractItemParser {
         final int i = reader.getCursor();
 
         try {
-            final ForgeItemParser parser = new ForgeItemParser(lookup, reader);
+            final ForgeItemParser parser =
+                    new ForgeItemParser(lookup, ResourceSuggestionIndex.EMPTY, reader);
             parser.parse();
             return new ForgeItemResult(plugin, parser.result, parser.resourceLocation, parser.nbt);
         } catch (final CommandSyntaxException e) {
@@ -90,10 +94,10 @@ public class ForgeItemParser extends AbstractItemParser {
     }
 
     public static CompletableFuture<Suggestions> fillSuggestions(final HolderLookup<Item> lookup,
-            final SuggestionsBuilder builder) {
+            final ResourceSuggestionIndex itemIndex, final SuggestionsBuilder builder) {
         final StringReader reader = new StringReader(builder.getInput());
         reader.setCursor(builder.getStart());
-        final ForgeItemParser parser = new ForgeItemParser(lookup, reader);
+        final ForgeItemParser parser = new ForgeItemParser(lookup, itemIndex, reader);
 
         try {
             parser.parse();
@@ -140,8 +144,7 @@ public class ForgeItemParser extends AbstractItemParser {
     }
 
     private CompletableFuture<Suggestions> suggestItem(final SuggestionsBuilder builder) {
-        return ForgeSharedSuggestionProvider.suggestResource(
-                this.items.listElementIds().map(ResourceKey::location), builder);
+        return this.itemIndex.suggestResource(builder);
     }
 
     public static class ForgeItemResult implements ItemResult {
@@ -72,7 +72,7 @@ public class NeoForgeConnectionListener extends AbstractConnectionListener<Playe
 
             if (user == null) {
                 context.queue(() -> {
-                    if (!this.getUniqueConnections().contains(profile.getId())) {
+                    if (!this.hasConnected(profile.getId())) {
                         this.plugin.getLogger()
                                 .warn("User " + profile.getId() + " - " + profile.getName()
                                         + " doesn't have data pre-loaded, they have never been "
@@ -58,6 +58,9 @@ import net.neoforged.bus.api.SubscribeEvent;
 import net.neoforged.neoforge.common.util.TriState;
 import net.neoforged.neoforge.event.CommandEvent;
 import net.neoforged.neoforge.event.ServerChatEvent;
+import net.neoforged.neoforge.event.entity.EntityEvent;
+import net.neoforged.neoforge.event.entity.EntityJoinLevelEvent;
+import net.neoforged.neoforge.event.entity.EntityLeaveLevelEvent;
 import net.neoforged.neoforge.event.entity.item.ItemTossEvent;
 import net.neoforged.neoforge.event.entity.living.LivingDeathEvent;
 import net.neoforged.neoforge.event.entity.player.AdvancementEvent;
@@ -66,6 +69,7 @@ import net.neoforged.neoforge.event.entity.player.ItemEntityPickupEvent;
 import net.neoforged.neoforge.event.entity.player.PlayerEvent;
 import net.neoforged.neoforge.event.entity.player.PlayerInteractEvent;
 import net.neoforged.neoforge.event.level.BlockEvent;
+import net.neoforged.neoforge.event.level.LevelEvent;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
 public class NeoForgePlatformListener {
@@ -139,6 +143,35 @@ public class NeoForgePlatformListener {
         event.setCanceled(cancel);
     }
 
+    @SubscribeEvent(priority = EventPriority.LOWEST)
+    public void onEntityEnteringSection(final EntityEvent.EnteringSection event) {
+        if (event.didChunkChange()) {
+            final Entity entity = event.getEntity();
+
+            this.plugin.getPlatformFactory().getWorldFactory()
+                    .onEntityMove(entity.level(), entity, event.getOldPos(), event.getNewPos());
+        }
+    }
+
+    @SubscribeEvent(priority = EventPriority.LOWEST)
+    public void onEntityJoinLevel(final EntityJoinLevelEvent event) {
+        this.plugin.getPlatformFactory().getWorldFactory()
+                .onEntityJoin(event.getLevel(), event.getEntity());
+    }
+
+    @SubscribeEvent
+    public void onEntityLeaveLevel(final EntityLeaveLevelEvent event) {
+        this.plugin.getPlatformFactory().getWorldFactory()
+                .onEntityLeave(event.getLevel(), event.getEntity());
+    }
+
+    @SubscribeEvent
+    public void onLevelUnload(final LevelEvent.Unload event) {
+        if (event.getLevel() instanceof final Level level) {
+            this.plugin.getPlatformFactory().getWorldFactory().invalidate(level);
+        }
+    }
+
     @SubscribeEvent
     public void onPlayerAttack(final AttackEntityEvent event) {
         final Player player = event.getEntity();
@@ -275,6 +308,7 @@ public class NeoForgePlatformListener {
 
     @SubscribeEvent
     public void onPlayerLogout(final PlayerEvent.PlayerLoggedOutEvent event) {
+        this.plugin.getPlatformFactory().getPlayerFactory().invalidate(event.getEntity().getUUID());
         this.plugin.getEventDispatcher().dispatchPlayerLogout(event.getEntity().getUUID(),
                 event.getEntity().getName().getString());
     }
@@ -100,7 +100,7 @@ public class NeoForgeEntityFactory extends EntityFactory<DirtCoreNeoForgePlugin,
     }
 
     @Override
-    protected @NonNull UUID getUniqueId(@NonNull final Entity entity) {
+    public @NonNull UUID getUniqueId(@NonNull final Entity entity) {
         return entity.getUUID();
     }
 
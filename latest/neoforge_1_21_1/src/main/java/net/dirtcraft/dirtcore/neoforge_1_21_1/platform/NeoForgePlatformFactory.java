@@ -369,4 +369,14 @@ public class NeoForgePlatformFactory implements PlatformFactory<Entity, ServerPl
     private Component extractURLs(@NonNull final Component component) {
         return component.replaceText(URL_TEXT_REPLACEMENT_CONFIG);
     }
+
+    @NonNull
+    public NeoForgePlayerFactory getPlayerFactory() {
+        return this.playerFactory;
+    }
+
+    @NonNull
+    public NeoForgeWorldFactory getWorldFactory() {
+        return this.worldFactory;
+    }
 }
@@ -28,6 +28,7 @@ package net.dirtcraft.dirtcore.neoforge_1_21_1.platform;
 
 import java.util.List;
 import net.dirtcraft.dirtcore.common.model.Sound;
+import net.dirtcraft.dirtcore.common.model.manager.messaging.RenderedMessage;
 import net.dirtcraft.dirtcore.common.model.minecraft.World;
 import net.dirtcraft.dirtcore.common.model.minecraft.gui.container.Container;
 import net.dirtcraft.dirtcore.common.platform.minecraft.player.PlayerFactory;
@@ -111,6 +112,12 @@ public class NeoForgePlayerFactory extends PlayerFactory<DirtCoreNeoForgePlugin,
         }
     }
 
+    @Override
+    protected void sendMessage(@NonNull final ServerPlayer player,
+            @NonNull final RenderedMessage message) {
+        player.sendSystemMessage(message.toPlatform(this.platformFactory));
+    }
+
     @Override
     protected void performCommand(@NonNull final ServerPlayer player,
             @NonNull final String command) {
@@ -26,19 +26,14 @@
 
 package net.dirtcraft.dirtcore.neoforge_1_21_1.platform;
 
-import it.unimi.dsi.fastutil.longs.LongIterator;
-import it.unimi.dsi.fastutil.longs.LongSet;
-import java.lang.reflect.Field;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
-import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 import net.dirtcraft.dirtcore.common.model.Animation;
@@ -47,12 +42,15 @@ import net.dirtcraft.dirtcore.common.model.minecraft.Entity;
 import net.dirtcraft.dirtcore.common.model.minecraft.Player;
 import net.dirtcraft.dirtcore.common.model.minecraft.World;
 import net.dirtcraft.dirtcore.common.model.minecraft.phys.AABB;
-import net.dirtcraft.dirtcore.common.model.profile.ChunkEntityProfile;
+import net.dirtcraft.dirtcore.common.model.profile.EntityCensus;
+import net.dirtcraft.dirtcore.common.model.profile.EntityTypeIds;
 import net.dirtcraft.dirtcore.common.platform.minecraft.world.AbstractWorld;
 import net.dirtcraft.dirtcore.common.platform.minecraft.world.WorldFactory;
+import net.dirtcraft.dirtcore.common.util.Accessors;
 import net.dirtcraft.dirtcore.neoforge_1_21_1.DirtCoreNeoForgePlugin;
 import net.dirtcraft.dirtcore.neoforge_1_21_1.util.NeoForgeBlock;
 import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
 import net.minecraft.core.particles.ParticleOptions;
 import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.server.level.ServerLevel;
@@ -61,35 +59,33 @@ import net.minecraft.world.entity.EntityType;
 import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.block.entity.TickingBlockEntity;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.entity.EntitySection;
 import net.minecraft.world.level.entity.EntitySectionStorage;
 import net.minecraft.world.level.entity.PersistentEntitySectionManager;
 import net.minecraft.world.level.levelgen.Heightmap;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 public class NeoForgeWorldFactory extends WorldFactory<DirtCoreNeoForgePlugin, Level> {
 
     /**
-     * {@link PersistentEntitySectionManager#sectionStorage}
+     * {@link ServerLevel#entityManager} followed by
+     * {@link PersistentEntitySectionManager#sectionStorage}, the result never changes for a
+     * level.
      */
-    private static final Field PERSISTENT_ENTITY_SELECTION_MANAGER_SELECTION_STORAGE;
-    private static final Field SERVER_LEVEL_ENTITY_MANAGER;
-
-    static {
-        try {
-            PERSISTENT_ENTITY_SELECTION_MANAGER_SELECTION_STORAGE =
-                    PersistentEntitySectionManager.class.getDeclaredField("sectionStorage");
-            PERSISTENT_ENTITY_SELECTION_MANAGER_SELECTION_STORAGE.setAccessible(true);
-
-            SERVER_LEVEL_ENTITY_MANAGER = ServerLevel.class.getDeclaredField("entityManager");
-            SERVER_LEVEL_ENTITY_MANAGER.setAccessible(true);
-        } catch (final NoSuchFieldException e) {
-            throw new RuntimeException(e);
-        }
-    }
+    private static final MethodHandle SERVER_LEVEL_ENTITY_SECTION_STORAGE =
+            MethodHandles.filterReturnValue(Accessors.getter(ServerLevel.class, "entityManager"),
+                    Accessors.getter(PersistentEntitySectionManager.class, "sectionStorage"));
+    /**
+     * {@link Level#blockEntityTickers}
+     */
+    private static final MethodHandle LEVEL_BLOCK_ENTITY_TICKERS =
+            Accessors.getter(Level.class, "blockEntityTickers");
 
     private final NeoForgePlatformFactory platformFactory;
+    private final EntityTypeIds<EntityType<?>> entityTypeIds = new EntityTypeIds<>();
 
     public NeoForgeWorldFactory(final DirtCoreNeoForgePlugin plugin,
             final NeoForgePlatformFactory platformFactory) {
@@ -241,95 +237,127 @@ public class NeoForgeWorldFactory extends WorldFactory<DirtCoreNeoForgePlugin, L
     }
 
     @Override
-    protected @NonNull Collection<ChunkEntityProfile> getEntityProfiles(
-            @NonNull final Level world) {
+    protected @Nullable EntityCensus createEntityCensus(@NonNull final Level world) {
         if (!(world instanceof final ServerLevel serverLevel)) {
-            return Collections.emptySet();
+            return null;
         }
 
-        final EntitySectionStorage<net.minecraft.world.entity.Entity> entitySectionStorage =
-                this.getEntitySelectionStorage(serverLevel);
-        final LongSet loadedChunks = entitySectionStorage.getAllChunksWithExistingSections();
-        final List<ChunkEntityProfile> list = new ArrayList<>(loadedChunks.size());
+        final EntityCensus census =
+                new EntityCensus(this.getIdentifier(serverLevel), this.entityTypeIds);
 
-        for (final LongIterator iterator = loadedChunks.iterator(); iterator.hasNext(); ) {
-            final long chunkPos = iterator.nextLong();
-            this.getEntityProfile(serverLevel, entitySectionStorage, chunkPos).ifPresent(list::add);
+        for (final net.minecraft.world.entity.Entity entity : serverLevel.getAllEntities()) {
+            this.onEntityJoin(census, entity);
         }
 
-        return list;
+        return census;
     }
 
+    @SuppressWarnings("unchecked")
     @Override
-    protected @NonNull Optional<ChunkEntityProfile> getEntityProfile(@NonNull final Level world,
-            final int chunkX, final int chunkZ) {
-        if (!(world instanceof final ServerLevel serverLevel)) {
-            return Optional.empty();
+    protected @NonNull Object[] getBlockEntities(@NonNull final Level world) {
+        // only ticking block entities are tracked by the level itself
+        try {
+            return ((List<TickingBlockEntity>) (List<?>) LEVEL_BLOCK_ENTITY_TICKERS.invokeExact(
+                    world)).toArray();
+        } catch (final Throwable t) {
+            throw new RuntimeException(t);
         }
+    }
 
-        if (!this.hasChunk(serverLevel, chunkX, chunkZ)) {
-            return Optional.empty();
+    @Override
+    protected void countBlockEntity(@NonNull final EntityCensus census,
+            @NonNull final Object blockEntity) {
+        final TickingBlockEntity ticker = (TickingBlockEntity) blockEntity;
+
+        if (ticker.isRemoved()) {
+            return;
         }
 
-        return this.getEntityProfile(serverLevel, this.getEntitySelectionStorage(serverLevel),
-                chunkX, chunkZ);
+        final BlockPos pos = ticker.getPos();
+        final String type = ticker.getType();
+        final int id = this.blockEntityTypeIds.getId(type);
+
+        census.add(SectionPos.blockToSectionCoord(pos.getX()),
+                SectionPos.blockToSectionCoord(pos.getZ()),
+                id >= 0 ? id : this.blockEntityTypeIds.register(type, type));
     }
 
-    @SuppressWarnings("unchecked")
-    private EntitySectionStorage<net.minecraft.world.entity.Entity> getEntitySelectionStorage(
-            @NonNull final ServerLevel serverLevel) {
-        try {
-            final PersistentEntitySectionManager<net.minecraft.world.entity.Entity> entityManager =
-                    (PersistentEntitySectionManager<net.minecraft.world.entity.Entity>) SERVER_LEVEL_ENTITY_MANAGER.get(
-                            serverLevel);
-            return (EntitySectionStorage<net.minecraft.world.entity.Entity>) PERSISTENT_ENTITY_SELECTION_MANAGER_SELECTION_STORAGE.get(
-                    entityManager);
-        } catch (final IllegalAccessException e) {
-            throw new RuntimeException(e);
+    /**
+     * Called after an entity joined a level.
+     *
+     * @param world  the world
+     * @param entity the entity
+     */
+    public void onEntityJoin(@NonNull final Level world,
+            final net.minecraft.world.entity.@NonNull Entity entity) {
+        final EntityCensus census = this.getEntityCensusIfPresent(world);
+
+        if (census != null) {
+            this.onEntityJoin(census, entity);
         }
     }
 
-    @NonNull
-    private Optional<ChunkEntityProfile> getEntityProfile(@NonNull final ServerLevel serverLevel,
-            @NonNull final EntitySectionStorage<net.minecraft.world.entity.Entity> entitySectionStorage,
-            final long chunkPos) {
-        return this.getEntityProfile(serverLevel, entitySectionStorage, chunkPos,
-                ChunkPos.getX(chunkPos), ChunkPos.getZ(chunkPos));
+    /**
+     * Called after an entity left a level, i.e. it has been removed or unloaded.
+     *
+     * @param world  the world
+     * @param entity the entity
+     */
+    public void onEntityLeave(@NonNull final Level world,
+            final net.minecraft.world.entity.@NonNull Entity entity) {
+        final EntityCensus census = this.getEntityCensusIfPresent(world);
+
+        if (census != null && !(entity instanceof net.minecraft.world.entity.player.Player)) {
+            final ChunkPos chunkPos = entity.chunkPosition();
+
+            census.remove(chunkPos.x, chunkPos.z, this.getEntityTypeId(entity));
+        }
     }
 
-    @NonNull
-    private Optional<ChunkEntityProfile> getEntityProfile(@NonNull final ServerLevel serverLevel,
-            @NonNull final EntitySectionStorage<net.minecraft.world.entity.Entity> entitySectionStorage,
-            final int chunkX, final int chunkZ) {
-        return this.getEntityProfile(serverLevel, entitySectionStorage,
-                ChunkPos.asLong(chunkX, chunkZ), chunkX, chunkZ);
+    /**
+     * Called after an entity moved to another section.
+     *
+     * @param world  the world
+     * @param entity the entity
+     * @param from   the previous section
+     * @param to     the new section
+     */
+    public void onEntityMove(@NonNull final Level world,
+            final net.minecraft.world.entity.@NonNull Entity entity,
+            @NonNull final SectionPos from, @NonNull final SectionPos to) {
+        final EntityCensus census = this.getEntityCensusIfPresent(world);
+
+        if (census != null && !(entity instanceof net.minecraft.world.entity.player.Player)) {
+            census.move(from.x(), from.z(), to.x(), to.z(), this.getEntityTypeId(entity));
+        }
     }
 
-    @NonNull
-    private Optional<ChunkEntityProfile> getEntityProfile(@NonNull final ServerLevel serverLevel,
-            @NonNull final EntitySectionStorage<net.minecraft.world.entity.Entity> entitySectionStorage,
-            final long chunkPos, final int chunkX, final int chunkZ) {
-        final Stream<EntitySection<net.minecraft.world.entity.Entity>> sections =
-                entitySectionStorage.getExistingSectionsInChunk(chunkPos);
-        final Map<String, Integer> map = new HashMap<>();
-        final AtomicInteger total = new AtomicInteger();
+    private void onEntityJoin(@NonNull final EntityCensus census,
+            final net.minecraft.world.entity.@NonNull Entity entity) {
+        if (!(entity instanceof net.minecraft.world.entity.player.Player)) {
+            final ChunkPos chunkPos = entity.chunkPosition();
 
-        sections.forEach(section -> {
-            if (section.getStatus().isAccessible()) {
-                section.getEntities()
-                        .filter(entity -> !(entity instanceof net.minecraft.world.entity.player.Player))
-                        .forEach(entity -> {
-                            final String type = EntityType.getKey(entity.getType()).toString();
+            census.add(chunkPos.x, chunkPos.z, this.getEntityTypeId(entity));
+        }
+    }
 
-                            map.put(type, map.getOrDefault(type, 0) + 1);
-                            total.addAndGet(1);
-                        });
-            }
-        });
+    private int getEntityTypeId(final net.minecraft.world.entity.@NonNull Entity entity) {
+        final EntityType<?> type = entity.getType();
+        final int id = this.entityTypeIds.getId(type);
+        return id >= 0 ? id
+                : this.entityTypeIds.register(type, EntityType.getKey(type).toString());
+    }
 
-        return Optional.of(
-                ChunkEntityProfile.of(map, total.get(), this.getIdentifier(serverLevel), chunkX,
-                        chunkZ));
+    @SuppressWarnings("unchecked")
+    private EntitySectionStorage<net.minecraft.world.entity.Entity> getEntitySelectionStorage(
+            @NonNull final ServerLevel serverLevel) {
+        try {
+            return (EntitySectionStorage<net.minecraft.world.entity.Entity>)
+                    (EntitySectionStorage<?>) SERVER_LEVEL_ENTITY_SECTION_STORAGE.invokeExact(
+                            serverLevel);
+        } catch (final Throwable t) {
+            throw new RuntimeException(t);
+        }
     }
 
     @NonNull
@@ -26,6 +26,7 @@
 
 package net.dirtcraft.dirtcore.neoforge_1_21_1.platform.argument;
 
+import java.util.stream.Stream;
 import net.dirtcraft.dirtcore.common.command.abstraction.arguments.minecraft.block.AbstractBlockArgument;
 import net.dirtcraft.dirtcore.common.command.abstraction.arguments.minecraft.entity.AbstractEntityArgument;
 import net.dirtcraft.dirtcore.common.command.abstraction.arguments.minecraft.persistentdata.AbstractPersistentDataArgument;
@@ -38,6 +39,7 @@ import net.dirtcraft.dirtcore.neoforge_1_21_1.platform.argument.entity.NeoForgeE
 import net.dirtcraft.dirtcore.neoforge_1_21_1.platform.argument.item.NeoForgeItemArgument;
 import net.dirtcraft.dirtcore.neoforge_1_21_1.platform.argument.world.NeoForgeWorldArgument;
 import net.minecraft.commands.CommandBuildContext;
+import net.minecraft.core.registries.Registries;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
 public class NeoForgeArgumentFactory extends ArgumentFactory<DirtCoreNeoForgePlugin> {
@@ -52,7 +54,7 @@ public class NeoForgeArgumentFactory extends ArgumentFactory<DirtCoreNeoForgePlu
 
     @Override
     public @NonNull AbstractBlockArgument<DirtCoreNeoForgePlugin> block() {
-        return NeoForgeBlockArgument.block(this.commandBuildContext);
+        return NeoForgeBlockArgument.block(this.commandBuildContext, this.getBlockIndex());
     }
 
     @Override
@@ -67,7 +69,7 @@ public class NeoForgeArgumentFactory extends ArgumentFactory<DirtCoreNeoForgePlu
 
     @Override
     public @NonNull NeoForgeItemArgument item() {
-        return NeoForgeItemArgument.item(this.commandBuildContext);
+        return NeoForgeItemArgument.item(this.commandBuildContext, this.getItemIndex());
     }
 
     @Override
@@ -89,4 +91,16 @@ public class NeoForgeArgumentFactory extends ArgumentFactory<DirtCoreNeoForgePlu
     public @NonNull AbstractWorldArgument<DirtCoreNeoForgePlugin> world() {
         return NeoForgeWorldArgument.world();
     }
+
+    @Override
+    protected @NonNull Stream<String> provideBlockIds() {
+        return this.commandBuildContext.lookupOrThrow(Registries.BLOCK).listElementIds()
+                .map(key -> key.location().toString());
+    }
+
+    @Override
+    protected @NonNull Stream<String> provideItemIds() {
+        return this.commandBuildContext.lookupOrThrow(Registries.ITEM).listElementIds()
+                .map(key -> key.location().toString());
+    }
 }
@@ -37,6 +37,7 @@ import net.dirtcraft.dirtcore.common.command.abstraction.exceptions.CommandSynta
 import net.dirtcraft.dirtcore.common.command.abstraction.suggestion.Suggestions;
 import net.dirtcraft.dirtcore.common.command.abstraction.suggestion.SuggestionsBuilder;
 import net.dirtcraft.dirtcore.common.model.Sender;
+import net.dirtcraft.dirtcore.common.platform.argument.ResourceSuggestionIndex;
 import net.dirtcraft.dirtcore.neoforge_1_21_1.DirtCoreNeoForgePlugin;
 import net.minecraft.core.HolderLookup;
 import net.minecraft.core.registries.Registries;
@@ -47,13 +48,17 @@ public class NeoForgeBlockArgument extends AbstractBlockArgument<DirtCoreNeoForg
 
     private static final Collection<String> EXAMPLES = Arrays.asList("stick", "minecraft:stick");
     private final HolderLookup<Block> blocks;
+    private final ResourceSuggestionIndex blockIndex;
 
-    private NeoForgeBlockArgument(final HolderLookup.@NonNull Provider provider) {
+    private NeoForgeBlockArgument(final HolderLookup.@NonNull Provider provider,
+            @NonNull final ResourceSuggestionIndex blockIndex) {
         this.blocks = provider.lookupOrThrow(Registries.BLOCK);
+        this.blockIndex = blockIndex;
     }
 
-    public static NeoForgeBlockArgument block(final HolderLookup.@NonNull Provider provider) {
-        return new NeoForgeBlockArgument(provider);
+    public static NeoForgeBlockArgument block(final HolderLookup.@NonNull Provider provider,
+            @NonNull final ResourceSuggestionIndex blockIndex) {
+        return new NeoForgeBlockArgument(provider, blockIndex);
     }
 
     @Override
@@ -67,7 +72,7 @@ public class NeoForgeBlockArgument extends AbstractBlockArgument<DirtCoreNeoForg
             final DirtCoreNeoForgePlugin plugin,
             final CommandContext<DirtCoreNeoForgePlugin, S> context,
             final SuggestionsBuilder builder) {
-        return NeoForgeBlockParser.fillSuggestions(this.blocks, builder);
+        return NeoForgeBlockParser.fillSuggestions(this.blocks, this.blockIndex, builder);
     }
 
     @Override
@@ -36,7 +36,7 @@ import net.dirtcraft.dirtcore.common.command.abstraction.exceptions.CommandSynta
 import net.dirtcraft.dirtcore.common.command.abstraction.exceptions.DynamicCommandExceptionType;
 import net.dirtcraft.dirtcore.common.command.abstraction.suggestion.Suggestions;
 import net.dirtcraft.dirtcore.common.command.abstraction.suggestion.SuggestionsBuilder;
-import net.dirtcraft.dirtcore.neoforge_1_21_1.util.NeoForgeSharedSuggestionProvider;
+import net.dirtcraft.dirtcore.common.platform.argument.ResourceSuggestionIndex;
 import net.dirtcraft.dirtcore.neoforge_1_21_1.util.NeoForgeUtils;
 import net.minecraft.core.HolderLookup;
 import net.minecraft.core.registries.Registries;
@@ -51,14 +51,17 @@ public class NeoForgeBlockParser extends AbstractBlockParser {
     public static final DynamicCommandExceptionType ERROR_UNKNOWN_BLOCK =
             new DynamicCommandExceptionType(o -> new LiteralMessage("Unknown block type '%s'", o));
     private final HolderLookup<Block> blocks;
+    private final ResourceSuggestionIndex blockIndex;
     private final StringReader reader;
     private ResourceLocation id = ResourceLocation.withDefaultNamespace("");
     private Block block = null;
     private Function<SuggestionsBuilder, CompletableFuture<Suggestions>> suggestions =
             SuggestionsBuilder.SUGGEST_NOTHING;
 
-    private NeoForgeBlockParser(final HolderLookup<Block> pBlocks, final StringReader pReader) {
+    private NeoForgeBlockParser(final HolderLookup<Block> pBlocks,
+            final ResourceSuggestionIndex pBlockIndex, final StringReader pReader) {
         this.blocks = pBlocks;
+        this.blockIndex = pBlockIndex;
         this.reader = pReader;
     }
 
@@ -72,7 +75,8 @@ public class NeoForgeBlockParser extends AbstractBlockParser {
         final int i = pReader.getCursor();
 
         try {
-            final NeoForgeBlockParser parser = new NeoForgeBlockParser(pLookup, pReader);
+            final NeoForgeBlockParser parser =
+                    new NeoForgeBlockParser(pLookup, ResourceSuggestionIndex.EMPTY, pReader);
             parser.parse();
             return new ForgeBlockResult(parser.id, parser.block);
         } catch (final CommandSyntaxException commandsyntaxexception) {
@@ -82,10 +86,11 @@ public class NeoForgeBlockParser extends AbstractBlockParser {
     }
 
     public static CompletableFuture<Suggestions> fillSuggestions(final HolderLookup<Block> pLookup,
-            final SuggestionsBuilder pBuilder) {
+            final ResourceSuggestionIndex pBlockIndex, final SuggestionsBuilder pBuilder) {
         final StringReader stringreader = new StringReader(pBuilder.getInput());
         stringreader.setCursor(pBuilder.getStart());
-        final NeoForgeBlockParser parser = new NeoForgeBlockParser(pLookup, stringreader);
+        final NeoForgeBlockParser parser =
+                new NeoForgeBlockParser(pLookup, pBlockIndex, stringreader);
 
         try {
             parser.parse();
@@ -100,8 +105,7 @@ public class NeoForgeBlockParser extends AbstractBlockParser {
     }
 
     private CompletableFuture<Suggestions> suggestItem(final SuggestionsBuilder builder) {
-        return NeoForgeSharedSuggestionProvider.suggestResource(
-                this.blocks.listElementIds().map(ResourceKey::location), builder);
+        return this.blockIndex.suggestResource(builder);
     }
 
     private void readBlock() throws CommandSyntaxException {
@@ -164,8 +164,7 @@ public class NeoForgeEntitySelectorOptions extends AbstractEntitySelectorOptions
     protected @NonNull Modifier<NeoForgeEntitySelectorParser> provideTypeHandler() {
         return parser -> {
             parser.setSuggestions((builder, consumer) -> {
-                NeoForgeSharedSuggestionProvider.suggestResource(
-                        BuiltInRegistries.ENTITY_TYPE.keySet(), builder,
+                this.getEntityTypeIndex(parser).suggestResource(builder,
                         String.valueOf(AbstractEntitySelectorParser.SYNTAX_NOT));
                 NeoForgeSharedSuggestionProvider.suggestResource(
                         BuiltInRegistries.ENTITY_TYPE.getTagNames().map(TagKey::location), builder,
@@ -174,8 +173,7 @@ public class NeoForgeEntitySelectorOptions extends AbstractEntitySelectorOptions
                                         AbstractEntitySelectorParser.SYNTAX_TAG}));
 
                 if (!parser.isTypeLimitedInversely()) {
-                    NeoForgeSharedSuggestionProvider.suggestResource(
-                            BuiltInRegistries.ENTITY_TYPE.keySet(), builder);
+                    this.getEntityTypeIndex(parser).suggestResource(builder);
                     NeoForgeSharedSuggestionProvider.suggestResource(
                             BuiltInRegistries.ENTITY_TYPE.getTagNames().map(TagKey::location),
                             builder, String.valueOf(AbstractEntitySelectorParser.SYNTAX_TAG));
@@ -37,6 +37,7 @@ import net.dirtcraft.dirtcore.common.command.abstraction.exceptions.CommandSynta
 import net.dirtcraft.dirtcore.common.command.abstraction.suggestion.Suggestions;
 import net.dirtcraft.dirtcore.common.command.abstraction.suggestion.SuggestionsBuilder;
 import net.dirtcraft.dirtcore.common.model.Sender;
+import net.dirtcraft.dirtcore.common.platform.argument.ResourceSuggestionIndex;
 import net.dirtcraft.dirtcore.neoforge_1_21_1.DirtCoreNeoForgePlugin;
 import net.minecraft.core.HolderLookup;
 import org.checkerframework.checker.nullness.qual.NonNull;
@@ -47,12 +48,14 @@ public class NeoForgeItemArgument extends AbstractItemArgument<DirtCoreNeoForgeP
             Arrays.asList("stick", "minecraft:stick", "stick{foo=bar}");
     private final NeoForgeItemParser parser;
 
-    private NeoForgeItemArgument(final HolderLookup.@NonNull Provider provider) {
-        this.parser = new NeoForgeItemParser(provider);
+    private NeoForgeItemArgument(final HolderLookup.@NonNull Provider provider,
+            @NonNull final ResourceSuggestionIndex itemIndex) {
+        this.parser = new NeoForgeItemParser(provider, itemIndex);
     }
 
-    public static NeoForgeItemArgument item(final HolderLookup.@NonNull Provider provider) {
-        return new NeoForgeItemArgument(provider);
+    public static NeoForgeItemArgument item(final HolderLookup.@NonNull Provider provider,
+            @NonNull final ResourceSuggestionIndex itemIndex) {
+        return new NeoForgeItemArgument(provider, itemIndex);
     }
 
     @Override
@@ -41,10 +41,10 @@ import net.dirtcraft.dirtcore.common.command.abstraction.exceptions.DynamicComma
 import net.dirtcraft.dirtcore.common.command.abstraction.suggestion.Suggestions;
 import net.dirtcraft.dirtcore.common.command.abstraction.suggestion.SuggestionsBuilder;
 import net.dirtcraft.dirtcore.common.model.minecraft.item.ItemStack;
+import net.dirtcraft.dirtcore.common.platform.argument.ResourceSuggestionIndex;
 import net.dirtcraft.dirtcore.common.plugin.DirtCorePlugin;
 import net.dirtcraft.dirtcore.neoforge_1_21_1.DirtCoreNeoForgePlugin;
 import net.dirtcraft.dirtcore.neoforge_1_21_1.util.NeoForgeDataComponentParser;
-import net.dirtcraft.dirtcore.neoforge_1_21_1.util.NeoForgeSharedSuggestionProvider;
 import net.dirtcraft.dirtcore.neoforge_1_21_1.util.NeoForgeUtils;
 import net.minecraft.core.Holder;
 import net.minecraft.core.HolderLookup;
@@ -71,11 +71,14 @@ public class NeoForgeItemParser extends AbstractItemParser {
             new DynamicCommandExceptionType(o -> new LiteralMessage("Malformed item: '%s'", o));
     private final HolderLookup.Provider provider;
     private final HolderLookup.RegistryLookup<Item> items;
+    private final ResourceSuggestionIndex itemIndex;
     private final NeoForgeDataComponentParser parser;
 
-    protected NeoForgeItemParser(final HolderLookup.Provider provider) {
+    protected NeoForgeItemParser(final HolderLookup.Provider provider,
+            final ResourceSuggestionIndex itemIndex) {
         this.provider = provider;
         this.items = provider.lookupOrThrow(Registries.ITEM);
+        this.itemIndex = itemIndex;
         this.parser = new NeoForgeDataComponentParser(provider);
     }
 
@@ -306,9 +309,7 @@ public class NeoForgeItemParser extends AbstractItemParser {
         }
 
         private CompletableFuture<Suggestions> suggestItem(final SuggestionsBuilder builder) {
-            return NeoForgeSharedSuggestionProvider.suggestResource(
-                    NeoForgeItemParser.this.items.listElementIds().map(ResourceKey::location),
-                    builder);
+            return NeoForgeItemParser.this.itemIndex.suggestResource(builder);
         }
     }
 
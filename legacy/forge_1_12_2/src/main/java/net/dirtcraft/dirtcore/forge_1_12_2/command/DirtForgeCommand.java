@@ -95,7 +95,8 @@ public class DirtForgeCommand extends CommandBase {
                 this.getName() + (args.length == 0 ? "" : ' ' + String.join(" ", args));
         final StringReader stringreader = new StringReader(input);
         final ParseResults<DirtCorePlugin, Sender> parse =
-                this.plugin.getCommandManager().getDispatcher().parse(stringreader, sender);
+                this.plugin.getCommandManager().getDispatcher()
+                        .parseForSuggestions(stringreader, sender);
 
         try {
             final List<Suggestion> suggestions =
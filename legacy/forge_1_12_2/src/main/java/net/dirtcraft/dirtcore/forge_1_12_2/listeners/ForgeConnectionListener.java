@@ -74,7 +74,7 @@ public class ForgeConnectionListener extends AbstractConnectionListener<PlayerNe
 
             if (user == null) {
                 context.queue(() -> {
-                    if (!this.getUniqueConnections().contains(profile.getId())) {
+                    if (!this.hasConnected(profile.getId())) {
                         this.plugin.getLogger()
                                 .warn("User " + profile.getId() + " - " + profile.getName()
                                         + " doesn't have data pre-loaded, they have never been "
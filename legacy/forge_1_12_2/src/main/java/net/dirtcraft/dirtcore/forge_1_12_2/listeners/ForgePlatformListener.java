@@ -60,6 +60,7 @@ import net.minecraft.world.chunk.storage.ExtendedBlockStorage;
 import net.minecraftforge.common.util.FakePlayer;
 import net.minecraftforge.event.CommandEvent;
 import net.minecraftforge.event.ServerChatEvent;
+import net.minecraftforge.event.entity.EntityEvent;
 import net.minecraftforge.event.entity.item.ItemTossEvent;
 import net.minecraftforge.event.entity.living.LivingAttackEvent;
 import net.minecraftforge.event.entity.living.LivingDeathEvent;
@@ -67,6 +68,7 @@ import net.minecraftforge.event.entity.player.AdvancementEvent;
 import net.minecraftforge.event.entity.player.EntityItemPickupEvent;
 import net.minecraftforge.event.entity.player.PlayerInteractEvent;
 import net.minecraftforge.event.world.BlockEvent;
+import net.minecraftforge.event.world.WorldEvent;
 import net.minecraftforge.fml.common.eventhandler.EventPriority;
 import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
 import net.minecraftforge.fml.common.gameevent.PlayerEvent;
@@ -121,6 +123,20 @@ public class ForgePlatformListener {
         event.setCanceled(cancel);
     }
 
+    @SubscribeEvent(priority = EventPriority.LOWEST)
+    public void onEntityEnteringChunk(final EntityEvent.EnteringChunk event) {
+        final Entity entity = event.getEntity();
+
+        this.plugin.getPlatformFactory().getWorldFactory()
+                .onEntityMove(entity.world, entity, event.getOldChunkX(), event.getOldChunkZ(),
+                        event.getNewChunkX(), event.getNewChunkZ());
+    }
+
+    @SubscribeEvent
+    public void onWorldUnload(final WorldEvent.Unload event) {
+        this.plugin.getPlatformFactory().getWorldFactory().invalidate(event.getWorld());
+    }
+
     @SubscribeEvent
     public void onPlayerAttack(final LivingAttackEvent event) {
         final DamageSource damageSource = event.getSource();
@@ -248,6 +264,8 @@ public class ForgePlatformListener {
         final UUID uniqueId = player.getUniqueID();
         final String username = player.getName();
 
+        this.plugin.getPlatformFactory().getPlayerFactory().invalidate(uniqueId);
+
         this.plugin.getStorage().performTask(context -> {
             final Optional<BanEntity> banEntityOptional =
                     this.plugin.getPunishmentManager().getActiveBan(context, uniqueId);
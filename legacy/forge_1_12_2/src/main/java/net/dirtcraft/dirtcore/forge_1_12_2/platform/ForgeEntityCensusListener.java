@@ -0,0 +1,109 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Marc Beckhaeuser (AlphaConqueror) <marcbeckhaeuser@gmail.com>
+ *
+ * Created for 'DirtCraft'.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package net.dirtcraft.dirtcore.forge_1_12_2.platform;
+
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.util.SoundCategory;
+import net.minecraft.util.SoundEvent;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.IWorldEventListener;
+import net.minecraft.world.World;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Forwards entities being added to or removed from a world to the entity census of the
+ * {@link ForgeWorldFactory}, as Forge does not provide an event for entities leaving a world.
+ */
+class ForgeEntityCensusListener implements IWorldEventListener {
+
+    @NonNull
+    private final ForgeWorldFactory worldFactory;
+    @NonNull
+    private final World world;
+
+    ForgeEntityCensusListener(@NonNull final ForgeWorldFactory worldFactory,
+            @NonNull final World world) {
+        this.worldFactory = worldFactory;
+        this.world = world;
+    }
+
+    @Override
+    public void onEntityAdded(@NonNull final Entity entity) {
+        this.worldFactory.onEntityJoin(this.world, entity);
+    }
+
+    @Override
+    public void onEntityRemoved(@NonNull final Entity entity) {
+        this.worldFactory.onEntityLeave(this.world, entity);
+    }
+
+    @Override
+    public void notifyBlockUpdate(@NonNull final World world, @NonNull final BlockPos pos,
+            @NonNull final IBlockState oldState, @NonNull final IBlockState newState,
+            final int flags) {}
+
+    @Override
+    public void notifyLightSet(@NonNull final BlockPos pos) {}
+
+    @Override
+    public void markBlockRangeForRenderUpdate(final int x1, final int y1, final int z1,
+            final int x2, final int y2, final int z2) {}
+
+    @Override
+    public void playSoundToAllNearExcept(@Nullable final EntityPlayer player,
+            @NonNull final SoundEvent sound, @NonNull final SoundCategory category,
+            final double x, final double y, final double z, final float volume,
+            final float pitch) {}
+
+    @Override
+    public void playRecord(@NonNull final SoundEvent sound, @NonNull final BlockPos pos) {}
+
+    @Override
+    public void spawnParticle(final int particleId, final boolean ignoreRange, final double x,
+            final double y, final double z, final double xSpeed, final double ySpeed,
+            final double zSpeed, final int... parameters) {}
+
+    @Override
+    public void spawnParticle(final int id, final boolean ignoreRange,
+            final boolean minimiseParticleLevel, final double x, final double y, final double z,
+            final double xSpeed, final double ySpeed, final double zSpeed,
+            final int... parameters) {}
+
+    @Override
+    public void broadcastSound(final int soundId, @NonNull final BlockPos pos, final int data) {}
+
+    @Override
+    public void playEvent(@Nullable final EntityPlayer player, final int type,
+            @NonNull final BlockPos pos, final int data) {}
+
+    @Override
+    public void sendBlockBreakProgress(final int breakerId, @NonNull final BlockPos pos,
+            final int progress) {}
+}
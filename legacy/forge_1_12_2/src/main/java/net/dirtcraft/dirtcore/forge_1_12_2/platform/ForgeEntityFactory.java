@@ -101,7 +101,7 @@ public class ForgeEntityFactory extends EntityFactory<DirtCoreForgePlugin, Entit
     }
 
     @Override
-    protected @NonNull UUID getUniqueId(@NonNull final Entity entity) {
+    public @NonNull UUID getUniqueId(@NonNull final Entity entity) {
         return entity.getUniqueID();
     }
 
@@ -366,6 +366,16 @@ public class ForgePlatformFactory implements ForgeLegacyPlatformFactory<Entity,
         return this.entityFactory;
     }
 
+    @NonNull
+    public ForgePlayerFactory getPlayerFactory() {
+        return this.playerFactory;
+    }
+
+    @NonNull
+    public ForgeWorldFactory getWorldFactory() {
+        return this.worldFactory;
+    }
+
     @NonNull
     private Component extractURLs(@NonNull final Component component) {
         return component.replaceText(URL_TEXT_REPLACEMENT_CONFIG);
@@ -28,6 +28,7 @@ package net.dirtcraft.dirtcore.forge_1_12_2.platform;
 
 import java.util.List;
 import net.dirtcraft.dirtcore.common.model.Sound;
+import net.dirtcraft.dirtcore.common.model.manager.messaging.RenderedMessage;
 import net.dirtcraft.dirtcore.common.model.minecraft.World;
 import net.dirtcraft.dirtcore.common.model.minecraft.gui.container.Container;
 import net.dirtcraft.dirtcore.common.platform.minecraft.player.PlayerFactory;
@@ -117,6 +118,12 @@ public class ForgePlayerFactory extends PlayerFactory<DirtCoreForgePlugin, Entit
         }
     }
 
+    @Override
+    protected void sendMessage(@NonNull final EntityPlayerMP player,
+            @NonNull final RenderedMessage message) {
+        player.sendMessage(message.toPlatform(this.platformFactory));
+    }
+
     @Override
     protected void performCommand(@NonNull final EntityPlayerMP player,
             @NonNull final String command) {
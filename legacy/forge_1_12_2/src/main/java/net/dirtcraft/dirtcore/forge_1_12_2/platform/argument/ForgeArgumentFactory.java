@@ -26,6 +26,7 @@
 
 package net.dirtcraft.dirtcore.forge_1_12_2.platform.argument;
 
+import java.util.stream.Stream;
 import net.dirtcraft.dirtcore.common.command.abstraction.arguments.minecraft.block.AbstractBlockArgument;
 import net.dirtcraft.dirtcore.common.command.abstraction.arguments.minecraft.entity.AbstractEntityArgument;
 import net.dirtcraft.dirtcore.common.command.abstraction.arguments.minecraft.persistentdata.AbstractPersistentDataArgument;
@@ -37,6 +38,10 @@ import net.dirtcraft.dirtcore.forge_1_12_2.platform.argument.entity.ForgeEntityA
 import net.dirtcraft.dirtcore.forge_1_12_2.platform.argument.item.ForgeItemArgument;
 import net.dirtcraft.dirtcore.forge_1_12_2.platform.argument.nbt.ForgeNBTArgument;
 import net.dirtcraft.dirtcore.forge_1_12_2.platform.argument.world.ForgeWorldArgument;
+import net.minecraft.block.Block;
+import net.minecraft.entity.EntityList;
+import net.minecraft.item.Item;
+import net.minecraft.util.ResourceLocation;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
 public class ForgeArgumentFactory extends ArgumentFactory<DirtCoreForgePlugin> {
@@ -47,7 +52,7 @@ public class ForgeArgumentFactory extends ArgumentFactory<DirtCoreForgePlugin> {
 
     @Override
     public @NonNull AbstractBlockArgument<DirtCoreForgePlugin> block() {
-        return ForgeBlockArgument.block();
+        return ForgeBlockArgument.block(this.getBlockIndex());
     }
 
     @Override
@@ -62,7 +67,7 @@ public class ForgeArgumentFactory extends ArgumentFactory<DirtCoreForgePlugin> {
 
     @Override
     public @NonNull ForgeItemArgument item() {
-        return ForgeItemArgument.item();
+        return ForgeItemArgument.item(this.getItemIndex());
     }
 
     @Override
@@ -84,4 +89,20 @@ public class ForgeArgumentFactory extends ArgumentFactory<DirtCoreForgePlugin> {
     public @NonNull AbstractWorldArgument<DirtCoreForgePlugin> world() {
         return ForgeWorldArgument.world();
     }
+
+    @Override
+    protected @NonNull Stream<String> provideBlockIds() {
+        return Block.REGISTRY.getKeys().stream().map(ResourceLocation::toString);
+    }
+
+    @Override
+    protected @NonNull Stream<String> provideItemIds() {
+        return Item.REGISTRY.getKeys().stream().map(ResourceLocation::toString);
+    }
+
+    @Override
+    protected @NonNull Stream<String> provideEntityTypeIds() {
+        return Stream.concat(EntityList.getEntityNameList().stream()
+                .map(ResourceLocation::toString), Stream.of("player")).distinct();
+    }
 }
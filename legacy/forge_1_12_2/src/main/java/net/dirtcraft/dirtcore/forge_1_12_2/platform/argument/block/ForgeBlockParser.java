@@ -34,7 +34,7 @@ import net.dirtcraft.dirtcore.common.command.abstraction.arguments.minecraft.blo
 import net.dirtcraft.dirtcore.common.command.abstraction.exceptions.CommandSyntaxException;
 import net.dirtcraft.dirtcore.common.command.abstraction.suggestion.Suggestions;
 import net.dirtcraft.dirtcore.common.command.abstraction.suggestion.SuggestionsBuilder;
-import net.dirtcraft.dirtcore.forge_1_12_2.util.ForgeSharedSuggestionProvider;
+import net.dirtcraft.dirtcore.common.platform.argument.ResourceSuggestionIndex;
 import net.dirtcraft.dirtcore.forge_1_12_2.util.ForgeUtils;
 import net.minecraft.block.Block;
 import net.minecraft.block.material.Material;
@@ -44,6 +44,7 @@ import org.checkerframework.checker.nullness.qual.NonNull;
 
 public class ForgeBlockParser extends AbstractBlockParser {
 
+    private final ResourceSuggestionIndex blockIndex;
     private final StringReader reader;
     private ResourceLocation id = new ResourceLocation("");
     private int metadata = 0;
@@ -51,7 +52,9 @@ public class ForgeBlockParser extends AbstractBlockParser {
     private Function<SuggestionsBuilder, CompletableFuture<Suggestions>> suggestions =
             SuggestionsBuilder.SUGGEST_NOTHING;
 
-    private ForgeBlockParser(final StringReader pReader) {
+    private ForgeBlockParser(final ResourceSuggestionIndex pBlockIndex,
+            final StringReader pReader) {
+        this.blockIndex = pBlockIndex;
         this.reader = pReader;
     }
 
@@ -64,7 +67,8 @@ public class ForgeBlockParser extends AbstractBlockParser {
         final int i = reader.getCursor();
 
         try {
-            final ForgeBlockParser parser = new ForgeBlockParser(reader);
+            final ForgeBlockParser parser =
+                    new ForgeBlockParser(ResourceSuggestionIndex.EMPTY, reader);
             parser.parse();
             return new ForgeBlockResult(parser.block, parser.id, parser.metadata);
         } catch (final CommandSyntaxException commandsyntaxexception) {
@@ -73,12 +77,13 @@ public class ForgeBlockParser extends AbstractBlockParser {
         }
     }
 
-    public static CompletableFuture<Suggestions> fillSuggestions(final SuggestionsBuilder builder) {
+    public static CompletableFuture<Suggestions> fillSuggestions(
+            final ResourceSuggestionIndex blockIndex, final SuggestionsBuilder builder) {
         final StringReader reader = new StringReader(builder.getInput());
 
         reader.setCursor(builder.getStart());
 
-        final ForgeBlockParser parser = new ForgeBlockParser(reader);
+        final ForgeBlockParser parser = new ForgeBlockParser(blockIndex, reader);
 
         try {
             parser.parse();
@@ -93,7 +98,7 @@ public class ForgeBlockParser extends AbstractBlockParser {
     }
 
     private CompletableFuture<Suggestions> suggestBlock(final SuggestionsBuilder builder) {
-        return ForgeSharedSuggestionProvider.suggestResource(Block.REGISTRY.getKeys(), builder);
+        return this.blockIndex.suggestResource(builder);
     }
 
     private void readBlock() throws CommandSyntaxException {
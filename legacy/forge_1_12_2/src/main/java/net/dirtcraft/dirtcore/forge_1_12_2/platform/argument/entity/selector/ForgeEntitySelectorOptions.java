@@ -26,12 +26,10 @@
 
 package net.dirtcraft.dirtcore.forge_1_12_2.platform.argument.entity.selector;
 
-import com.google.common.collect.ImmutableSet;
 import java.util.HashMap;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Set;
 import java.util.function.Predicate;
 import net.dirtcraft.dirtcore.common.command.abstraction.LiteralMessage;
 import net.dirtcraft.dirtcore.common.command.abstraction.StringReader;
@@ -39,9 +37,7 @@ import net.dirtcraft.dirtcore.common.command.abstraction.arguments.minecraft.ent
 import net.dirtcraft.dirtcore.common.command.abstraction.arguments.minecraft.entity.selector.AbstractEntitySelectorParser;
 import net.dirtcraft.dirtcore.common.command.abstraction.exceptions.SimpleCommandExceptionType;
 import net.dirtcraft.dirtcore.common.model.minecraft.critereon.MinMaxBounds;
-import net.dirtcraft.dirtcore.common.util.ImmutableCollectors;
 import net.dirtcraft.dirtcore.forge_1_12_2.DirtCoreForgePlugin;
-import net.dirtcraft.dirtcore.forge_1_12_2.util.ForgeSharedSuggestionProvider;
 import net.dirtcraft.dirtcore.forge_1_12_2.util.ForgeUtils;
 import net.minecraft.advancements.Advancement;
 import net.minecraft.advancements.AdvancementManager;
@@ -171,17 +167,11 @@ public class ForgeEntitySelectorOptions extends AbstractEntitySelectorOptions<Fo
     protected @NonNull Modifier<ForgeEntitySelectorParser> provideTypeHandler() {
         return parser -> {
             parser.setSuggestions((builder, consumer) -> {
-                final Set<String> entitiesAsString = ImmutableSet.<String>builder()
-                        .addAll(EntityList.getEntityNameList().stream()
-                                .map(ResourceLocation::toString).iterator())
-                        .add("player").build();
-
-                ForgeSharedSuggestionProvider.suggest(entitiesAsString.stream()
-                        .map(s -> AbstractEntitySelectorParser.SYNTAX_NOT + s)
-                        .collect(ImmutableCollectors.toSet()), builder);
+                this.getEntityTypeIndex(parser).suggest(builder,
+                        String.valueOf(AbstractEntitySelectorParser.SYNTAX_NOT));
 
                 if (!parser.isTypeLimitedInversely()) {
-                    ForgeSharedSuggestionProvider.suggest(entitiesAsString, builder);
+                    this.getEntityTypeIndex(parser).suggest(builder);
                 }
 
                 return builder.buildFuture();
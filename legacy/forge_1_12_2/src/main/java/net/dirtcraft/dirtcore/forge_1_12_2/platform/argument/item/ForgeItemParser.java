@@ -36,9 +36,9 @@ import net.dirtcraft.dirtcore.common.command.abstraction.exceptions.CommandSynta
 import net.dirtcraft.dirtcore.common.command.abstraction.suggestion.Suggestions;
 import net.dirtcraft.dirtcore.common.command.abstraction.suggestion.SuggestionsBuilder;
 import net.dirtcraft.dirtcore.common.model.minecraft.item.ItemStack;
+import net.dirtcraft.dirtcore.common.platform.argument.ResourceSuggestionIndex;
 import net.dirtcraft.dirtcore.common.plugin.DirtCorePlugin;
 import net.dirtcraft.dirtcore.forge_1_12_2.DirtCoreForgePlugin;
-import net.dirtcraft.dirtcore.forge_1_12_2.util.ForgeSharedSuggestionProvider;
 import net.dirtcraft.dirtcore.forge_1_12_2.util.ForgeUtils;
 import net.minecraft.block.Block;
 import net.minecraft.item.Item;
@@ -52,6 +52,7 @@ import org.checkerframework.checker.nullness.qual.Nullable;
 public class ForgeItemParser extends AbstractItemParser {
 
     private static final char SYNTAX_START_NBT = '{';
+    private final ResourceSuggestionIndex itemIndex;
     private final StringReader reader;
     private Item item = null;
     private ResourceLocation id = new ResourceLocation("");
@@ -64,7 +65,8 @@ public class ForgeItemParser extends AbstractItemParser {
     private Function<SuggestionsBuilder, CompletableFuture<Suggestions>> suggestions =
             SuggestionsBuilder.SUGGEST_NOTHING;
 
-    private ForgeItemParser(final StringReader reader) {
+    private ForgeItemParser(final ResourceSuggestionIndex itemIndex, final StringReader reader) {
+        this.itemIndex = itemIndex;
         this.reader = reader;
     }
 
@@ -73,7 +75,8 @@ public class ForgeItemParser extends AbstractItemParser {
         final int i = reader.getCursor();
 
         try {
-            final ForgeItemParser parser = new ForgeItemParser(reader);
+            final ForgeItemParser parser =
+                    new ForgeItemParser(ResourceSuggestionIndex.EMPTY, reader);
             parser.parse();
             return new ForgeItemResult(plugin, parser.item, parser.id, parser.metadata, parser.nbt);
         } catch (final CommandSyntaxException e) {
@@ -82,12 +85,13 @@ public class ForgeItemParser extends AbstractItemParser {
         }
     }
 
-    public static CompletableFuture<Suggestions> fillSuggestions(final SuggestionsBuilder builder) {
+    public static CompletableFuture<Suggestions> fillSuggestions(
+            final ResourceSuggestionIndex itemIndex, final SuggestionsBuilder builder) {
         final StringReader reader = new StringReader(builder.getInput());
 
         reader.setCursor(builder.getStart());
 
-        final ForgeItemParser parser = new ForgeItemParser(reader);
+        final ForgeItemParser parser = new ForgeItemParser(itemIndex, reader);
 
         try {
             parser.parse();
@@ -151,7 +155,7 @@ public class ForgeItemParser extends AbstractItemParser {
     }
 
     private CompletableFuture<Suggestions> suggestItem(final SuggestionsBuilder builder) {
-        return ForgeSharedSuggestionProvider.suggestResource(Item.REGISTRY.getKeys(), builder);
+        return this.itemIndex.suggestResource(builder);
     }
 
     public static class ForgeItemResult implements ItemResult {
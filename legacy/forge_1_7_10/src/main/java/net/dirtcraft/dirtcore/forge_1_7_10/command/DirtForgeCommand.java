@@ -87,7 +87,8 @@ public class DirtForgeCommand extends CommandBase {
                 this.getCommandName() + (args.length == 0 ? "" : ' ' + String.join(" ", args));
         final StringReader stringreader = new StringReader(input);
         final ParseResults<DirtCorePlugin, Sender> parse =
-                this.plugin.getCommandManager().getDispatcher().parse(stringreader, sender);
+                this.plugin.getCommandManager().getDispatcher()
+                        .parseForSuggestions(stringreader, sender);
 
         try {
             final List<Suggestion> suggestions =
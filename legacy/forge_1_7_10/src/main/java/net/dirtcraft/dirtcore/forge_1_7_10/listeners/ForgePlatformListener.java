@@ -59,6 +59,7 @@ import net.minecraft.world.chunk.storage.ExtendedBlockStorage;
 import net.minecraftforge.common.util.FakePlayer;
 import net.minecraftforge.event.CommandEvent;
 import net.minecraftforge.event.ServerChatEvent;
+import net.minecraftforge.event.entity.EntityEvent;
 import net.minecraftforge.event.entity.item.ItemTossEvent;
 import net.minecraftforge.event.entity.living.LivingAttackEvent;
 import net.minecraftforge.event.entity.living.LivingDeathEvent;
@@ -67,6 +68,7 @@ import net.minecraftforge.event.entity.player.EntityInteractEvent;
 import net.minecraftforge.event.entity.player.EntityItemPickupEvent;
 import net.minecraftforge.event.entity.player.PlayerInteractEvent;
 import net.minecraftforge.event.world.BlockEvent;
+import net.minecraftforge.event.world.WorldEvent;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.lwjgl.input.Keyboard;
 
@@ -151,6 +153,20 @@ public class ForgePlatformListener {
         event.setCanceled(cancel);
     }
 
+    @SubscribeEvent(priority = EventPriority.LOWEST)
+    public void onEntityEnteringChunk(final EntityEvent.EnteringChunk event) {
+        final Entity entity = event.entity;
+
+        this.plugin.getPlatformFactory().getWorldFactory()
+                .onEntityMove(entity.worldObj, entity, event.oldChunkX, event.oldChunkZ,
+                        event.newChunkX, event.newChunkZ);
+    }
+
+    @SubscribeEvent
+    public void onWorldUnload(final WorldEvent.Unload event) {
+        this.plugin.getPlatformFactory().getWorldFactory().invalidate(event.world);
+    }
+
     @SubscribeEvent
     public void onPlayerAttack(final LivingAttackEvent event) {
         final DamageSource damageSource = event.source;
@@ -282,6 +298,8 @@ public class ForgePlatformListener {
         final UUID uniqueId = player.getUniqueID();
         final String username = player.getCommandSenderName();
 
+        this.plugin.getPlatformFactory().getPlayerFactory().invalidate(uniqueId);
+
         this.plugin.getStorage().performTask(context -> {
             final Optional<BanEntity> banEntityOptional =
                     this.plugin.getPunishmentManager().getActiveBan(context, uniqueId);
@@ -0,0 +1,105 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Marc Beckhaeuser (AlphaConqueror) <marcbeckhaeuser@gmail.com>
+ *
+ * Created for 'DirtCraft'.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package net.dirtcraft.dirtcore.forge_1_7_10.platform;
+
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.world.IWorldAccess;
+import net.minecraft.world.World;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Forwards entities being added to or removed from a world to the entity census of the
+ * {@link ForgeWorldFactory}, as Forge does not provide an event for entities leaving a world.
+ */
+class ForgeEntityCensusListener implements IWorldAccess {
+
+    @NonNull
+    private final ForgeWorldFactory worldFactory;
+    @NonNull
+    private final World world;
+
+    ForgeEntityCensusListener(@NonNull final ForgeWorldFactory worldFactory,
+            @NonNull final World world) {
+        this.worldFactory = worldFactory;
+        this.world = world;
+    }
+
+    @Override
+    public void onEntityCreate(@NonNull final Entity entity) {
+        this.worldFactory.onEntityJoin(this.world, entity);
+    }
+
+    @Override
+    public void onEntityDestroy(@NonNull final Entity entity) {
+        this.worldFactory.onEntityLeave(this.world, entity);
+    }
+
+    @Override
+    public void markBlockForUpdate(final int x, final int y, final int z) {}
+
+    @Override
+    public void markBlockForRenderUpdate(final int x, final int y, final int z) {}
+
+    @Override
+    public void markBlockRangeForRenderUpdate(final int x1, final int y1, final int z1,
+            final int x2, final int y2, final int z2) {}
+
+    @Override
+    public void playSound(@NonNull final String soundName, final double x, final double y,
+            final double z, final float volume, final float pitch) {}
+
+    @Override
+    public void playSoundToNearExcept(@Nullable final EntityPlayer player,
+            @NonNull final String soundName, final double x, final double y, final double z,
+            final float volume, final float pitch) {}
+
+    @Override
+    public void spawnParticle(@NonNull final String particleName, final double x,
+            final double y, final double z, final double velocityX, final double velocityY,
+            final double velocityZ) {}
+
+    @Override
+    public void playRecord(@NonNull final String recordName, final int x, final int y,
+            final int z) {}
+
+    @Override
+    public void broadcastSound(final int soundId, final int x, final int y, final int z,
+            final int data) {}
+
+    @Override
+    public void playAuxSFX(@Nullable final EntityPlayer player, final int type, final int x,
+            final int y, final int z, final int data) {}
+
+    @Override
+    public void destroyBlockPartially(final int breakerId, final int x, final int y,
+            final int z, final int progress) {}
+
+    @Override
+    public void onStaticEntitiesChanged() {}
+}
@@ -30,6 +30,7 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import net.dirtcraft.dirtcore.common.model.Sound;
+import net.dirtcraft.dirtcore.common.model.manager.messaging.RenderedMessage;
 import net.dirtcraft.dirtcore.common.model.minecraft.World;
 import net.dirtcraft.dirtcore.common.model.minecraft.gui.container.Container;
 import net.dirtcraft.dirtcore.common.platform.minecraft.player.PlayerFactory;
@@ -127,6 +128,12 @@ public class ForgePlayerFactory extends PlayerFactory<DirtCoreForgePlugin, Entit
         }
     }
 
+    @Override
+    protected void sendMessage(@NonNull final EntityPlayerMP player,
+            @NonNull final RenderedMessage message) {
+        player.addChatMessage(message.toPlatform(this.platformFactory));
+    }
+
     @Override
     protected void performCommand(@NonNull final EntityPlayerMP player,
             @NonNull final String command) {
@@ -29,13 +29,9 @@ package net.dirtcraft.dirtcore.forge_1_7_10.platform;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
-import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Predicate;
 import net.dirtcraft.dirtcore.common.model.Animation;
 import net.dirtcraft.dirtcore.common.model.minecraft.Block;
@@ -43,7 +39,8 @@ import net.dirtcraft.dirtcore.common.model.minecraft.Entity;
 import net.dirtcraft.dirtcore.common.model.minecraft.Player;
 import net.dirtcraft.dirtcore.common.model.minecraft.World;
 import net.dirtcraft.dirtcore.common.model.minecraft.phys.AABB;
-import net.dirtcraft.dirtcore.common.model.profile.ChunkEntityProfile;
+import net.dirtcraft.dirtcore.common.model.profile.EntityCensus;
+import net.dirtcraft.dirtcore.common.model.profile.EntityTypeIds;
 import net.dirtcraft.dirtcore.common.platform.minecraft.world.AbstractWorld;
 import net.dirtcraft.dirtcore.common.platform.minecraft.world.WorldFactory;
 import net.dirtcraft.dirtcore.forge_1_7_10.DirtCoreForgePlugin;
@@ -63,6 +60,7 @@ public class ForgeWorldFactory extends WorldFactory<DirtCoreForgePlugin,
         net.minecraft.world.World> {
 
     private final ForgePlatformFactory platformFactory;
+    private final EntityTypeIds<Class<?>> entityTypeIds = new EntityTypeIds<>();
 
     public ForgeWorldFactory(final DirtCoreForgePlugin plugin,
             final ForgePlatformFactory platformFactory) {
@@ -220,42 +218,112 @@ public class ForgeWorldFactory extends WorldFactory<DirtCoreForgePlugin,
 
     @SuppressWarnings("unchecked")
     @Override
-    protected @NonNull Collection<ChunkEntityProfile> getEntityProfiles(
+    protected @Nullable EntityCensus createEntityCensus(
             final net.minecraft.world.@NonNull World world) {
         if (!(world instanceof WorldServer)) {
-            return Collections.emptySet();
+            return null;
         }
 
         final WorldServer worldServer = (WorldServer) world;
         final ChunkProviderServer chunkProvider =
                 (ChunkProviderServer) worldServer.getChunkProvider();
-        final List<Chunk> loadedChunks = (List<Chunk>) chunkProvider.loadedChunks;
-        final List<ChunkEntityProfile> list = new ArrayList<>(loadedChunks.size());
-
-        for (final Chunk chunk : loadedChunks) {
-            list.add(this.getEntityProfile(worldServer, chunk));
+        final EntityCensus census =
+                new EntityCensus(this.getIdentifier(worldServer), this.entityTypeIds);
+
+        for (final Chunk chunk : (List<Chunk>) chunkProvider.loadedChunks) {
+            for (final List<net.minecraft.entity.Entity> entityList : chunk.entityLists) {
+                for (final net.minecraft.entity.Entity entity : entityList) {
+                    if (!(entity instanceof EntityPlayer)) {
+                        census.add(chunk.xPosition, chunk.zPosition,
+                                this.getEntityTypeId(entity));
+                    }
+                }
+            }
         }
 
-        return list;
+        worldServer.addWorldAccess(new ForgeEntityCensusListener(this, worldServer));
+        return census;
     }
 
     @Override
-    protected @NonNull Optional<ChunkEntityProfile> getEntityProfile(
-            final net.minecraft.world.@NonNull World world, final int chunkX, final int chunkZ) {
-        if (!(world instanceof WorldServer)) {
-            return Optional.empty();
+    protected @NonNull Object[] getBlockEntities(final net.minecraft.world.@NonNull World world) {
+        return world.loadedTileEntityList.toArray();
+    }
+
+    @Override
+    protected void countBlockEntity(@NonNull final EntityCensus census,
+            @NonNull final Object blockEntity) {
+        final TileEntity tileEntity = (TileEntity) blockEntity;
+
+        if (tileEntity.isInvalid()) {
+            return;
         }
 
-        final WorldServer worldServer = (WorldServer) world;
-        final ChunkProviderServer chunkProvider =
-                (ChunkProviderServer) worldServer.getChunkProvider();
-        final Chunk loadedChunk = this.getLoadedChunk(chunkProvider, chunkX, chunkZ);
+        // tile entities do not expose their registered name, use the one of their block
+        final net.minecraft.block.Block type = tileEntity.getBlockType();
+        int id = this.blockEntityTypeIds.getId(type);
 
-        if (loadedChunk == null) {
-            return Optional.empty();
+        if (id < 0) {
+            final String name = net.minecraft.block.Block.blockRegistry.getNameForObject(type);
+
+            id = this.blockEntityTypeIds.register(type,
+                    name == null ? tileEntity.getClass().getSimpleName() : name);
         }
 
-        return Optional.of(this.getEntityProfile(worldServer, loadedChunk));
+        census.add(tileEntity.xCoord >> 4, tileEntity.zCoord >> 4, id);
+    }
+
+    /**
+     * Called after an entity has been added to a world.
+     *
+     * @param world  the world
+     * @param entity the entity
+     */
+    void onEntityJoin(final net.minecraft.world.@NonNull World world,
+            final net.minecraft.entity.@NonNull Entity entity) {
+        final EntityCensus census = this.getEntityCensusIfPresent(world);
+
+        // only entities which are part of a chunk are counted
+        if (census != null && entity.addedToChunk && !(entity instanceof EntityPlayer)) {
+            census.add(entity.chunkCoordX, entity.chunkCoordZ, this.getEntityTypeId(entity));
+        }
+    }
+
+    /**
+     * Called after an entity has been removed from a world, i.e. it died or has been unloaded.
+     *
+     * @param world  the world
+     * @param entity the entity
+     */
+    void onEntityLeave(final net.minecraft.world.@NonNull World world,
+            final net.minecraft.entity.@NonNull Entity entity) {
+        final EntityCensus census = this.getEntityCensusIfPresent(world);
+
+        if (census != null && entity.addedToChunk && !(entity instanceof EntityPlayer)) {
+            census.remove(entity.chunkCoordX, entity.chunkCoordZ, this.getEntityTypeId(entity));
+        }
+    }
+
+    /**
+     * Called before an entity is added to a chunk.
+     *
+     * @param world     the world
+     * @param entity    the entity
+     * @param oldChunkX the previous x chunk coordinate
+     * @param oldChunkZ the previous z chunk coordinate
+     * @param newChunkX the new x chunk coordinate
+     * @param newChunkZ the new z chunk coordinate
+     */
+    public void onEntityMove(final net.minecraft.world.@NonNull World world,
+            final net.minecraft.entity.@NonNull Entity entity, final int oldChunkX,
+            final int oldChunkZ, final int newChunkX, final int newChunkZ) {
+        final EntityCensus census = this.getEntityCensusIfPresent(world);
+
+        // entities which are not part of a chunk yet are counted once they are added to the world
+        if (census != null && entity.addedToChunk && !(entity instanceof EntityPlayer)) {
+            census.move(oldChunkX, oldChunkZ, newChunkX, newChunkZ,
+                    this.getEntityTypeId(entity));
+        }
     }
 
     @Nullable
@@ -265,25 +333,11 @@ public class ForgeWorldFactory extends WorldFactory<DirtCoreForgePlugin,
         return (Chunk) chunkProviderServer.id2ChunkMap.getValueByKey(i);
     }
 
-    @SuppressWarnings("unchecked")
-    @NonNull
-    private ChunkEntityProfile getEntityProfile(@NonNull final WorldServer worldServer,
-            @NonNull final Chunk chunk) {
-        final Map<String, Integer> map = new HashMap<>();
-        final AtomicInteger total = new AtomicInteger();
-
-        for (final List<net.minecraft.entity.Entity> entityList : chunk.entityLists) {
-            entityList.stream().filter(entity -> !(entity instanceof EntityPlayer))
-                    .forEach(entity -> {
-                        final String type = this.platformFactory.getEntityFactory().getType(entity);
-
-                        map.put(type, map.getOrDefault(type, 0) + 1);
-                        total.addAndGet(1);
-                    });
-        }
-
-        return ChunkEntityProfile.of(map, total.get(), this.getIdentifier(worldServer),
-                chunk.xPosition, chunk.zPosition);
+    private int getEntityTypeId(final net.minecraft.entity.@NonNull Entity entity) {
+        final Class<?> type = entity.getClass();
+        final int id = this.entityTypeIds.getId(type);
+        return id >= 0 ? id : this.entityTypeIds.register(type,
+                this.platformFactory.getEntityFactory().getType(entity));
     }
 
     @NonNull
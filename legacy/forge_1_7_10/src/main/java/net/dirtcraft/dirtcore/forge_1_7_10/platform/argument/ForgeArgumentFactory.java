@@ -26,6 +26,9 @@
 
 package net.dirtcraft.dirtcore.forge_1_7_10.platform.argument;
 
+import cpw.mods.fml.common.registry.GameData;
+import java.util.Set;
+import java.util.stream.Stream;
 import net.dirtcraft.dirtcore.common.command.abstraction.arguments.minecraft.block.AbstractBlockArgument;
 import net.dirtcraft.dirtcore.common.command.abstraction.arguments.minecraft.entity.AbstractEntityArgument;
 import net.dirtcraft.dirtcore.common.command.abstraction.arguments.minecraft.persistentdata.AbstractPersistentDataArgument;
@@ -37,6 +40,7 @@ import net.dirtcraft.dirtcore.forge_1_7_10.platform.argument.entity.ForgeEntityA
 import net.dirtcraft.dirtcore.forge_1_7_10.platform.argument.item.ForgeItemArgument;
 import net.dirtcraft.dirtcore.forge_1_7_10.platform.argument.nbt.ForgeNBTArgument;
 import net.dirtcraft.dirtcore.forge_1_7_10.platform.argument.world.ForgeWorldArgument;
+import net.minecraft.entity.EntityList;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
 public class ForgeArgumentFactory extends ArgumentFactory<DirtCoreForgePlugin> {
@@ -47,7 +51,7 @@ public class ForgeArgumentFactory extends ArgumentFactory<DirtCoreForgePlugin> {
 
     @Override
     public @NonNull AbstractBlockArgument<DirtCoreForgePlugin> block() {
-        return ForgeBlockArgument.block();
+        return ForgeBlockArgument.block(this.getBlockIndex());
     }
 
     @Override
@@ -62,7 +66,7 @@ public class ForgeArgumentFactory extends ArgumentFactory<DirtCoreForgePlugin> {
 
     @Override
     public @NonNull ForgeItemArgument item() {
-        return ForgeItemArgument.item();
+        return ForgeItemArgument.item(this.getItemIndex());
     }
 
     @Override
@@ -84,4 +88,23 @@ public class ForgeArgumentFactory extends ArgumentFactory<DirtCoreForgePlugin> {
     public @NonNull AbstractWorldArgument<DirtCoreForgePlugin> world() {
         return ForgeWorldArgument.world();
     }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    protected @NonNull Stream<String> provideBlockIds() {
+        return ((Set<String>) GameData.getBlockRegistry().getKeys()).stream();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    protected @NonNull Stream<String> provideItemIds() {
+        return ((Set<String>) GameData.getItemRegistry().getKeys()).stream();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    protected @NonNull Stream<String> provideEntityTypeIds() {
+        return Stream.concat(((Set<String>) EntityList.func_151515_b()).stream(),
+                Stream.of("Player")).distinct();
+    }
 }
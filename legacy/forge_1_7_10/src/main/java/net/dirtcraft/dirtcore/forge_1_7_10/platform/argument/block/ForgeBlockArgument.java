@@ -37,6 +37,7 @@ import net.dirtcraft.dirtcore.common.command.abstraction.exceptions.CommandSynta
 import net.dirtcraft.dirtcore.common.command.abstraction.suggestion.Suggestions;
 import net.dirtcraft.dirtcore.common.command.abstraction.suggestion.SuggestionsBuilder;
 import net.dirtcraft.dirtcore.common.model.Sender;
+import net.dirtcraft.dirtcore.common.platform.argument.ResourceSuggestionIndex;
 import net.dirtcraft.dirtcore.forge_1_7_10.DirtCoreForgePlugin;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
@@ -44,10 +45,14 @@ public class ForgeBlockArgument extends AbstractBlockArgument<DirtCoreForgePlugi
 
     private static final Collection<String> EXAMPLES = Arrays.asList("stick", "minecraft:stick");
 
-    private ForgeBlockArgument() {}
+    private final ResourceSuggestionIndex blockIndex;
 
-    public static ForgeBlockArgument block() {
-        return new ForgeBlockArgument();
+    private ForgeBlockArgument(final ResourceSuggestionIndex blockIndex) {
+        this.blockIndex = blockIndex;
+    }
+
+    public static ForgeBlockArgument block(final ResourceSuggestionIndex blockIndex) {
+        return new ForgeBlockArgument(blockIndex);
     }
 
     @Override
@@ -60,7 +65,7 @@ public class ForgeBlockArgument extends AbstractBlockArgument<DirtCoreForgePlugi
     public <S extends Sender> CompletableFuture<Suggestions> listSuggestions(
             final DirtCoreForgePlugin plugin, final CommandContext<DirtCoreForgePlugin, S> context,
             final SuggestionsBuilder builder) {
-        return ForgeBlockParser.fillSuggestions(builder);
+        return ForgeBlockParser.fillSuggestions(this.blockIndex, builder);
     }
 
     @Override
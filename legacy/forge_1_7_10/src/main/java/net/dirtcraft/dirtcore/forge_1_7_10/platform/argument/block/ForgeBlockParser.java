@@ -26,9 +26,7 @@
 
 package net.dirtcraft.dirtcore.forge_1_7_10.platform.argument.block;
 
-import cpw.mods.fml.common.registry.GameData;
 import cpw.mods.fml.common.registry.GameRegistry;
-import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 import net.dirtcraft.dirtcore.common.command.abstraction.StringReader;
@@ -37,7 +35,7 @@ import net.dirtcraft.dirtcore.common.command.abstraction.arguments.minecraft.blo
 import net.dirtcraft.dirtcore.common.command.abstraction.exceptions.CommandSyntaxException;
 import net.dirtcraft.dirtcore.common.command.abstraction.suggestion.Suggestions;
 import net.dirtcraft.dirtcore.common.command.abstraction.suggestion.SuggestionsBuilder;
-import net.dirtcraft.dirtcore.forge_1_7_10.util.ForgeSharedSuggestionProvider;
+import net.dirtcraft.dirtcore.common.platform.argument.ResourceSuggestionIndex;
 import net.dirtcraft.dirtcore.forge_1_7_10.util.ForgeUtils;
 import net.minecraft.block.Block;
 import net.minecraft.block.material.Material;
@@ -46,6 +44,7 @@ import org.checkerframework.checker.nullness.qual.NonNull;
 
 public class ForgeBlockParser extends AbstractBlockParser {
 
+    private final ResourceSuggestionIndex blockIndex;
     private final StringReader reader;
     private GameRegistry.UniqueIdentifier uniqueIdentifier = null;
     private int metadata = 0;
@@ -53,7 +52,9 @@ public class ForgeBlockParser extends AbstractBlockParser {
     private Function<SuggestionsBuilder, CompletableFuture<Suggestions>> suggestions =
             SuggestionsBuilder.SUGGEST_NOTHING;
 
-    private ForgeBlockParser(final StringReader pReader) {
+    private ForgeBlockParser(final ResourceSuggestionIndex pBlockIndex,
+            final StringReader pReader) {
+        this.blockIndex = pBlockIndex;
         this.reader = pReader;
     }
 
@@ -66,7 +67,8 @@ public class ForgeBlockParser extends AbstractBlockParser {
         final int i = reader.getCursor();
 
         try {
-            final ForgeBlockParser parser = new ForgeBlockParser(reader);
+            final ForgeBlockParser parser =
+                    new ForgeBlockParser(ResourceSuggestionIndex.EMPTY, reader);
             parser.parse();
             return new ForgeBlockResult(parser.block, parser.uniqueIdentifier, parser.metadata);
         } catch (final CommandSyntaxException commandsyntaxexception) {
@@ -75,12 +77,13 @@ public class ForgeBlockParser extends AbstractBlockParser {
         }
     }
 
-    public static CompletableFuture<Suggestions> fillSuggestions(final SuggestionsBuilder builder) {
+    public static CompletableFuture<Suggestions> fillSuggestions(
+            final ResourceSuggestionIndex blockIndex, final SuggestionsBuilder builder) {
         final StringReader reader = new StringReader(builder.getInput());
 
         reader.setCursor(builder.getStart());
 
-        final ForgeBlockParser parser = new ForgeBlockParser(reader);
+        final ForgeBlockParser parser = new ForgeBlockParser(blockIndex, reader);
 
         try {
             parser.parse();
@@ -95,9 +98,7 @@ public class ForgeBlockParser extends AbstractBlockParser {
     }
 
     private CompletableFuture<Suggestions> suggestBlock(final SuggestionsBuilder builder) {
-        //noinspection unchecked
-        return ForgeSharedSuggestionProvider.suggest(
-                (Set<String>) GameData.getBlockRegistry().getKeys(), builder);
+        return this.blockIndex.suggest(builder);
     }
 
     private void readBlock() throws CommandSyntaxException {
@@ -26,14 +26,12 @@
 
 package net.dirtcraft.dirtcore.forge_1_7_10.platform.argument.entity.selector;
 
-import com.google.common.collect.ImmutableSet;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.Set;
 import java.util.function.Predicate;
 import net.dirtcraft.dirtcore.common.command.abstraction.LiteralMessage;
 import net.dirtcraft.dirtcore.common.command.abstraction.StringReader;
@@ -42,9 +40,7 @@ import net.dirtcraft.dirtcore.common.command.abstraction.arguments.minecraft.ent
 import net.dirtcraft.dirtcore.common.command.abstraction.exceptions.CommandSyntaxException;
 import net.dirtcraft.dirtcore.common.command.abstraction.exceptions.SimpleCommandExceptionType;
 import net.dirtcraft.dirtcore.common.model.minecraft.critereon.MinMaxBounds;
-import net.dirtcraft.dirtcore.common.util.ImmutableCollectors;
 import net.dirtcraft.dirtcore.forge_1_7_10.DirtCoreForgePlugin;
-import net.dirtcraft.dirtcore.forge_1_7_10.util.ForgeSharedSuggestionProvider;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.EntityList;
 import net.minecraft.entity.EntityLivingBase;
@@ -169,17 +165,11 @@ public class ForgeEntitySelectorOptions extends AbstractEntitySelectorOptions<Fo
     protected @NonNull Modifier<ForgeEntitySelectorParser> provideTypeHandler() {
         return parser -> {
             parser.setSuggestions((builder, consumer) -> {
-                //noinspection unchecked
-                final Set<String> entitiesAsString = ImmutableSet.<String>builder()
-                        .addAll((Set<String>) EntityList.func_151515_b())
-                        .add("Player").build();
-
-                ForgeSharedSuggestionProvider.suggest(entitiesAsString.stream()
-                        .map(s -> AbstractEntitySelectorParser.SYNTAX_NOT + s)
-                        .collect(ImmutableCollectors.toSet()), builder);
+                this.getEntityTypeIndex(parser).suggest(builder,
+                        String.valueOf(AbstractEntitySelectorParser.SYNTAX_NOT));
 
                 if (!parser.isTypeLimitedInversely()) {
-                    ForgeSharedSuggestionProvider.suggest(entitiesAsString, builder);
+                    this.getEntityTypeIndex(parser).suggest(builder);
                 }
 
                 return builder.buildFuture();
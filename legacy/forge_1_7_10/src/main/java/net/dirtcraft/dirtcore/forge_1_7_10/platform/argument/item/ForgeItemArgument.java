@@ -37,6 +37,7 @@ import net.dirtcraft.dirtcore.common.command.abstraction.exceptions.CommandSynta
 import net.dirtcraft.dirtcore.common.command.abstraction.suggestion.Suggestions;
 import net.dirtcraft.dirtcore.common.command.abstraction.suggestion.SuggestionsBuilder;
 import net.dirtcraft.dirtcore.common.model.Sender;
+import net.dirtcraft.dirtcore.common.platform.argument.ResourceSuggestionIndex;
 import net.dirtcraft.dirtcore.forge_1_7_10.DirtCoreForgePlugin;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
@@ -45,10 +46,14 @@ public class ForgeItemArgument extends AbstractItemArgument<DirtCoreForgePlugin>
     private static final Collection<String> EXAMPLES =
             Arrays.asList("stick", "minecraft:stick", "stick{foo=bar}");
 
-    private ForgeItemArgument() {}
+    private final ResourceSuggestionIndex itemIndex;
 
-    public static ForgeItemArgument item() {
-        return new ForgeItemArgument();
+    private ForgeItemArgument(final ResourceSuggestionIndex itemIndex) {
+        this.itemIndex = itemIndex;
+    }
+
+    public static ForgeItemArgument item(final ResourceSuggestionIndex itemIndex) {
+        return new ForgeItemArgument(itemIndex);
     }
 
     @Override
@@ -61,7 +66,7 @@ public class ForgeItemArgument extends AbstractItemArgument<DirtCoreForgePlugin>
     public <S extends Sender> CompletableFuture<Suggestions> listSuggestions(
             final DirtCoreForgePlugin plugin, final CommandContext<DirtCoreForgePlugin, S> context,
             final SuggestionsBuilder builder) {
-        return ForgeItemParser.fillSuggestions(builder);
+        return ForgeItemParser.fillSuggestions(this.itemIndex, builder);
     }
 
     @Override
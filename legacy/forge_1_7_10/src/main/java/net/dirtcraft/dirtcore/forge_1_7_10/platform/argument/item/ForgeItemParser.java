@@ -26,7 +26,6 @@
 
 package net.dirtcraft.dirtcore.forge_1_7_10.platform.argument.item;
 
-import cpw.mods.fml.common.registry.GameData;
 import cpw.mods.fml.common.registry.GameRegistry;
 import java.util.Objects;
 import java.util.Set;
@@ -39,9 +38,9 @@ import net.dirtcraft.dirtcore.common.command.abstraction.exceptions.CommandSynta
 import net.dirtcraft.dirtcore.common.command.abstraction.suggestion.Suggestions;
 import net.dirtcraft.dirtcore.common.command.abstraction.suggestion.SuggestionsBuilder;
 import net.dirtcraft.dirtcore.common.model.minecraft.item.ItemStack;
+import net.dirtcraft.dirtcore.common.platform.argument.ResourceSuggestionIndex;
 import net.dirtcraft.dirtcore.common.plugin.DirtCorePlugin;
 import net.dirtcraft.dirtcore.forge_1_7_10.DirtCoreForgePlugin;
-import net.dirtcraft.dirtcore.forge_1_7_10.util.ForgeSharedSuggestionProvider;
 import net.dirtcraft.dirtcore.forge_1_7_10.util.ForgeUtils;
 import net.minecraft.item.Item;
 import net.minecraft.nbt.JsonToNBT;
@@ -53,6 +52,7 @@ import org.checkerframework.checker.nullness.qual.Nullable;
 public class ForgeItemParser extends AbstractItemParser {
 
     private static final char SYNTAX_START_NBT = '{';
+    private final ResourceSuggestionIndex itemIndex;
     private final StringReader reader;
     private Item item = null;
     private GameRegistry.UniqueIdentifier uniqueIdentifier = null;
@@ -65,7 +65,8 @@ public class ForgeItemParser extends AbstractItemParser {
     private Function<SuggestionsBuilder, CompletableFuture<Suggestions>> suggestions =
             SuggestionsBuilder.SUGGEST_NOTHING;
 
-    private ForgeItemParser(final StringReader reader) {
+    private ForgeItemParser(final ResourceSuggestionIndex itemIndex, final StringReader reader) {
+        this.itemIndex = itemIndex;
         this.reader = reader;
     }
 
@@ -74,7 +75,8 @@ public class ForgeItemParser extends AbstractItemParser {
         final int i = reader.getCursor();
 
         try {
-            final ForgeItemParser parser = new ForgeItemParser(reader);
+            final ForgeItemParser parser =
+                    new ForgeItemParser(ResourceSuggestionIndex.EMPTY, reader);
             parser.parse();
             return new ForgeItemResult(plugin, parser.item, parser.uniqueIdentifier,
                     parser.metadata, parser.nbt);
@@ -84,12 +86,13 @@ public class ForgeItemParser extends AbstractItemParser {
         }
     }
 
-    public static CompletableFuture<Suggestions> fillSuggestions(final SuggestionsBuilder builder) {
+    public static CompletableFuture<Suggestions> fillSuggestions(
+            final ResourceSuggestionIndex itemIndex, final SuggestionsBuilder builder) {
         final StringReader reader = new StringReader(builder.getInput());
 
         reader.setCursor(builder.getStart());
 
-        final ForgeItemParser parser = new ForgeItemParser(reader);
+        final ForgeItemParser parser = new ForgeItemParser(itemIndex, reader);
 
         try {
             parser.parse();
@@ -147,9 +150,7 @@ public class ForgeItemParser extends AbstractItemParser {
     }
 
     private CompletableFuture<Suggestions> suggestItem(final SuggestionsBuilder builder) {
-        //noinspection unchecked
-        return ForgeSharedSuggestionProvider.suggest(
-                (Set<String>) GameData.getItemRegistry().getKeys(), builder);
+        return this.itemIndex.suggest(builder);
     }
 
     public static class ForgeItemResult implements ItemResult {